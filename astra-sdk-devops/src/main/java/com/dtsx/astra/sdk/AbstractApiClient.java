@@ -3,6 +3,7 @@ package com.dtsx.astra.sdk;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.JsonBodyWriter;
 
 import static java.net.HttpURLConnection.HTTP_ACCEPTED;
 
@@ -14,15 +15,32 @@ public abstract class AbstractApiClient {
     /** hold a reference to the bearer token. */
     protected final String token;
 
+    /** Http client, shared with the clients created from this one. */
+    protected final HttpClientWrapper httpClient;
+
     /**
-     * Default constructor.
+     * Default constructor, the default http client is used.
      *
      * @param token
      *     token value
      */
     public AbstractApiClient(String token) {
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor with a http client.
+     *
+     * @param httpClient
+     *     http client
+     * @param token
+     *     token value
+     */
+    public AbstractApiClient(HttpClientWrapper httpClient, String token) {
+        Assert.notNull(httpClient, "httpClient");
         Assert.hasLength(token, "token");
-        this.token = token;
+        this.httpClient = httpClient;
+        this.token      = token;
     }
 
     /**
@@ -41,7 +59,7 @@ public abstract class AbstractApiClient {
      *      Http client
      */
     public HttpClientWrapper getHttpClient() {
-        return HttpClientWrapper.getInstance();
+        return httpClient;
     }
 
     /**
@@ -118,6 +136,44 @@ public abstract class AbstractApiClient {
         getHttpClient().PATCH(url, getToken(), body);
     }
 
+    /**
+     * Syntax sugar http requests, the body is written when sent.
+     *
+     * @param url
+     *      url
+     * @param body
+     *      body writer
+     * @return
+     *      response
+     */
+    public ApiResponseHttp POST(String url, JsonBodyWriter body) {
+        return getHttpClient().POST(url, getToken(), body);
+    }
+
+    /**
+     * Syntax sugar http requests, the body is written when sent.
+     *
+     * @param url
+     *      url
+     * @param body
+     *      body writer
+     */
+    public void PUT(String url, JsonBodyWriter body) {
+        getHttpClient().PUT(url, getToken(), body);
+    }
+
+    /**
+     * Syntax sugar http requests, the body is written when sent.
+     *
+     * @param url
+     *      url
+     * @param body
+     *      body writer
+     */
+    public void PATCH(String url, JsonBodyWriter body) {
+        getHttpClient().PATCH(url, getToken(), body);
+    }
+
     /**
      * Syntax sugar http requests.
      *
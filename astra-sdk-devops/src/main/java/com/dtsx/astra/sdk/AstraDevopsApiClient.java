@@ -2,6 +2,8 @@ package com.dtsx.astra.sdk;
 
 import com.dtsx.astra.sdk.db.AstraDbClient;
 import com.dtsx.astra.sdk.org.KeysClient;
+import com.dtsx.astra.sdk.org.OrganizationInventoryBuilder;
+import com.dtsx.astra.sdk.org.OrganizationSnapshots;
 import com.dtsx.astra.sdk.org.RolesClient;
 import com.dtsx.astra.sdk.org.TokensClient;
 import com.dtsx.astra.sdk.org.UsersClient;
@@ -9,8 +11,11 @@ import com.dtsx.astra.sdk.org.domain.*;
 import com.dtsx.astra.sdk.streaming.AstraStreamingClient;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.SnapshotStore;
 
+import java.nio.file.Path;
 import java.util.Map;
 
 /**
@@ -20,6 +25,9 @@ import java.util.Map;
  */
 public class AstraDevopsApiClient extends AbstractApiClient {
 
+    /** Organization identifiers are shared by the clients of a http client, per token. */
+    private static final String CACHE_KEY = "org.id/";
+
     /**
      * Initialize the Devops API with a token
      *
@@ -27,7 +35,19 @@ public class AstraDevopsApiClient extends AbstractApiClient {
      *      bearerAuthToken token
      */
     public AstraDevopsApiClient(String token) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Initialize the Devops API with a token, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      bearerAuthToken token
+     */
+    public AstraDevopsApiClient(HttpClientWrapper httpClient, String token) {
+        super(httpClient, token);
     }
 
     // ------------------------------------------------------
@@ -41,10 +61,17 @@ public class AstraDevopsApiClient extends AbstractApiClient {
      *      organization id.
      */
     public String getOrganizationId() {
-        // Invoke endpoint
-        ApiResponseHttp res = getHttpClient().GET(ApiLocator.getApiDevopsEndpoint() + "/currentOrg", token);
-        // Parse response
-        return (String) JsonUtils.unmarshallBean(res.getBody(),  Map.class).get("id");
+        // A token belongs to a single organization, the id never changes
+        String organizationId = httpClient.findCache(CACHE_KEY + token);
+        if (organizationId == null) {
+            // Invoke endpoint outside of the cache, no lock is held during the call
+            ApiResponseHttp res = getHttpClient().GET(ApiLocator.getApiDevopsEndpoint() + "/currentOrg", token);
+            // Parse response
+            String loaded = (String) JsonUtils.unmarshallBean(res.getBody(),  Map.class).get("id");
+            // First loaded value wins
+            organizationId = httpClient.getCache(CACHE_KEY + token, k -> loaded);
+        }
+        return organizationId;
     }
 
     /**
@@ -73,7 +100,7 @@ public class AstraDevopsApiClient extends AbstractApiClient {
      *      databases client
      */
     public AstraDbClient db() {
-        return new AstraDbClient(token);
+        return new AstraDbClient(httpClient, token);
     }
 
     // ------------------------------------------------------
@@ -87,7 +114,7 @@ public class AstraDevopsApiClient extends AbstractApiClient {
      *      streaming client
      */
     public AstraStreamingClient streaming() {
-        return new AstraStreamingClient(token);
+        return new AstraStreamingClient(httpClient, token);
     }
 
 
@@ -102,7 +129,7 @@ public class AstraDevopsApiClient extends AbstractApiClient {
      *      user client
      */
     public UsersClient users() {
-        return new UsersClient(token);
+        return new UsersClient(httpClient, token);
     }
 
     // ------------------------------------------------------
@@ -116,7 +143,7 @@ public class AstraDevopsApiClient extends AbstractApiClient {
      *      role client
      */
     public RolesClient roles() {
-        return new RolesClient(token);
+        return new RolesClient(httpClient, token);
     }
 
     // ------------------------------------------------------
@@ -130,7 +157,7 @@ public class AstraDevopsApiClient extends AbstractApiClient {
      *      keys client
      */
     public KeysClient keys() {
-        return new KeysClient(token);
+        return new KeysClient(httpClient, token);
     }
 
     // ------------------------------------------------------
@@ -144,7 +171,33 @@ public class AstraDevopsApiClient extends AbstractApiClient {
      *      token client
      */
     public TokensClient tokens() {
-        return new TokensClient(token);
+        return new TokensClient(httpClient, token);
+    }
+
+    // ------------------------------------------------------
+    //                 WORKING WITH INVENTORY
+    // ------------------------------------------------------
+
+    /**
+     * Inventory of databases and tenants.
+     *
+     * @return
+     *      inventory builder
+     */
+    public OrganizationInventoryBuilder inventory() {
+        return new OrganizationInventoryBuilder(httpClient, token);
+    }
+
+    /**
+     * Save and restore databases, tenants, roles, users and cdc.
+     *
+     * @param directory
+     *      folder holding snapshot files
+     * @return
+     *      snapshots
+     */
+    public OrganizationSnapshots snapshots(Path directory) {
+        return new OrganizationSnapshots(httpClient, token, new SnapshotStore(directory));
     }
 
 
@@ -3,14 +3,22 @@ package com.dtsx.astra.sdk.db;
 
 import com.dtsx.astra.sdk.AbstractApiClient;
 import com.dtsx.astra.sdk.db.domain.*;
+import com.dtsx.astra.sdk.org.domain.DatabaseInventory;
 import com.dtsx.astra.sdk.utils.ApiLocator;
+import com.dtsx.astra.sdk.utils.JsonBodyWriter;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.ConditionalGet;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.PagedPublisher;
+import com.dtsx.astra.sdk.utils.ResourceWatcher;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.dtsx.astra.sdk.db.domain.DatabaseFilter.Include;
+import org.reactivestreams.Publisher;
 
 import java.net.HttpURLConnection;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -36,7 +44,19 @@ public class AstraDbClient extends AbstractApiClient {
      *      authenticated token
      */
     public AstraDbClient(String token) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * As immutable object use builder to initiate the object, with a http client.
+     * 
+     * @param httpClient
+     *      http client
+     * @param token
+     *      authenticated token
+     */
+    public AstraDbClient(HttpClientWrapper httpClient, String token) {
+        super(httpClient, token);
     }
 
     // ---------------------------------
@@ -50,7 +70,7 @@ public class AstraDbClient extends AbstractApiClient {
      *      work with regions
      */
     public DbRegionsClient regions() {
-        return new DbRegionsClient(token);
+        return new DbRegionsClient(httpClient, token);
     }
 
 
@@ -138,6 +158,76 @@ public class AstraDbClient extends AbstractApiClient {
         return JsonUtils.unmarshallType(res.getBody(), RESPONSE_DATABASES).stream();
     }
     
+    /**
+     * Find databases matching the filter with non-blocking calls, pages are loaded on demand.
+     *
+     * @param filter
+     *      filter to search for db, its limit is the page size
+     * @return
+     *      publisher of databases
+     */
+    public Publisher<Database> searchPublisher(DatabaseFilter filter) {
+        Assert.notNull(filter, "filter");
+        return new PagedPublisher<>(last -> {
+            DatabaseFilter page = new DatabaseFilter(filter.getLimit(), filter.getInclude(), filter.getProvider(),
+                    last == null ? filter.getStartingAfterDbId().orElse(null) : last.getId());
+            return getHttpClient().getAsyncClient()
+                    .GET(getEndpointDatabases() + page.urlParams(), getToken())
+                    .thenApply(res -> JsonUtils.unmarshallType(res.getBody(), RESPONSE_DATABASES));
+        }, filter.getLimit());
+    }
+
+    /**
+     * Watch databases matching the filter, all pages are listed at each poll with conditional requests.
+     * Changes of status, name, keyspaces and regions are published.
+     *
+     * @param filter
+     *      filter to search for db, its limit is the page size
+     * @return
+     *      watcher, to be started
+     */
+    public ResourceWatcher<Database> watch(DatabaseFilter filter) {
+        Assert.notNull(filter, "filter");
+        ConditionalGet http = new ConditionalGet(getHttpClient(), getToken());
+        return new ResourceWatcher<>("databases", () -> searchAllPages(filter, http),
+                Database::getId, DatabaseInventory::fingerprint);
+    }
+
+    /**
+     * Watch non terminated databases.
+     *
+     * @return
+     *      watcher, to be started
+     */
+    public ResourceWatcher<Database> watch() {
+        return watch(new DatabaseFilter());
+    }
+
+    /**
+     * List all pages of databases matching a filter.
+     *
+     * @param filter
+     *      filter, its limit is the page size
+     * @param http
+     *      conditional requests
+     * @return
+     *      databases
+     */
+    private List<Database> searchAllPages(DatabaseFilter filter, ConditionalGet http) {
+        List<Database> databases = new ArrayList<>();
+        String startingAfter = filter.getStartingAfterDbId().orElse(null);
+        while (true) {
+            DatabaseFilter page = new DatabaseFilter(filter.getLimit(), filter.getInclude(), filter.getProvider(), startingAfter);
+            List<Database> items = JsonUtils.unmarshallType(
+                    http.get(getEndpointDatabases() + page.urlParams()).getBody(), RESPONSE_DATABASES);
+            databases.addAll(items);
+            if (items.isEmpty() || items.size() < filter.getLimit()) {
+                return databases;
+            }
+            startingAfter = items.get(items.size() - 1).getId();
+        }
+    }
+
     /**
      * Create a database base on some parameters.
      * 
@@ -150,12 +240,12 @@ public class AstraDbClient extends AbstractApiClient {
      */
     public String create(DatabaseCreationRequest dbCreationRequest) {
         Assert.notNull(dbCreationRequest, "Database creation request");
-        ApiResponseHttp res = POST(getEndpointDatabases(), JsonUtils.marshall(dbCreationRequest));
+        ApiResponseHttp res = POST(getEndpointDatabases(), JsonBodyWriter.of(dbCreationRequest));
         if (HttpURLConnection.HTTP_CREATED != res.getCode()) {
             throw new IllegalStateException("Expected code 201 to create db but got " 
                         + res.getCode() + "body=" + res.getBody());
         }
-        return res.getHeaders().get("location");
+        return res.getHeader("location");
     }
 
     // ---------------------------------
@@ -172,7 +262,17 @@ public class AstraDbClient extends AbstractApiClient {
      */
     public DatabaseClient database(String dbId) {
         Assert.hasLength(dbId, "Database Id should not be null nor empty");
-        return new DatabaseClient(token, dbId);
+        return new DatabaseClient(httpClient, token, dbId);
+    }
+
+    /**
+     * Reconcile databases with desired states.
+     *
+     * @return
+     *          reconciler
+     */
+    public DatabaseReconciler reconciler() {
+        return new DatabaseReconciler(httpClient, token);
     }
 
     /**
@@ -186,7 +286,7 @@ public class AstraDbClient extends AbstractApiClient {
         Assert.hasLength(dbName, "Database Id should not be null nor empty");
         List<Database> dbs = findByName(dbName).collect(Collectors.toList());
         if (1 == dbs.size()) {
-            return new DatabaseClient(token, dbs.get(0).getId());
+            return new DatabaseClient(httpClient, token, dbs.get(0).getId());
         }
         throw new IllegalArgumentException("Cannot retrieve database from its name (matching count=" + dbs.size() + ")");
     }
@@ -9,15 +9,23 @@ import com.dtsx.astra.sdk.db.exception.RegionNotFoundException;
 import com.dtsx.astra.sdk.db.telemetry.TelemetryClient;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.TaskExecutors;
 import com.dtsx.astra.sdk.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Devops API Client working with a Database.
@@ -43,7 +51,21 @@ public class DatabaseClient extends AbstractApiClient {
      *         unique database identifier
      */
     public DatabaseClient(String token, String databaseId) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token, databaseId);
+    }
+
+    /**
+     * Default constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *         token client
+     * @param databaseId
+     *         unique database identifier
+     */
+    public DatabaseClient(HttpClientWrapper httpClient, String token, String databaseId) {
+        super(httpClient, token);
         Assert.hasLength(databaseId, "databaseId");
         this.databaseId = databaseId;
     }
@@ -155,7 +177,7 @@ public class DatabaseClient extends AbstractApiClient {
     }
 
     /**
-     * Download all SecureBundle.
+     * Download all SecureBundle, regions are downloaded in parallel.
      *
      * @param destination
      *         file to save the secured bundle
@@ -164,9 +186,32 @@ public class DatabaseClient extends AbstractApiClient {
         Assert.hasLength(destination, "destination");
         Assert.isTrue(new File(destination).exists(), "Destination folder");
         Database db = get();
-        db.getInfo()
-                .getDatacenters()
-                .forEach(dc -> downloadSecureConnectBundle(dc, destination + File.separator + buildScbFileName(db.getId(), dc.getRegion())));
+        Set<Datacenter> dcs = db.getInfo().getDatacenters();
+        if (dcs.size() <= 1) {
+            dcs.forEach(dc -> downloadSecureConnectBundle(dc, destination + File.separator + buildScbFileName(db.getId(), dc.getRegion())));
+            return;
+        }
+        ExecutorService executor = TaskExecutors.newBoundedExecutor("astra-scb-" + databaseId, dcs.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>(dcs.size());
+            for (Datacenter dc : dcs) {
+                futures.add(executor.submit(() -> downloadSecureConnectBundle(dc,
+                        destination + File.separator + buildScbFileName(db.getId(), dc.getRegion()))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while downloading secure bundles", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Cannot download secure bundles", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     /**
@@ -231,10 +276,12 @@ public class DatabaseClient extends AbstractApiClient {
     public void resize(int capacityUnits) {
         // Parameter validations
         Assert.isTrue(capacityUnits > 0, "Capacity Unit");
-        // Build request
-        String body = "{ \"capacityUnits\":" + capacityUnits + "}";
-        // Invoke Http endpoint
-        ApiResponseHttp res = POST(getEndpointDatabase() + "/resize", body);
+        // Invoke Http endpoint, body is written when sent
+        ApiResponseHttp res = POST(getEndpointDatabase() + "/resize", generator -> {
+            generator.writeStartObject();
+            generator.writeNumberField("capacityUnits", capacityUnits);
+            generator.writeEndObject();
+        });
         // Check response code
         assertHttpCodeAccepted(res, "resize", databaseId);
     }
@@ -253,10 +300,13 @@ public class DatabaseClient extends AbstractApiClient {
         // Parameter validations
         Assert.hasLength(username, "username");
         Assert.hasLength(password, "password");
-        // Build body
-        String body = "{" + "\"username\": \"" + username + "\", " + "\"password\": \"" + password + "\"  }";
-        // Invoke
-        ApiResponseHttp res = POST(getEndpointDatabase() + "/resetPassword", body);
+        // Invoke, body is written when sent
+        ApiResponseHttp res = POST(getEndpointDatabase() + "/resetPassword", generator -> {
+            generator.writeStartObject();
+            generator.writeStringField("username", username);
+            generator.writeStringField("password", password);
+            generator.writeEndObject();
+        });
         // Check response code
         assertHttpCodeAccepted(res, "resetPassword", databaseId);
     }
@@ -272,7 +322,7 @@ public class DatabaseClient extends AbstractApiClient {
      *      keyspaces client
      */
     public DbKeyspacesClient keyspaces() {
-        return new DbKeyspacesClient(token, databaseId);
+        return new DbKeyspacesClient(httpClient, token, databaseId);
     }
 
     // ---------------------------------
@@ -285,7 +335,7 @@ public class DatabaseClient extends AbstractApiClient {
      * @return cdc client
      */
     public DbDatacentersClient datacenters() {
-        return new DbDatacentersClient(token, databaseId);
+        return new DbDatacentersClient(httpClient, token, databaseId);
     }
 
     // ---------------------------------
@@ -298,7 +348,7 @@ public class DatabaseClient extends AbstractApiClient {
      * @return access list client
      */
     public DbAccessListsClient accessLists() {
-        return new DbAccessListsClient(token, databaseId);
+        return new DbAccessListsClient(httpClient, token, databaseId);
     }
 
     // ---------------------------------
@@ -311,7 +361,7 @@ public class DatabaseClient extends AbstractApiClient {
      * @return cdc client
      */
     public DbCdcsClient cdc() {
-        return new DbCdcsClient(token, databaseId);
+        return new DbCdcsClient(httpClient, token, databaseId);
     }
 
     // ---------------------------------
@@ -338,7 +388,7 @@ public class DatabaseClient extends AbstractApiClient {
      * @return privateLink client
      */
     public DbPrivateLinksClient privateLink() {
-        return new DbPrivateLinksClient(token, databaseId);
+        return new DbPrivateLinksClient(httpClient, token, databaseId);
     }
 
     // ---------------------------------
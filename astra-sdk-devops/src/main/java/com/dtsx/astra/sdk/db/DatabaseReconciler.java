@@ -0,0 +1,412 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.AccessList;
+import com.dtsx.astra.sdk.db.domain.AccessListAddress;
+import com.dtsx.astra.sdk.db.domain.AccessListAddressRequest;
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseDesiredState;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
+import com.dtsx.astra.sdk.db.domain.ReconcileAction;
+import com.dtsx.astra.sdk.db.domain.ReconcilePlan;
+import com.dtsx.astra.sdk.db.domain.ReconcileResult;
+import com.dtsx.astra.sdk.streaming.domain.CdcCatalog;
+import com.dtsx.astra.sdk.streaming.domain.CdcTableRequest;
+import com.dtsx.astra.sdk.streaming.domain.CdcTableResult;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.TaskExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Bring databases, keyspaces, access lists and cdc to a desired state.
+ *
+ * <p>{@link #plan(List)} reads the current state with one call for all databases, one call
+ * for all access lists and one call per database with cdc, then computes the missing items.
+ * {@link #apply(ReconcilePlan)} runs the actions of each database in order, databases in parallel,
+ * and waits for the database to be active after creations. States are additive, nothing is deleted.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class DatabaseReconciler {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseReconciler.class);
+
+    /** Default databases reconciled in parallel. */
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    /** Default wait for a database to be active. */
+    public static final Duration DEFAULT_STATUS_TIMEOUT = Duration.ofMinutes(10);
+
+    /** Default delay between two status checks. */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(5);
+
+    /** Authentication token. */
+    private final String token;
+
+    /** Http client of the clients created. */
+    private final HttpClientWrapper httpClient;
+
+    /** Databases reconciled in parallel. */
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /** Wait for a database to be active. */
+    private Duration statusTimeout = DEFAULT_STATUS_TIMEOUT;
+
+    /** Delay between two status checks. */
+    private Duration pollInterval = DEFAULT_POLL_INTERVAL;
+
+    /**
+     * Constructor.
+     *
+     * @param token
+     *      authenticated token
+     */
+    public DatabaseReconciler(String token) {
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      authenticated token
+     */
+    public DatabaseReconciler(HttpClientWrapper httpClient, String token) {
+        Assert.notNull(httpClient, "httpClient");
+        Assert.hasLength(token, "token");
+        this.httpClient = httpClient;
+        this.token = token;
+    }
+
+    /**
+     * Databases reconciled in parallel, cdc of a database are created sequentially to keep this bound.
+     *
+     * @param maxConcurrency
+     *      concurrent operations
+     * @return
+     *      current reference
+     */
+    public DatabaseReconciler withMaxConcurrency(int maxConcurrency) {
+        Assert.isTrue(maxConcurrency > 0, "maxConcurrency should be positive");
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Wait for a database to be active after a creation.
+     *
+     * @param statusTimeout
+     *      maximum wait
+     * @return
+     *      current reference
+     */
+    public DatabaseReconciler withStatusTimeout(Duration statusTimeout) {
+        Assert.notNull(statusTimeout, "statusTimeout");
+        Assert.isTrue(!statusTimeout.isNegative() && !statusTimeout.isZero(), "statusTimeout should be positive");
+        this.statusTimeout = statusTimeout;
+        return this;
+    }
+
+    /**
+     * Delay between two status checks.
+     *
+     * @param pollInterval
+     *      delay
+     * @return
+     *      current reference
+     */
+    public DatabaseReconciler withPollInterval(Duration pollInterval) {
+        Assert.notNull(pollInterval, "pollInterval");
+        Assert.isTrue(!pollInterval.isNegative() && !pollInterval.isZero(), "pollInterval should be positive");
+        this.pollInterval = pollInterval;
+        return this;
+    }
+
+    /**
+     * Compute and apply the changes.
+     *
+     * @param states
+     *      desired states
+     * @return
+     *      results in plan order
+     */
+    public List<ReconcileResult> reconcile(List<DatabaseDesiredState> states) {
+        return apply(plan(states));
+    }
+
+    // ---------------------------------
+    // ----         Plan            ----
+    // ---------------------------------
+
+    /**
+     * Compute the changes without applying them (dry run).
+     *
+     * @param states
+     *      desired states
+     * @return
+     *      plan
+     */
+    public ReconcilePlan plan(List<DatabaseDesiredState> states) {
+        Assert.notNull(states, "states");
+        AstraDbClient dbClient = new AstraDbClient(httpClient, token);
+        Set<String> names = states.stream().map(DatabaseDesiredState::getName).collect(Collectors.toSet());
+        Map<String, Database> databases = new HashMap<>();
+        for (Database db : dbClient.findAllNonTerminated().collect(Collectors.toList())) {
+            String name = db.getInfo().getName();
+            if (names.contains(name) && databases.put(name, db) != null) {
+                throw new IllegalStateException("Cannot reconcile database '" + name + "', name matches many databases");
+            }
+        }
+        Map<String, AccessList> accessLists = Collections.emptyMap();
+        boolean needAccessLists = states.stream().anyMatch(s ->
+                !s.getAccessListAddresses().isEmpty() && databases.containsKey(s.getName()));
+        if (needAccessLists) {
+            accessLists = dbClient.findAllAccessLists()
+                    .filter(acl -> acl.getDatabaseId() != null)
+                    .collect(Collectors.toMap(AccessList::getDatabaseId, Function.identity(), (a, b) -> a));
+        }
+        return diff(states, databases, accessLists, db -> new DbCdcsClient(httpClient, token, db).refreshCatalog());
+    }
+
+    /**
+     * Compare desired states with the current state.
+     *
+     * @param states
+     *      desired states
+     * @param databases
+     *      existing databases by name
+     * @param accessLists
+     *      access lists by database identifier
+     * @param cdcCatalogs
+     *      load cdc of an existing database
+     * @return
+     *      plan
+     */
+    static ReconcilePlan diff(List<DatabaseDesiredState> states, Map<String, Database> databases,
+                              Map<String, AccessList> accessLists, Function<Database, CdcCatalog> cdcCatalogs) {
+        ReconcilePlan plan = new ReconcilePlan();
+        for (DatabaseDesiredState state : states) {
+            String name = state.getName();
+            Database db = databases.get(name);
+            Set<String> keyspaces = new HashSet<>();
+            Set<String> addresses = new HashSet<>();
+            CdcCatalog cdc = null;
+            if (db == null) {
+                plan.addAction(ReconcileAction.createDatabase(state.getCreationRequest()));
+                keyspaces.add(state.getCreationRequest().getKeyspace());
+            } else {
+                plan.addDatabase(db);
+                keyspaces.addAll(db.getInfo().getKeyspaces());
+                AccessList acl = accessLists.get(db.getId());
+                if (acl != null && acl.getAddresses() != null) {
+                    acl.getAddresses().stream()
+                            .map(AccessListAddress::getAddress)
+                            .map(DatabaseReconciler::normalizeAddress)
+                            .forEach(addresses::add);
+                }
+                if (!state.getCdcByTenant().isEmpty()) {
+                    cdc = cdcCatalogs.apply(db);
+                }
+            }
+            state.getKeyspaces().stream()
+                    .filter(ks -> !keyspaces.contains(ks))
+                    .forEach(ks -> plan.addAction(ReconcileAction.createKeyspace(name, ks)));
+            List<AccessListAddressRequest> missingAddresses = state.getAccessListAddresses().stream()
+                    .filter(a -> !addresses.contains(normalizeAddress(a.getAddress())))
+                    .collect(Collectors.toList());
+            if (!missingAddresses.isEmpty()) {
+                plan.addAction(ReconcileAction.addAccessListAddresses(name, missingAddresses));
+            }
+            for (Map.Entry<String, List<CdcTableRequest>> tenantCdc : state.getCdcByTenant().entrySet()) {
+                String tenant = tenantCdc.getKey();
+                CdcCatalog current = cdc;
+                List<CdcTableRequest> missingCdc = tenantCdc.getValue().stream()
+                        .filter(t -> current == null || !current
+                                .find(db.getId(), t.getKeyspace(), t.getTable(), tenant).isPresent())
+                        .collect(Collectors.toList());
+                if (!missingCdc.isEmpty()) {
+                    plan.addAction(ReconcileAction.createCdc(name, tenant, missingCdc));
+                }
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Access list entries are CIDR blocks, a single ip is the same as its /32 (or /128) block.
+     *
+     * @param address
+     *      ip address or CIDR block
+     * @return
+     *      CIDR block
+     */
+    static String normalizeAddress(String address) {
+        if (address == null) {
+            return null;
+        }
+        String cidr = address.trim().toLowerCase(Locale.ROOT);
+        if (cidr.indexOf('/') < 0) {
+            cidr += cidr.indexOf(':') < 0 ? "/32" : "/128";
+        }
+        return cidr;
+    }
+
+    // ---------------------------------
+    // ----         Apply           ----
+    // ---------------------------------
+
+    /**
+     * Apply a plan, databases in parallel. Once an action fails the next actions of the same
+     * database are skipped.
+     *
+     * @param plan
+     *      plan to apply
+     * @return
+     *      results in plan order
+     */
+    public List<ReconcileResult> apply(ReconcilePlan plan) {
+        Assert.notNull(plan, "plan");
+        if (plan.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> names = plan.getDatabaseNames();
+        ExecutorService executor = TaskExecutors.newBoundedExecutor("astra-reconciler", Math.min(maxConcurrency, names.size()));
+        try {
+            List<Future<List<ReconcileResult>>> futures = new ArrayList<>(names.size());
+            for (String name : names) {
+                futures.add(executor.submit(() -> apply(plan.getActions(name), plan.getDatabase(name))));
+            }
+            List<ReconcileResult> results = new ArrayList<>(plan.size());
+            for (Future<List<ReconcileResult>> future : futures) {
+                results.addAll(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reconciling databases", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cannot reconcile databases", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Apply actions of one database in order.
+     *
+     * @param actions
+     *      actions of the database
+     * @param existing
+     *      database when the plan was built
+     * @return
+     *      results
+     */
+    private List<ReconcileResult> apply(List<ReconcileAction> actions, Optional<Database> existing) {
+        List<ReconcileResult> results = new ArrayList<>(actions.size());
+        Database db = existing.orElse(null);
+        ReconcileAction failed = null;
+        for (ReconcileAction action : actions) {
+            if (failed != null) {
+                results.add(new ReconcileResult(action, new IllegalStateException("Skipped after failure of " + failed), 0));
+                continue;
+            }
+            long start = System.currentTimeMillis();
+            try {
+                db = apply(action, db);
+                results.add(new ReconcileResult(action, null, System.currentTimeMillis() - start));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Cannot apply '{}': {}", action, e.getMessage());
+                results.add(new ReconcileResult(action, e, System.currentTimeMillis() - start));
+                failed = action;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Apply one action.
+     *
+     * @param action
+     *      action
+     * @param db
+     *      current database (null if not created yet)
+     * @return
+     *      database after the action
+     */
+    private Database apply(ReconcileAction action, Database db) {
+        switch (action.getType()) {
+            case CREATE_DATABASE:
+                String dbId = new AstraDbClient(httpClient, token).create(action.getCreationRequest());
+                return waitFor(dbId, d -> true);
+            case CREATE_KEYSPACE:
+                new DbKeyspacesClient(httpClient, token, db).create(action.getTarget());
+                return waitFor(db.getId(), d -> d.getInfo().getKeyspaces().contains(action.getTarget()));
+            case ADD_ACCESS_LIST_ADDRESSES:
+                new DbAccessListsClient(httpClient, token, db).addAddress(action.getAddresses().toArray(new AccessListAddressRequest[0]));
+                return db;
+            case CREATE_CDC:
+                List<CdcTableResult> cdc = new DbCdcsClient(httpClient, token, db)
+                        .createAll(action.getTarget(), action.getCdcTables(), 1);
+                List<CdcTableResult> failures = cdc.stream().filter(r -> !r.isSuccess()).collect(Collectors.toList());
+                if (!failures.isEmpty()) {
+                    throw new IllegalStateException("Cannot create cdc " + failures);
+                }
+                return db;
+            default:
+                throw new IllegalArgumentException("Unsupported action " + action.getType());
+        }
+    }
+
+    /**
+     * Wait for a database to be active and match a condition.
+     *
+     * @param dbId
+     *      database identifier
+     * @param condition
+     *      condition on the active database
+     * @return
+     *      database
+     */
+    private Database waitFor(String dbId, Predicate<Database> condition) {
+        DatabaseClient client = new DatabaseClient(httpClient, token, dbId);
+        long deadline = System.currentTimeMillis() + statusTimeout.toMillis();
+        while (true) {
+            Optional<Database> db = client.find();
+            if (db.isPresent() && DatabaseStatusType.ACTIVE == db.get().getStatus() && condition.test(db.get())) {
+                return db.get();
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Database " + dbId + " is not ACTIVE after " + statusTimeout.getSeconds() + "s"
+                        + db.map(d -> " (status=" + d.getStatus() + ")").orElse(""));
+            }
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for database " + dbId, e);
+            }
+        }
+    }
+
+}
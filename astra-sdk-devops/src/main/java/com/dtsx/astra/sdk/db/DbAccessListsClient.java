@@ -6,7 +6,9 @@ import com.dtsx.astra.sdk.db.domain.AccessListAddressRequest;
 import com.dtsx.astra.sdk.db.domain.AccessListRequest;
 import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.utils.ApiLocator;
+import com.dtsx.astra.sdk.utils.JsonBodyWriter;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
@@ -32,9 +34,51 @@ public class DbAccessListsClient extends AbstractApiClient {
      *      databaseId
      */
     public DbAccessListsClient(String token, String databaseId) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token, databaseId);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param databaseId
+     *      databaseId
+     */
+    public DbAccessListsClient(HttpClientWrapper httpClient, String token, String databaseId) {
+        super(httpClient, token);
         Assert.hasLength(databaseId, "databaseId");
-        this.db = new DatabaseClient(token, databaseId).get();
+        this.db = new DatabaseClient(httpClient, token, databaseId).get();
+    }
+
+    /**
+     * Constructor with a database already retrieved.
+     *
+     * @param token
+     *      token
+     * @param db
+     *      database
+     */
+    public DbAccessListsClient(String token, Database db) {
+        this(HttpClientWrapper.getInstance(), token, db);
+    }
+
+    /**
+     * Constructor with a database already retrieved, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param db
+     *      database
+     */
+    public DbAccessListsClient(HttpClientWrapper httpClient, String token, Database db) {
+        super(httpClient, token);
+        Assert.notNull(db, "db");
+        this.db = db;
     }
 
     /**
@@ -66,7 +110,7 @@ public class DbAccessListsClient extends AbstractApiClient {
     public void addAddress(AccessListAddressRequest... newAddressed) {
         Assert.notNull(newAddressed, "New addresses should not be null");
         Assert.isTrue(newAddressed.length > 0, "New address should not be empty");
-        POST(getApiDevopsEndpointAccessListsDb(), JsonUtils.marshall(newAddressed));
+        POST(getApiDevopsEndpointAccessListsDb(), JsonBodyWriter.of(newAddressed));
     }
 
     /**
@@ -89,7 +133,7 @@ public class DbAccessListsClient extends AbstractApiClient {
     public void replaceAddresses(AccessListAddressRequest... addresses) {
         Assert.notNull(addresses, "Addresses should not be null");
         Assert.isTrue(addresses.length > 0, "Address should not be empty");
-        PUT(getApiDevopsEndpointAccessListsDb(), JsonUtils.marshall(addresses));
+        PUT(getApiDevopsEndpointAccessListsDb(), JsonBodyWriter.of(addresses));
     }
 
     /**
@@ -106,7 +150,7 @@ public class DbAccessListsClient extends AbstractApiClient {
         AccessListRequest alr = new AccessListRequest();
         alr.setAddresses(Arrays.asList(addresses));
         alr.setConfigurations(new AccessListRequest.Configurations(true));
-        PATCH(getApiDevopsEndpointAccessListsDb(), JsonUtils.marshall(alr));
+        PATCH(getApiDevopsEndpointAccessListsDb(), JsonBodyWriter.of(alr));
     }
 
     /**
@@ -5,15 +5,34 @@ import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.db.exception.ChangeDataCaptureNotFoundException;
 import com.dtsx.astra.sdk.db.exception.KeyspaceNotFoundException;
 import com.dtsx.astra.sdk.streaming.AstraStreamingClient;
+import com.dtsx.astra.sdk.streaming.TenantCdcClient;
+import com.dtsx.astra.sdk.streaming.TenantRegistry;
+import com.dtsx.astra.sdk.streaming.domain.CdcCatalog;
 import com.dtsx.astra.sdk.streaming.domain.CdcDefinition;
+import com.dtsx.astra.sdk.streaming.domain.CdcTableRequest;
+import com.dtsx.astra.sdk.streaming.domain.CdcTableResult;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.CachedSnapshot;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.TaskExecutors;
 import com.fasterxml.jackson.core.type.TypeReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -28,6 +47,18 @@ public class DbCdcsClient extends AbstractApiClient {
             new TypeReference<List<CdcDefinition>>() {
     };
 
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbCdcsClient.class);
+
+    /** Default concurrent creations for bulk operations. */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    /** Cdc definitions change on user action, local changes invalidate the catalog. */
+    public static final Duration DEFAULT_CATALOG_TTL = Duration.ofMinutes(5);
+
+    /** Cdc catalogs are shared by the clients of a http client, a new client is created for each call. */
+    private static final String CACHE_KEY = "db.cdc/";
+
     /**
      * unique db identifier.
      */
@@ -42,10 +73,52 @@ public class DbCdcsClient extends AbstractApiClient {
      *      databaseId
      */
     public DbCdcsClient(String token, String databaseId) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token, databaseId);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param databaseId
+     *      databaseId
+     */
+    public DbCdcsClient(HttpClientWrapper httpClient, String token, String databaseId) {
+        super(httpClient, token);
         Assert.hasLength(databaseId, "databaseId");
         // Test Db exists
-        this.db = new DatabaseClient(token, databaseId).get();
+        this.db = new DatabaseClient(httpClient, token, databaseId).get();
+    }
+
+    /**
+     * Constructor with a database already retrieved.
+     *
+     * @param token
+     *      token
+     * @param db
+     *      database
+     */
+    public DbCdcsClient(String token, Database db) {
+        this(HttpClientWrapper.getInstance(), token, db);
+    }
+
+    /**
+     * Constructor with a database already retrieved, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param db
+     *      database
+     */
+    public DbCdcsClient(HttpClientWrapper httpClient, String token, Database db) {
+        super(httpClient, token);
+        Assert.notNull(db, "db");
+        this.db = db;
     }
 
     /**
@@ -63,7 +136,7 @@ public class DbCdcsClient extends AbstractApiClient {
     }
 
     /**
-     * Find a cdc by its id.
+     * Find a cdc by its id, served from the {@link #catalog()} reloaded once on a miss.
      *
      * @param cdcId
      *         identifier
@@ -71,11 +144,11 @@ public class DbCdcsClient extends AbstractApiClient {
      */
     public Optional<CdcDefinition> findById(String cdcId) {
         Assert.hasLength(cdcId, "cdc identifier");
-        return findAll().filter(cdc -> cdc.getConnectorName().equals(cdcId)).findFirst();
+        return lookup(c -> c.findByConnectorName(cdcId));
     }
 
     /**
-     * Find the cdc based on its components.
+     * Find the cdc based on its components, served from the {@link #catalog()} reloaded once on a miss.
      *
      * @param keyspace
      *         keyspace name
@@ -89,7 +162,84 @@ public class DbCdcsClient extends AbstractApiClient {
         Assert.hasLength(keyspace, "keyspace");
         Assert.hasLength(table, "table");
         Assert.hasLength(tenant, "tenant");
-        return findAll().filter(cdc -> cdc.getKeyspace().equals(keyspace) && cdc.getDatabaseTable().equals(table) && cdc.getTenant().equals(tenant)).findFirst();
+        return lookup(c -> c.find(db.getId(), keyspace, table, tenant));
+    }
+
+    /**
+     * Lookup in the catalog, reloaded once when the cdc is unknown as it may have been
+     * created by another process since last load.
+     *
+     * @param lookup
+     *         lookup in the catalog
+     * @return definition if present
+     */
+    private Optional<CdcDefinition> lookup(Function<CdcCatalog, Optional<CdcDefinition>> lookup) {
+        Optional<CdcDefinition> cdc = lookup.apply(catalog());
+        return cdc.isPresent() ? cdc : lookup.apply(refreshCatalog());
+    }
+
+    /**
+     * Access the cached cdc catalog of the database, loaded on first access and refreshed in background.
+     * Definitions and their status can be up to {@link #DEFAULT_CATALOG_TTL} old, {@link #findAll()} calls the Api.
+     *
+     * @return indexed cdc definitions
+     */
+    public CdcCatalog catalog() {
+        return snapshot().get();
+    }
+
+    /**
+     * Reload the catalog now.
+     *
+     * @return indexed cdc definitions
+     */
+    public CdcCatalog refreshCatalog() {
+        return snapshot().refresh();
+    }
+
+    /**
+     * Drop the cached catalog, next access will reload it.
+     */
+    public void invalidateCatalog() {
+        invalidateCatalog(httpClient, token, db.getId());
+    }
+
+    /**
+     * Seed the catalog with definitions saved by a previous run, revalidated in background on first access.
+     *
+     * @param restored
+     *      restored definitions of this database
+     */
+    public void preloadCatalog(Collection<CdcDefinition> restored) {
+        Assert.notNull(restored, "restored");
+        snapshot().preload(new CdcCatalog(new ArrayList<>(restored)));
+    }
+
+    /**
+     * Drop the cached catalog of a database, used when a cdc is created or deleted.
+     *
+     * @param httpClient
+     *         http client holding the catalog
+     * @param token
+     *         token
+     * @param databaseId
+     *         database identifier
+     */
+    public static void invalidateCatalog(HttpClientWrapper httpClient, String token, String databaseId) {
+        CachedSnapshot<CdcCatalog> snapshot = httpClient.findCache(CACHE_KEY + token + "/" + databaseId);
+        if (snapshot != null) {
+            snapshot.invalidate();
+        }
+    }
+
+    /**
+     * Snapshot for the token and database.
+     *
+     * @return snapshot
+     */
+    private CachedSnapshot<CdcCatalog> snapshot() {
+        return httpClient.getCache(CACHE_KEY + token + "/" + db.getId(), k -> new CachedSnapshot<>(() ->
+                new CdcCatalog(findAll().collect(Collectors.toList())), DEFAULT_CATALOG_TTL));
     }
 
     /**
@@ -109,7 +259,92 @@ public class DbCdcsClient extends AbstractApiClient {
         if (!db.getInfo().getKeyspaces().contains(keyspace)) {
             throw new KeyspaceNotFoundException(db.getId(), keyspace);
         }
-        new AstraStreamingClient(token).tenant(tenant).cdc().create(db.getId(), keyspace, table, topicPartition);
+        new TenantCdcClient(httpClient, token, TenantRegistry.getInstance(httpClient, token).get(tenant))
+                .create(db, keyspace, table, topicPartition);
+    }
+
+    /**
+     * Create cdc for many tables with default concurrency.
+     *
+     * @param tenant
+     *         tenant identifier
+     * @param tables
+     *         tables to enable cdc on
+     * @return results in the order of the tables
+     */
+    public List<CdcTableResult> createAll(String tenant, List<CdcTableRequest> tables) {
+        return createAll(tenant, tables, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Create cdc for many tables. Tenant and database are resolved once, keyspaces are checked
+     * before any creation, creations are run in parallel and a failing table does not stop the others.
+     *
+     * @param tenant
+     *         tenant identifier
+     * @param tables
+     *         tables to enable cdc on
+     * @param maxConcurrency
+     *         concurrent creations
+     * @return results in the order of the tables
+     * @throws KeyspaceNotFoundException
+     *         a keyspace of the tables does not exist, nothing is created
+     */
+    public List<CdcTableResult> createAll(String tenant, List<CdcTableRequest> tables, int maxConcurrency) {
+        Assert.hasLength(tenant, "tenant");
+        Assert.notNull(tables, "tables");
+        Assert.isTrue(maxConcurrency > 0, "maxConcurrency should be positive");
+        if (tables.isEmpty()) {
+            return Collections.emptyList();
+        }
+        for (CdcTableRequest table : tables) {
+            Assert.notNull(table, "table");
+            Assert.hasLength(table.getKeyspace(), "keyspace");
+            if (!db.getInfo().getKeyspaces().contains(table.getKeyspace())) {
+                throw new KeyspaceNotFoundException(db.getId(), table.getKeyspace());
+            }
+        }
+        TenantCdcClient cdcClient = new TenantCdcClient(httpClient, token, TenantRegistry.getInstance(httpClient, token).get(tenant));
+        ExecutorService executor = TaskExecutors.newBoundedExecutor("astra-cdc-" + db.getId(), Math.min(maxConcurrency, tables.size()));
+        try {
+            List<Future<CdcTableResult>> futures = new ArrayList<>(tables.size());
+            for (CdcTableRequest table : tables) {
+                futures.add(executor.submit(() -> create(cdcClient, table)));
+            }
+            List<CdcTableResult> results = new ArrayList<>(tables.size());
+            for (Future<CdcTableResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while creating cdc", e);
+        } catch (ExecutionException e) {
+            // create() catches errors, not expected
+            throw new IllegalStateException("Cannot create cdc", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Create one cdc and capture the outcome.
+     *
+     * @param cdcClient
+     *         tenant cdc client
+     * @param table
+     *         table to enable cdc on
+     * @return result
+     */
+    private CdcTableResult create(TenantCdcClient cdcClient, CdcTableRequest table) {
+        long start = System.currentTimeMillis();
+        try {
+            cdcClient.create(db, table.getKeyspace(), table.getTable(), table.getTopicPartitions());
+            return new CdcTableResult(table, null, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot create cdc for {} on db {}: {}", table, db.getId(), e.getMessage());
+            return new CdcTableResult(table, e, System.currentTimeMillis() - start);
+        }
     }
 
     /**
@@ -144,9 +379,8 @@ public class DbCdcsClient extends AbstractApiClient {
      *         cdc definition
      */
     private void delete(CdcDefinition cdc) {
-        new AstraStreamingClient(token)
-                .tenant(cdc.getTenant()).cdc()
-                .delete(db.getId(), cdc.getKeyspace(), cdc.getDatabaseTable());
+        new TenantCdcClient(httpClient, token, TenantRegistry.getInstance(httpClient, token).get(cdc.getTenant()))
+                .delete(db, cdc.getKeyspace(), cdc.getDatabaseTable());
     }
 
     /**
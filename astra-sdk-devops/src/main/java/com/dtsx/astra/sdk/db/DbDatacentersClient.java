@@ -8,7 +8,9 @@ import com.dtsx.astra.sdk.db.domain.Datacenter;
 import com.dtsx.astra.sdk.db.exception.RegionAlreadyExistException;
 import com.dtsx.astra.sdk.db.exception.RegionNotFoundException;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.JsonBodyWriter;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -43,10 +45,24 @@ public class DbDatacentersClient extends AbstractApiClient {
      *      databaseId
      */
     public DbDatacentersClient(String token, String databaseId) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token, databaseId);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param databaseId
+     *      databaseId
+     */
+    public DbDatacentersClient(HttpClientWrapper httpClient, String token, String databaseId) {
+        super(httpClient, token);
         Assert.hasLength(databaseId, "databaseId");
         // Test Db exists
-        this.db = new DatabaseClient(token, databaseId).get();
+        this.db = new DatabaseClient(httpClient, token, databaseId).get();
     }
 
     /**
@@ -108,8 +124,7 @@ public class DbDatacentersClient extends AbstractApiClient {
             throw new RegionAlreadyExistException(db.getId(), regionName);
         }
         DatabaseRegionCreationRequest req = new DatabaseRegionCreationRequest(tier, cloudProvider.getCode(), regionName);
-        String body = JsonUtils.marshall(Collections.singletonList(req));
-        ApiResponseHttp res = POST(getEndpointRegions(), body);
+        ApiResponseHttp res = POST(getEndpointRegions(), JsonBodyWriter.of(Collections.singletonList(req)));
         if (res.getCode() != HttpURLConnection.HTTP_CREATED) {
             throw new IllegalStateException("Cannot Add Region: " + res.getBody());
         }
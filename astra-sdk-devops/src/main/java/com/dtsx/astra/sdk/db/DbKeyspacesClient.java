@@ -5,6 +5,7 @@ import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.db.exception.KeyspaceAlreadyExistException;
 import com.dtsx.astra.sdk.db.exception.KeyspaceNotFoundException;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 
 import java.util.Set;
 
@@ -27,8 +28,50 @@ public class DbKeyspacesClient extends AbstractApiClient  {
      *      databaseId
      */
     public DbKeyspacesClient(String token, String databaseId) {
-        super(token);
-        this.db = new DatabaseClient(token, databaseId).get();
+        this(HttpClientWrapper.getInstance(), token, databaseId);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param databaseId
+     *      databaseId
+     */
+    public DbKeyspacesClient(HttpClientWrapper httpClient, String token, String databaseId) {
+        super(httpClient, token);
+        this.db = new DatabaseClient(httpClient, token, databaseId).get();
+    }
+
+    /**
+     * Constructor with a database already retrieved.
+     *
+     * @param token
+     *      token
+     * @param db
+     *      database
+     */
+    public DbKeyspacesClient(String token, Database db) {
+        this(HttpClientWrapper.getInstance(), token, db);
+    }
+
+    /**
+     * Constructor with a database already retrieved, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param db
+     *      database
+     */
+    public DbKeyspacesClient(HttpClientWrapper httpClient, String token, Database db) {
+        super(httpClient, token);
+        Assert.notNull(db, "db");
+        this.db = db;
     }
 
     /**
@@ -11,11 +11,6 @@ import java.util.Optional;
  */
 public class DbPrivateLinksClient extends AbstractApiClient  {
 
-    /**
-     * Wrapper handling header and error management as a singleton.
-     */
-    private final HttpClientWrapper http = HttpClientWrapper.getInstance();
-
     /**
      * unique db identifier.
      */
@@ -30,8 +25,22 @@ public class DbPrivateLinksClient extends AbstractApiClient  {
      *      databaseId
      */
     public DbPrivateLinksClient(String token, String databaseId) {
-        super(token);
-        this.db = new DatabaseClient(token, databaseId).get();
+        this(HttpClientWrapper.getInstance(), token, databaseId);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param databaseId
+     *      databaseId
+     */
+    public DbPrivateLinksClient(HttpClientWrapper httpClient, String token, String databaseId) {
+        super(httpClient, token);
+        this.db = new DatabaseClient(httpClient, token, databaseId).get();
     }
 
     /**
@@ -2,17 +2,21 @@ package com.dtsx.astra.sdk.db;
 
 import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.db.domain.CloudProviderType;
+import com.dtsx.astra.sdk.db.domain.DatabaseCreationRequest;
 import com.dtsx.astra.sdk.db.domain.DatabaseRegion;
+import com.dtsx.astra.sdk.db.domain.DatabaseRegionCatalog;
 import com.dtsx.astra.sdk.db.domain.DatabaseRegionServerless;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.CachedSnapshot;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -30,9 +34,18 @@ public class DbRegionsClient {
     public static final TypeReference<List<DatabaseRegion>> TYPE_LIST_REGION =
             new TypeReference<List<DatabaseRegion>>(){};
 
+    /** Region catalogs change rarely. */
+    public static final Duration DEFAULT_CATALOG_TTL = Duration.ofHours(1);
+
+    /** Region catalogs are shared by the clients of a http client, a new client is created for each call. */
+    private static final String CACHE_KEY = "db.regions/";
+
     /** Authentication token */
     private final String token;
 
+    /** Http client. */
+    private final HttpClientWrapper httpClient;
+
     /**
      * Get Access to the token
      *
@@ -40,7 +53,21 @@ public class DbRegionsClient {
      *      current token
      */
     public DbRegionsClient(String token) {
-        this.token = token;
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Get Access to the token, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      current token
+     */
+    public DbRegionsClient(HttpClientWrapper httpClient, String token) {
+        Assert.notNull(httpClient, "httpClient");
+        this.httpClient = httpClient;
+        this.token      = token;
     }
 
     /**
@@ -51,8 +78,7 @@ public class DbRegionsClient {
      */
     public Stream<DatabaseRegion> findAll() {
         // Invoke endpoint
-        ApiResponseHttp res = HttpClientWrapper
-                .getInstance()
+        ApiResponseHttp res = httpClient
                 .GET(ApiLocator.getApiDevopsEndpoint() + PATH_REGIONS, token);
         // Marshall response
         return JsonUtils.unmarshallType(res.getBody(), TYPE_LIST_REGION).stream();
@@ -66,8 +92,7 @@ public class DbRegionsClient {
      */
     public Stream<DatabaseRegionServerless> findAllServerless() {
         // Invoke endpoint
-        ApiResponseHttp res = HttpClientWrapper
-                .getInstance().GET(ApiLocator.getApiDevopsEndpoint() + PATH_REGIONS_SERVERLESS, token);
+        ApiResponseHttp res = httpClient.GET(ApiLocator.getApiDevopsEndpoint() + PATH_REGIONS_SERVERLESS, token);
         // Marshall response
         return JsonUtils.unmarshallType(res.getBody(), new TypeReference<List<DatabaseRegionServerless>>(){}).stream();
     }
@@ -76,20 +101,43 @@ public class DbRegionsClient {
      * Map regions from plain list to Tier/Cloud/Region Structure.
      *
      * @return
-     *      regions organized by cloud providers
+     *      regions organized by cloud providers (read-only, from the catalog)
      */
     public Map <String, Map<CloudProviderType,List<DatabaseRegion>>> findAllAsMap() {
-        Map<String, Map<CloudProviderType,List<DatabaseRegion>>> m = new HashMap<>();
-        findAll().forEach(dar -> {
-            if (!m.containsKey(dar.getTier())) {
-                m.put(dar.getTier(), new HashMap<CloudProviderType,List<DatabaseRegion>>());
-            }
-            if (!m.get(dar.getTier()).containsKey(dar.getCloudProvider())) {
-                m.get(dar.getTier()).put(dar.getCloudProvider(), new ArrayList<DatabaseRegion>());
-            }
-            m.get(dar.getTier()).get(dar.getCloudProvider()).add(dar);
-        });
-        return m;
+        return catalog().asMap();
+    }
+
+    /**
+     * Access the cached region catalog, loaded on first access and refreshed in background.
+     *
+     * @return
+     *      indexed regions
+     */
+    public DatabaseRegionCatalog catalog() {
+        return httpClient.getCache(CACHE_KEY + token, t -> new CachedSnapshot<>(() ->
+                new DatabaseRegionCatalog(
+                        findAll().collect(Collectors.toList()),
+                        findAllServerless().collect(Collectors.toList())), DEFAULT_CATALOG_TTL)).get();
+    }
+
+    /**
+     * Drop the cached catalog, next access will reload it.
+     */
+    public void invalidateCatalog() {
+        CachedSnapshot<DatabaseRegionCatalog> snapshot = httpClient.findCache(CACHE_KEY + token);
+        if (snapshot != null) {
+            snapshot.invalidate();
+        }
+    }
+
+    /**
+     * Check tier, cloud provider and region of a creation request against the catalog.
+     *
+     * @param req
+     *      database creation request
+     */
+    public void validate(DatabaseCreationRequest req) {
+        catalog().validate(req);
     }
 
 }
@@ -0,0 +1,147 @@
+package com.dtsx.astra.sdk.db.domain;
+
+import com.dtsx.astra.sdk.streaming.domain.CdcTableRequest;
+import com.dtsx.astra.sdk.utils.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Expected state of a database: the database itself, its keyspaces, access list addresses and cdc.
+ *
+ * <p>States are additive, items present in Astra and not listed here are left untouched.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class DatabaseDesiredState {
+
+    /** Request used if the database does not exist, its name identifies the database. */
+    private final DatabaseCreationRequest creationRequest;
+
+    /** Expected keyspaces. */
+    private final Set<String> keyspaces = new LinkedHashSet<>();
+
+    /** Expected access list addresses. */
+    private final List<AccessListAddressRequest> accessListAddresses = new ArrayList<>();
+
+    /** Expected cdc per tenant. */
+    private final Map<String, List<CdcTableRequest>> cdcByTenant = new LinkedHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param creationRequest
+     *      request used if the database does not exist
+     */
+    public DatabaseDesiredState(DatabaseCreationRequest creationRequest) {
+        Assert.notNull(creationRequest, "creationRequest");
+        Assert.hasLength(creationRequest.getName(), "Database name");
+        this.creationRequest = creationRequest;
+        if (creationRequest.getKeyspace() != null) {
+            keyspaces.add(creationRequest.getKeyspace());
+        }
+    }
+
+    /**
+     * Expect a keyspace.
+     *
+     * @param keyspace
+     *      keyspace name
+     * @return
+     *      current reference
+     */
+    public DatabaseDesiredState withKeyspace(String keyspace) {
+        Assert.hasLength(keyspace, "keyspace");
+        keyspaces.add(keyspace);
+        return this;
+    }
+
+    /**
+     * Expect an address in the access list.
+     *
+     * @param address
+     *      ip address or cidr
+     * @param description
+     *      description
+     * @return
+     *      current reference
+     */
+    public DatabaseDesiredState withAccessListAddress(String address, String description) {
+        Assert.hasLength(address, "address");
+        accessListAddresses.add(new AccessListAddressRequest(address, description));
+        return this;
+    }
+
+    /**
+     * Expect cdc on a table, the keyspace is expected as well.
+     *
+     * @param tenant
+     *      tenant name
+     * @param keyspace
+     *      keyspace name
+     * @param table
+     *      table name
+     * @param topicPartitions
+     *      topic partitions
+     * @return
+     *      current reference
+     */
+    public DatabaseDesiredState withCdc(String tenant, String keyspace, String table, int topicPartitions) {
+        Assert.hasLength(tenant, "tenant");
+        CdcTableRequest request = new CdcTableRequest(keyspace, table, topicPartitions);
+        keyspaces.add(keyspace);
+        cdcByTenant.computeIfAbsent(tenant, t -> new ArrayList<>()).add(request);
+        return this;
+    }
+
+    /**
+     * Gets database name
+     *
+     * @return value of database name
+     */
+    public String getName() {
+        return creationRequest.getName();
+    }
+
+    /**
+     * Gets creationRequest
+     *
+     * @return value of creationRequest
+     */
+    public DatabaseCreationRequest getCreationRequest() {
+        return creationRequest;
+    }
+
+    /**
+     * Gets keyspaces
+     *
+     * @return value of keyspaces
+     */
+    public Set<String> getKeyspaces() {
+        return Collections.unmodifiableSet(keyspaces);
+    }
+
+    /**
+     * Gets accessListAddresses
+     *
+     * @return value of accessListAddresses
+     */
+    public List<AccessListAddressRequest> getAccessListAddresses() {
+        return Collections.unmodifiableList(accessListAddresses);
+    }
+
+    /**
+     * Gets cdcByTenant
+     *
+     * @return value of cdcByTenant
+     */
+    public Map<String, List<CdcTableRequest>> getCdcByTenant() {
+        return Collections.unmodifiableMap(cdcByTenant);
+    }
+
+}
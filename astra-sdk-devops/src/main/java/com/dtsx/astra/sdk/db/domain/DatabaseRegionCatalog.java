@@ -0,0 +1,186 @@
+package com.dtsx.astra.sdk.db.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Immutable snapshot of available regions for databases, indexed by tier, cloud provider and region name.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class DatabaseRegionCatalog {
+
+    /** Available regions for user and organization. */
+    private final List<DatabaseRegion> regions;
+
+    /** Regions organized as Tier/Cloud/Region. */
+    private final Map<String, Map<CloudProviderType, List<DatabaseRegion>>> regionsByTier;
+
+    /** Regions by tier/cloud/region key. */
+    private final Map<String, DatabaseRegion> regionsByKey;
+
+    /** Serverless regions by name. */
+    private final Map<String, DatabaseRegionServerless> serverlessRegionsByName;
+
+    /**
+     * Build the indexes.
+     *
+     * @param regions
+     *      available regions
+     * @param serverlessRegions
+     *      serverless regions
+     */
+    public DatabaseRegionCatalog(List<DatabaseRegion> regions, List<DatabaseRegionServerless> serverlessRegions) {
+        this.regions = Collections.unmodifiableList(new ArrayList<>(regions));
+        Map<String, Map<CloudProviderType, List<DatabaseRegion>>> byTier = new HashMap<>();
+        Map<String, DatabaseRegion> byKey = new HashMap<>(regions.size() * 2);
+        for (DatabaseRegion dar : regions) {
+            byTier.computeIfAbsent(dar.getTier(), t -> new EnumMap<>(CloudProviderType.class))
+                  .computeIfAbsent(dar.getCloudProvider(), c -> new ArrayList<>())
+                  .add(dar);
+            byKey.put(key(dar.getTier(), dar.getCloudProvider(), dar.getRegion()), dar);
+        }
+        // Freeze nested structures
+        Map<String, Map<CloudProviderType, List<DatabaseRegion>>> frozen = new HashMap<>();
+        byTier.forEach((tier, clouds) -> {
+            Map<CloudProviderType, List<DatabaseRegion>> frozenClouds = new EnumMap<>(CloudProviderType.class);
+            clouds.forEach((cloud, list) -> frozenClouds.put(cloud, Collections.unmodifiableList(list)));
+            frozen.put(tier, Collections.unmodifiableMap(frozenClouds));
+        });
+        this.regionsByTier = Collections.unmodifiableMap(frozen);
+        this.regionsByKey  = Collections.unmodifiableMap(byKey);
+        Map<String, DatabaseRegionServerless> serverless = new HashMap<>(serverlessRegions.size() * 2);
+        serverlessRegions.forEach(r -> serverless.put(r.getName(), r));
+        this.serverlessRegionsByName = Collections.unmodifiableMap(serverless);
+    }
+
+    /**
+     * Build index key.
+     *
+     * @param tier
+     *      tier
+     * @param cloud
+     *      cloud provider
+     * @param region
+     *      region name
+     * @return
+     *      key
+     */
+    private static String key(String tier, CloudProviderType cloud, String region) {
+        return tier + "/" + cloud + "/" + region;
+    }
+
+    /**
+     * List all regions.
+     *
+     * @return
+     *      all regions
+     */
+    public Stream<DatabaseRegion> findAll() {
+        return regions.stream();
+    }
+
+    /**
+     * List all serverless regions.
+     *
+     * @return
+     *      serverless regions
+     */
+    public Stream<DatabaseRegionServerless> findAllServerless() {
+        return serverlessRegionsByName.values().stream();
+    }
+
+    /**
+     * Regions organized as Tier/Cloud/Region (read-only).
+     *
+     * @return
+     *      regions organized by cloud providers
+     */
+    public Map<String, Map<CloudProviderType, List<DatabaseRegion>>> asMap() {
+        return regionsByTier;
+    }
+
+    /**
+     * Regions for a tier and a cloud provider.
+     *
+     * @param tier
+     *      tier
+     * @param cloud
+     *      cloud provider
+     * @return
+     *      list of regions, empty if none
+     */
+    public List<DatabaseRegion> findByTierAndCloud(String tier, CloudProviderType cloud) {
+        return regionsByTier.getOrDefault(tier, Collections.emptyMap())
+                            .getOrDefault(cloud, Collections.emptyList());
+    }
+
+    /**
+     * Find a region.
+     *
+     * @param tier
+     *      tier
+     * @param cloud
+     *      cloud provider
+     * @param region
+     *      region name
+     * @return
+     *      region if available
+     */
+    public Optional<DatabaseRegion> find(String tier, CloudProviderType cloud, String region) {
+        return Optional.ofNullable(regionsByKey.get(key(tier, cloud, region)));
+    }
+
+    /**
+     * Find a serverless region by its name.
+     *
+     * @param name
+     *      region name
+     * @return
+     *      region if available
+     */
+    public Optional<DatabaseRegionServerless> findServerless(String name) {
+        return Optional.ofNullable(serverlessRegionsByName.get(name));
+    }
+
+    /**
+     * Tells if tier, cloud provider and region of the request are available.
+     *
+     * @param req
+     *      database creation request
+     * @return
+     *      if the request can be processed
+     */
+    public boolean isValid(DatabaseCreationRequest req) {
+        return find(req.getTier(), req.getCloudProvider(), req.getRegion()).isPresent();
+    }
+
+    /**
+     * Check tier, cloud provider and region of the request before sending it.
+     *
+     * @param req
+     *      database creation request
+     */
+    public void validate(DatabaseCreationRequest req) {
+        if (req == null) {
+            throw new IllegalArgumentException("Database creation request should not be null");
+        }
+        if (!regionsByTier.containsKey(req.getTier())) {
+            throw new IllegalArgumentException("Tier '" + req.getTier() + "' is not available, expected one of "
+                    + regionsByTier.keySet());
+        }
+        if (!isValid(req)) {
+            List<String> available = new ArrayList<>();
+            findByTierAndCloud(req.getTier(), req.getCloudProvider()).forEach(r -> available.add(r.getRegion()));
+            throw new IllegalArgumentException("Region '" + req.getRegion() + "' is not available for tier '"
+                    + req.getTier() + "' and cloud '" + req.getCloudProvider() + "', expected one of " + available);
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.dtsx.astra.sdk.db.domain;
+
+import com.dtsx.astra.sdk.streaming.domain.CdcTableRequest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Change needed to bring a database to its desired state.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class ReconcileAction {
+
+    /**
+     * Nature of the change.
+     */
+    public enum Type {
+        /** Create the database and wait for it to be active. */
+        CREATE_DATABASE,
+        /** Create a keyspace and wait for the database to be active. */
+        CREATE_KEYSPACE,
+        /** Add addresses to the access list in one call. */
+        ADD_ACCESS_LIST_ADDRESSES,
+        /** Create cdc for tables of a tenant. */
+        CREATE_CDC
+    }
+
+    /** Nature of the change. */
+    private final Type type;
+
+    /** Database name. */
+    private final String databaseName;
+
+    /** Keyspace or tenant name (null for other types). */
+    private final String target;
+
+    /** Creation request, for {@link Type#CREATE_DATABASE}. */
+    private final DatabaseCreationRequest creationRequest;
+
+    /** Addresses, for {@link Type#ADD_ACCESS_LIST_ADDRESSES}. */
+    private final List<AccessListAddressRequest> addresses;
+
+    /** Tables, for {@link Type#CREATE_CDC}. */
+    private final List<CdcTableRequest> cdcTables;
+
+    /**
+     * Constructor.
+     *
+     * @param type
+     *      nature of the change
+     * @param databaseName
+     *      database name
+     * @param target
+     *      keyspace or tenant name
+     * @param creationRequest
+     *      creation request
+     * @param addresses
+     *      addresses to add
+     * @param cdcTables
+     *      tables to enable cdc on
+     */
+    private ReconcileAction(Type type, String databaseName, String target, DatabaseCreationRequest creationRequest,
+                            List<AccessListAddressRequest> addresses, List<CdcTableRequest> cdcTables) {
+        this.type            = type;
+        this.databaseName    = databaseName;
+        this.target          = target;
+        this.creationRequest = creationRequest;
+        this.addresses       = addresses == null ? Collections.emptyList() : Collections.unmodifiableList(addresses);
+        this.cdcTables       = cdcTables == null ? Collections.emptyList() : Collections.unmodifiableList(cdcTables);
+    }
+
+    /**
+     * Create a database.
+     *
+     * @param request
+     *      creation request
+     * @return
+     *      action
+     */
+    public static ReconcileAction createDatabase(DatabaseCreationRequest request) {
+        return new ReconcileAction(Type.CREATE_DATABASE, request.getName(), null, request, null, null);
+    }
+
+    /**
+     * Create a keyspace.
+     *
+     * @param databaseName
+     *      database name
+     * @param keyspace
+     *      keyspace name
+     * @return
+     *      action
+     */
+    public static ReconcileAction createKeyspace(String databaseName, String keyspace) {
+        return new ReconcileAction(Type.CREATE_KEYSPACE, databaseName, keyspace, null, null, null);
+    }
+
+    /**
+     * Add addresses to the access list.
+     *
+     * @param databaseName
+     *      database name
+     * @param addresses
+     *      missing addresses
+     * @return
+     *      action
+     */
+    public static ReconcileAction addAccessListAddresses(String databaseName, List<AccessListAddressRequest> addresses) {
+        return new ReconcileAction(Type.ADD_ACCESS_LIST_ADDRESSES, databaseName, null, null, addresses, null);
+    }
+
+    /**
+     * Create cdc on tables.
+     *
+     * @param databaseName
+     *      database name
+     * @param tenant
+     *      tenant name
+     * @param tables
+     *      missing cdc
+     * @return
+     *      action
+     */
+    public static ReconcileAction createCdc(String databaseName, String tenant, List<CdcTableRequest> tables) {
+        return new ReconcileAction(Type.CREATE_CDC, databaseName, tenant, null, null, tables);
+    }
+
+    /**
+     * Gets type
+     *
+     * @return value of type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets databaseName
+     *
+     * @return value of databaseName
+     */
+    public String getDatabaseName() {
+        return databaseName;
+    }
+
+    /**
+     * Gets target
+     *
+     * @return value of target
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Gets creationRequest
+     *
+     * @return value of creationRequest
+     */
+    public DatabaseCreationRequest getCreationRequest() {
+        return creationRequest;
+    }
+
+    /**
+     * Gets addresses
+     *
+     * @return value of addresses
+     */
+    public List<AccessListAddressRequest> getAddresses() {
+        return addresses;
+    }
+
+    /**
+     * Gets cdcTables
+     *
+     * @return value of cdcTables
+     */
+    public List<CdcTableRequest> getCdcTables() {
+        return cdcTables;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        switch (type) {
+            case CREATE_DATABASE:
+                return "+ database " + databaseName + " " + creationRequest;
+            case CREATE_KEYSPACE:
+                return "+ keyspace " + databaseName + "." + target;
+            case ADD_ACCESS_LIST_ADDRESSES:
+                return "+ access list " + databaseName + " " + addresses.stream()
+                        .map(AccessListAddressRequest::getAddress)
+                        .collect(Collectors.toList());
+            case CREATE_CDC:
+            default:
+                return "+ cdc " + databaseName + " -> " + target + " " + cdcTables;
+        }
+    }
+}
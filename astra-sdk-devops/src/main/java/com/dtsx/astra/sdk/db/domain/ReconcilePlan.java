@@ -0,0 +1,115 @@
+package com.dtsx.astra.sdk.db.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Actions needed to reach desired states, grouped by database in execution order.
+ *
+ * <p>Building a plan does not change anything, its {@link #toString()} is the dry-run output.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class ReconcilePlan {
+
+    /** Actions per database name. */
+    private final Map<String, List<ReconcileAction>> actions = new LinkedHashMap<>();
+
+    /** Existing databases by name, when the plan was built. */
+    private final Map<String, Database> databases = new LinkedHashMap<>();
+
+    /**
+     * Default constructor.
+     */
+    public ReconcilePlan() {}
+
+    /**
+     * Register an existing database.
+     *
+     * @param db
+     *      current database
+     */
+    public void addDatabase(Database db) {
+        databases.put(db.getInfo().getName(), db);
+    }
+
+    /**
+     * Add an action at the end of the database actions.
+     *
+     * @param action
+     *      action
+     */
+    public void addAction(ReconcileAction action) {
+        actions.computeIfAbsent(action.getDatabaseName(), n -> new ArrayList<>()).add(action);
+    }
+
+    /**
+     * Actions of a database.
+     *
+     * @param databaseName
+     *      database name
+     * @return
+     *      actions in execution order
+     */
+    public List<ReconcileAction> getActions(String databaseName) {
+        return Collections.unmodifiableList(actions.getOrDefault(databaseName, Collections.emptyList()));
+    }
+
+    /**
+     * Names of databases with actions.
+     *
+     * @return
+     *      database names
+     */
+    public List<String> getDatabaseNames() {
+        return new ArrayList<>(actions.keySet());
+    }
+
+    /**
+     * Database as seen when the plan was built.
+     *
+     * @param databaseName
+     *      database name
+     * @return
+     *      database if it existed
+     */
+    public Optional<Database> getDatabase(String databaseName) {
+        return Optional.ofNullable(databases.get(databaseName));
+    }
+
+    /**
+     * Number of actions.
+     *
+     * @return
+     *      actions count
+     */
+    public int size() {
+        return actions.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Tells if states already match.
+     *
+     * @return
+     *      if nothing to do
+     */
+    public boolean isEmpty() {
+        return actions.isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "No changes.";
+        }
+        StringBuilder sb = new StringBuilder();
+        actions.values().forEach(list -> list.forEach(a -> sb.append(a).append(System.lineSeparator())));
+        sb.append(size()).append(" change(s).");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.dtsx.astra.sdk.db.domain;
+
+import java.util.Optional;
+
+/**
+ * Outcome of a {@link ReconcileAction}.
+ */
+public class ReconcileResult {
+
+    /** Executed action. */
+    private final ReconcileAction action;
+
+    /** Error if the action failed (or was skipped after a failure). */
+    private final Throwable error;
+
+    /** Execution time in millis, including waits. */
+    private final long durationMillis;
+
+    /**
+     * Constructor.
+     *
+     * @param action
+     *      executed action
+     * @param error
+     *      error raised (null if success)
+     * @param durationMillis
+     *      execution time in millis
+     */
+    public ReconcileResult(ReconcileAction action, Throwable error, long durationMillis) {
+        this.action         = action;
+        this.error          = error;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Tells if the action succeeded.
+     *
+     * @return
+     *      if no error occurred
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Gets action
+     *
+     * @return value of action
+     */
+    public ReconcileAction getAction() {
+        return action;
+    }
+
+    /**
+     * Gets error
+     *
+     * @return value of error
+     */
+    public Optional<Throwable> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Gets durationMillis
+     *
+     * @return value of durationMillis
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return action + (isSuccess() ? " OK" : " FAILED: " + error.getMessage());
+    }
+}
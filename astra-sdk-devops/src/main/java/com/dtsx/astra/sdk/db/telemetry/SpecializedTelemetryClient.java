@@ -9,7 +9,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.HttpURLConnection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -33,6 +32,9 @@ public class SpecializedTelemetryClient<T> {
     /** Reference to upper resource. */
     private final String telemetryEndpoint;
 
+    /** Http client. */
+    private final HttpClientWrapper httpClient;
+
     /**
      * Default constructor.
      *
@@ -42,8 +44,26 @@ public class SpecializedTelemetryClient<T> {
      *          endpoint
      */
     public SpecializedTelemetryClient(String token, String telemetryEndpoint, String key) {
+        this(HttpClientWrapper.getInstance(), token, telemetryEndpoint, key);
+    }
+
+    /**
+     * Constructor with a http client.
+     *
+     * @param httpClient
+     *          http client
+     * @param token
+     *          token client
+     * @param telemetryEndpoint
+     *          endpoint
+     * @param key
+     *          telemetry key
+     */
+    public SpecializedTelemetryClient(HttpClientWrapper httpClient, String token, String telemetryEndpoint, String key) {
+        Assert.notNull(httpClient, "httpClient");
         Assert.notNull(token,"databasesClient");
         Assert.hasLength(telemetryEndpoint, "telemetryEndpoint");
+        this.httpClient = httpClient;
         this.token = token;
         this.key   = key;
         this.telemetryEndpoint = telemetryEndpoint;
@@ -58,9 +78,12 @@ public class SpecializedTelemetryClient<T> {
      *      http response
      */
     public ApiResponseHttp setup(T ktr) {
-        Map<String, T> bodyMap = new HashMap<>();
-        bodyMap.put(key, ktr);
-        return HttpClientWrapper.getInstance().POST(telemetryEndpoint, token, JsonUtils.mapAsJson(bodyMap));
+        Assert.notNull(ktr, "ktr");
+        return httpClient.POST(telemetryEndpoint, token, generator -> {
+            generator.writeStartObject();
+            generator.writeObjectField(key, ktr);
+            generator.writeEndObject();
+        });
     }
 
     /**
@@ -70,7 +93,7 @@ public class SpecializedTelemetryClient<T> {
      *      telemetry request
      */
     public Optional<T> find() {
-        ApiResponseHttp res =  HttpClientWrapper.getInstance().GET(telemetryEndpoint, token);
+        ApiResponseHttp res =  httpClient.GET(telemetryEndpoint, token);
         try{
             if (res.getCode() == HttpURLConnection.HTTP_OK) {
                 return Optional.ofNullable(JsonUtils
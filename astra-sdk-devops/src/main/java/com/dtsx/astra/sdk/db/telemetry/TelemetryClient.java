@@ -1,6 +1,5 @@
 package com.dtsx.astra.sdk.db.telemetry;
 
-import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.db.DatabaseClient;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
@@ -32,7 +31,7 @@ public class TelemetryClient {
      *      http response
      */
     public ApiResponseHttp find() {
-        return HttpClientWrapper.getInstance().GET(getEndpointTelemetry(), dbClient.getToken());
+        return dbClient.getHttpClient().GET(getEndpointTelemetry(), dbClient.getToken());
     }
 
     /**
@@ -43,7 +42,7 @@ public class TelemetryClient {
      */
     public SpecializedTelemetryClient<KafkaTelemetryRequest> kafka() {
         return new SpecializedTelemetryClient<KafkaTelemetryRequest>(
-                dbClient.getToken(), getEndpointTelemetry(), "kafka");
+                dbClient.getHttpClient(), dbClient.getToken(), getEndpointTelemetry(), "kafka");
     }
 
     /**
@@ -54,7 +53,7 @@ public class TelemetryClient {
      */
     public SpecializedTelemetryClient<CloudWatchTelemetryRequest> cloudWatch() {
         return new SpecializedTelemetryClient<CloudWatchTelemetryRequest>(
-                dbClient.getToken(), getEndpointTelemetry(), "cloudwatch");
+                dbClient.getHttpClient(), dbClient.getToken(), getEndpointTelemetry(), "cloudwatch");
     }
 
     /**
@@ -65,7 +64,7 @@ public class TelemetryClient {
      */
     public SpecializedTelemetryClient<PrometheusTelemetryRequest> prometheus() {
         return new SpecializedTelemetryClient<PrometheusTelemetryRequest>(
-                dbClient.getToken(), getEndpointTelemetry(), "prometheus_remote");
+                dbClient.getHttpClient(), dbClient.getToken(), getEndpointTelemetry(), "prometheus_remote");
     }
 
     /**
@@ -76,7 +75,7 @@ public class TelemetryClient {
      */
     public SpecializedTelemetryClient<DatadogTelemetryRequest> datadog() {
         return new SpecializedTelemetryClient<DatadogTelemetryRequest>(
-                dbClient.getToken(), getEndpointTelemetry(), "Datadog");
+                dbClient.getHttpClient(), dbClient.getToken(), getEndpointTelemetry(), "Datadog");
     }
 
     /**
@@ -87,7 +86,7 @@ public class TelemetryClient {
      */
     public SpecializedTelemetryClient<SplunkTelemetryRequest> splunk() {
         return new SpecializedTelemetryClient<SplunkTelemetryRequest>(
-                dbClient.getToken(), getEndpointTelemetry(), "splunk");
+                dbClient.getHttpClient(), dbClient.getToken(), getEndpointTelemetry(), "splunk");
     }
 
     /**
@@ -6,6 +6,7 @@ import com.dtsx.astra.sdk.org.domain.KeyDefinition;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -24,7 +25,19 @@ public class KeysClient extends AbstractApiClient {
      *      current token.
      */
     public KeysClient(String token) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      current token.
+     */
+    public KeysClient(HttpClientWrapper httpClient, String token) {
+        super(httpClient, token);
     }
 
     /**
@@ -0,0 +1,294 @@
+package com.dtsx.astra.sdk.org;
+
+import com.dtsx.astra.sdk.db.AstraDbClient;
+import com.dtsx.astra.sdk.db.DatabaseClient;
+import com.dtsx.astra.sdk.db.DbCdcsClient;
+import com.dtsx.astra.sdk.db.domain.AccessList;
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
+import com.dtsx.astra.sdk.org.domain.DatabaseInventory;
+import com.dtsx.astra.sdk.org.domain.OrganizationInventory;
+import com.dtsx.astra.sdk.org.domain.TenantInventory;
+import com.dtsx.astra.sdk.streaming.TenantLimitsClient;
+import com.dtsx.astra.sdk.streaming.TenantRegistry;
+import com.dtsx.astra.sdk.streaming.domain.CdcCatalog;
+import com.dtsx.astra.sdk.streaming.domain.CdcDefinition;
+import com.dtsx.astra.sdk.streaming.domain.Tenant;
+import com.dtsx.astra.sdk.streaming.domain.TenantLimit;
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.TaskExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Build an inventory of the databases and tenants of an organization.
+ *
+ * <p>Databases, access lists and tenants are listed with one call each, then cdc and telemetry
+ * of each active database and limits of each tenant are loaded on a bounded pool. Cdc and tenants
+ * come from the shared caches ({@link DbCdcsClient#catalog()}, {@link TenantRegistry}).
+ * {@link #refresh(OrganizationInventory)} lists again and only reloads the details of entities that
+ * are new, changed (status, keyspaces, regions, plan...), failed, or older than the maximum age.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class OrganizationInventoryBuilder {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrganizationInventoryBuilder.class);
+
+    /** Default details loaded in parallel. */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    /** Default age after which details are reloaded even if unchanged. */
+    public static final Duration DEFAULT_MAX_DETAIL_AGE = Duration.ofMinutes(15);
+
+    /** Authentication token. */
+    private final String token;
+
+    /** Http client of the clients created. */
+    private final HttpClientWrapper httpClient;
+
+    /** Details loaded in parallel. */
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /** Age after which details are reloaded. */
+    private Duration maxDetailAge = DEFAULT_MAX_DETAIL_AGE;
+
+    /**
+     * Constructor.
+     *
+     * @param token
+     *      authenticated token
+     */
+    public OrganizationInventoryBuilder(String token) {
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      authenticated token
+     */
+    public OrganizationInventoryBuilder(HttpClientWrapper httpClient, String token) {
+        Assert.notNull(httpClient, "httpClient");
+        Assert.hasLength(token, "token");
+        this.httpClient = httpClient;
+        this.token = token;
+    }
+
+    /**
+     * Details loaded in parallel.
+     *
+     * @param maxConcurrency
+     *      concurrent calls
+     * @return
+     *      current reference
+     */
+    public OrganizationInventoryBuilder withMaxConcurrency(int maxConcurrency) {
+        Assert.isTrue(maxConcurrency > 0, "maxConcurrency should be positive");
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Age after which details of an unchanged entity are reloaded by {@link #refresh(OrganizationInventory)}.
+     *
+     * @param maxDetailAge
+     *      maximum age
+     * @return
+     *      current reference
+     */
+    public OrganizationInventoryBuilder withMaxDetailAge(Duration maxDetailAge) {
+        Assert.notNull(maxDetailAge, "maxDetailAge");
+        this.maxDetailAge = maxDetailAge;
+        return this;
+    }
+
+    /**
+     * Build a full inventory.
+     *
+     * @return
+     *      inventory
+     */
+    public OrganizationInventory build() {
+        return refresh(null);
+    }
+
+    /**
+     * Build an inventory, reusing the details of entities unchanged since the previous one.
+     *
+     * @param previous
+     *      previous inventory (can be null)
+     * @return
+     *      inventory
+     */
+    public OrganizationInventory refresh(OrganizationInventory previous) {
+        long now = System.currentTimeMillis();
+        List<Database> databases = new AstraDbClient(httpClient, token).findAll().collect(Collectors.toList());
+        TenantRegistry registry  = TenantRegistry.getInstance(httpClient, token);
+        if (previous != null) {
+            // tenant changes are detected from the list
+            registry.invalidate();
+        }
+        List<Tenant> tenants = registry.findAll().collect(Collectors.toList());
+
+        // Reuse unchanged entries
+        List<DatabaseInventory> dbEntries     = new ArrayList<>(Collections.nCopies(databases.size(), null));
+        List<TenantInventory>   tenantEntries = new ArrayList<>(Collections.nCopies(tenants.size(), null));
+        List<Integer> staleDbs     = new ArrayList<>();
+        List<Integer> staleTenants = new ArrayList<>();
+        for (int i = 0; i < databases.size(); i++) {
+            Database db = databases.get(i);
+            DatabaseInventory entry = previous == null ? null : previous.findDatabaseById(db.getId()).orElse(null);
+            if (entry != null && entry.isUpToDate(db, now, maxDetailAge.toMillis())) {
+                dbEntries.set(i, entry.withDatabase(db));
+            } else {
+                staleDbs.add(i);
+            }
+        }
+        for (int i = 0; i < tenants.size(); i++) {
+            Tenant tenant = tenants.get(i);
+            TenantInventory entry = previous == null ? null : previous.findTenantByName(tenant.getTenantName()).orElse(null);
+            if (entry != null && entry.isUpToDate(tenant, now, maxDetailAge.toMillis())) {
+                tenantEntries.set(i, entry.withTenant(tenant));
+            } else {
+                staleTenants.add(i);
+            }
+        }
+        LOGGER.debug("Inventory: reloading {}/{} databases and {}/{} tenants",
+                staleDbs.size(), databases.size(), staleTenants.size(), tenants.size());
+
+        // One call for all access lists
+        Map<String, AccessList> accessLists = Collections.emptyMap();
+        RuntimeException accessListError = null;
+        if (!staleDbs.isEmpty()) {
+            try {
+                accessLists = new AstraDbClient(httpClient, token).findAllAccessLists()
+                        .filter(al -> al.getDatabaseId() != null)
+                        .collect(Collectors.toMap(AccessList::getDatabaseId, Function.identity(), (a, b) -> a));
+            } catch (RuntimeException e) {
+                accessListError = e;
+            }
+        }
+
+        // Fan out details
+        List<Callable<Object>> tasks = new ArrayList<>(staleDbs.size() + staleTenants.size());
+        for (int i : staleDbs) {
+            Database db            = databases.get(i);
+            AccessList accessList  = accessLists.get(db.getId());
+            RuntimeException error = accessListError;
+            boolean reload         = previous != null;
+            tasks.add(() -> dbEntries.set(i, loadDatabase(db, accessList, error, reload)));
+        }
+        for (int i : staleTenants) {
+            Tenant tenant = tenants.get(i);
+            tasks.add(() -> tenantEntries.set(i, loadTenant(tenant)));
+        }
+        runAll(tasks);
+        return new OrganizationInventory(dbEntries, tenantEntries, now);
+    }
+
+    /**
+     * Load details of a database, errors are kept in the entry.
+     *
+     * @param db
+     *      database
+     * @param accessList
+     *      access list of the database
+     * @param accessListError
+     *      error raised when listing access lists
+     * @param reload
+     *      bypass the cdc cache
+     * @return
+     *      inventory entry
+     */
+    private DatabaseInventory loadDatabase(Database db, AccessList accessList, RuntimeException accessListError, boolean reload) {
+        long loadedAt = System.currentTimeMillis();
+        if (accessListError != null) {
+            return new DatabaseInventory(db, null, null, null, accessListError, loadedAt);
+        }
+        if (db.getStatus() != DatabaseStatusType.ACTIVE) {
+            // cdc and telemetry are only available on active databases, status change triggers a reload
+            return new DatabaseInventory(db, accessList, null, null, null, loadedAt);
+        }
+        try {
+            DbCdcsClient cdcClient = new DbCdcsClient(httpClient, token, db);
+            CdcCatalog catalog     = reload ? cdcClient.refreshCatalog() : cdcClient.catalog();
+            List<CdcDefinition> cdc = catalog.findAll().collect(Collectors.toList());
+            ApiResponseHttp res = new DatabaseClient(httpClient, token, db.getId()).telemetry().find();
+            String telemetry = res.getCode() == HttpURLConnection.HTTP_OK ? res.getBody() : null;
+            return new DatabaseInventory(db, accessList, cdc, telemetry, null, loadedAt);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot load details of database {}: {}", db.getId(), e.getMessage());
+            return new DatabaseInventory(db, accessList, null, null, e, loadedAt);
+        }
+    }
+
+    /**
+     * Load limits of a tenant, errors are kept in the entry.
+     *
+     * @param tenant
+     *      tenant
+     * @return
+     *      inventory entry
+     */
+    private TenantInventory loadTenant(Tenant tenant) {
+        long loadedAt = System.currentTimeMillis();
+        try {
+            List<TenantLimit> limits = new TenantLimitsClient(httpClient, token, tenant).limits().collect(Collectors.toList());
+            return new TenantInventory(tenant, limits, null, loadedAt);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot load limits of tenant {}: {}", tenant.getTenantName(), e.getMessage());
+            return new TenantInventory(tenant, null, e, loadedAt);
+        }
+    }
+
+    /**
+     * Run tasks on a bounded pool and wait for completion.
+     *
+     * @param tasks
+     *      tasks
+     */
+    private void runAll(List<Callable<Object>> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = TaskExecutors.newBoundedExecutor("astra-inventory", Math.min(maxConcurrency, tasks.size()));
+        try {
+            List<Future<Object>> futures = new ArrayList<>(tasks.size());
+            for (Callable<Object> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building inventory", e);
+        } catch (ExecutionException e) {
+            // loaders catch errors, not expected
+            throw new IllegalStateException("Cannot build inventory", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.dtsx.astra.sdk.org;
+
+import com.dtsx.astra.sdk.db.AstraDbClient;
+import com.dtsx.astra.sdk.db.DbCdcsClient;
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
+import com.dtsx.astra.sdk.org.domain.DatabaseInventory;
+import com.dtsx.astra.sdk.org.domain.OrganizationInventory;
+import com.dtsx.astra.sdk.org.domain.Role;
+import com.dtsx.astra.sdk.org.domain.TenantInventory;
+import com.dtsx.astra.sdk.org.domain.User;
+import com.dtsx.astra.sdk.streaming.TenantRegistry;
+import com.dtsx.astra.sdk.streaming.domain.CdcDefinition;
+import com.dtsx.astra.sdk.streaming.domain.Tenant;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.CachedSnapshot;
+import com.dtsx.astra.sdk.utils.SnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Save databases, tenants, roles, users and cdc of an organization to restart without reloading them.
+ *
+ * <p>{@link #restore()} seeds the shared caches ({@link TenantRegistry}, role index, user directory,
+ * cdc catalogs) with the saved values. They are served at once and revalidated against the Devops Api
+ * in background on first access, as a refresh-ahead would do. Missing or unreadable files are skipped,
+ * the matching cache then loads from the Api as usual.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class OrganizationSnapshots {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrganizationSnapshots.class);
+
+    /** Snapshot of databases. */
+    public static final String DATABASES = "databases";
+
+    /** Snapshot of tenants. */
+    public static final String TENANTS = "tenants";
+
+    /** Snapshot of roles. */
+    public static final String ROLES = "roles";
+
+    /** Snapshot of users. */
+    public static final String USERS = "users";
+
+    /** Snapshot of cdc definitions. */
+    public static final String CDC = "cdc";
+
+    /** Time to live of the restored database list. */
+    public static final Duration DEFAULT_DATABASES_TTL = Duration.ofMinutes(5);
+
+    /** Authentication token. */
+    private final String token;
+
+    /** Http client of the clients created. */
+    private final HttpClientWrapper httpClient;
+
+    /** Files. */
+    private final SnapshotStore store;
+
+    /**
+     * Constructor.
+     *
+     * @param token
+     *      authenticated token
+     * @param store
+     *      snapshot files
+     */
+    public OrganizationSnapshots(String token, SnapshotStore store) {
+        this(HttpClientWrapper.getInstance(), token, store);
+    }
+
+    /**
+     * Constructor with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      authenticated token
+     * @param store
+     *      snapshot files
+     */
+    public OrganizationSnapshots(HttpClientWrapper httpClient, String token, SnapshotStore store) {
+        Assert.notNull(httpClient, "httpClient");
+        Assert.hasLength(token, "token");
+        Assert.notNull(store, "store");
+        this.httpClient = httpClient;
+        this.token = token;
+        this.store = store;
+    }
+
+    /**
+     * Build an inventory and save it with roles and users.
+     */
+    public void save() {
+        save(new OrganizationInventoryBuilder(httpClient, token).build());
+    }
+
+    /**
+     * Save an inventory with roles and users.
+     *
+     * @param inventory
+     *      inventory of databases and tenants
+     */
+    public void save(OrganizationInventory inventory) {
+        Assert.notNull(inventory, "inventory");
+        store.save(DATABASES, inventory.findAllDatabases()
+                .map(DatabaseInventory::getDatabase)
+                .collect(Collectors.toList()));
+        store.save(CDC, inventory.findAllDatabases()
+                .flatMap(db -> db.getCdc().stream())
+                .collect(Collectors.toList()));
+        store.save(TENANTS, inventory.findAllTenants()
+                .map(TenantInventory::getTenant)
+                .collect(Collectors.toList()));
+        store.save(ROLES, new RolesClient(httpClient, token).findAll().collect(Collectors.toList()));
+        store.save(USERS, new UsersClient(httpClient, token).directory().findAll().collect(Collectors.toList()));
+    }
+
+    /**
+     * Seed the shared caches with the saved snapshots.
+     *
+     * @return
+     *      databases, seeded with the saved list if present and revalidated in background on first access
+     */
+    public CachedSnapshot<List<Database>> restore() {
+        CachedSnapshot<List<Database>> databases = new CachedSnapshot<>(() -> Collections.unmodifiableList(
+                new AstraDbClient(httpClient, token).findAll().collect(Collectors.toList())), DEFAULT_DATABASES_TTL);
+        Optional<SnapshotStore.Snapshot<Database>> dbs = store.load(DATABASES, Database.class);
+        dbs.ifPresent(s -> databases.preload(s.getItems()));
+        // Cdc catalogs are per database, the database is needed to revalidate them
+        store.load(CDC, CdcDefinition.class).ifPresent(cdc -> dbs.ifPresent(s -> {
+            Map<String, List<CdcDefinition>> byDb = cdc.getItems().stream()
+                    .filter(def -> def.getDatabaseId() != null)
+                    .collect(Collectors.groupingBy(CdcDefinition::getDatabaseId));
+            s.getItems().stream()
+                    .filter(db -> db.getStatus() == DatabaseStatusType.ACTIVE)
+                    .forEach(db -> new DbCdcsClient(httpClient, token, db)
+                            .preloadCatalog(byDb.getOrDefault(db.getId(), Collections.emptyList())));
+        }));
+        store.load(TENANTS, Tenant.class).ifPresent(s -> TenantRegistry.getInstance(httpClient, token).preload(s.getItems()));
+        store.load(ROLES, Role.class).ifPresent(s -> new RolesClient(httpClient, token).preloadRoleIndex(s.getItems()));
+        store.load(USERS, User.class).ifPresent(s -> new UsersClient(httpClient, token).preloadDirectory(s.getItems()));
+        LOGGER.debug("Restored {} databases from snapshot", dbs.map(d -> d.getItems().size()).orElse(0));
+        return databases;
+    }
+
+}
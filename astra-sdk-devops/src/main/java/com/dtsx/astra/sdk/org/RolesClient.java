@@ -7,14 +7,25 @@ import com.dtsx.astra.sdk.org.domain.Role;
 import com.dtsx.astra.sdk.org.domain.RoleDefinition;
 import com.dtsx.astra.sdk.org.exception.RoleNotFoundException;
 import com.dtsx.astra.sdk.utils.ApiLocator;
+import com.dtsx.astra.sdk.utils.JsonBodyWriter;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.CachedSnapshot;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.IdUtils;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 /**
@@ -32,6 +43,15 @@ public class RolesClient extends AbstractApiClient {
     public static final TypeReference<List<Role>> TYPE_LIST_ROLES =
             new TypeReference<List<Role>>(){};
 
+    /** Roles change rarely, local changes invalidate the index. */
+    public static final Duration DEFAULT_ROLE_INDEX_TTL = Duration.ofMinutes(10);
+
+    /** Minimum delay between two reloads triggered by an unknown role name. */
+    public static final Duration MISS_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    /** Role name indexes are shared by the clients of a http client, a new client is created for each call. */
+    private static final String CACHE_KEY = "org.roles/";
+
     /**
      * Constructor.
      *
@@ -39,7 +59,19 @@ public class RolesClient extends AbstractApiClient {
      *      current token.
      */
     public RolesClient(String token) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      current token.
+     */
+    public RolesClient(HttpClientWrapper httpClient, String token) {
+        super(httpClient, token);
     }
 
     /**
@@ -109,7 +141,8 @@ public class RolesClient extends AbstractApiClient {
     }
 
     /**
-     * Retrieve a suer from his email.
+     * Retrieve a role from its name, the name index is reloaded on a miss at most once per
+     * {@link #MISS_REFRESH_INTERVAL}.
      *
      * @param roleName
      *      role name
@@ -118,7 +151,117 @@ public class RolesClient extends AbstractApiClient {
      */
     public Optional<Role> findByName(String roleName) {
         Assert.hasLength(roleName, "User email should not be null nor empty");
-        return findAll().filter(r-> r.getName().equalsIgnoreCase(roleName)).findFirst();
+        return Optional.ofNullable(roleIndex().find(roleName.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Resolve a role identifier from an identifier or a name. The name index is reloaded on a miss,
+     * at most once per {@link #MISS_REFRESH_INTERVAL}.
+     *
+     * @param role
+     *      role identifier or name
+     * @return
+     *      role identifier
+     */
+    public String resolveRoleId(String role) {
+        Assert.hasLength(role, "role");
+        if (IdUtils.isUUID(role)) {
+            return role;
+        }
+        Role r = roleIndex().find(role.toLowerCase(Locale.ROOT));
+        if (r == null) {
+            throw new RoleNotFoundException(role);
+        }
+        return r.getId();
+    }
+
+    /**
+     * Drop the cached role name index, next access will reload it.
+     */
+    public void invalidateRoleIndex() {
+        RoleIndex index = httpClient.findCache(CACHE_KEY + token);
+        if (index != null) {
+            index.roles.invalidate();
+        }
+    }
+
+    /**
+     * Role name index for the token.
+     *
+     * @return
+     *      index
+     */
+    private RoleIndex roleIndex() {
+        return httpClient.getCache(CACHE_KEY + token, t -> new RoleIndex(new CachedSnapshot<>(() ->
+                indexRoles(findAll()), DEFAULT_ROLE_INDEX_TTL)));
+    }
+
+    /**
+     * Roles by lower-cased name and the last reload triggered by an unknown name.
+     */
+    private static final class RoleIndex {
+
+        /** Roles by lower-cased name. */
+        private final CachedSnapshot<Map<String, Role>> roles;
+
+        /** Last reload triggered by an unknown role name (nanos). */
+        private final AtomicLong lastMissRefresh = new AtomicLong(System.nanoTime() - MISS_REFRESH_INTERVAL.toNanos());
+
+        /**
+         * Constructor.
+         *
+         * @param roles
+         *      roles by lower-cased name
+         */
+        private RoleIndex(CachedSnapshot<Map<String, Role>> roles) {
+            this.roles = roles;
+        }
+
+        /**
+         * Find a role, a role created by another process since last load is seen after a reload.
+         *
+         * @param key
+         *      lower-cased role name
+         * @return
+         *      role or null
+         */
+        private Role find(String key) {
+            Role role = roles.get().get(key);
+            if (role == null) {
+                long last = lastMissRefresh.get();
+                long now  = System.nanoTime();
+                if (now - last >= MISS_REFRESH_INTERVAL.toNanos() && lastMissRefresh.compareAndSet(last, now)) {
+                    role = roles.refresh().get(key);
+                }
+            }
+            return role;
+        }
+    }
+
+    /**
+     * Index roles by lower-cased name.
+     *
+     * @param roles
+     *      roles
+     * @return
+     *      index
+     */
+    private static Map<String, Role> indexRoles(Stream<Role> roles) {
+        Map<String, Role> index = new HashMap<>();
+        // First wins as with a linear scan
+        roles.forEach(r -> index.putIfAbsent(r.getName().toLowerCase(Locale.ROOT), r));
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Seed the role name index with roles saved by a previous run, revalidated in background on first access.
+     *
+     * @param restored
+     *      restored roles
+     */
+    public void preloadRoleIndex(Collection<Role> restored) {
+        Assert.notNull(restored, "restored");
+        roleIndex().roles.preload(indexRoles(restored.stream()));
     }
 
     /**
@@ -143,7 +286,8 @@ public class RolesClient extends AbstractApiClient {
      */
     public CreateRoleResponse create(RoleDefinition cr) {
         Assert.notNull(cr, "CreateRole request");
-        ApiResponseHttp res = POST(getApiEndpointRoles(), JsonUtils.marshall(cr));
+        ApiResponseHttp res = POST(getApiEndpointRoles(), JsonBodyWriter.of(cr));
+        invalidateRoleIndex();
         return JsonUtils.unmarshallBean(res.getBody(), CreateRoleResponse.class);
     }
 
@@ -170,6 +314,7 @@ public class RolesClient extends AbstractApiClient {
         get(roleId);
         // Http Request
         DELETE(getEndpointRole(roleId));
+        invalidateRoleIndex();
     }
 
     /**
@@ -181,7 +326,8 @@ public class RolesClient extends AbstractApiClient {
      *      role definition
      */
     public void update(String roleId, RoleDefinition cr) {
-        PUT(getEndpointRole(roleId), JsonUtils.marshall(cr));
+        PUT(getEndpointRole(roleId), JsonBodyWriter.of(cr));
+        invalidateRoleIndex();
     }
 
     /**
@@ -5,9 +5,22 @@ import com.dtsx.astra.sdk.org.domain.*;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.CachedSnapshot;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.TaskExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -15,6 +28,18 @@ import java.util.stream.Stream;
  */
 public class TokensClient extends AbstractApiClient {
 
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokensClient.class);
+
+    /** Concurrent rotations. */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    /** Tokens change on user action, local changes update the catalog. */
+    public static final Duration DEFAULT_CATALOG_TTL = Duration.ofMinutes(5);
+
+    /** Token catalogs are shared by the clients of a http client, a new client is created for each call. */
+    private static final String CACHE_KEY = "org.tokens/";
+
     /** useful with tokens interactions. */
     private RolesClient rolesClient;
 
@@ -25,8 +50,20 @@ public class TokensClient extends AbstractApiClient {
      *      current token.
      */
     public TokensClient(String token) {
-        super(token);
-        this.rolesClient = new RolesClient(token);
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      current token.
+     */
+    public TokensClient(HttpClientWrapper httpClient, String token) {
+        super(httpClient, token);
+        this.rolesClient = new RolesClient(httpClient, token);
     }
 
     /**
@@ -43,7 +80,8 @@ public class TokensClient extends AbstractApiClient {
     }
 
     /**
-     * Retrieve role information from its id.
+     * Retrieve role information from its id, served from the {@link #catalog()} reloaded once on a miss
+     * as the token may have been created by another process since last load.
      *
      * @param tokenId
      *      token identifier
@@ -51,13 +89,57 @@ public class TokensClient extends AbstractApiClient {
      *      role information
      */
     public Optional<IamToken> findById(String tokenId) {
-        return findAll()
-                .filter(t -> t.getClientId().equalsIgnoreCase(tokenId))
-                .findFirst();
+        Assert.hasLength(tokenId, "tokenId");
+        Optional<IamToken> token = catalog().findByClientId(tokenId);
+        return token.isPresent() ? token : snapshot().refresh().findByClientId(tokenId);
+    }
+
+    /**
+     * Find tokens having a role, served from the {@link #catalog()}.
+     *
+     * @param role
+     *      role identifier or name
+     * @return
+     *      tokens with this role
+     */
+    public List<IamToken> findByRole(String role) {
+        return catalog().findByRole(rolesClient.resolveRoleId(role));
     }
 
     /**
-     * Check in existence of a token.
+     * Access the cached token catalog, loaded on first access and refreshed in background. Tokens
+     * can be up to {@link #DEFAULT_CATALOG_TTL} old, {@link #findAll()} calls the Api.
+     *
+     * @return
+     *      indexed tokens
+     */
+    public TokenCatalog catalog() {
+        return snapshot().get();
+    }
+
+    /**
+     * Drop the cached catalog, next access will reload it.
+     */
+    public void invalidateCatalog() {
+        CachedSnapshot<TokenCatalog> snapshot = httpClient.findCache(CACHE_KEY + token);
+        if (snapshot != null) {
+            snapshot.invalidate();
+        }
+    }
+
+    /**
+     * Catalog for the token.
+     *
+     * @return
+     *      snapshot
+     */
+    private CachedSnapshot<TokenCatalog> snapshot() {
+        return httpClient.getCache(CACHE_KEY + token, t -> new CachedSnapshot<>(() ->
+                new TokenCatalog(findAll().collect(Collectors.toList())), DEFAULT_CATALOG_TTL));
+    }
+
+    /**
+     * Check in existence of a token, served from the {@link #catalog()}.
      *
      * @param tokenId
      *      token identifier
@@ -79,6 +161,7 @@ public class TokensClient extends AbstractApiClient {
             throw new RuntimeException("Token '"+ tokenId + "' has not been found");
         }
         DELETE(getEndpointToken(tokenId));
+        snapshot().update(c -> c.without(tokenId));
     }
 
     /**
@@ -92,19 +175,137 @@ public class TokensClient extends AbstractApiClient {
     public CreateTokenResponse create(String role) {
         Assert.hasLength(role, "role");
         // Role should exist
-        Optional<Role> optRole = rolesClient.findByName(role);
-        String roleId = role;
-        if (optRole.isPresent()) {
-            roleId = optRole.get().getId();
-        } else {
-            roleId = rolesClient.get(role).getId();
-        }
-        // Building request
-        String body = "{ \"roles\": [ \"" + JsonUtils.escapeJson(roleId) + "\"]}";
-        // Invoke endpoint
-        ApiResponseHttp res = POST(getEndpointTokens(), body);
+        return create(Collections.singletonList(rolesClient.resolveRoleId(role)));
+    }
+
+    /**
+     * Create token with role identifiers.
+     *
+     * @param roleIds
+     *      role identifiers
+     * @return
+     *      created token
+     */
+    private CreateTokenResponse create(List<String> roleIds) {
+        // Invoke endpoint, body is written when sent
+        ApiResponseHttp res = POST(getEndpointTokens(), generator -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("roles");
+            for (String roleId : roleIds) {
+                generator.writeString(roleId);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        });
         // Marshall response
-        return JsonUtils.unmarshallBean(res.getBody(), CreateTokenResponse.class);
+        CreateTokenResponse created = JsonUtils.unmarshallBean(res.getBody(), CreateTokenResponse.class);
+        IamToken iamToken = new IamToken();
+        iamToken.setClientId(created.getClientId());
+        iamToken.setRoles(created.getRoles() != null ? created.getRoles() : roleIds);
+        iamToken.setGeneratedOn(created.getGeneratedOn());
+        snapshot().update(c -> c.with(iamToken));
+        return created;
+    }
+
+    /**
+     * Rotate all tokens having a role.
+     *
+     * @param role
+     *      role identifier or name
+     * @return
+     *      result per token
+     */
+    public List<TokenRotationResult> rotateByRole(String role) {
+        return rotate(findByRole(role).stream().map(IamToken::getClientId).collect(Collectors.toList()));
+    }
+
+    /**
+     * Rotate tokens in parallel. For each token a new token with the same roles is created,
+     * verified against the Devops Api, then the previous token is revoked. If the verification
+     * fails the new token is revoked and the previous one is kept. Tokens are read from the catalog,
+     * reloaded once if one of them is missing.
+     *
+     * @param clientIds
+     *      client ids of tokens to rotate
+     * @return
+     *      result per token, in the order of the client ids
+     */
+    public List<TokenRotationResult> rotate(List<String> clientIds) {
+        Assert.notNull(clientIds, "clientIds");
+        if (clientIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        TokenCatalog loaded = catalog();
+        // Created by another process since last load, reload once for all tokens
+        TokenCatalog current = clientIds.stream().allMatch(id -> loaded.findByClientId(id).isPresent())
+                ? loaded : snapshot().refresh();
+        ExecutorService executor = TaskExecutors.newBoundedExecutor("astra-token-rotation", Math.min(DEFAULT_MAX_CONCURRENCY, clientIds.size()));
+        try {
+            List<Future<TokenRotationResult>> futures = new ArrayList<>(clientIds.size());
+            for (String clientId : clientIds) {
+                futures.add(executor.submit(() -> rotate(current, clientId)));
+            }
+            List<TokenRotationResult> results = new ArrayList<>(futures.size());
+            for (Future<TokenRotationResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rotating tokens", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cannot rotate tokens", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Rotate one token.
+     *
+     * @param current
+     *      catalog when the rotation started
+     * @param clientId
+     *      client id of the token to rotate
+     * @return
+     *      result
+     */
+    private TokenRotationResult rotate(TokenCatalog current, String clientId) {
+        CreateTokenResponse created = null;
+        try {
+            IamToken previous = current.findByClientId(clientId)
+                    .orElseThrow(() -> new IllegalArgumentException("Token '" + clientId + "' has not been found"));
+            if (previous.getRoles() == null || previous.getRoles().isEmpty()) {
+                throw new IllegalStateException("Token '" + clientId + "' has no role");
+            }
+            created = create(previous.getRoles());
+            // Verify the new token before revoking the previous one
+            getHttpClient().GET(ApiLocator.getApiDevopsEndpoint() + "/currentOrg", created.getToken());
+            DELETE(getEndpointToken(previous.getClientId()));
+            snapshot().update(c -> c.without(clientId));
+            return new TokenRotationResult(clientId, created, null);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot rotate token '{}': {}", clientId, e.getMessage());
+            if (created != null) {
+                revokeQuietly(created.getClientId());
+            }
+            return new TokenRotationResult(clientId, null, e);
+        }
+    }
+
+    /**
+     * Revoke a token created by a failed rotation.
+     *
+     * @param clientId
+     *      client id
+     */
+    private void revokeQuietly(String clientId) {
+        try {
+            DELETE(getEndpointToken(clientId));
+            snapshot().update(c -> c.without(clientId));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot revoke token '{}' after failed rotation: {}", clientId, e.getMessage());
+        }
     }
 
     /**
@@ -4,13 +4,25 @@ import com.dtsx.astra.sdk.AbstractApiClient;
 import com.dtsx.astra.sdk.AstraDevopsApiClient;
 import com.dtsx.astra.sdk.org.domain.InviteUserRequest;
 import com.dtsx.astra.sdk.org.domain.ResponseAllUsers;
-import com.dtsx.astra.sdk.org.domain.Role;
 import com.dtsx.astra.sdk.org.domain.User;
+import com.dtsx.astra.sdk.org.domain.UserDirectory;
+import com.dtsx.astra.sdk.org.domain.UserOperationResult;
+import com.dtsx.astra.sdk.org.exception.RoleNotFoundException;
 import com.dtsx.astra.sdk.org.exception.UserNotFoundException;
 import com.dtsx.astra.sdk.utils.*;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.net.HttpURLConnection;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -18,6 +30,18 @@ import java.util.stream.Stream;
  */
 public class UsersClient extends AbstractApiClient {
 
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(UsersClient.class);
+
+    /** Concurrent requests for bulk operations. */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    /** Users change on invitations, local changes update the directory. */
+    public static final Duration DEFAULT_DIRECTORY_TTL = Duration.ofMinutes(5);
+
+    /** User directories are shared by the clients of a http client, a new client is created for each call. */
+    private static final String CACHE_KEY = "org.users/";
+
     /**
      * Constructor.
      *
@@ -25,7 +49,19 @@ public class UsersClient extends AbstractApiClient {
      *      current token.
      */
     public UsersClient(String token) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      current token.
+     */
+    public UsersClient(HttpClientWrapper httpClient, String token) {
+        super(httpClient, token);
     }
 
     /**
@@ -41,6 +77,18 @@ public class UsersClient extends AbstractApiClient {
         return JsonUtils.unmarshallBean(res.getBody(), ResponseAllUsers.class).getUsers().stream();
     }
 
+    /**
+     * List users in organization with a non-blocking call, users are emitted on demand.
+     *
+     * @return
+     *      publisher of users
+     */
+    public Publisher<User> findAllPublisher() {
+        return PagedPublisher.of(() -> getHttpClient().getAsyncClient()
+                .GET(getEndpointUsers(), getToken())
+                .thenApply(res -> JsonUtils.unmarshallBean(res.getBody(), ResponseAllUsers.class).getUsers()));
+    }
+
     /**
      * Retrieve user information from its id.
      *
@@ -59,7 +107,7 @@ public class UsersClient extends AbstractApiClient {
     }
 
     /**
-     * Retrieve a suer from his email.
+     * Retrieve a suer from his email, served from the {@link #directory()} reloaded once on a miss.
      *
      * @param email
      *      user email
@@ -68,7 +116,7 @@ public class UsersClient extends AbstractApiClient {
      */
     public Optional<User> findByEmail(String email) {
         Assert.hasLength(email, "User email should not be null nor empty");
-        return findAll().filter(u-> u.getEmail().equalsIgnoreCase(email)).findFirst();
+        return lookup(d -> d.findByEmail(email));
     }
 
     /**
@@ -83,6 +131,64 @@ public class UsersClient extends AbstractApiClient {
         return find(userId).isPresent();
     }
 
+    /**
+     * Access the cached user directory, loaded on first access and refreshed in background. Users
+     * and their status can be up to {@link #DEFAULT_DIRECTORY_TTL} old, {@link #find(String)} and
+     * {@link #exist(String)} call the Api.
+     *
+     * @return
+     *      indexed users
+     */
+    public UserDirectory directory() {
+        return snapshot().get();
+    }
+
+    /**
+     * Seed the directory with users saved by a previous run, revalidated in background on first access.
+     *
+     * @param restored
+     *      restored users
+     */
+    public void preloadDirectory(Collection<User> restored) {
+        Assert.notNull(restored, "restored");
+        snapshot().preload(new UserDirectory(new ArrayList<>(restored)));
+    }
+
+    /**
+     * Drop the cached directory, next access will reload it.
+     */
+    public void invalidateDirectory() {
+        CachedSnapshot<UserDirectory> snapshot = httpClient.findCache(CACHE_KEY + token);
+        if (snapshot != null) {
+            snapshot.invalidate();
+        }
+    }
+
+    /**
+     * Lookup in the directory, reloaded once when the user is unknown as it may have been
+     * invited by another process since last load.
+     *
+     * @param lookup
+     *      lookup in the directory
+     * @return
+     *      user if found
+     */
+    private Optional<User> lookup(Function<UserDirectory, Optional<User>> lookup) {
+        Optional<User> user = lookup.apply(directory());
+        return user.isPresent() ? user : lookup.apply(snapshot().refresh());
+    }
+
+    /**
+     * Directory for the token.
+     *
+     * @return
+     *      snapshot
+     */
+    private CachedSnapshot<UserDirectory> snapshot() {
+        return httpClient.getCache(CACHE_KEY + token, t -> new CachedSnapshot<>(() ->
+                new UserDirectory(findAll().collect(Collectors.toList())), DEFAULT_DIRECTORY_TTL));
+    }
+
     /**
      * Delete a user from its email.
      *
@@ -102,10 +208,12 @@ public class UsersClient extends AbstractApiClient {
      *      user identifier
      */
     public void delete(String userId) {
-        if (!exist(userId)) {
+        Assert.hasLength(userId, "userId");
+        if (!lookup(d -> d.findById(userId)).isPresent()) {
             throw new UserNotFoundException(userId);
         }
         DELETE(getEndpointUser(userId));
+        snapshot().update(d -> d.without(userId));
     }
 
     /**
@@ -115,7 +223,7 @@ public class UsersClient extends AbstractApiClient {
      *      user emails
      */
     public void deleteByEmail(String userEmail) {
-        delete(findByEmail(userEmail).get().getUserId());
+        delete(findByEmail(userEmail).orElseThrow(() -> new UserNotFoundException(userEmail)).getUserId());
     }
 
     /**
@@ -131,27 +239,41 @@ public class UsersClient extends AbstractApiClient {
         Assert.notNull(email, "User email");
         Assert.notNull(roles, "User roles");
         Assert.isTrue(roles.length > 0, "Roles list cannot be empty");
+        invite(new AstraDevopsApiClient(httpClient, token).getOrganizationId(), email,
+                resolveRoleIds(new RolesClient(httpClient, token), Arrays.asList(roles)));
+    }
 
-        // Build the invite request with expected roles
-        RolesClient rolesClient = new RolesClient(token);
-        AstraDevopsApiClient devopsApiClient = new AstraDevopsApiClient(token);
-        InviteUserRequest inviteRequest = new InviteUserRequest(devopsApiClient.getOrganizationId(), email);
-        Arrays.asList(roles).forEach(currentRole -> {
-            if (IdUtils.isUUID(currentRole)) {
-                inviteRequest.addRoles(currentRole);
-            } else {
-                // If role provided is a role name...
-                Optional<Role> opt = rolesClient.findByName(currentRole);
-                if (opt.isPresent()) {
-                    inviteRequest.addRoles(opt.get().getId());
-                } else {
-                    throw new IllegalArgumentException("Cannot find role with name " + currentRole);
-                }
-            }
-        });
+    /**
+     * Invite many users, role names are resolved once and invitations run in parallel.
+     *
+     * @param rolesByEmail
+     *      roles (identifiers or names) to assign per user email
+     * @return
+     *      result per user, in the order of the map
+     */
+    public List<UserOperationResult> inviteAll(Map<String, List<String>> rolesByEmail) {
+        Assert.notNull(rolesByEmail, "rolesByEmail");
+        String orgId = new AstraDevopsApiClient(httpClient, token).getOrganizationId();
+        return runAll(rolesByEmail, (email, roleIds) -> invite(orgId, email, roleIds));
+    }
 
+    /**
+     * Send an invitation.
+     *
+     * @param orgId
+     *      organization identifier
+     * @param email
+     *      user email
+     * @param roleIds
+     *      role identifiers
+     */
+    private void invite(String orgId, String email, List<String> roleIds) {
+        InviteUserRequest inviteRequest = new InviteUserRequest(orgId, email);
+        roleIds.forEach(inviteRequest::addRoles);
         // Invoke HTTP
-        PUT(getEndpointUsers(), JsonUtils.marshall(inviteRequest));
+        PUT(getEndpointUsers(), JsonBodyWriter.of(inviteRequest));
+        // Identifier of the new user is unknown
+        invalidateDirectory();
     }
 
     /**
@@ -169,24 +291,104 @@ public class UsersClient extends AbstractApiClient {
         if (!exist(userId)) {
             throw new RuntimeException("User '"+ userId + "' has not been found");
         }
+        updateRoles(userId, resolveRoleIds(new RolesClient(httpClient, token), Arrays.asList(roles)));
+    }
+
+    /**
+     * Replace roles of many users, role names are resolved once and updates run in parallel.
+     *
+     * @param rolesByUserId
+     *      roles (identifiers or names) per user identifier
+     * @return
+     *      result per user, in the order of the map
+     */
+    public List<UserOperationResult> updateRolesAll(Map<String, List<String>> rolesByUserId) {
+        Assert.notNull(rolesByUserId, "rolesByUserId");
+        return runAll(rolesByUserId, this::updateRoles);
+    }
+
+    /**
+     * Replace roles of a user.
+     *
+     * @param userId
+     *      user identifier
+     * @param roleIds
+     *      role identifiers
+     */
+    private void updateRoles(String userId, List<String> roleIds) {
         // Building body
         Map<String, List<String>> mapRoles = new HashMap<>();
-        mapRoles.put("roles", new ArrayList<>());
-
-        RolesClient rolesClient = new RolesClient(token);
-        Arrays.stream(roles).forEach(currentRole -> {
-            if (IdUtils.isUUID(currentRole)) {
-                mapRoles.get("roles").add(currentRole);
-            } else {
-                Optional<Role> opt = rolesClient.findByName(currentRole);
-                if (opt.isPresent()) {
-                    mapRoles.get("roles").add(opt.get().getId());
-                } else {
-                    throw new IllegalArgumentException("Cannot find role with id " + currentRole);
+        mapRoles.put("roles", roleIds);
+        PUT(getEndpointUser(userId) + "/roles", JsonBodyWriter.of(mapRoles));
+        // Roles are part of the user
+        invalidateDirectory();
+    }
+
+    /**
+     * Resolve role names into identifiers.
+     *
+     * @param rolesClient
+     *      roles client
+     * @param roles
+     *      role identifiers or names
+     * @return
+     *      role identifiers
+     */
+    private static List<String> resolveRoleIds(RolesClient rolesClient, List<String> roles) {
+        List<String> roleIds = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            try {
+                roleIds.add(rolesClient.resolveRoleId(role));
+            } catch (RoleNotFoundException e) {
+                throw new IllegalArgumentException("Cannot find role with name " + role, e);
+            }
+        }
+        return roleIds;
+    }
+
+    /**
+     * Run an operation for many users with bounded concurrency.
+     *
+     * @param rolesByUser
+     *      roles per user
+     * @param operation
+     *      operation with resolved role identifiers
+     * @return
+     *      result per user
+     */
+    private List<UserOperationResult> runAll(Map<String, List<String>> rolesByUser, BiConsumer<String, List<String>> operation) {
+        if (rolesByUser.isEmpty()) {
+            return Collections.emptyList();
+        }
+        RolesClient rolesClient = new RolesClient(httpClient, token);
+        ExecutorService executor = TaskExecutors.newBoundedExecutor("astra-users", Math.min(DEFAULT_MAX_CONCURRENCY, rolesByUser.size()));
+        try {
+            List<Future<UserOperationResult>> futures = new ArrayList<>(rolesByUser.size());
+            rolesByUser.forEach((user, roles) -> futures.add(executor.submit(() -> {
+                long start = System.currentTimeMillis();
+                try {
+                    Assert.hasLength(user, "user");
+                    Assert.isTrue(roles != null && !roles.isEmpty(), "Roles list cannot be empty");
+                    operation.accept(user, resolveRoleIds(rolesClient, roles));
+                    return new UserOperationResult(user, null, System.currentTimeMillis() - start);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Operation failed for user '{}': {}", user, e.getMessage());
+                    return new UserOperationResult(user, e, System.currentTimeMillis() - start);
                 }
+            })));
+            List<UserOperationResult> results = new ArrayList<>(futures.size());
+            for (Future<UserOperationResult> future : futures) {
+                results.add(future.get());
             }
-        });
-        PUT(getEndpointUser(userId) + "/roles", JsonUtils.marshall(mapRoles));
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while updating users", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cannot update users", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     /**
@@ -0,0 +1,245 @@
+package com.dtsx.astra.sdk.org.domain;
+
+import com.dtsx.astra.sdk.db.domain.AccessList;
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.Datacenter;
+import com.dtsx.astra.sdk.streaming.domain.CdcDefinition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Inventory entry of a database: the database, its access list, cdc and telemetry configuration.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class DatabaseInventory {
+
+    /** Database as listed. */
+    private final Database database;
+
+    /** Access list (null if not found). */
+    private final AccessList accessList;
+
+    /** Cdc definitions. */
+    private final List<CdcDefinition> cdc;
+
+    /** Telemetry configuration as json (null if not configured). */
+    private final String telemetry;
+
+    /** Error raised when loading details (null if success). */
+    private final Throwable error;
+
+    /** Time details were loaded, in millis. */
+    private final long loadedAt;
+
+    /** Attributes used to detect changes. */
+    private final String fingerprint;
+
+    /**
+     * Constructor.
+     *
+     * @param database
+     *      database
+     * @param accessList
+     *      access list
+     * @param cdc
+     *      cdc definitions
+     * @param telemetry
+     *      telemetry configuration
+     * @param error
+     *      error raised when loading details
+     * @param loadedAt
+     *      time details were loaded
+     */
+    public DatabaseInventory(Database database, AccessList accessList, List<CdcDefinition> cdc,
+                             String telemetry, Throwable error, long loadedAt) {
+        this.database    = database;
+        this.accessList  = accessList;
+        this.cdc         = cdc == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(cdc));
+        this.telemetry   = telemetry;
+        this.error       = error;
+        this.loadedAt    = loadedAt;
+        this.fingerprint = fingerprint(database);
+    }
+
+    /**
+     * Attributes of a listed database that tell its details may have changed.
+     *
+     * @param db
+     *      database
+     * @return
+     *      fingerprint
+     */
+    public static String fingerprint(Database db) {
+        StringBuilder sb = new StringBuilder().append(db.getStatus());
+        if (db.getInfo() != null) {
+            sb.append('|').append(db.getInfo().getName());
+            if (db.getInfo().getKeyspaces() != null) {
+                sb.append('|').append(new TreeSet<>(db.getInfo().getKeyspaces()));
+            }
+            sb.append('|').append(getRegions(db));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Regions of a database, from its datacenters or its main region.
+     *
+     * @param db
+     *      database
+     * @return
+     *      regions
+     */
+    public static Set<String> getRegions(Database db) {
+        Set<String> regions = new TreeSet<>();
+        if (db.getInfo() != null) {
+            if (db.getInfo().getDatacenters() != null) {
+                for (Datacenter dc : db.getInfo().getDatacenters()) {
+                    if (dc.getRegion() != null) {
+                        regions.add(dc.getRegion());
+                    }
+                }
+            }
+            if (regions.isEmpty() && db.getInfo().getRegion() != null) {
+                regions.add(db.getInfo().getRegion());
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Tells if details can be reused for a database listed again.
+     *
+     * @param current
+     *      database as listed now
+     * @param now
+     *      current time in millis
+     * @param maxAgeMillis
+     *      maximum age of details
+     * @return
+     *      if the entry is still valid
+     */
+    public boolean isUpToDate(Database current, long now, long maxAgeMillis) {
+        return error == null
+                && now - loadedAt < maxAgeMillis
+                && fingerprint.equals(fingerprint(current));
+    }
+
+    /**
+     * Same details for a database listed again.
+     *
+     * @param current
+     *      database as listed now
+     * @return
+     *      new entry
+     */
+    public DatabaseInventory withDatabase(Database current) {
+        return new DatabaseInventory(current, accessList, cdc, telemetry, error, loadedAt);
+    }
+
+    /**
+     * Tells if details were loaded.
+     *
+     * @return
+     *      if no error occurred
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Gets database identifier
+     *
+     * @return value of database identifier
+     */
+    public String getId() {
+        return database.getId();
+    }
+
+    /**
+     * Gets database name
+     *
+     * @return value of database name
+     */
+    public String getName() {
+        return database.getInfo() == null ? null : database.getInfo().getName();
+    }
+
+    /**
+     * Gets keyspaces
+     *
+     * @return value of keyspaces
+     */
+    public Set<String> getKeyspaces() {
+        if (database.getInfo() == null || database.getInfo().getKeyspaces() == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(database.getInfo().getKeyspaces());
+    }
+
+    /**
+     * Gets database
+     *
+     * @return value of database
+     */
+    public Database getDatabase() {
+        return database;
+    }
+
+    /**
+     * Gets accessList
+     *
+     * @return value of accessList
+     */
+    public Optional<AccessList> getAccessList() {
+        return Optional.ofNullable(accessList);
+    }
+
+    /**
+     * Gets cdc
+     *
+     * @return value of cdc
+     */
+    public List<CdcDefinition> getCdc() {
+        return cdc;
+    }
+
+    /**
+     * Gets telemetry
+     *
+     * @return value of telemetry
+     */
+    public Optional<String> getTelemetry() {
+        return Optional.ofNullable(telemetry);
+    }
+
+    /**
+     * Gets error
+     *
+     * @return value of error
+     */
+    public Optional<Throwable> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Gets loadedAt
+     *
+     * @return value of loadedAt
+     */
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return getName() + " (" + getId() + ") " + database.getStatus()
+                + (isSuccess() ? "" : " FAILED: " + error.getMessage());
+    }
+}
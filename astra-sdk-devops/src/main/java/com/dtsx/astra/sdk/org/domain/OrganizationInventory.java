@@ -0,0 +1,228 @@
+package com.dtsx.astra.sdk.org.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Immutable snapshot of the databases and tenants of an organization, indexed by database
+ * identifier, database name, region, tenant name and cluster.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class OrganizationInventory {
+
+    /** Databases. */
+    private final List<DatabaseInventory> databases;
+
+    /** Tenants. */
+    private final List<TenantInventory> tenants;
+
+    /** Time the snapshot was built, in millis. */
+    private final long createdAt;
+
+    /** Databases by identifier. */
+    private final Map<String, DatabaseInventory> databasesById;
+
+    /** Databases by name, names are not unique. */
+    private final Map<String, List<DatabaseInventory>> databasesByName;
+
+    /** Databases by region. */
+    private final Map<String, List<DatabaseInventory>> databasesByRegion;
+
+    /** Tenants by name. */
+    private final Map<String, TenantInventory> tenantsByName;
+
+    /** Tenants by cluster. */
+    private final Map<String, List<TenantInventory>> tenantsByCluster;
+
+    /** Tenants by region. */
+    private final Map<String, List<TenantInventory>> tenantsByRegion;
+
+    /**
+     * Build the indexes.
+     *
+     * @param databases
+     *      databases
+     * @param tenants
+     *      tenants
+     * @param createdAt
+     *      time the snapshot was built
+     */
+    public OrganizationInventory(List<DatabaseInventory> databases, List<TenantInventory> tenants, long createdAt) {
+        this.databases = Collections.unmodifiableList(new ArrayList<>(databases));
+        this.tenants   = Collections.unmodifiableList(new ArrayList<>(tenants));
+        this.createdAt = createdAt;
+        Map<String, DatabaseInventory>       ids     = new HashMap<>(databases.size() * 2);
+        Map<String, List<DatabaseInventory>> names   = new HashMap<>(databases.size() * 2);
+        Map<String, List<DatabaseInventory>> regions = new HashMap<>();
+        for (DatabaseInventory db : databases) {
+            ids.put(db.getId(), db);
+            if (db.getName() != null) {
+                names.computeIfAbsent(db.getName(), k -> new ArrayList<>()).add(db);
+            }
+            for (String region : DatabaseInventory.getRegions(db.getDatabase())) {
+                regions.computeIfAbsent(region, k -> new ArrayList<>()).add(db);
+            }
+        }
+        Map<String, TenantInventory>       tenantNames   = new HashMap<>(tenants.size() * 2);
+        Map<String, List<TenantInventory>> clusters      = new HashMap<>();
+        Map<String, List<TenantInventory>> tenantRegions = new HashMap<>();
+        for (TenantInventory tenant : tenants) {
+            tenantNames.put(tenant.getName(), tenant);
+            if (tenant.getTenant().getClusterName() != null) {
+                clusters.computeIfAbsent(tenant.getTenant().getClusterName(), k -> new ArrayList<>()).add(tenant);
+            }
+            if (tenant.getTenant().getCloudRegion() != null) {
+                tenantRegions.computeIfAbsent(tenant.getTenant().getCloudRegion(), k -> new ArrayList<>()).add(tenant);
+            }
+        }
+        this.databasesById     = Collections.unmodifiableMap(ids);
+        this.databasesByName   = freeze(names);
+        this.databasesByRegion = freeze(regions);
+        this.tenantsByName     = Collections.unmodifiableMap(tenantNames);
+        this.tenantsByCluster  = freeze(clusters);
+        this.tenantsByRegion   = freeze(tenantRegions);
+    }
+
+    /**
+     * Make an index and its lists read only.
+     *
+     * @param index
+     *      index
+     * @param <T>
+     *      type of entries
+     * @return
+     *      read only index
+     */
+    private static <T> Map<String, List<T>> freeze(Map<String, List<T>> index) {
+        index.replaceAll((k, v) -> Collections.unmodifiableList(v));
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * List all databases.
+     *
+     * @return
+     *      databases
+     */
+    public Stream<DatabaseInventory> findAllDatabases() {
+        return databases.stream();
+    }
+
+    /**
+     * Find a database by its identifier.
+     *
+     * @param databaseId
+     *      database identifier
+     * @return
+     *      database if present
+     */
+    public Optional<DatabaseInventory> findDatabaseById(String databaseId) {
+        return Optional.ofNullable(databasesById.get(databaseId));
+    }
+
+    /**
+     * Find databases by name.
+     *
+     * @param name
+     *      database name
+     * @return
+     *      databases with this name
+     */
+    public List<DatabaseInventory> findDatabasesByName(String name) {
+        return databasesByName.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * Find databases with a datacenter in a region.
+     *
+     * @param region
+     *      region name
+     * @return
+     *      databases in this region
+     */
+    public List<DatabaseInventory> findDatabasesByRegion(String region) {
+        return databasesByRegion.getOrDefault(region, Collections.emptyList());
+    }
+
+    /**
+     * List all tenants.
+     *
+     * @return
+     *      tenants
+     */
+    public Stream<TenantInventory> findAllTenants() {
+        return tenants.stream();
+    }
+
+    /**
+     * Find a tenant by its name.
+     *
+     * @param tenantName
+     *      tenant name
+     * @return
+     *      tenant if present
+     */
+    public Optional<TenantInventory> findTenantByName(String tenantName) {
+        return Optional.ofNullable(tenantsByName.get(tenantName));
+    }
+
+    /**
+     * Find tenants of a cluster.
+     *
+     * @param clusterName
+     *      cluster name
+     * @return
+     *      tenants of this cluster
+     */
+    public List<TenantInventory> findTenantsByCluster(String clusterName) {
+        return tenantsByCluster.getOrDefault(clusterName, Collections.emptyList());
+    }
+
+    /**
+     * Find tenants in a region.
+     *
+     * @param region
+     *      region name
+     * @return
+     *      tenants in this region
+     */
+    public List<TenantInventory> findTenantsByRegion(String region) {
+        return tenantsByRegion.getOrDefault(region, Collections.emptyList());
+    }
+
+    /**
+     * Number of databases.
+     *
+     * @return
+     *      database count
+     */
+    public int getDatabaseCount() {
+        return databases.size();
+    }
+
+    /**
+     * Number of tenants.
+     *
+     * @return
+     *      tenant count
+     */
+    public int getTenantCount() {
+        return tenants.size();
+    }
+
+    /**
+     * Gets createdAt
+     *
+     * @return value of createdAt
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+}
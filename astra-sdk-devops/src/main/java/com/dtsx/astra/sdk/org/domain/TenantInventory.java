@@ -0,0 +1,156 @@
+package com.dtsx.astra.sdk.org.domain;
+
+import com.dtsx.astra.sdk.streaming.domain.Tenant;
+import com.dtsx.astra.sdk.streaming.domain.TenantLimit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Inventory entry of a tenant: the tenant and its limits.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class TenantInventory {
+
+    /** Tenant as listed. */
+    private final Tenant tenant;
+
+    /** Tenant limits. */
+    private final List<TenantLimit> limits;
+
+    /** Error raised when loading details (null if success). */
+    private final Throwable error;
+
+    /** Time details were loaded, in millis. */
+    private final long loadedAt;
+
+    /** Attributes used to detect changes. */
+    private final String fingerprint;
+
+    /**
+     * Constructor.
+     *
+     * @param tenant
+     *      tenant
+     * @param limits
+     *      tenant limits
+     * @param error
+     *      error raised when loading details
+     * @param loadedAt
+     *      time details were loaded
+     */
+    public TenantInventory(Tenant tenant, List<TenantLimit> limits, Throwable error, long loadedAt) {
+        this.tenant      = tenant;
+        this.limits      = limits == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(limits));
+        this.error       = error;
+        this.loadedAt    = loadedAt;
+        this.fingerprint = fingerprint(tenant);
+    }
+
+    /**
+     * Attributes of a listed tenant that tell its details may have changed.
+     *
+     * @param tenant
+     *      tenant
+     * @return
+     *      fingerprint
+     */
+    public static String fingerprint(Tenant tenant) {
+        return tenant.getStatus() + "|" + tenant.getPlan() + "|" + tenant.getClusterName() + "|" + tenant.getCloudRegion();
+    }
+
+    /**
+     * Tells if details can be reused for a tenant listed again.
+     *
+     * @param current
+     *      tenant as listed now
+     * @param now
+     *      current time in millis
+     * @param maxAgeMillis
+     *      maximum age of details
+     * @return
+     *      if the entry is still valid
+     */
+    public boolean isUpToDate(Tenant current, long now, long maxAgeMillis) {
+        return error == null
+                && now - loadedAt < maxAgeMillis
+                && fingerprint.equals(fingerprint(current));
+    }
+
+    /**
+     * Same details for a tenant listed again.
+     *
+     * @param current
+     *      tenant as listed now
+     * @return
+     *      new entry
+     */
+    public TenantInventory withTenant(Tenant current) {
+        return new TenantInventory(current, limits, error, loadedAt);
+    }
+
+    /**
+     * Tells if details were loaded.
+     *
+     * @return
+     *      if no error occurred
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Gets tenant name
+     *
+     * @return value of tenant name
+     */
+    public String getName() {
+        return tenant.getTenantName();
+    }
+
+    /**
+     * Gets tenant
+     *
+     * @return value of tenant
+     */
+    public Tenant getTenant() {
+        return tenant;
+    }
+
+    /**
+     * Gets limits
+     *
+     * @return value of limits
+     */
+    public List<TenantLimit> getLimits() {
+        return limits;
+    }
+
+    /**
+     * Gets error
+     *
+     * @return value of error
+     */
+    public Optional<Throwable> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Gets loadedAt
+     *
+     * @return value of loadedAt
+     */
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return getName() + " (" + tenant.getClusterName() + ") " + tenant.getStatus()
+                + (isSuccess() ? "" : " FAILED: " + error.getMessage());
+    }
+}
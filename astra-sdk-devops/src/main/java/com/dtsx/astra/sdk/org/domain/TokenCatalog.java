@@ -0,0 +1,129 @@
+package com.dtsx.astra.sdk.org.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Immutable snapshot of the IAM tokens of an organization, indexed by client id (case-insensitive) and by role.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class TokenCatalog {
+
+    /** Tokens of the organization. */
+    private final List<IamToken> tokens;
+
+    /** Tokens by lowercase client id. */
+    private final Map<String, IamToken> tokensByClientId;
+
+    /** Tokens by role identifier. */
+    private final Map<String, List<IamToken>> tokensByRole;
+
+    /**
+     * Build the indexes.
+     *
+     * @param tokens
+     *      tokens of the organization
+     */
+    public TokenCatalog(List<IamToken> tokens) {
+        this.tokens = Collections.unmodifiableList(new ArrayList<>(tokens));
+        Map<String, IamToken> byClientId = new HashMap<>(tokens.size() * 2);
+        Map<String, List<IamToken>> byRole = new HashMap<>();
+        for (IamToken token : tokens) {
+            if (token.getClientId() != null) {
+                // First wins as with a linear scan
+                byClientId.putIfAbsent(token.getClientId().toLowerCase(Locale.ROOT), token);
+            }
+            if (token.getRoles() != null) {
+                token.getRoles().forEach(r -> byRole.computeIfAbsent(r, k -> new ArrayList<>()).add(token));
+            }
+        }
+        Map<String, List<IamToken>> frozen = new HashMap<>(byRole.size() * 2);
+        byRole.forEach((role, list) -> frozen.put(role, Collections.unmodifiableList(list)));
+        this.tokensByClientId = Collections.unmodifiableMap(byClientId);
+        this.tokensByRole     = Collections.unmodifiableMap(frozen);
+    }
+
+    /**
+     * List all tokens.
+     *
+     * @return
+     *      tokens
+     */
+    public Stream<IamToken> findAll() {
+        return tokens.stream();
+    }
+
+    /**
+     * Find a token from its client id, case-insensitive.
+     *
+     * @param clientId
+     *      client id
+     * @return
+     *      token if present
+     */
+    public Optional<IamToken> findByClientId(String clientId) {
+        return clientId == null ? Optional.empty() : Optional.ofNullable(tokensByClientId.get(clientId.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Find tokens having a role.
+     *
+     * @param roleId
+     *      role identifier
+     * @return
+     *      tokens with this role
+     */
+    public List<IamToken> findByRole(String roleId) {
+        return tokensByRole.getOrDefault(roleId, Collections.emptyList());
+    }
+
+    /**
+     * Copy of the catalog with an additional token.
+     *
+     * @param token
+     *      new token
+     * @return
+     *      new catalog
+     */
+    public TokenCatalog with(IamToken token) {
+        List<IamToken> list = new ArrayList<>(tokens);
+        list.add(token);
+        return new TokenCatalog(list);
+    }
+
+    /**
+     * Copy of the catalog without a token.
+     *
+     * @param clientId
+     *      client id
+     * @return
+     *      new catalog
+     */
+    public TokenCatalog without(String clientId) {
+        if (!findByClientId(clientId).isPresent()) {
+            return this;
+        }
+        return new TokenCatalog(tokens.stream()
+                .filter(t -> !clientId.equalsIgnoreCase(t.getClientId()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Number of tokens.
+     *
+     * @return
+     *      size of the catalog
+     */
+    public int size() {
+        return tokens.size();
+    }
+
+}
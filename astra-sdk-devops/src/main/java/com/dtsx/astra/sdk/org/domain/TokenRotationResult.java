@@ -0,0 +1,77 @@
+package com.dtsx.astra.sdk.org.domain;
+
+import java.util.Optional;
+
+/**
+ * Outcome of the rotation of one token: a new token with the same roles replaces the old one.
+ */
+public class TokenRotationResult {
+
+    /** Client id of the rotated token. */
+    private final String previousClientId;
+
+    /** New token, null if the rotation failed. */
+    private final CreateTokenResponse newToken;
+
+    /** Error if the rotation failed, the previous token is kept. */
+    private final Throwable error;
+
+    /**
+     * Constructor.
+     *
+     * @param previousClientId
+     *      client id of the rotated token
+     * @param newToken
+     *      new token (null if failed)
+     * @param error
+     *      error raised (null if success)
+     */
+    public TokenRotationResult(String previousClientId, CreateTokenResponse newToken, Throwable error) {
+        this.previousClientId = previousClientId;
+        this.newToken         = newToken;
+        this.error            = error;
+    }
+
+    /**
+     * Tells if the token has been rotated.
+     *
+     * @return
+     *      if no error occurred
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Gets previousClientId
+     *
+     * @return value of previousClientId
+     */
+    public String getPreviousClientId() {
+        return previousClientId;
+    }
+
+    /**
+     * Gets newToken
+     *
+     * @return value of newToken
+     */
+    public Optional<CreateTokenResponse> getNewToken() {
+        return Optional.ofNullable(newToken);
+    }
+
+    /**
+     * Gets error
+     *
+     * @return value of error
+     */
+    public Optional<Throwable> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return previousClientId + (isSuccess() ? " -> " + newToken.getClientId() : " FAILED: " + error.getMessage());
+    }
+}
@@ -0,0 +1,113 @@
+package com.dtsx.astra.sdk.org.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Immutable snapshot of the users of an organization, indexed by identifier and email (case-insensitive).
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class UserDirectory {
+
+    /** Users of the organization. */
+    private final List<User> users;
+
+    /** Users by identifier. */
+    private final Map<String, User> usersById;
+
+    /** Users by lowercase email. */
+    private final Map<String, User> usersByEmail;
+
+    /**
+     * Build the indexes.
+     *
+     * @param users
+     *      users of the organization
+     */
+    public UserDirectory(List<User> users) {
+        this.users = Collections.unmodifiableList(new ArrayList<>(users));
+        Map<String, User> byId    = new HashMap<>(users.size() * 2);
+        Map<String, User> byEmail = new HashMap<>(users.size() * 2);
+        for (User user : users) {
+            if (user.getUserId() != null) {
+                byId.put(user.getUserId(), user);
+            }
+            if (user.getEmail() != null) {
+                // First wins as with a linear scan
+                byEmail.putIfAbsent(user.getEmail().toLowerCase(Locale.ROOT), user);
+            }
+        }
+        this.usersById    = Collections.unmodifiableMap(byId);
+        this.usersByEmail = Collections.unmodifiableMap(byEmail);
+    }
+
+    /**
+     * List all users.
+     *
+     * @return
+     *      users
+     */
+    public Stream<User> findAll() {
+        return users.stream();
+    }
+
+    /**
+     * Find a user from its identifier.
+     *
+     * @param userId
+     *      user identifier
+     * @return
+     *      user if present
+     */
+    public Optional<User> findById(String userId) {
+        return Optional.ofNullable(usersById.get(userId));
+    }
+
+    /**
+     * Find a user from its email, case-insensitive.
+     *
+     * @param email
+     *      user email
+     * @return
+     *      user if present
+     */
+    public Optional<User> findByEmail(String email) {
+        return email == null ? Optional.empty() : Optional.ofNullable(usersByEmail.get(email.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Copy of the directory without a user.
+     *
+     * @param userId
+     *      user identifier
+     * @return
+     *      new directory
+     */
+    public UserDirectory without(String userId) {
+        if (!usersById.containsKey(userId)) {
+            return this;
+        }
+        return new UserDirectory(users.stream()
+                .filter(u -> !userId.equals(u.getUserId()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Number of users.
+     *
+     * @return
+     *      size of the directory
+     */
+    public int size() {
+        return users.size();
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.dtsx.astra.sdk.org.domain;
+
+import java.util.Optional;
+
+/**
+ * Outcome of an operation on one user in a bulk operation.
+ */
+public class UserOperationResult {
+
+    /** User email or identifier. */
+    private final String user;
+
+    /** Error if the operation failed. */
+    private final Throwable error;
+
+    /** Operation time in millis. */
+    private final long durationMillis;
+
+    /**
+     * Constructor.
+     *
+     * @param user
+     *      user email or identifier
+     * @param error
+     *      error raised (null if success)
+     * @param durationMillis
+     *      operation time in millis
+     */
+    public UserOperationResult(String user, Throwable error, long durationMillis) {
+        this.user           = user;
+        this.error          = error;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Tells if the operation succeeded.
+     *
+     * @return
+     *      if no error occurred
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Gets user
+     *
+     * @return value of user
+     */
+    public String getUser() {
+        return user;
+    }
+
+    /**
+     * Gets error
+     *
+     * @return value of error
+     */
+    public Optional<Throwable> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Gets durationMillis
+     *
+     * @return value of durationMillis
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return user + (isSuccess() ? " OK" : " FAILED: " + error.getMessage());
+    }
+}
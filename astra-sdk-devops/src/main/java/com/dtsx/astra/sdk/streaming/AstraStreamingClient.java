@@ -1,10 +1,15 @@
 package com.dtsx.astra.sdk.streaming;
 
 import com.dtsx.astra.sdk.AbstractApiClient;
+import com.dtsx.astra.sdk.org.domain.TenantInventory;
 import com.dtsx.astra.sdk.streaming.exception.TenantNotFoundException;
 import com.dtsx.astra.sdk.utils.ApiLocator;
+import com.dtsx.astra.sdk.utils.JsonBodyWriter;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.ConditionalGet;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.ResourceWatcher;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.dtsx.astra.sdk.streaming.domain.CreateTenant;
 import com.dtsx.astra.sdk.streaming.domain.Tenant;
@@ -28,7 +33,19 @@ public class AstraStreamingClient extends AbstractApiClient {
      *      authenticated token
      */
     public AstraStreamingClient(String token) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * As immutable object use builder to initiate the object, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      authenticated token
+     */
+    public AstraStreamingClient(HttpClientWrapper httpClient, String token) {
+        super(httpClient, token);
     }
 
     /**
@@ -45,6 +62,20 @@ public class AstraStreamingClient extends AbstractApiClient {
                 .stream();
     }
 
+    /**
+     * Watch tenants with conditional requests, creations, deletions and changes of status,
+     * plan, cluster and region are published.
+     *
+     * @return
+     *      watcher, to be started
+     */
+    public ResourceWatcher<Tenant> watch() {
+        ConditionalGet http = new ConditionalGet(getHttpClient(), getToken());
+        return new ResourceWatcher<>("tenants", () -> JsonUtils.unmarshallType(
+                        http.get(getApiDevopsEndpointTenants()).getBody(), new TypeReference<List<Tenant>>(){}),
+                Tenant::getTenantName, TenantInventory::fingerprint);
+    }
+
     /**
      * Find a tenant from ids name.
      *
@@ -59,6 +90,17 @@ public class AstraStreamingClient extends AbstractApiClient {
                 .findFirst();
     }
 
+    /**
+     * Access the shared tenant registry, tenants and their status can be up to
+     * {@link TenantRegistry#DEFAULT_TTL} old. Other lookups call the Api.
+     *
+     * @return
+     *      tenant registry
+     */
+    public TenantRegistry registry() {
+        return TenantRegistry.getInstance(httpClient, token);
+    }
+
     /**
      * Assess a tenant exist and retrieve information.
      *
@@ -79,7 +121,8 @@ public class AstraStreamingClient extends AbstractApiClient {
      */
     public void create(CreateTenant ct) {
         Assert.notNull(ct, "Create Tenant request");
-        POST(AstraStreamingClient.getApiDevopsEndpointTenants(), JsonUtils.marshall(ct));
+        POST(AstraStreamingClient.getApiDevopsEndpointTenants(), JsonBodyWriter.of(ct));
+        registry().invalidate();
     }
 
     /**
@@ -91,6 +134,7 @@ public class AstraStreamingClient extends AbstractApiClient {
     public void delete(String tenantName) {
         Tenant tenant = get(tenantName);
         DELETE(getEndpointCluster(tenant.getTenantName(), tenant.getClusterName()));
+        registry().invalidate();
     }
 
     /**
@@ -118,7 +162,17 @@ public class AstraStreamingClient extends AbstractApiClient {
      *      client for a tenant
      */
     public TenantClient tenant(String tenantName) {
-        return new TenantClient(token, tenantName);
+        return new TenantClient(httpClient, token, tenantName);
+    }
+
+    /**
+     * Collect statistics of many tenants at once.
+     *
+     * @return
+     *      statistics collector
+     */
+    public TenantStatsCollector stats() {
+        return new TenantStatsCollector(httpClient, token, TenantStatsCollector.DEFAULT_MAX_CONCURRENCY_PER_CLUSTER);
     }
 
     // ---------------------------------
@@ -132,7 +186,7 @@ public class AstraStreamingClient extends AbstractApiClient {
      *      streaming cluster client
      */
     public ClustersClient clusters() {
-        return new ClustersClient(token);
+        return new ClustersClient(httpClient, token);
     }
 
     // ---------------------------------
@@ -146,7 +200,7 @@ public class AstraStreamingClient extends AbstractApiClient {
      *      streaming cluster client
      */
     public ProvidersClient providers() {
-        return new ProvidersClient(token);
+        return new ProvidersClient(httpClient, token);
     }
 
     // ---------------------------------
@@ -160,7 +214,7 @@ public class AstraStreamingClient extends AbstractApiClient {
      *      streaming cluster client
      */
     public RegionsClient regions() {
-        return new RegionsClient(token);
+        return new RegionsClient(httpClient, token);
     }
     
     // ---------------------------------
@@ -7,6 +7,7 @@ import java.util.stream.Stream;
 import com.dtsx.astra.sdk.AbstractApiClient;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.streaming.domain.Cluster;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -24,7 +25,19 @@ public class ClustersClient extends AbstractApiClient {
      *      current token.
      */
     public ClustersClient(String token) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      current token.
+     */
+    public ClustersClient(HttpClientWrapper httpClient, String token) {
+        super(httpClient, token);
     }
 
     /**
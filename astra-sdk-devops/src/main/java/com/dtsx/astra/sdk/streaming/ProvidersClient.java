@@ -1,6 +1,7 @@
 package com.dtsx.astra.sdk.streaming;
 
 import com.dtsx.astra.sdk.AbstractApiClient;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 
 import java.util.List;
@@ -18,7 +19,19 @@ public class ProvidersClient extends AbstractApiClient {
      *      current token.
      */
     public ProvidersClient(String token) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      current token.
+     */
+    public ProvidersClient(HttpClientWrapper httpClient, String token) {
+        super(httpClient, token);
     }
 
     /**
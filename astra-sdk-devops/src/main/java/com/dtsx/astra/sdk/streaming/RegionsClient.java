@@ -2,12 +2,17 @@ package com.dtsx.astra.sdk.streaming;
 
 import com.dtsx.astra.sdk.AbstractApiClient;
 import com.dtsx.astra.sdk.streaming.domain.StreamingRegion;
+import com.dtsx.astra.sdk.streaming.domain.StreamingRegionCatalog;
 import com.dtsx.astra.sdk.utils.ApiResponse;
+import com.dtsx.astra.sdk.utils.CachedSnapshot;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -25,6 +30,12 @@ public class RegionsClient extends AbstractApiClient {
     /** json key. */
     private static final String JSON_SERVERLESS_REGIONS = "availableServerlessRegions";
 
+    /** Region catalogs change rarely. */
+    public static final Duration DEFAULT_CATALOG_TTL = Duration.ofHours(1);
+
+    /** Region catalogs are shared by the clients of a http client, a new client is created for each call. */
+    private static final String CACHE_KEY = "streaming.regions/";
+
     /**
      * Constructor.
      *
@@ -32,7 +43,19 @@ public class RegionsClient extends AbstractApiClient {
      *      current token.
      */
     public RegionsClient(String token) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      current token.
+     */
+    public RegionsClient(HttpClientWrapper httpClient, String token) {
+        super(httpClient, token);
     }
 
     /**
@@ -54,6 +77,27 @@ public class RegionsClient extends AbstractApiClient {
         return Stream.of();
     }
 
+    /**
+     * Access the cached region catalog, loaded on first access and refreshed in background.
+     *
+     * @return
+     *      indexed serverless regions
+     */
+    public StreamingRegionCatalog catalog() {
+        return httpClient.getCache(CACHE_KEY + token, t -> new CachedSnapshot<>(() ->
+                new StreamingRegionCatalog(findAllServerless().collect(Collectors.toList())), DEFAULT_CATALOG_TTL)).get();
+    }
+
+    /**
+     * Drop the cached catalog, next access will reload it.
+     */
+    public void invalidateCatalog() {
+        CachedSnapshot<StreamingRegionCatalog> snapshot = httpClient.findCache(CACHE_KEY + token);
+        if (snapshot != null) {
+            snapshot.invalidate();
+        }
+    }
+
     /**
      * Endpoint to access schema for namespace.
      *
@@ -0,0 +1,302 @@
+package com.dtsx.astra.sdk.streaming;
+
+import com.dtsx.astra.sdk.streaming.domain.Statistics;
+import com.dtsx.astra.sdk.streaming.domain.StatisticsAlertEvent;
+import com.dtsx.astra.sdk.streaming.domain.StatisticsAlertRule;
+import com.dtsx.astra.sdk.streaming.domain.StatisticsTimeSeries.Metric;
+import com.dtsx.astra.sdk.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Evaluate alert rules on each statistics sample of many topics.
+ *
+ * <p>Only the previous sample of each topic is kept, in primitive arrays, so a cycle costs
+ * one pass over the sample whatever the history. Listeners are notified on state changes
+ * only (raised, cleared). Topics missing from a sample are forgotten, their active alerts
+ * being cleared.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class StatisticsAlertEngine {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatisticsAlertEngine.class);
+
+    /** Metrics, values() copies the array on each call. */
+    private static final Metric[] METRICS = Metric.values();
+
+    /** Rules evaluated on each sample. */
+    private final StatisticsAlertRule[] rules;
+
+    /** Listeners. */
+    private final List<StatisticsAlertListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** State per topic. */
+    private final Map<String, ItemState> states = new HashMap<>();
+
+    /** Evaluation counter, used to forget topics absent from a sample. */
+    private long cycle = 0;
+
+    /**
+     * Last sample and alert states of a topic.
+     */
+    private final class ItemState {
+
+        /** Raw metric values of the last sample. */
+        private final double[] values = new double[METRICS.length];
+
+        /** Observed values (rates for counters) of the last sample. */
+        private double[] observed = new double[METRICS.length];
+
+        /** Observed values of the sample before, arrays are swapped on each sample. */
+        private double[] previous = new double[METRICS.length];
+
+        /** Alert active per rule. */
+        private final boolean[] active = new boolean[rules.length];
+
+        /** Time of the last sample. */
+        private long timestamp;
+
+        /** Samples received. */
+        private int samples;
+
+        /** Last cycle the topic was seen. */
+        private long lastCycle;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param rules
+     *      rules to evaluate
+     */
+    public StatisticsAlertEngine(List<StatisticsAlertRule> rules) {
+        Assert.notNull(rules, "rules");
+        Assert.isTrue(!rules.isEmpty(), "At least one rule is expected");
+        this.rules = rules.toArray(new StatisticsAlertRule[0]);
+    }
+
+    /**
+     * Register a listener.
+     *
+     * @param listener
+     *      listener
+     * @return
+     *      current reference
+     */
+    public StatisticsAlertEngine addListener(StatisticsAlertListener listener) {
+        Assert.notNull(listener, "listener");
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Remove a listener.
+     *
+     * @param listener
+     *      listener
+     */
+    public void removeListener(StatisticsAlertListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Fetch topics statistics of a tenant and evaluate them.
+     *
+     * @param client
+     *      tenant statistics client
+     * @return
+     *      events emitted during this cycle
+     */
+    public List<StatisticsAlertEvent> evaluate(TenantStatsClient client) {
+        return evaluate(client.topicsAsMap(), System.currentTimeMillis());
+    }
+
+    /**
+     * Evaluate a sample.
+     *
+     * <p>Listeners are notified once the state is updated, outside of the engine monitor.</p>
+     *
+     * @param sample
+     *      statistics per topic
+     * @param epochMillis
+     *      sample time
+     * @return
+     *      events emitted during this cycle
+     */
+    public List<StatisticsAlertEvent> evaluate(Map<String, Statistics> sample, long epochMillis) {
+        Assert.notNull(sample, "sample");
+        List<StatisticsAlertEvent> events = update(sample, epochMillis);
+        if (events == null) {
+            return Collections.emptyList();
+        }
+        for (StatisticsAlertEvent event : events) {
+            for (StatisticsAlertListener listener : listeners) {
+                try {
+                    listener.onAlert(event);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Alert listener failed on {}: {}", event, e.getMessage());
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Update the states with a sample.
+     *
+     * @param sample
+     *      statistics per topic
+     * @param now
+     *      sample time
+     * @return
+     *      events of the cycle (can be null)
+     */
+    private synchronized List<StatisticsAlertEvent> update(Map<String, Statistics> sample, long now) {
+        cycle++;
+        List<StatisticsAlertEvent> events = null;
+        for (Map.Entry<String, Statistics> entry : sample.entrySet()) {
+            ItemState state = states.computeIfAbsent(entry.getKey(), k -> new ItemState());
+            events = evaluate(entry.getKey(), entry.getValue(), state, now, events);
+            state.lastCycle = cycle;
+        }
+        // Forget topics which have been deleted, clearing their active alerts first
+        Iterator<Map.Entry<String, ItemState>> it = states.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, ItemState> entry = it.next();
+            ItemState state = entry.getValue();
+            if (state.lastCycle != cycle) {
+                for (int r = 0; r < rules.length; r++) {
+                    if (state.active[r]) {
+                        double last = state.observed[rules[r].getMetric().ordinal()];
+                        events = add(events, new StatisticsAlertEvent(rules[r], entry.getKey(),
+                                StatisticsAlertEvent.State.CLEARED, last, now));
+                    }
+                }
+                it.remove();
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Update state of one topic.
+     *
+     * @param item
+     *      topic name
+     * @param stats
+     *      new statistics
+     * @param state
+     *      topic state
+     * @param now
+     *      sample time
+     * @param events
+     *      events of the cycle (lazily created)
+     * @return
+     *      events of the cycle
+     */
+    private List<StatisticsAlertEvent> evaluate(String item, Statistics stats, ItemState state, long now,
+                                                List<StatisticsAlertEvent> events) {
+        double elapsedSeconds = state.samples > 0 ? (now - state.timestamp) / 1000d : 0;
+        boolean hasRateOfChange = state.samples > 1 && elapsedSeconds > 0;
+        double[] swap  = state.previous;
+        state.previous = state.observed;
+        state.observed = swap;
+        for (Metric m : METRICS) {
+            double value = m.valueOf(stats);
+            double obs   = value;
+            if (m.isCounter()) {
+                double delta = value - state.values[m.ordinal()];
+                obs = (state.samples > 0 && elapsedSeconds > 0 && delta >= 0) ? delta / elapsedSeconds : 0;
+            }
+            state.values[m.ordinal()]   = value;
+            state.observed[m.ordinal()] = obs;
+        }
+        int samplesBefore = state.samples;
+        state.samples++;
+        state.timestamp = now;
+        for (int r = 0; r < rules.length; r++) {
+            StatisticsAlertRule rule = rules[r];
+            int idx = rule.getMetric().ordinal();
+            double value;
+            if (rule.getType() == StatisticsAlertRule.Type.THRESHOLD) {
+                // Counters need two samples to get a rate
+                if (rule.getMetric().isCounter() && samplesBefore == 0) {
+                    continue;
+                }
+                value = state.observed[idx];
+            } else {
+                if (!hasRateOfChange) {
+                    continue;
+                }
+                value = (state.observed[idx] - state.previous[idx]) / elapsedSeconds;
+            }
+            if (!state.active[r] && rule.shouldRaise(value)) {
+                state.active[r] = true;
+                events = add(events, new StatisticsAlertEvent(rule, item, StatisticsAlertEvent.State.RAISED, value, now));
+            } else if (state.active[r] && rule.shouldClear(value)) {
+                state.active[r] = false;
+                events = add(events, new StatisticsAlertEvent(rule, item, StatisticsAlertEvent.State.CLEARED, value, now));
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Add an event to the cycle list.
+     *
+     * @param events
+     *      current list (can be null)
+     * @param event
+     *      event
+     * @return
+     *      list
+     */
+    private static List<StatisticsAlertEvent> add(List<StatisticsAlertEvent> events, StatisticsAlertEvent event) {
+        List<StatisticsAlertEvent> list = events == null ? new ArrayList<>() : events;
+        list.add(event);
+        return list;
+    }
+
+    /**
+     * Active alerts of a topic.
+     *
+     * @param item
+     *      topic name
+     * @return
+     *      rules currently raised
+     */
+    public synchronized List<StatisticsAlertRule> getActiveAlerts(String item) {
+        ItemState state = states.get(item);
+        if (state == null) {
+            return Collections.emptyList();
+        }
+        List<StatisticsAlertRule> active = new ArrayList<>();
+        for (int r = 0; r < rules.length; r++) {
+            if (state.active[r]) {
+                active.add(rules[r]);
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Number of topics tracked.
+     *
+     * @return
+     *      tracked topics
+     */
+    public synchronized int getTrackedItems() {
+        return states.size();
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.dtsx.astra.sdk.streaming;
+
+import com.dtsx.astra.sdk.streaming.domain.StatisticsAlertEvent;
+
+/**
+ * Receive alerts raised or cleared by {@link StatisticsAlertEngine}.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+@FunctionalInterface
+public interface StatisticsAlertListener {
+
+    /**
+     * An alert changed state.
+     *
+     * @param event
+     *      alert event
+     */
+    void onAlert(StatisticsAlertEvent event);
+}
@@ -3,20 +3,27 @@ package com.dtsx.astra.sdk.streaming;
 import com.dtsx.astra.sdk.AbstractApiClient;
 import com.dtsx.astra.sdk.AstraDevopsApiClient;
 import com.dtsx.astra.sdk.db.AstraDbClient;
+import com.dtsx.astra.sdk.db.DbCdcsClient;
 import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.JsonBodyWriter;
 import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.db.exception.KeyspaceNotFoundException;
+import com.dtsx.astra.sdk.streaming.domain.CdcCatalog;
 import com.dtsx.astra.sdk.streaming.domain.CdcDefinition;
 import com.dtsx.astra.sdk.streaming.domain.CreateCdc;
 import com.dtsx.astra.sdk.streaming.domain.DeleteCdc;
 import com.dtsx.astra.sdk.streaming.domain.Tenant;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.CachedSnapshot;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -24,6 +31,12 @@ import java.util.stream.Stream;
  */
 public class TenantCdcClient extends AbstractApiClient {
 
+    /** Cdc definitions change on user action, local changes invalidate the catalog. */
+    public static final Duration DEFAULT_CATALOG_TTL = Duration.ofMinutes(5);
+
+    /** Cdc catalogs are shared by the clients of a http client, a new client is created for each call. */
+    private static final String CACHE_KEY = "streaming.cdc/";
+
     /**
      * Unique db identifier.
      */
@@ -38,10 +51,52 @@ public class TenantCdcClient extends AbstractApiClient {
      *      tenantId
      */
     public TenantCdcClient(String token, String tenantId) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token, tenantId);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param tenantId
+     *      tenantId
+     */
+    public TenantCdcClient(HttpClientWrapper httpClient, String token, String tenantId) {
+        super(httpClient, token);
         Assert.hasLength(tenantId, "tenantId");
         // Test Db exists
-        this.tenant = new AstraStreamingClient(token).get(tenantId);
+        this.tenant = TenantRegistry.getInstance(httpClient, token).get(tenantId);
+    }
+
+    /**
+     * Constructor with a tenant already retrieved.
+     *
+     * @param token
+     *      token
+     * @param tenant
+     *      tenant
+     */
+    public TenantCdcClient(String token, Tenant tenant) {
+        this(HttpClientWrapper.getInstance(), token, tenant);
+    }
+
+    /**
+     * Constructor with a tenant already retrieved, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param tenant
+     *      tenant
+     */
+    public TenantCdcClient(HttpClientWrapper httpClient, String token, Tenant tenant) {
+        super(httpClient, token);
+        Assert.notNull(tenant, "tenant");
+        this.tenant = tenant;
     }
 
     /**
@@ -57,12 +112,28 @@ public class TenantCdcClient extends AbstractApiClient {
      *      partition in token
      */
     public void create(String databaseId, String keyspace, String table, int topicPartition) {
+        create(new AstraDbClient(httpClient, token).database(databaseId).get(), keyspace, table, topicPartition);
+    }
+
+    /**
+     * Create a Cdc for a database already retrieved.
+     *
+     * @param db
+     *      database
+     * @param keyspace
+     *      keyspace identifier
+     * @param table
+     *      table identifier
+     * @param topicPartition
+     *      partition in token
+     */
+    public void create(Database db, String keyspace, String table, int topicPartition) {
+        Assert.notNull(db, "db");
         Assert.hasLength(keyspace, "keyspace");
         Assert.hasLength(table, "table");
         Assert.isTrue(topicPartition > 0, "topic partition should be positive");
-        Database db = new AstraDbClient(token).database(databaseId).get();
         if (!db.getInfo().getKeyspaces().contains(keyspace)) {
-            throw new KeyspaceNotFoundException(databaseId, keyspace);
+            throw new KeyspaceNotFoundException(db.getId(), keyspace);
         }
         CreateCdc createCdc = new CreateCdc();
         createCdc.setOrgId(db.getOrgId());
@@ -71,11 +142,12 @@ public class TenantCdcClient extends AbstractApiClient {
         createCdc.setKeyspace(keyspace);
         createCdc.setTableName(table);
         createCdc.setTopicPartitions(topicPartition);
-        HttpClientWrapper.getInstance().POST_PULSAR(getEndpointTenantCdc(),
+        getHttpClient().POST_PULSAR(getEndpointTenantCdc(),
                 tenant.getPulsarToken(),
-                JsonUtils.marshall(createCdc),
+                JsonBodyWriter.of(createCdc),
                 tenant.getClusterName(),
                 tenant.getOrganizationId().toString());
+        invalidateCatalogs(db.getId());
     }
 
     /**
@@ -89,19 +161,34 @@ public class TenantCdcClient extends AbstractApiClient {
      *      table name
      */
     public void delete(String databaseId, String keyspace, String table) {
+        delete(new AstraDbClient(httpClient, token).database(databaseId).get(), keyspace, table);
+    }
+
+    /**
+     * Delete a cdc of a database already retrieved.
+     *
+     * @param db
+     *      database
+     * @param keyspace
+     *      keyspace name
+     * @param table
+     *      table name
+     */
+    public void delete(Database db, String keyspace, String table) {
+        Assert.notNull(db, "db");
         Assert.hasLength(keyspace, "keyspace");
         Assert.hasLength(table, "table");
-        Database db = new AstraDbClient(token).database(databaseId).get();
         DeleteCdc deleteCdc = new DeleteCdc();
         deleteCdc.setOrgId(db.getOrgId());
         deleteCdc.setDatabaseId(db.getId());
         deleteCdc.setKeyspace(keyspace);
         deleteCdc.setTableName(table);
-        HttpClientWrapper.getInstance().DELETE_PULSAR(getEndpointTenantCdc(),
+        getHttpClient().DELETE_PULSAR(getEndpointTenantCdc(),
                 tenant.getPulsarToken(),
-                JsonUtils.marshall(deleteCdc),
+                JsonBodyWriter.of(deleteCdc),
                 tenant.getClusterName(),
                 tenant.getOrganizationId().toString());
+        invalidateCatalogs(db.getId());
     }
 
     /**
@@ -111,7 +198,7 @@ public class TenantCdcClient extends AbstractApiClient {
      *      list of cdc.
      */
     public Stream<CdcDefinition> list() {
-        ApiResponseHttp res =  HttpClientWrapper.getInstance().GET_PULSAR(getEndpointTenantCdc(),
+        ApiResponseHttp res =  getHttpClient().GET_PULSAR(getEndpointTenantCdc(),
                 tenant.getPulsarToken(),
                 tenant.getClusterName(),
                 tenant.getOrganizationId().toString());
@@ -119,7 +206,7 @@ public class TenantCdcClient extends AbstractApiClient {
     }
 
     /**
-     * Find a cdc by its id.
+     * Find a cdc by its id, served from the {@link #catalog()} reloaded once on a miss.
      *
      * @param cdcId
      *      identifier
@@ -128,11 +215,11 @@ public class TenantCdcClient extends AbstractApiClient {
      */
     public Optional<CdcDefinition> findCdcById(String cdcId) {
         Assert.hasLength(cdcId, "cdc identifier");
-        return list().filter(cdc -> cdc.getConnectorName().equals(cdcId)).findFirst();
+        return lookup(c -> c.findByConnectorName(cdcId));
     }
 
     /**
-     * Find the cdc based on its components.
+     * Find the cdc based on its components, served from the {@link #catalog()} reloaded once on a miss.
      *
      * @param keyspace
      *      keyspace name
@@ -146,11 +233,74 @@ public class TenantCdcClient extends AbstractApiClient {
     public Optional<CdcDefinition> findCdcByDefinition(String keyspace, String table, String databaseIdentifier) {
         Assert.hasLength(keyspace, "keyspace");
         Assert.hasLength(table, "table");
-        return list().filter(cdc ->
-                cdc.getKeyspace().equals(keyspace)   &&
-                cdc.getDatabaseTable().equals(table) &&
-                cdc.getDatabaseId().equals(databaseIdentifier))
-                .findFirst();
+        return lookup(c -> c.find(databaseIdentifier, keyspace, table));
+    }
+
+    /**
+     * Lookup in the catalog, reloaded once when the cdc is unknown as it may have been
+     * created by another process since last load.
+     *
+     * @param lookup
+     *      lookup in the catalog
+     * @return
+     *      definition if present
+     */
+    private Optional<CdcDefinition> lookup(Function<CdcCatalog, Optional<CdcDefinition>> lookup) {
+        Optional<CdcDefinition> cdc = lookup.apply(catalog());
+        return cdc.isPresent() ? cdc : lookup.apply(snapshot().refresh());
+    }
+
+    /**
+     * Access the cached cdc catalog of the tenant, loaded on first access and refreshed in background.
+     * Definitions and their status can be up to {@link #DEFAULT_CATALOG_TTL} old, {@link #list()} calls the Api.
+     *
+     * @return
+     *      indexed cdc definitions
+     */
+    public CdcCatalog catalog() {
+        return snapshot().get();
+    }
+
+    /**
+     * Snapshot for the token and tenant.
+     *
+     * @return
+     *      snapshot
+     */
+    private CachedSnapshot<CdcCatalog> snapshot() {
+        return httpClient.getCache(CACHE_KEY + catalogKey(), k -> new CachedSnapshot<>(() ->
+                new CdcCatalog(list().collect(Collectors.toList())), DEFAULT_CATALOG_TTL));
+    }
+
+    /**
+     * Drop the cached catalog, next access will reload it.
+     */
+    public void invalidateCatalog() {
+        CachedSnapshot<CdcCatalog> snapshot = httpClient.findCache(CACHE_KEY + catalogKey());
+        if (snapshot != null) {
+            snapshot.invalidate();
+        }
+    }
+
+    /**
+     * Drop catalogs of the tenant and of the database after a change.
+     *
+     * @param databaseId
+     *      database identifier
+     */
+    private void invalidateCatalogs(String databaseId) {
+        invalidateCatalog();
+        DbCdcsClient.invalidateCatalog(httpClient, token, databaseId);
+    }
+
+    /**
+     * Catalog key for the token and tenant.
+     *
+     * @return
+     *      key
+     */
+    private String catalogKey() {
+        return token + "/" + tenant.getTenantName();
     }
 
     /**
@@ -2,9 +2,12 @@ package com.dtsx.astra.sdk.streaming;
 
 import com.dtsx.astra.sdk.AbstractApiClient;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+
 /**
  * @author Cedrick LUNVEN (@clunven)
  */
@@ -29,7 +32,21 @@ public class TenantClient extends AbstractApiClient {
      *         unique tenantId identifier
      */
     public TenantClient(String token, String tenantId) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token, tenantId);
+    }
+
+    /**
+     * Default constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *         token client
+     * @param tenantId
+     *         unique tenantId identifier
+     */
+    public TenantClient(HttpClientWrapper httpClient, String token, String tenantId) {
+        super(httpClient, token);
         Assert.hasLength(tenantId, "tenantId");
         this.tenantId = tenantId;
     }
@@ -45,7 +62,7 @@ public class TenantClient extends AbstractApiClient {
      *      cdc component
      */
     public TenantLimitsClient limits() {
-        return new TenantLimitsClient(token, tenantId);
+        return new TenantLimitsClient(httpClient, token, tenantId);
     }
 
     // ---------------------------------
@@ -59,7 +76,7 @@ public class TenantClient extends AbstractApiClient {
      *      cdc component
      */
     public TenantCdcClient cdc() {
-        return new TenantCdcClient(token, tenantId);
+        return new TenantCdcClient(httpClient, token, tenantId);
     }
 
     // ---------------------------------
@@ -73,7 +90,21 @@ public class TenantClient extends AbstractApiClient {
      *      cdc component
      */
     public TenantStatsClient stats() {
-        return new TenantStatsClient(token, tenantId);
+        return new TenantStatsClient(httpClient, token, tenantId);
+    }
+
+    /**
+     * Sample statistics on a schedule and keep history (call start() to begin).
+     *
+     * @param period
+     *      delay between two samples
+     * @param capacity
+     *      number of samples kept per namespace and topic
+     * @return
+     *      statistics sampler
+     */
+    public TenantStatsSampler statsSampler(Duration period, int capacity) {
+        return new TenantStatsSampler(httpClient, token, tenantId, period, capacity);
     }
 
     // ---------------------------------
@@ -5,6 +5,7 @@ import com.dtsx.astra.sdk.streaming.domain.Tenant;
 import com.dtsx.astra.sdk.streaming.domain.TenantLimit;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -30,10 +31,52 @@ public class TenantLimitsClient extends AbstractApiClient {
      *      tenantId
      */
     public TenantLimitsClient(String token, String tenantId) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token, tenantId);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param tenantId
+     *      tenantId
+     */
+    public TenantLimitsClient(HttpClientWrapper httpClient, String token, String tenantId) {
+        super(httpClient, token);
         Assert.hasLength(tenantId, "tenantId");
         // Test Db exists
-        this.tenant = new AstraStreamingClient(token).get(tenantId);
+        this.tenant = TenantRegistry.getInstance(httpClient, token).get(tenantId);
+    }
+
+    /**
+     * Constructor for a tenant already retrieved.
+     *
+     * @param token
+     *      token
+     * @param tenant
+     *      tenant
+     */
+    public TenantLimitsClient(String token, Tenant tenant) {
+        this(HttpClientWrapper.getInstance(), token, tenant);
+    }
+
+    /**
+     * Constructor for a tenant already retrieved, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param tenant
+     *      tenant
+     */
+    public TenantLimitsClient(HttpClientWrapper httpClient, String token, Tenant tenant) {
+        super(httpClient, token);
+        Assert.notNull(tenant, "tenant");
+        this.tenant = tenant;
     }
 
     /**
@@ -0,0 +1,163 @@
+package com.dtsx.astra.sdk.streaming;
+
+import com.dtsx.astra.sdk.streaming.domain.Tenant;
+import com.dtsx.astra.sdk.streaming.exception.TenantNotFoundException;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.CachedSnapshot;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Tenants of an organization indexed by name (case-insensitive), shared by all clients using the same http client and token.
+ *
+ * <p>The list is loaded once per time to live and refreshed in background before expiry. It is
+ * invalidated when a tenant is created or deleted through {@link AstraStreamingClient}. A lookup
+ * on an unknown name reloads the list, at most once per {@link #MISS_REFRESH_INTERVAL}, to see
+ * tenants created by other processes.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class TenantRegistry {
+
+    /** Default time to live of the tenant list. */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    /** Minimum delay between two reloads triggered by an unknown tenant. */
+    public static final Duration MISS_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    /** Registries are shared by the clients of a http client. */
+    private static final String CACHE_KEY = "streaming.tenants/";
+
+    /** Tenants by lower-cased name. */
+    private final CachedSnapshot<Map<String, Tenant>> tenants;
+
+    /** Last reload triggered by an unknown tenant (nanos). */
+    private final AtomicLong lastMissRefresh = new AtomicLong(System.nanoTime() - MISS_REFRESH_INTERVAL.toNanos());
+
+    /**
+     * Registry for a token.
+     *
+     * @param token
+     *      authenticated token
+     * @return
+     *      shared registry
+     */
+    public static TenantRegistry getInstance(String token) {
+        return getInstance(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Registry for a token, tenants are loaded with the http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      authenticated token
+     * @return
+     *      shared registry
+     */
+    public static TenantRegistry getInstance(HttpClientWrapper httpClient, String token) {
+        Assert.notNull(httpClient, "httpClient");
+        Assert.hasLength(token, "token");
+        return httpClient.getCache(CACHE_KEY + token, k -> new TenantRegistry(new AstraStreamingClient(httpClient, token), DEFAULT_TTL));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param client
+     *      client to load tenants
+     * @param ttl
+     *      time to live of the list
+     */
+    public TenantRegistry(AstraStreamingClient client, Duration ttl) {
+        Assert.notNull(client, "client");
+        this.tenants = new CachedSnapshot<>(() -> index(client.findAll()), ttl);
+    }
+
+    /**
+     * Index tenants by lower-cased name.
+     *
+     * @param tenants
+     *      tenants
+     * @return
+     *      index
+     */
+    private static Map<String, Tenant> index(Stream<Tenant> tenants) {
+        Map<String, Tenant> index = new LinkedHashMap<>();
+        tenants.forEach(t -> index.put(t.getTenantName().toLowerCase(Locale.ROOT), t));
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * List tenants from the registry.
+     *
+     * @return
+     *      tenants
+     */
+    public Stream<Tenant> findAll() {
+        return tenants.get().values().stream();
+    }
+
+    /**
+     * Find a tenant from its name (case-insensitive).
+     *
+     * @param tenantName
+     *      name of the tenant
+     * @return
+     *      tenant if exists
+     */
+    public Optional<Tenant> find(String tenantName) {
+        Assert.hasLength(tenantName, "tenantName");
+        String key = tenantName.toLowerCase(Locale.ROOT);
+        Tenant tenant = tenants.get().get(key);
+        if (tenant == null) {
+            long last = lastMissRefresh.get();
+            long now  = System.nanoTime();
+            if (now - last >= MISS_REFRESH_INTERVAL.toNanos() && lastMissRefresh.compareAndSet(last, now)) {
+                tenant = tenants.refresh().get(key);
+            }
+        }
+        return Optional.ofNullable(tenant);
+    }
+
+    /**
+     * Retrieve a tenant or fail.
+     *
+     * @param tenantName
+     *      name of the tenant
+     * @return
+     *      tenant
+     */
+    public Tenant get(String tenantName) {
+        return find(tenantName).orElseThrow(() -> new TenantNotFoundException(tenantName));
+    }
+
+    /**
+     * Seed the registry with tenants saved by a previous run, revalidated in background on first access.
+     *
+     * @param restored
+     *      restored tenants
+     */
+    public void preload(Collection<Tenant> restored) {
+        Assert.notNull(restored, "restored");
+        tenants.preload(index(restored.stream()));
+    }
+
+    /**
+     * Drop the list, next access will reload it.
+     */
+    public void invalidate() {
+        tenants.invalidate();
+    }
+
+}
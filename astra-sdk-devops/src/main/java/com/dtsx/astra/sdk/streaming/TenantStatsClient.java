@@ -6,8 +6,11 @@ import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.streaming.domain.Statistics;
 import com.dtsx.astra.sdk.streaming.domain.Tenant;
 import com.dtsx.astra.sdk.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.PagedPublisher;
 import com.fasterxml.jackson.core.type.TypeReference;
+import org.reactivestreams.Publisher;
 
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -35,10 +38,52 @@ public class TenantStatsClient extends AbstractApiClient {
      *      tenantId
      */
     public TenantStatsClient(String token, String tenantId) {
-        super(token);
+        this(HttpClientWrapper.getInstance(), token, tenantId);
+    }
+
+    /**
+     * Constructor, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param tenantId
+     *      tenantId
+     */
+    public TenantStatsClient(HttpClientWrapper httpClient, String token, String tenantId) {
+        super(httpClient, token);
         Assert.hasLength(tenantId, "tenantId");
         // Test Db exists
-        this.tenant = new AstraStreamingClient(token).get(tenantId);
+        this.tenant = TenantRegistry.getInstance(httpClient, token).get(tenantId);
+    }
+
+    /**
+     * Constructor with a tenant already retrieved.
+     *
+     * @param token
+     *      token
+     * @param tenant
+     *      tenant
+     */
+    public TenantStatsClient(String token, Tenant tenant) {
+        this(HttpClientWrapper.getInstance(), token, tenant);
+    }
+
+    /**
+     * Constructor with a tenant already retrieved, with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      token
+     * @param tenant
+     *      tenant
+     */
+    public TenantStatsClient(HttpClientWrapper httpClient, String token, Tenant tenant) {
+        super(httpClient, token);
+        Assert.notNull(tenant, "tenant");
+        this.tenant = tenant;
     }
 
     /**
@@ -48,13 +93,17 @@ public class TenantStatsClient extends AbstractApiClient {
      *      statistics
      */
     public Stream<Statistics> namespaces() {
-        return JsonUtils
-                .unmarshallType(
-                        HttpClientWrapper.getInstance().GET_PULSAR(getEndpointStatisticsNamespaces(),
-                        tenant.getPulsarToken(), tenant.getClusterName(),
-                        tenant.getOrganizationId().toString()).getBody(), TYPE_LIST_STATISTICS)
-                .values()
-                .stream();
+        return namespacesAsMap().values().stream();
+    }
+
+    /**
+     * Retrieve Statistics for all namespaces, keyed by namespace name (tenant/namespace).
+     *
+     * @return
+     *      statistics
+     */
+    public Map<String, Statistics> namespacesAsMap() {
+        return statistics(getEndpointStatisticsNamespaces());
     }
 
     /**
@@ -68,8 +117,7 @@ public class TenantStatsClient extends AbstractApiClient {
     public Optional<Statistics> namespace(String namespace) {
         Map<String, Statistics> map = JsonUtils
                 .unmarshallType(
-                        HttpClientWrapper
-                                .getInstance()
+                        getHttpClient()
                                 .GET_PULSAR(
                                     getEndpointStatisticsNamespaces() + "/" + namespace,
                                     tenant.getPulsarToken(), tenant.getClusterName(),
@@ -85,13 +133,68 @@ public class TenantStatsClient extends AbstractApiClient {
      *      statistics
      */
     public Stream<Statistics> topics() {
-        return JsonUtils
-                .unmarshallType(
-                        HttpClientWrapper.getInstance().GET_PULSAR(getEndpointStatisticsTopics(),
-                                tenant.getPulsarToken(), tenant.getClusterName(),
-                                tenant.getOrganizationId().toString()).getBody(), TYPE_LIST_STATISTICS)
-                .values()
-                .stream();
+        return topicsAsMap().values().stream();
+    }
+
+    /**
+     * Retrieve Statistics for all topics with a non-blocking call, statistics are emitted on demand.
+     *
+     * @return
+     *      publisher of statistics
+     */
+    public Publisher<Statistics> topicsPublisher() {
+        return statisticsPublisher(getEndpointStatisticsTopics());
+    }
+
+    /**
+     * Retrieve Statistics for topics of a namespace with a non-blocking call.
+     *
+     * @param namespace
+     *      current pulsar namespace
+     * @return
+     *      publisher of statistics
+     */
+    public Publisher<Statistics> topicsPublisher(String namespace) {
+        Assert.hasLength(namespace, "namespace");
+        return statisticsPublisher(getEndpointStatisticsTopics() + "/" + namespace);
+    }
+
+    /**
+     * Invoke a statistics endpoint on the tenant cluster with a non-blocking call.
+     *
+     * @param url
+     *      statistics endpoint
+     * @return
+     *      publisher of statistics
+     */
+    private Publisher<Statistics> statisticsPublisher(String url) {
+        return PagedPublisher.of(() -> getHttpClient().getAsyncClient()
+                .GET_PULSAR(url, tenant.getPulsarToken(), tenant.getClusterName(), tenant.getOrganizationId().toString())
+                .thenApply(res -> new ArrayList<>(JsonUtils.unmarshallType(res.getBody(), TYPE_LIST_STATISTICS).values())));
+    }
+
+    /**
+     * Retrieve Statistics for all topics, keyed by topic name.
+     *
+     * @return
+     *      statistics
+     */
+    public Map<String, Statistics> topicsAsMap() {
+        return statistics(getEndpointStatisticsTopics());
+    }
+
+    /**
+     * Invoke a statistics endpoint on the tenant cluster.
+     *
+     * @param url
+     *      statistics endpoint
+     * @return
+     *      statistics keyed by item name
+     */
+    private Map<String, Statistics> statistics(String url) {
+        return JsonUtils.unmarshallType(getHttpClient().GET_PULSAR(url,
+                tenant.getPulsarToken(), tenant.getClusterName(),
+                tenant.getOrganizationId().toString()).getBody(), TYPE_LIST_STATISTICS);
     }
 
     /**
@@ -105,7 +208,7 @@ public class TenantStatsClient extends AbstractApiClient {
     public Stream<Statistics> topics(String namespace) {
         return JsonUtils
                 .unmarshallType(
-                        HttpClientWrapper.getInstance().GET_PULSAR(getEndpointStatisticsTopics() + "/" + namespace,
+                        getHttpClient().GET_PULSAR(getEndpointStatisticsTopics() + "/" + namespace,
                                 tenant.getPulsarToken(), tenant.getClusterName(),
                                 tenant.getOrganizationId().toString()).getBody(), TYPE_LIST_STATISTICS)
                 .values()
@@ -0,0 +1,229 @@
+package com.dtsx.astra.sdk.streaming;
+
+import com.dtsx.astra.sdk.streaming.domain.Tenant;
+import com.dtsx.astra.sdk.streaming.domain.TenantStatistics;
+import com.dtsx.astra.sdk.streaming.exception.TenantNotFoundException;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.TaskExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Fetch namespaces and topics statistics for many tenants at once.
+ *
+ * <p>Tenants are grouped by cluster, each cluster gets its own pool bounded by
+ * {@link #getMaxConcurrencyPerCluster()} so a slow cluster does not delay the others
+ * and no cluster receives more than this number of concurrent calls. Results are streamed
+ * in completion order, a failing tenant produces a {@link TenantStatistics} holding the error
+ * and does not stop the collection.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class TenantStatsCollector {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(TenantStatsCollector.class);
+
+    /** Default concurrent calls per cluster. */
+    public static final int DEFAULT_MAX_CONCURRENCY_PER_CLUSTER = 4;
+
+    /** Authentication token. */
+    private final String token;
+
+    /** Http client of the clients created. */
+    private final HttpClientWrapper httpClient;
+
+    /** Concurrent calls per cluster. */
+    private final int maxConcurrencyPerCluster;
+
+    /**
+     * Constructor with default concurrency.
+     *
+     * @param token
+     *      authenticated token
+     */
+    public TenantStatsCollector(String token) {
+        this(token, DEFAULT_MAX_CONCURRENCY_PER_CLUSTER);
+    }
+
+    /**
+     * Full constructor.
+     *
+     * @param token
+     *      authenticated token
+     * @param maxConcurrencyPerCluster
+     *      concurrent calls per cluster
+     */
+    public TenantStatsCollector(String token, int maxConcurrencyPerCluster) {
+        this(HttpClientWrapper.getInstance(), token, maxConcurrencyPerCluster);
+    }
+
+    /**
+     * Full constructor with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      authenticated token
+     * @param maxConcurrencyPerCluster
+     *      concurrent calls per cluster
+     */
+    public TenantStatsCollector(HttpClientWrapper httpClient, String token, int maxConcurrencyPerCluster) {
+        Assert.notNull(httpClient, "httpClient");
+        Assert.hasLength(token, "token");
+        Assert.isTrue(maxConcurrencyPerCluster > 0, "maxConcurrencyPerCluster should be positive");
+        this.httpClient = httpClient;
+        this.token = token;
+        this.maxConcurrencyPerCluster = maxConcurrencyPerCluster;
+    }
+
+    /**
+     * Statistics for all tenants of the organization.
+     *
+     * @return
+     *      statistics in completion order
+     */
+    public Stream<TenantStatistics> collectAll() {
+        return collectTenants(TenantRegistry.getInstance(httpClient, token).findAll().collect(Collectors.toList()));
+    }
+
+    /**
+     * Statistics for a list of tenants.
+     *
+     * @param tenantNames
+     *      tenant names
+     * @return
+     *      statistics in completion order
+     */
+    public Stream<TenantStatistics> collect(Collection<String> tenantNames) {
+        Assert.notNull(tenantNames, "tenantNames");
+        List<Tenant> tenants = new ArrayList<>(tenantNames.size());
+        List<TenantStatistics> notFound = new ArrayList<>();
+        TenantRegistry registry = TenantRegistry.getInstance(httpClient, token);
+        for (String tenantName : tenantNames) {
+            Optional<Tenant> tenant = registry.find(tenantName);
+            if (tenant.isPresent()) {
+                tenants.add(tenant.get());
+            } else {
+                notFound.add(new TenantStatistics(tenantName, null, new TenantNotFoundException(tenantName)));
+            }
+        }
+        return Stream.concat(notFound.stream(), collectTenants(tenants));
+    }
+
+    /**
+     * Statistics for a list of tenants, each result is provided to the consumer when available.
+     *
+     * @param tenantNames
+     *      tenant names
+     * @param consumer
+     *      result consumer
+     * @return
+     *      tenants that failed with their error
+     */
+    public Map<String, Throwable> collect(Collection<String> tenantNames, Consumer<TenantStatistics> consumer) {
+        Map<String, Throwable> failures = new HashMap<>();
+        collect(tenantNames).forEach(stats -> {
+            stats.getError().ifPresent(err -> failures.put(stats.getTenantName(), err));
+            consumer.accept(stats);
+        });
+        return failures;
+    }
+
+    /**
+     * Run calls with a pool per cluster.
+     *
+     * @param tenants
+     *      tenants
+     * @return
+     *      statistics in completion order
+     */
+    private Stream<TenantStatistics> collectTenants(List<Tenant> tenants) {
+        if (tenants.isEmpty()) {
+            return Stream.empty();
+        }
+        BlockingQueue<TenantStatistics> results = new LinkedBlockingQueue<>();
+        Map<String, List<Tenant>> byCluster = tenants.stream().collect(Collectors.groupingBy(Tenant::getClusterName));
+        byCluster.forEach((cluster, clusterTenants) -> {
+            int poolSize = Math.min(maxConcurrencyPerCluster, clusterTenants.size());
+            ExecutorService executor = TaskExecutors.newBoundedExecutor("astra-stats-" + cluster, poolSize);
+            clusterTenants.forEach(tenant -> executor.execute(() -> {
+                try {
+                    results.add(fetch(tenant));
+                } catch (Error e) {
+                    // The stream waits for one result per tenant
+                    results.add(new TenantStatistics(tenant.getTenantName(), tenant.getClusterName(), e));
+                    throw e;
+                }
+            }));
+            // Threads end once queued calls are done
+            executor.shutdown();
+        });
+        int expected = tenants.size();
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<TenantStatistics>(expected,
+                Spliterator.SIZED | Spliterator.NONNULL) {
+            private int received = 0;
+            @Override
+            public boolean tryAdvance(Consumer<? super TenantStatistics> action) {
+                if (received == expected) {
+                    return false;
+                }
+                try {
+                    action.accept(results.take());
+                    received++;
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while collecting statistics", e);
+                }
+            }
+        }, false);
+    }
+
+    /**
+     * Fetch statistics of one tenant.
+     *
+     * @param tenant
+     *      tenant
+     * @return
+     *      statistics or error
+     */
+    private TenantStatistics fetch(Tenant tenant) {
+        try {
+            TenantStatsClient client = new TenantStatsClient(httpClient, token, tenant);
+            return new TenantStatistics(tenant.getTenantName(), tenant.getClusterName(),
+                    client.namespaces().collect(Collectors.toList()),
+                    client.topics().collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot retrieve statistics for tenant '{}': {}", tenant.getTenantName(), e.getMessage());
+            return new TenantStatistics(tenant.getTenantName(), tenant.getClusterName(), e);
+        }
+    }
+
+    /**
+     * Gets maxConcurrencyPerCluster
+     *
+     * @return value of maxConcurrencyPerCluster
+     */
+    public int getMaxConcurrencyPerCluster() {
+        return maxConcurrencyPerCluster;
+    }
+
+}
@@ -0,0 +1,274 @@
+package com.dtsx.astra.sdk.streaming;
+
+import com.dtsx.astra.sdk.streaming.domain.Statistics;
+import com.dtsx.astra.sdk.streaming.domain.StatisticsTimeSeries;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Poll statistics of a tenant on a schedule and keep a fixed-size history per namespace and topic.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class TenantStatsSampler implements Closeable {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(TenantStatsSampler.class);
+
+    /** Default number of samples kept per item. */
+    public static final int DEFAULT_CAPACITY = 360;
+
+    /** Default number of consecutive samples without an item before its history is dropped. */
+    public static final int DEFAULT_MAX_MISSED_SAMPLES = 3;
+
+    /** Client for the tenant. */
+    private final TenantStatsClient client;
+
+    /** Delay between two samples. */
+    private final Duration period;
+
+    /** Number of samples kept per item. */
+    private final int capacity;
+
+    /** History per namespace. */
+    private final Map<String, StatisticsTimeSeries> namespaces = new ConcurrentHashMap<>();
+
+    /** History per topic. */
+    private final Map<String, StatisticsTimeSeries> topics = new ConcurrentHashMap<>();
+
+    /** Consecutive samples without a namespace. */
+    private final Map<String, Integer> missedNamespaces = new ConcurrentHashMap<>();
+
+    /** Consecutive samples without a topic. */
+    private final Map<String, Integer> missedTopics = new ConcurrentHashMap<>();
+
+    /** Samples without an item before its history is dropped. */
+    private volatile int maxMissedSamples = DEFAULT_MAX_MISSED_SAMPLES;
+
+    /** Evaluate alerts on each topics sample (optional). */
+    private volatile StatisticsAlertEngine alertEngine;
+
+    /** Poll statistics. */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor.
+     *
+     * @param token
+     *      authenticated token
+     * @param tenantName
+     *      tenant name
+     * @param period
+     *      delay between two samples
+     * @param capacity
+     *      number of samples kept per namespace and topic
+     */
+    public TenantStatsSampler(String token, String tenantName, Duration period, int capacity) {
+        this(HttpClientWrapper.getInstance(), token, tenantName, period, capacity);
+    }
+
+    /**
+     * Constructor with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      authenticated token
+     * @param tenantName
+     *      tenant name
+     * @param period
+     *      delay between two samples
+     * @param capacity
+     *      number of samples kept per namespace and topic
+     */
+    public TenantStatsSampler(HttpClientWrapper httpClient, String token, String tenantName, Duration period, int capacity) {
+        this(new TenantStatsClient(httpClient, token, tenantName), period, capacity);
+    }
+
+    /**
+     * Constructor with a client.
+     *
+     * @param client
+     *      statistics client of the tenant
+     * @param period
+     *      delay between two samples
+     * @param capacity
+     *      number of samples kept per namespace and topic
+     */
+    TenantStatsSampler(TenantStatsClient client, Duration period, int capacity) {
+        Assert.notNull(client, "client");
+        Assert.notNull(period, "period");
+        Assert.isTrue(!period.isNegative() && !period.isZero(), "period should be positive");
+        Assert.isTrue(capacity > 0, "capacity should be positive");
+        this.client   = client;
+        this.period   = period;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Start polling.
+     *
+     * @return
+     *      current reference
+     */
+    public synchronized TenantStatsSampler start() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "astra-stats-sampler");
+                t.setDaemon(true);
+                return t;
+            });
+            scheduler.scheduleAtFixedRate(this::sample, 0, period.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return this;
+    }
+
+    /**
+     * Evaluate alert rules on each topics sample.
+     *
+     * @param engine
+     *      alert engine
+     * @return
+     *      current reference
+     */
+    public TenantStatsSampler withAlertEngine(StatisticsAlertEngine engine) {
+        this.alertEngine = engine;
+        return this;
+    }
+
+    /**
+     * Drop the history of a namespace or topic absent from this number of consecutive samples,
+     * memory stays bounded when topics are created and deleted.
+     *
+     * @param maxMissedSamples
+     *      consecutive samples without the item
+     * @return
+     *      current reference
+     */
+    public TenantStatsSampler withMaxMissedSamples(int maxMissedSamples) {
+        Assert.isTrue(maxMissedSamples > 0, "maxMissedSamples should be positive");
+        this.maxMissedSamples = maxMissedSamples;
+        return this;
+    }
+
+    /**
+     * Take one sample of namespaces and topics.
+     */
+    public void sample() {
+        try {
+            Map<String, Statistics> namespacesStats = client.namespacesAsMap();
+            record(namespacesStats, client.topicsAsMap(), System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot sample statistics: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Add a sample to the histories and evaluate alerts.
+     *
+     * @param namespacesStats
+     *      statistics per namespace
+     * @param topicsStats
+     *      statistics per topic
+     * @param now
+     *      sample time
+     */
+    void record(Map<String, Statistics> namespacesStats, Map<String, Statistics> topicsStats, long now) {
+        record(namespaces, missedNamespaces, namespacesStats, now);
+        record(topics, missedTopics, topicsStats, now);
+        StatisticsAlertEngine engine = alertEngine;
+        if (engine != null) {
+            engine.evaluate(topicsStats, now);
+        }
+    }
+
+    /**
+     * Add statistics to their history, items missing from too many samples are dropped.
+     *
+     * @param history
+     *      history per item
+     * @param missed
+     *      consecutive samples without an item
+     * @param stats
+     *      statistics per item
+     * @param now
+     *      sample time
+     */
+    private void record(Map<String, StatisticsTimeSeries> history, Map<String, Integer> missed,
+                        Map<String, Statistics> stats, long now) {
+        stats.forEach((name, s) -> {
+            history.computeIfAbsent(name, n -> new StatisticsTimeSeries(capacity)).add(now, s);
+            missed.remove(name);
+        });
+        for (String name : history.keySet()) {
+            if (!stats.containsKey(name) && missed.merge(name, 1, Integer::sum) >= maxMissedSamples) {
+                history.remove(name);
+                missed.remove(name);
+            }
+        }
+    }
+
+    /**
+     * History of a namespace.
+     *
+     * @param namespace
+     *      namespace name (tenant/namespace)
+     * @return
+     *      history if sampled
+     */
+    public Optional<StatisticsTimeSeries> namespace(String namespace) {
+        return Optional.ofNullable(namespaces.get(namespace));
+    }
+
+    /**
+     * History of a topic.
+     *
+     * @param topic
+     *      topic name
+     * @return
+     *      history if sampled
+     */
+    public Optional<StatisticsTimeSeries> topic(String topic) {
+        return Optional.ofNullable(topics.get(topic));
+    }
+
+    /**
+     * Gets namespaces
+     *
+     * @return value of namespaces
+     */
+    public Map<String, StatisticsTimeSeries> getNamespaces() {
+        return Collections.unmodifiableMap(namespaces);
+    }
+
+    /**
+     * Gets topics
+     *
+     * @return value of topics
+     */
+    public Map<String, StatisticsTimeSeries> getTopics() {
+        return Collections.unmodifiableMap(topics);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.dtsx.astra.sdk.streaming.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Immutable snapshot of Cdc definitions, indexed by connector name and by database, keyspace, table and tenant.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class CdcCatalog {
+
+    /** Cdc definitions. */
+    private final List<CdcDefinition> definitions;
+
+    /** Definitions by connector name. */
+    private final Map<String, CdcDefinition> byConnectorName;
+
+    /** Definitions by database/keyspace/table/tenant key. */
+    private final Map<String, CdcDefinition> byDefinition;
+
+    /** Definitions by database/keyspace/table key, first tenant wins. */
+    private final Map<String, CdcDefinition> byTable;
+
+    /**
+     * Build the indexes.
+     *
+     * @param definitions
+     *      cdc definitions
+     */
+    public CdcCatalog(List<CdcDefinition> definitions) {
+        this.definitions = Collections.unmodifiableList(new ArrayList<>(definitions));
+        Map<String, CdcDefinition> connectors = new HashMap<>(definitions.size() * 2);
+        Map<String, CdcDefinition> keys       = new HashMap<>(definitions.size() * 2);
+        Map<String, CdcDefinition> tables     = new HashMap<>(definitions.size() * 2);
+        for (CdcDefinition cdc : definitions) {
+            if (cdc.getConnectorName() != null) {
+                connectors.put(cdc.getConnectorName(), cdc);
+            }
+            keys.put(key(cdc.getDatabaseId(), cdc.getKeyspace(), cdc.getDatabaseTable(), cdc.getTenant()), cdc);
+            tables.putIfAbsent(key(cdc.getDatabaseId(), cdc.getKeyspace(), cdc.getDatabaseTable(), null), cdc);
+        }
+        this.byConnectorName = Collections.unmodifiableMap(connectors);
+        this.byDefinition    = Collections.unmodifiableMap(keys);
+        this.byTable         = Collections.unmodifiableMap(tables);
+    }
+
+    /**
+     * Build index key.
+     *
+     * @param databaseId
+     *      database identifier
+     * @param keyspace
+     *      keyspace name
+     * @param table
+     *      table name
+     * @param tenant
+     *      tenant name (can be null)
+     * @return
+     *      key
+     */
+    private static String key(String databaseId, String keyspace, String table, String tenant) {
+        return databaseId + "/" + keyspace + "/" + table + "/" + tenant;
+    }
+
+    /**
+     * List all definitions.
+     *
+     * @return
+     *      cdc definitions
+     */
+    public Stream<CdcDefinition> findAll() {
+        return definitions.stream();
+    }
+
+    /**
+     * Find a definition by its connector name.
+     *
+     * @param connectorName
+     *      connector name (cdc identifier)
+     * @return
+     *      definition if present
+     */
+    public Optional<CdcDefinition> findByConnectorName(String connectorName) {
+        return Optional.ofNullable(byConnectorName.get(connectorName));
+    }
+
+    /**
+     * Find a definition from its components.
+     *
+     * @param databaseId
+     *      database identifier
+     * @param keyspace
+     *      keyspace name
+     * @param table
+     *      table name
+     * @param tenant
+     *      tenant name
+     * @return
+     *      definition if present
+     */
+    public Optional<CdcDefinition> find(String databaseId, String keyspace, String table, String tenant) {
+        return Optional.ofNullable(byDefinition.get(key(databaseId, keyspace, table, tenant)));
+    }
+
+    /**
+     * Find a definition for a table whatever the tenant.
+     *
+     * @param databaseId
+     *      database identifier
+     * @param keyspace
+     *      keyspace name
+     * @param table
+     *      table name
+     * @return
+     *      definition if present
+     */
+    public Optional<CdcDefinition> find(String databaseId, String keyspace, String table) {
+        return Optional.ofNullable(byTable.get(key(databaseId, keyspace, table, null)));
+    }
+
+    /**
+     * Number of definitions.
+     *
+     * @return
+     *      size of the catalog
+     */
+    public int size() {
+        return definitions.size();
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.dtsx.astra.sdk.streaming.domain;
+
+import com.dtsx.astra.sdk.utils.Assert;
+
+/**
+ * Table to enable Cdc on, used for bulk creation.
+ */
+public class CdcTableRequest {
+
+    /** Keyspace name. */
+    private final String keyspace;
+
+    /** Table name. */
+    private final String table;
+
+    /** Topic partitions. */
+    private final int topicPartitions;
+
+    /**
+     * Constructor.
+     *
+     * @param keyspace
+     *      keyspace name
+     * @param table
+     *      table name
+     * @param topicPartitions
+     *      topic partitions
+     */
+    public CdcTableRequest(String keyspace, String table, int topicPartitions) {
+        Assert.hasLength(keyspace, "keyspace");
+        Assert.hasLength(table, "table");
+        Assert.isTrue(topicPartitions > 0, "topic partition should be positive");
+        this.keyspace        = keyspace;
+        this.table           = table;
+        this.topicPartitions = topicPartitions;
+    }
+
+    /**
+     * Gets keyspace
+     *
+     * @return value of keyspace
+     */
+    public String getKeyspace() {
+        return keyspace;
+    }
+
+    /**
+     * Gets table
+     *
+     * @return value of table
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Gets topicPartitions
+     *
+     * @return value of topicPartitions
+     */
+    public int getTopicPartitions() {
+        return topicPartitions;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return keyspace + "." + table + " (" + topicPartitions + " partitions)";
+    }
+}
@@ -0,0 +1,77 @@
+package com.dtsx.astra.sdk.streaming.domain;
+
+import java.util.Optional;
+
+/**
+ * Outcome of a Cdc creation for one table in a bulk operation.
+ */
+public class CdcTableResult {
+
+    /** Requested table. */
+    private final CdcTableRequest request;
+
+    /** Error if the creation failed. */
+    private final Throwable error;
+
+    /** Creation time in millis. */
+    private final long durationMillis;
+
+    /**
+     * Constructor.
+     *
+     * @param request
+     *      requested table
+     * @param error
+     *      error raised (null if success)
+     * @param durationMillis
+     *      creation time in millis
+     */
+    public CdcTableResult(CdcTableRequest request, Throwable error, long durationMillis) {
+        this.request        = request;
+        this.error          = error;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Tells if the Cdc has been created.
+     *
+     * @return
+     *      if no error occurred
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Gets request
+     *
+     * @return value of request
+     */
+    public CdcTableRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Gets error
+     *
+     * @return value of error
+     */
+    public Optional<Throwable> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * Gets durationMillis
+     *
+     * @return value of durationMillis
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return request + (isSuccess() ? " OK" : " FAILED: " + error.getMessage());
+    }
+}
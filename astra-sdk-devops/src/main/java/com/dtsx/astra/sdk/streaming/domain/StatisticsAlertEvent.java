@@ -0,0 +1,107 @@
+package com.dtsx.astra.sdk.streaming.domain;
+
+/**
+ * Change of state of an alert for a topic.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class StatisticsAlertEvent {
+
+    /**
+     * Alert state.
+     */
+    public enum State {
+        /** Value crossed the raise threshold. */
+        RAISED,
+        /** Value crossed back the clear threshold. */
+        CLEARED
+    }
+
+    /** Rule triggering the event. */
+    private final StatisticsAlertRule rule;
+
+    /** Topic or namespace name. */
+    private final String item;
+
+    /** New state. */
+    private final State state;
+
+    /** Observed value. */
+    private final double value;
+
+    /** Sample time (epoch millis). */
+    private final long timestamp;
+
+    /**
+     * Constructor.
+     *
+     * @param rule
+     *      rule
+     * @param item
+     *      topic or namespace name
+     * @param state
+     *      new state
+     * @param value
+     *      observed value
+     * @param timestamp
+     *      sample time
+     */
+    public StatisticsAlertEvent(StatisticsAlertRule rule, String item, State state, double value, long timestamp) {
+        this.rule      = rule;
+        this.item      = item;
+        this.state     = state;
+        this.value     = value;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Gets rule
+     *
+     * @return value of rule
+     */
+    public StatisticsAlertRule getRule() {
+        return rule;
+    }
+
+    /**
+     * Gets item
+     *
+     * @return value of item
+     */
+    public String getItem() {
+        return item;
+    }
+
+    /**
+     * Gets state
+     *
+     * @return value of state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Gets value
+     *
+     * @return value of value
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Gets timestamp
+     *
+     * @return value of timestamp
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "[" + state + "] " + rule.getName() + " on " + item + " (value=" + value + ")";
+    }
+}
@@ -0,0 +1,208 @@
+package com.dtsx.astra.sdk.streaming.domain;
+
+import com.dtsx.astra.sdk.streaming.domain.StatisticsTimeSeries.Metric;
+import com.dtsx.astra.sdk.utils.Assert;
+
+/**
+ * Rule evaluated on each statistics sample of a topic.
+ *
+ * <p>The observed value is the metric value for gauges and the rate per second for counters.
+ * A {@link Type#THRESHOLD} rule compares the observed value, a {@link Type#RATE_OF_CHANGE} rule
+ * compares its variation per second between two samples. The alert is raised when the value
+ * crosses {@code raiseAt} and cleared only when it crosses back {@code clearAt} (hysteresis).</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class StatisticsAlertRule {
+
+    /**
+     * What is compared to the thresholds.
+     */
+    public enum Type {
+        /** Observed value. */
+        THRESHOLD,
+        /** Variation of the observed value per second. */
+        RATE_OF_CHANGE
+    }
+
+    /** Rule name. */
+    private final String name;
+
+    /** Metric watched. */
+    private final Metric metric;
+
+    /** Rule type. */
+    private final Type type;
+
+    /** Raise when value goes above (or below) this value. */
+    private final double raiseAt;
+
+    /** Clear when value goes back below (or above) this value. */
+    private final double clearAt;
+
+    /** Alert on high values (true) or low values (false). */
+    private final boolean above;
+
+    /**
+     * Constructor.
+     *
+     * @param name
+     *      rule name
+     * @param metric
+     *      metric watched
+     * @param type
+     *      rule type
+     * @param raiseAt
+     *      raise threshold
+     * @param clearAt
+     *      clear threshold
+     * @param above
+     *      alert on high values
+     */
+    public StatisticsAlertRule(String name, Metric metric, Type type, double raiseAt, double clearAt, boolean above) {
+        Assert.hasLength(name, "name");
+        Assert.notNull(metric, "metric");
+        Assert.notNull(type, "type");
+        Assert.isTrue(above ? clearAt <= raiseAt : clearAt >= raiseAt,
+                "clearAt should be on the safe side of raiseAt");
+        this.name    = name;
+        this.metric  = metric;
+        this.type    = type;
+        this.raiseAt = raiseAt;
+        this.clearAt = clearAt;
+        this.above   = above;
+    }
+
+    /**
+     * Alert when the value is too high.
+     *
+     * @param name
+     *      rule name
+     * @param metric
+     *      metric watched
+     * @param raiseAt
+     *      raise when value is greater or equal
+     * @param clearAt
+     *      clear when value is lower or equal
+     * @return
+     *      rule
+     */
+    public static StatisticsAlertRule above(String name, Metric metric, double raiseAt, double clearAt) {
+        return new StatisticsAlertRule(name, metric, Type.THRESHOLD, raiseAt, clearAt, true);
+    }
+
+    /**
+     * Alert when the value is too low.
+     *
+     * @param name
+     *      rule name
+     * @param metric
+     *      metric watched
+     * @param raiseAt
+     *      raise when value is lower or equal
+     * @param clearAt
+     *      clear when value is greater or equal
+     * @return
+     *      rule
+     */
+    public static StatisticsAlertRule below(String name, Metric metric, double raiseAt, double clearAt) {
+        return new StatisticsAlertRule(name, metric, Type.THRESHOLD, raiseAt, clearAt, false);
+    }
+
+    /**
+     * Alert when the value grows too fast.
+     *
+     * @param name
+     *      rule name
+     * @param metric
+     *      metric watched
+     * @param raiseAtPerSecond
+     *      raise when growth per second is greater or equal
+     * @param clearAtPerSecond
+     *      clear when growth per second is lower or equal
+     * @return
+     *      rule
+     */
+    public static StatisticsAlertRule growing(String name, Metric metric, double raiseAtPerSecond, double clearAtPerSecond) {
+        return new StatisticsAlertRule(name, metric, Type.RATE_OF_CHANGE, raiseAtPerSecond, clearAtPerSecond, true);
+    }
+
+    /**
+     * Tells if the value should raise the alert.
+     *
+     * @param value
+     *      observed value
+     * @return
+     *      if alert should be raised
+     */
+    public boolean shouldRaise(double value) {
+        return above ? value >= raiseAt : value <= raiseAt;
+    }
+
+    /**
+     * Tells if the value should clear the alert.
+     *
+     * @param value
+     *      observed value
+     * @return
+     *      if alert should be cleared
+     */
+    public boolean shouldClear(double value) {
+        return above ? value <= clearAt : value >= clearAt;
+    }
+
+    /**
+     * Gets name
+     *
+     * @return value of name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets metric
+     *
+     * @return value of metric
+     */
+    public Metric getMetric() {
+        return metric;
+    }
+
+    /**
+     * Gets type
+     *
+     * @return value of type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets raiseAt
+     *
+     * @return value of raiseAt
+     */
+    public double getRaiseAt() {
+        return raiseAt;
+    }
+
+    /**
+     * Gets clearAt
+     *
+     * @return value of clearAt
+     */
+    public double getClearAt() {
+        return clearAt;
+    }
+
+    /**
+     * Gets above
+     *
+     * @return value of above
+     */
+    public boolean isAbove() {
+        return above;
+    }
+
+}
@@ -0,0 +1,313 @@
+package com.dtsx.astra.sdk.streaming.domain;
+
+import com.dtsx.astra.sdk.utils.Assert;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Fixed-size history of {@link Statistics} for one topic or namespace.
+ *
+ * <p>Samples are stored in a ring buffer of primitive arrays allocated once, adding a sample
+ * does not create any object and memory does not grow with the number of samples. Counters
+ * (cumulative values like total messages in) are exposed as per second rates, gauges
+ * (instantaneous values like backlog) are used as is.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class StatisticsTimeSeries {
+
+    /**
+     * Values kept for each sample.
+     */
+    public enum Metric {
+
+        /** Total number of input messages (counter). */
+        MESSAGES_IN(true, Statistics::getTotalMessagesIn),
+        /** Total number of output messages (counter). */
+        MESSAGES_OUT(true, Statistics::getTotalMessagesOut),
+        /** Total number of bytes in (counter). */
+        BYTES_IN(true, Statistics::getTotalBytesIn),
+        /** Total number of bytes out (counter). */
+        BYTES_OUT(true, Statistics::getTotalBytesOut),
+        /** Messages in per second (gauge). */
+        MSG_RATE_IN(false, Statistics::getMsgRateIn),
+        /** Messages out per second (gauge). */
+        MSG_RATE_OUT(false, Statistics::getMsgRateOut),
+        /** Inbound throughput (gauge). */
+        THROUGHPUT_IN(false, Statistics::getThroughputIn),
+        /** Outbound throughput (gauge). */
+        THROUGHPUT_OUT(false, Statistics::getThroughputOut),
+        /** Messages in backlog (gauge). */
+        BACKLOG(false, Statistics::getMsgBacklogNumber),
+        /** Backlog size in bytes (gauge). */
+        BACKLOG_SIZE(false, Statistics::getBacklogStorageByteSize),
+        /** Storage size (gauge). */
+        STORAGE_SIZE(false, Statistics::getStorageSize);
+
+        /** Cumulative value. */
+        private final boolean counter;
+
+        /** Read the value from statistics. */
+        private final ToDoubleFunction<Statistics> extractor;
+
+        /**
+         * Constructor.
+         *
+         * @param counter
+         *      if the value is cumulative
+         * @param extractor
+         *      read the value from statistics
+         */
+        Metric(boolean counter, ToDoubleFunction<Statistics> extractor) {
+            this.counter   = counter;
+            this.extractor = extractor;
+        }
+
+        /**
+         * Read the value from statistics.
+         *
+         * @param stats
+         *      statistics
+         * @return
+         *      value of the metric
+         */
+        public double valueOf(Statistics stats) {
+            return extractor.applyAsDouble(stats);
+        }
+
+        /**
+         * Gets counter
+         *
+         * @return value of counter
+         */
+        public boolean isCounter() {
+            return counter;
+        }
+    }
+
+    /** Number of metrics. */
+    private static final Metric[] METRICS = Metric.values();
+
+    /** Number of samples kept. */
+    private final int capacity;
+
+    /** Sample time in epoch millis. */
+    private final long[] timestamps;
+
+    /** Values per metric and sample. */
+    private final double[][] values;
+
+    /** Work array for percentiles, allocated once. */
+    private final double[] scratch;
+
+    /** Next position to write. */
+    private int head = 0;
+
+    /** Number of samples available. */
+    private int size = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity
+     *      number of samples kept
+     */
+    public StatisticsTimeSeries(int capacity) {
+        Assert.isTrue(capacity > 1, "capacity should be greater than 1");
+        this.capacity   = capacity;
+        this.timestamps = new long[capacity];
+        this.values     = new double[METRICS.length][capacity];
+        this.scratch    = new double[capacity];
+    }
+
+    /**
+     * Add a sample, the oldest is overwritten when full.
+     *
+     * @param epochMillis
+     *      sample time
+     * @param stats
+     *      statistics
+     */
+    public synchronized void add(long epochMillis, Statistics stats) {
+        Assert.notNull(stats, "stats");
+        timestamps[head] = epochMillis;
+        for (Metric m : METRICS) {
+            values[m.ordinal()][head] = m.valueOf(stats);
+        }
+        head = (head + 1) % capacity;
+        if (size < capacity) {
+            size++;
+        }
+    }
+
+    /**
+     * Position in arrays of the i-th most recent sample (0 is the latest).
+     *
+     * @param i
+     *      age of the sample
+     * @return
+     *      index in arrays
+     */
+    private int index(int i) {
+        return (head - 1 - i + capacity) % capacity;
+    }
+
+    /**
+     * Per second rate of a counter between two samples, a counter reset gives 0.
+     *
+     * @param m
+     *      metric
+     * @param newer
+     *      age of the newer sample
+     * @param older
+     *      age of the older sample
+     * @return
+     *      rate per second
+     */
+    private double rateBetween(Metric m, int newer, int older) {
+        int n = index(newer);
+        int o = index(older);
+        long elapsed = timestamps[n] - timestamps[o];
+        double delta = values[m.ordinal()][n] - values[m.ordinal()][o];
+        if (elapsed <= 0 || delta < 0) {
+            return 0;
+        }
+        return delta * 1000d / elapsed;
+    }
+
+    /**
+     * Value used for averages and percentiles: rate for counters, value for gauges.
+     *
+     * @param m
+     *      metric
+     * @param i
+     *      age of the sample
+     * @return
+     *      point value
+     */
+    private double point(Metric m, int i) {
+        return m.isCounter() ? rateBetween(m, i, i + 1) : values[m.ordinal()][index(i)];
+    }
+
+    /**
+     * Number of points available over a window.
+     *
+     * @param m
+     *      metric
+     * @param window
+     *      requested number of samples
+     * @return
+     *      available points
+     */
+    private int points(Metric m, int window) {
+        Assert.isTrue(window > 0, "window should be positive");
+        int available = m.isCounter() ? size - 1 : size;
+        return Math.max(0, Math.min(window, available));
+    }
+
+    /**
+     * Latest raw value.
+     *
+     * @param m
+     *      metric
+     * @return
+     *      latest value, 0 if no sample
+     */
+    public synchronized double latest(Metric m) {
+        return size == 0 ? 0 : values[m.ordinal()][index(0)];
+    }
+
+    /**
+     * Per second rate of a counter over the last samples.
+     *
+     * @param m
+     *      counter metric
+     * @param window
+     *      number of intervals
+     * @return
+     *      rate per second, 0 if not enough samples
+     */
+    public synchronized double rate(Metric m, int window) {
+        Assert.isTrue(m.isCounter(), "Rate is only available for counters");
+        int n = points(m, window);
+        return n == 0 ? 0 : rateBetween(m, 0, n);
+    }
+
+    /**
+     * Moving average over the last samples (rates for counters).
+     *
+     * @param m
+     *      metric
+     * @param window
+     *      number of points
+     * @return
+     *      average, 0 if no sample
+     */
+    public synchronized double movingAverage(Metric m, int window) {
+        int n = points(m, window);
+        if (n == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += point(m, i);
+        }
+        return sum / n;
+    }
+
+    /**
+     * Percentile over the last samples (rates for counters), nearest rank.
+     *
+     * @param m
+     *      metric
+     * @param percentile
+     *      percentile in [0,100]
+     * @param window
+     *      number of points
+     * @return
+     *      percentile value, 0 if no sample
+     */
+    public synchronized double percentile(Metric m, double percentile, int window) {
+        Assert.isTrue(percentile >= 0 && percentile <= 100, "percentile should be in [0,100]");
+        int n = points(m, window);
+        if (n == 0) {
+            return 0;
+        }
+        for (int i = 0; i < n; i++) {
+            scratch[i] = point(m, i);
+        }
+        Arrays.sort(scratch, 0, n);
+        int rank = (int) Math.ceil(percentile / 100d * n);
+        return scratch[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Time of the latest sample.
+     *
+     * @return
+     *      epoch millis, 0 if no sample
+     */
+    public synchronized long getLastSampleTime() {
+        return size == 0 ? 0 : timestamps[index(0)];
+    }
+
+    /**
+     * Gets size
+     *
+     * @return value of size
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets capacity
+     *
+     * @return value of capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+}
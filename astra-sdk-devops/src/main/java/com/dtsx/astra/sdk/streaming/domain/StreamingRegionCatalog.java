@@ -0,0 +1,91 @@
+package com.dtsx.astra.sdk.streaming.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Immutable snapshot of serverless regions for streaming, indexed by name and cloud provider.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class StreamingRegionCatalog {
+
+    /** Regions by name. */
+    private final Map<String, StreamingRegion> regionsByName;
+
+    /** Regions by cloud provider. */
+    private final Map<String, List<StreamingRegion>> regionsByCloudProvider;
+
+    /**
+     * Build the indexes.
+     *
+     * @param regions
+     *      serverless regions
+     */
+    public StreamingRegionCatalog(List<StreamingRegion> regions) {
+        Map<String, StreamingRegion> byName = new HashMap<>(regions.size() * 2);
+        Map<String, List<StreamingRegion>> byCloud = new HashMap<>();
+        regions.forEach(r -> {
+            byName.put(r.getName(), r);
+            byCloud.computeIfAbsent(r.getCloudProvider(), c -> new ArrayList<>()).add(r);
+        });
+        byCloud.replaceAll((cloud, list) -> Collections.unmodifiableList(list));
+        this.regionsByName          = Collections.unmodifiableMap(byName);
+        this.regionsByCloudProvider = Collections.unmodifiableMap(byCloud);
+    }
+
+    /**
+     * List all regions.
+     *
+     * @return
+     *      serverless regions
+     */
+    public Stream<StreamingRegion> findAll() {
+        return regionsByName.values().stream();
+    }
+
+    /**
+     * Find a region by its name.
+     *
+     * @param name
+     *      region name
+     * @return
+     *      region if available
+     */
+    public Optional<StreamingRegion> find(String name) {
+        return Optional.ofNullable(regionsByName.get(name));
+    }
+
+    /**
+     * Regions of a cloud provider.
+     *
+     * @param cloudProvider
+     *      cloud provider
+     * @return
+     *      regions, empty if none
+     */
+    public List<StreamingRegion> findByCloudProvider(String cloudProvider) {
+        return regionsByCloudProvider.getOrDefault(cloudProvider, Collections.emptyList());
+    }
+
+    /**
+     * Tells if a region is available and enabled for the cloud provider.
+     *
+     * @param cloudProvider
+     *      cloud provider
+     * @param name
+     *      region name
+     * @return
+     *      if the region can be used
+     */
+    public boolean isValid(String cloudProvider, String name) {
+        StreamingRegion region = regionsByName.get(name);
+        return region != null && region.isEnabled() && region.getCloudProvider().equalsIgnoreCase(cloudProvider);
+    }
+
+}
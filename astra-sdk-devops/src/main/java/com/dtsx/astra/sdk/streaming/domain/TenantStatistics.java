@@ -0,0 +1,120 @@
+package com.dtsx.astra.sdk.streaming.domain;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Statistics of namespaces and topics for one tenant, or the error raised while fetching them.
+ */
+public class TenantStatistics {
+
+    /** Tenant name. */
+    private final String tenantName;
+
+    /** Cluster hosting the tenant (null if tenant not found). */
+    private final String clusterName;
+
+    /** Statistics for namespaces. */
+    private final List<Statistics> namespaces;
+
+    /** Statistics for topics. */
+    private final List<Statistics> topics;
+
+    /** Error if the statistics could not be retrieved. */
+    private final Throwable error;
+
+    /**
+     * Successful result.
+     *
+     * @param tenantName
+     *      tenant name
+     * @param clusterName
+     *      cluster name
+     * @param namespaces
+     *      namespaces statistics
+     * @param topics
+     *      topics statistics
+     */
+    public TenantStatistics(String tenantName, String clusterName, List<Statistics> namespaces, List<Statistics> topics) {
+        this.tenantName  = tenantName;
+        this.clusterName = clusterName;
+        this.namespaces  = Collections.unmodifiableList(namespaces);
+        this.topics      = Collections.unmodifiableList(topics);
+        this.error       = null;
+    }
+
+    /**
+     * Failed result.
+     *
+     * @param tenantName
+     *      tenant name
+     * @param clusterName
+     *      cluster name
+     * @param error
+     *      error raised
+     */
+    public TenantStatistics(String tenantName, String clusterName, Throwable error) {
+        this.tenantName  = tenantName;
+        this.clusterName = clusterName;
+        this.namespaces  = Collections.emptyList();
+        this.topics      = Collections.emptyList();
+        this.error       = error;
+    }
+
+    /**
+     * Tells if statistics have been retrieved.
+     *
+     * @return
+     *      if no error occurred
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Gets tenantName
+     *
+     * @return value of tenantName
+     */
+    public String getTenantName() {
+        return tenantName;
+    }
+
+    /**
+     * Gets clusterName
+     *
+     * @return value of clusterName
+     */
+    public String getClusterName() {
+        return clusterName;
+    }
+
+    /**
+     * Gets namespaces
+     *
+     * @return value of namespaces
+     */
+    public List<Statistics> getNamespaces() {
+        return namespaces;
+    }
+
+    /**
+     * Gets topics
+     *
+     * @return value of topics
+     */
+    public List<Statistics> getTopics() {
+        return topics;
+    }
+
+    /**
+     * Gets error
+     *
+     * @return value of error
+     */
+    public Optional<Throwable> getError() {
+        return Optional.ofNullable(error);
+    }
+
+}
@@ -1,51 +1,78 @@
 package com.dtsx.astra.sdk.utils;
 
+import org.apache.hc.core5.http.Header;
+
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Response HTTP.
  *
+ * <p>Headers of the http response are kept as received, the map of {@link #getHeaders()} is only
+ * built on first access as most callers only read the body.</p>
+ *
  * @author Cedrick LUNVEN (@clunven)
  */
 public class ApiResponseHttp {
-    
+
+    /** No header. */
+    private static final Header[] NO_HEADERS = new Header[0];
+
     /** JSON String. */
     private final String body;
-    
+
     /** Http status code. */
     private final int code;
-    
-    /** Http Headers. **/
-    private Map<String, String> headers = new HashMap<>();
-    
+
+    /** Headers as received. */
+    private final Header[] rawHeaders;
+
+    /** Http Headers, built on first access. **/
+    private volatile Map<String, String> headers;
+
     /**
      * Defaut constructor.
-     * 
+     *
      * @param body
      *      request body
      * @param code
      *      request code
      */
     public ApiResponseHttp(String body, int code) {
-        this.body = body;
-        this.code = code;
+        this(body, code, new HashMap<>());
     }
-    
+
     /**
      * Full constructor.
-     * 
+     *
      * @param body
      *      request body
      * @param code
      *      request code
      * @param headers
-     *      request headers      
+     *      request headers
      */
     public ApiResponseHttp(String body, int code, Map<String, String> headers) {
-        this.body = body;
-        this.code = code;
-        this.headers = headers;
+        this.body       = body;
+        this.code       = code;
+        this.rawHeaders = NO_HEADERS;
+        this.headers    = headers;
+    }
+
+    /**
+     * Constructor with the headers of the http response, not copied.
+     *
+     * @param body
+     *      request body
+     * @param code
+     *      request code
+     * @param headers
+     *      response headers
+     */
+    public ApiResponseHttp(String body, int code, Header[] headers) {
+        this.body       = body;
+        this.code       = code;
+        this.rawHeaders = headers == null ? NO_HEADERS : headers;
     }
 
     /**
@@ -68,6 +95,34 @@ public class ApiResponseHttp {
         return code;
     }
 
+    /**
+     * Value of a header, names are case-insensitive. No map is built.
+     *
+     * @param name
+     *      header name
+     * @return
+     *      header value or null
+     */
+    public String getHeader(String name) {
+        Assert.hasLength(name, "name");
+        Map<String, String> map = headers;
+        if (map != null) {
+            for (Map.Entry<String, String> header : map.entrySet()) {
+                if (name.equalsIgnoreCase(header.getKey())) {
+                    return header.getValue();
+                }
+            }
+            return null;
+        }
+        // last one wins as in the map
+        for (int i = rawHeaders.length - 1; i >= 0; i--) {
+            if (name.equalsIgnoreCase(rawHeaders[i].getName())) {
+                return rawHeaders[i].getValue();
+            }
+        }
+        return null;
+    }
+
     /**
      * Getter accessor for attribute 'headers'.
      *
@@ -75,8 +130,15 @@ public class ApiResponseHttp {
      *       current value of 'headers'
      */
     public Map<String, String> getHeaders() {
-        return headers;
+        Map<String, String> map = headers;
+        if (map == null) {
+            map = new HashMap<>(rawHeaders.length * 2);
+            for (Header h : rawHeaders) {
+                map.put(h.getName(), h.getValue());
+            }
+            headers = map;
+        }
+        return map;
     }
-    
 
 }
@@ -0,0 +1,209 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+
+import java.io.Closeable;
+import java.net.HttpURLConnection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking requests to the Devops Api, responses complete futures from the I/O threads
+ * so no thread is held while waiting.
+ *
+ * <p>Headers and error handling are the ones of {@link HttpClientWrapper}, errors complete the
+ * future exceptionally. Each {@link HttpClientWrapper} provides the async client matching its
+ * configuration with {@link HttpClientWrapper#getAsyncClient()}.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class AsyncHttpClientWrapper implements Closeable {
+
+    /** HttpComponent5 async client. */
+    private final CloseableHttpAsyncClient httpClient;
+
+    /** Default instance, never closed. */
+    private final boolean shared;
+
+    /**
+     * Instance created and started on first access, without any lock on the following calls.
+     */
+    private static final class Holder {
+
+        /** Singleton. */
+        private static final AsyncHttpClientWrapper INSTANCE = new AsyncHttpClientWrapper(HttpClientWrapper.DEFAULT_REQUEST_CONFIG,
+                HttpClientWrapper.DEFAULT_MAX_CONNECTIONS, HttpClientWrapper.DEFAULT_MAX_CONNECTIONS_PER_ROUTE, true);
+    }
+
+    /**
+     * Client with its own connection pool, started immediately, close it when done.
+     *
+     * @param requestConfig
+     *      request configuration
+     * @param maxConnections
+     *      maximum number of connections
+     * @param maxConnectionsPerRoute
+     *      maximum number of connections to a host
+     */
+    public AsyncHttpClientWrapper(RequestConfig requestConfig, int maxConnections, int maxConnectionsPerRoute) {
+        this(requestConfig, maxConnections, maxConnectionsPerRoute, false);
+    }
+
+    /**
+     * Full constructor.
+     *
+     * @param requestConfig
+     *      request configuration
+     * @param maxConnections
+     *      maximum number of connections
+     * @param maxConnectionsPerRoute
+     *      maximum number of connections to a host
+     * @param shared
+     *      default instance
+     */
+    private AsyncHttpClientWrapper(RequestConfig requestConfig, int maxConnections, int maxConnectionsPerRoute, boolean shared) {
+        Assert.notNull(requestConfig, "requestConfig");
+        Assert.isTrue(maxConnections > 0, "maxConnections should be positive");
+        Assert.isTrue(maxConnectionsPerRoute > 0, "maxConnectionsPerRoute should be positive");
+        PoolingAsyncClientConnectionManager connManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+        this.httpClient = HttpAsyncClients.custom()
+                .setConnectionManager(connManager)
+                .setDefaultRequestConfig(requestConfig)
+                .build();
+        this.shared     = shared;
+        this.httpClient.start();
+    }
+
+    /**
+     * Singleton Pattern, the client is started on first access.
+     *
+     * @return
+     *      singleton for the class
+     */
+    public static AsyncHttpClientWrapper getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Release the connections, nothing is done for the default instance.
+     */
+    @Override
+    public void close() {
+        if (!shared) {
+            httpClient.close(CloseMode.GRACEFUL);
+        }
+    }
+
+    /**
+     * Non-blocking GET on the Devops Api.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @return
+     *      future http response
+     */
+    public CompletableFuture<ApiResponseHttp> GET(String url, String token) {
+        return execute(request(url)
+                .setHeader(HttpClientWrapper.HEADER_AUTHORIZATION, "Bearer " + token)
+                .build());
+    }
+
+    /**
+     * Non-blocking GET on the admin Api of a streaming cluster.
+     *
+     * @param url
+     *      target url
+     * @param pulsarToken
+     *      pulsar token
+     * @param pulsarCluster
+     *      pulsar cluster
+     * @param organizationId
+     *      organization identifier
+     * @return
+     *      future http response
+     */
+    public CompletableFuture<ApiResponseHttp> GET_PULSAR(String url, String pulsarToken, String pulsarCluster, String organizationId) {
+        return execute(request(url)
+                .setHeader(HttpClientWrapper.HEADER_AUTHORIZATION, pulsarToken)
+                .setHeader(HttpClientWrapper.HEADER_CURRENT_ORG, organizationId)
+                .setHeader(HttpClientWrapper.HEADER_CURRENT_PULSAR_CLUSTER, pulsarCluster)
+                .build());
+    }
+
+    /**
+     * GET request with default headers.
+     *
+     * @param url
+     *      target url
+     * @return
+     *      request builder
+     */
+    private SimpleRequestBuilder request(String url) {
+        return SimpleRequestBuilder.get(url)
+                .setHeader(HttpClientWrapper.HEADER_ACCEPT, HttpClientWrapper.CONTENT_TYPE_JSON)
+                .setHeader(HttpClientWrapper.HEADER_USER_AGENT, HttpClientWrapper.REQUEST_WITH)
+                .setHeader(HttpClientWrapper.HEADER_REQUESTED_WITH, HttpClientWrapper.REQUEST_WITH);
+    }
+
+    /**
+     * Execute a request, 404 are returned as responses as with {@link HttpClientWrapper}.
+     *
+     * @param req
+     *      request
+     * @return
+     *      future http response
+     */
+    private CompletableFuture<ApiResponseHttp> execute(SimpleHttpRequest req) {
+        CompletableFuture<ApiResponseHttp> result = new CompletableFuture<>();
+        httpClient.execute(req, new FutureCallback<SimpleHttpResponse>() {
+
+            /** {@inheritDoc} */
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                ApiResponseHttp res = new ApiResponseHttp(response.getBodyText(), response.getCode(), response.getHeaders());
+                try {
+                    if (res.getCode() >= 300
+                            && res.getCode() != HttpURLConnection.HTTP_NOT_FOUND
+                            && res.getCode() != HttpURLConnection.HTTP_NOT_MODIFIED) {
+                        HttpClientWrapper.processErrors(res, false);
+                    }
+                    result.complete(res);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void failed(Exception e) {
+                result.completeExceptionally(new RuntimeException("Error in HTTP Request: " + e.getMessage(), e));
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+        return result;
+    }
+
+}
@@ -0,0 +1,274 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Memoize a value loaded from the Devops Api for a time to live.
+ *
+ * <p>When the value is older than the refresh-ahead threshold it is still returned and a reload
+ * is triggered in background, callers only wait when the value is missing or expired.
+ * Values are expected to be immutable so they can be shared between threads.</p>
+ *
+ * <p>Loads are guarded by a lock and not a monitor, a virtual thread waiting for the Api does
+ * not pin its carrier thread.</p>
+ *
+ * @param <T>
+ *      type of the cached value
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class CachedSnapshot<T> {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachedSnapshot.class);
+
+    /** Part of the ttl after which a background refresh is triggered. */
+    public static final double DEFAULT_REFRESH_AHEAD_RATIO = 0.8;
+
+    /** Background reloads, daemon threads to not prevent JVM shutdown. */
+    private static final ExecutorService REFRESHER = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "astra-snapshot-refresh");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Load the value. */
+    private final Supplier<T> loader;
+
+    /** Time to live in nanoseconds. */
+    private final long ttlNanos;
+
+    /** Age in nanoseconds after which a background refresh is triggered. */
+    private final long refreshAheadNanos;
+
+    /** Single background refresh at a time. */
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    /** Incremented on invalidation, a background load started before is discarded. */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** Serialize loads and changes. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Current value and its load time, replaced atomically. */
+    private volatile Entry<T> entry;
+
+    /**
+     * Immutable couple value / load time.
+     *
+     * @param <T>
+     *      type of the cached value
+     */
+    private static final class Entry<T> {
+
+        /** value. */
+        private final T value;
+
+        /** load time. */
+        private final long loadedAt;
+
+        /**
+         * Constructor.
+         *
+         * @param value
+         *      value
+         * @param loadedAt
+         *      load time (nanos)
+         */
+        private Entry(T value, long loadedAt) {
+            this.value    = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * Constructor with default refresh ahead.
+     *
+     * @param loader
+     *      load the value
+     * @param ttl
+     *      time to live
+     */
+    public CachedSnapshot(Supplier<T> loader, Duration ttl) {
+        this(loader, ttl, DEFAULT_REFRESH_AHEAD_RATIO);
+    }
+
+    /**
+     * Full constructor.
+     *
+     * @param loader
+     *      load the value
+     * @param ttl
+     *      time to live
+     * @param refreshAheadRatio
+     *      part of the ttl after which a background refresh is triggered, 1 to disable
+     */
+    public CachedSnapshot(Supplier<T> loader, Duration ttl, double refreshAheadRatio) {
+        Assert.notNull(loader, "loader");
+        Assert.notNull(ttl, "ttl");
+        Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "ttl should be positive");
+        Assert.isTrue(refreshAheadRatio > 0 && refreshAheadRatio <= 1, "refreshAheadRatio should be in ]0,1]");
+        this.loader            = loader;
+        this.ttlNanos          = ttl.toNanos();
+        this.refreshAheadNanos = (long) (ttlNanos * refreshAheadRatio);
+    }
+
+    /**
+     * Access the value, load it if missing or expired.
+     *
+     * @return
+     *      current value
+     */
+    public T get() {
+        Entry<T> current = entry;
+        if (current == null || age(current) >= ttlNanos) {
+            return reload(current);
+        }
+        if (age(current) >= refreshAheadNanos && refreshing.compareAndSet(false, true)) {
+            long gen = generation.get();
+            REFRESHER.execute(() -> {
+                try {
+                    Entry<T> loaded = new Entry<>(loader.get(), System.nanoTime());
+                    lock.lock();
+                    try {
+                        if (gen == generation.get()) {
+                            entry = loaded;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Cannot refresh snapshot, keeping previous value: {}", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+        return current.value;
+    }
+
+    /**
+     * Synchronous load, a single caller loads when several threads find an expired value.
+     *
+     * @param expired
+     *      value seen by caller
+     * @return
+     *      fresh value
+     */
+    private T reload(Entry<T> expired) {
+        lock.lock();
+        try {
+            Entry<T> current = entry;
+            if (current != null && current != expired && age(current) < ttlNanos) {
+                return current.value;
+            }
+            long gen = generation.get();
+            Entry<T> loaded = new Entry<>(loader.get(), System.nanoTime());
+            // invalidated while loading, value is returned but not kept
+            if (gen == generation.get()) {
+                entry = loaded;
+            }
+            return loaded.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Age of an entry.
+     *
+     * @param e
+     *      entry
+     * @return
+     *      age in nanos
+     */
+    private long age(Entry<T> e) {
+        return System.nanoTime() - e.loadedAt;
+    }
+
+    /**
+     * Load the value now.
+     *
+     * @return
+     *      fresh value
+     */
+    public T refresh() {
+        lock.lock();
+        try {
+            invalidate();
+            return reload(null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop the value, next access will load it.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        entry = null;
+    }
+
+    /**
+     * Apply a local change to the loaded value without reloading it, the load time is kept.
+     * Nothing is done if no value is loaded, a background load started before is discarded.
+     *
+     * @param change
+     *      compute the new value from the current one
+     */
+    public void update(UnaryOperator<T> change) {
+        Assert.notNull(change, "change");
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            Entry<T> current = entry;
+            if (current != null) {
+                entry = new Entry<>(change.apply(current.value), current.loadedAt);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Seed with a value restored from a previous run, nothing is done if a value is loaded.
+     * The value is returned at once and reloaded in background on first access.
+     *
+     * @param value
+     *      restored value
+     */
+    public void preload(T value) {
+        Assert.notNull(value, "value");
+        lock.lock();
+        try {
+            if (!isLoaded()) {
+                // aged to the refresh-ahead threshold, still valid but revalidated on first access
+                entry = new Entry<>(value, System.nanoTime() - Math.min(refreshAheadNanos, ttlNanos - 1));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tells if a value is currently loaded and not expired.
+     *
+     * @return
+     *      if the value is present
+     */
+    public boolean isLoaded() {
+        Entry<T> current = entry;
+        return current != null && age(current) < ttlNanos;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.net.HttpURLConnection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Repeat GET requests with the entity tag of the previous response, a 304 (not modified)
+ * answer is replaced by the previous response. Servers not sending entity tags get plain GET.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class ConditionalGet {
+
+    /** Entity tag header. */
+    private static final String HEADER_ETAG = "ETag";
+
+    /** Authentication token. */
+    private final String token;
+
+    /** Http client. */
+    private final HttpClientWrapper httpClient;
+
+    /** Last successful response with an entity tag per url. */
+    private final Map<String, ApiResponseHttp> responses = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param token
+     *      authentication token
+     */
+    public ConditionalGet(String token) {
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor with a http client.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      authentication token
+     */
+    public ConditionalGet(HttpClientWrapper httpClient, String token) {
+        Assert.notNull(httpClient, "httpClient");
+        Assert.hasLength(token, "token");
+        this.httpClient = httpClient;
+        this.token      = token;
+    }
+
+    /**
+     * Get a resource, conditionally if a previous response carried an entity tag.
+     *
+     * @param url
+     *      target url
+     * @return
+     *      current response or previous one if not modified
+     */
+    public ApiResponseHttp get(String url) {
+        ApiResponseHttp previous = responses.get(url);
+        String etag = previous == null ? null : etag(previous);
+        ApiResponseHttp res = httpClient.GET(url, token, etag);
+        if (res.getCode() == HttpURLConnection.HTTP_NOT_MODIFIED && previous != null) {
+            return previous;
+        }
+        if (res.getCode() == HttpURLConnection.HTTP_OK && etag(res) != null) {
+            responses.put(url, res);
+        } else {
+            responses.remove(url);
+        }
+        return res;
+    }
+
+    /**
+     * Entity tag of a response, header names are case-insensitive.
+     *
+     * @param res
+     *      response
+     * @return
+     *      entity tag or null
+     */
+    private static String etag(ApiResponseHttp res) {
+        return res.getHeader(HEADER_ETAG);
+    }
+
+    /**
+     * Forget previous responses.
+     */
+    public void clear() {
+        responses.clear();
+    }
+
+}
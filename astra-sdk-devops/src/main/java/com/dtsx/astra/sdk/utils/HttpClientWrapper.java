@@ -10,29 +10,39 @@ import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
-import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.message.BasicHeader;
 import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * Helper to forge Http Requests to interact with Devops API.
+ *
+ * <p>Instances are immutable and thread safe, each one owns a connection pool. Clients use the
+ * default instance unless one is provided to the {@code AstraDevopsApiClient}.</p>
  */
-public class HttpClientWrapper {
+public class HttpClientWrapper implements Closeable {
     
     /** Logger for our Client. */
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientWrapper.class);
 
     /** Value for the requested with. */
-    private static final String REQUEST_WITH = "AstraJavaSDK " + HttpClientWrapper.class.getPackage().getImplementationVersion();
+    static final String REQUEST_WITH = "AstraJavaSDK " + HttpClientWrapper.class.getPackage().getImplementationVersion();
 
     /** Default settings in Request and Retry */
     private static final int DEFAULT_TIMEOUT_REQUEST   = 20;
@@ -41,37 +51,61 @@ public class HttpClientWrapper {
     private static final int DEFAULT_TIMEOUT_CONNECT   = 20;
 
     /** Headers, Api is using JSON */
-    private static final String CONTENT_TYPE_JSON        = "application/json";
+    static final String CONTENT_TYPE_JSON        = "application/json";
 
     /** Header param. */
-    private static final String HEADER_ACCEPT            = "Accept";
+    static final String HEADER_ACCEPT            = "Accept";
 
     /** Headers param to insert the conte type. */
-    private static final String HEADER_CONTENT_TYPE      = "Content-Type";
+    static final String HEADER_CONTENT_TYPE      = "Content-Type";
 
     /** Headers param to insert the token for devops API. */
-    private static final String HEADER_AUTHORIZATION     = "Authorization";
+    static final String HEADER_AUTHORIZATION     = "Authorization";
 
     /** Headers name to insert the user agent identifying the client. */
-    private static final String HEADER_USER_AGENT        = "User-Agent";
+    static final String HEADER_USER_AGENT        = "User-Agent";
 
     /** Headers param to insert the user agent identifying the client. */
-    private static final String HEADER_REQUESTED_WITH    = "X-Requested-With";
+    static final String HEADER_REQUESTED_WITH    = "X-Requested-With";
 
     /** Current organization identifier. */
-    private static final String HEADER_CURRENT_ORG = "X-DataStax-Current-Org";
+    static final String HEADER_CURRENT_ORG = "X-DataStax-Current-Org";
 
     /** Current pulsar cluster. */
-    private static final String HEADER_CURRENT_PULSAR_CLUSTER = "X-DataStax-Pulsar-Cluster";
+    static final String HEADER_CURRENT_PULSAR_CLUSTER = "X-DataStax-Pulsar-Cluster";
 
-    /** Singleton pattern. */
-    private static HttpClientWrapper _instance = null;
-    
-    /** HttpComponent5. */
-    protected CloseableHttpClient httpClient = null;
+    /** Conditional request on the entity tag of a previous response. */
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+
+    /** Immutable headers sent with every request. */
+    private static final Header ACCEPT_JSON = new BasicHeader(HEADER_ACCEPT, CONTENT_TYPE_JSON);
+
+    /** Immutable headers sent with every request. */
+    private static final Header CONTENT_JSON = new BasicHeader(HEADER_CONTENT_TYPE, CONTENT_TYPE_JSON);
+
+    /** Immutable headers sent with every request. */
+    private static final Header USER_AGENT = new BasicHeader(HEADER_USER_AGENT, REQUEST_WITH);
+
+    /** Immutable headers sent with every request. */
+    private static final Header REQUESTED_WITH = new BasicHeader(HEADER_REQUESTED_WITH, REQUEST_WITH);
+
+    /** Json bodies are sent in UTF-8. */
+    private static final ContentType JSON_UTF8 = ContentType.APPLICATION_JSON;
+
+    /** Tokens with cached headers, a client usually works with a few of them. */
+    private static final int MAX_CACHED_TOKENS = 64;
+
+    /** Client caches kept, the least recently used is dropped above this size. */
+    public static final int MAX_CLIENT_CACHES = 1024;
+
+    /** Default maximum number of connections. */
+    public static final int DEFAULT_MAX_CONNECTIONS = 100;
+
+    /** Default maximum number of connections to a host. */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 10;
 
     /** Default request configuration. */
-    protected static RequestConfig requestConfig = RequestConfig.custom()
+    public static final RequestConfig DEFAULT_REQUEST_CONFIG = RequestConfig.custom()
             .setCookieSpec(StandardCookieSpec.STRICT)
             .setExpectContinueEnabled(true)
             .setConnectionRequestTimeout(Timeout.ofSeconds(DEFAULT_TIMEOUT_REQUEST))
@@ -79,33 +113,269 @@ public class HttpClientWrapper {
             .setTargetPreferredAuthSchemes(Arrays.asList(StandardAuthScheme.NTLM, StandardAuthScheme.DIGEST))
             .build();
 
+    /** HttpComponent5. */
+    private final CloseableHttpClient httpClient;
+
+    /** Request configuration of this client. */
+    private final RequestConfig requestConfig;
+
+    /** Default instance, never closed. */
+    private final boolean shared;
+
+    /** Maximum number of connections, also used by the async client. */
+    private final int maxConnections;
+
+    /** Maximum number of connections to a host, also used by the async client. */
+    private final int maxConnectionsPerRoute;
+
+    /** Non-blocking client with the same configuration, created on first access. */
+    private volatile AsyncHttpClientWrapper asyncClient;
+
+    /** Json request headers per token, built once. */
+    private final Map<String, Header[]> jsonHeaders = new ConcurrentHashMap<>();
+
+    /** Catalogs and registries of the clients using this http client, per token. */
+    private final Map<String, ClientCache> clientCaches = new ConcurrentHashMap<>();
+
+    /** Order of accesses to the client caches. */
+    private final AtomicLong cacheClock = new AtomicLong();
+
+    /**
+     * Cached value with its last access, used to drop the least recently used values.
+     */
+    private final class ClientCache {
+
+        /** Shared value. */
+        private final Object value;
+
+        /** Last access, from the cache clock. */
+        private volatile long lastAccess = cacheClock.incrementAndGet();
+
+        /**
+         * Constructor.
+         *
+         * @param value
+         *      shared value
+         */
+        private ClientCache(Object value) {
+            this.value = value;
+        }
+
+        /**
+         * Access the value.
+         *
+         * @return
+         *      shared value
+         */
+        private Object touch() {
+            lastAccess = cacheClock.incrementAndGet();
+            return value;
+        }
+    }
+
     // -------------------------------------------
-    // ----------------- Singleton ---------------
+    // ----------------- Instances ---------------
     // -------------------------------------------
-    
+
     /**
-     * Hide default constructor
+     * Default instance created on first access, class initialization guarantees a single
+     * instance without any lock on the following calls.
      */
-    private HttpClientWrapper() {}
-    
+    private static final class DefaultHolder {
+
+        /** Default instance. */
+        private static final HttpClientWrapper INSTANCE = new HttpClientWrapper(DEFAULT_REQUEST_CONFIG,
+                DEFAULT_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS_PER_ROUTE, true);
+    }
+
     /**
-     * Singleton Pattern.
-     * 
+     * Client with its own connection pool and default pool sizes.
+     *
+     * @param requestConfig
+     *      request configuration
+     */
+    public HttpClientWrapper(RequestConfig requestConfig) {
+        this(requestConfig, DEFAULT_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+    }
+
+    /**
+     * Client with its own connection pool, close it when done.
+     *
+     * @param requestConfig
+     *      request configuration
+     * @param maxConnections
+     *      maximum number of connections
+     * @param maxConnectionsPerRoute
+     *      maximum number of connections to a host
+     */
+    public HttpClientWrapper(RequestConfig requestConfig, int maxConnections, int maxConnectionsPerRoute) {
+        this(requestConfig, maxConnections, maxConnectionsPerRoute, false);
+    }
+
+    /**
+     * Full constructor.
+     *
+     * @param requestConfig
+     *      request configuration
+     * @param maxConnections
+     *      maximum number of connections
+     * @param maxConnectionsPerRoute
+     *      maximum number of connections to a host
+     * @param shared
+     *      default instance
+     */
+    private HttpClientWrapper(RequestConfig requestConfig, int maxConnections, int maxConnectionsPerRoute, boolean shared) {
+        Assert.notNull(requestConfig, "requestConfig");
+        Assert.isTrue(maxConnections > 0, "maxConnections should be positive");
+        Assert.isTrue(maxConnectionsPerRoute > 0, "maxConnectionsPerRoute should be positive");
+        final PoolingHttpClientConnectionManager connManager = new PoolingHttpClientConnectionManager();
+        connManager.setValidateAfterInactivity(TimeValue.ofSeconds(10));
+        connManager.setMaxTotal(maxConnections);
+        connManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        this.httpClient    = HttpClients.custom().setConnectionManager(connManager).build();
+        this.requestConfig = requestConfig;
+        this.shared        = shared;
+        this.maxConnections         = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    /**
+     * Default instance shared by clients created without http client.
+     *
      * @return
-     *      singleton for the class
-     */
-    public static synchronized HttpClientWrapper getInstance() {
-        if (_instance == null) {
-            _instance = new HttpClientWrapper();
-            final PoolingHttpClientConnectionManager connManager = new PoolingHttpClientConnectionManager();
-            connManager.setValidateAfterInactivity(TimeValue.ofSeconds(10));
-            connManager.setMaxTotal(100);
-            connManager.setDefaultMaxPerRoute(10);
-            _instance.httpClient = HttpClients.custom().setConnectionManager(connManager).build();
+     *      default instance
+     */
+    public static HttpClientWrapper getInstance() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Gets requestConfig
+     *
+     * @return value of requestConfig
+     */
+    public RequestConfig getRequestConfig() {
+        return requestConfig;
+    }
+
+    /**
+     * Non-blocking client with the request configuration and pool sizes of this client, created on first
+     * access and closed with it. The default instance uses {@link AsyncHttpClientWrapper#getInstance()}.
+     *
+     * @return
+     *      async client
+     */
+    public AsyncHttpClientWrapper getAsyncClient() {
+        if (shared) {
+            return AsyncHttpClientWrapper.getInstance();
+        }
+        AsyncHttpClientWrapper client = asyncClient;
+        if (client == null) {
+            synchronized (this) {
+                client = asyncClient;
+                if (client == null) {
+                    client = new AsyncHttpClientWrapper(requestConfig, maxConnections, maxConnectionsPerRoute);
+                    asyncClient = client;
+                }
+            }
         }
-        return _instance;
+        return client;
     }
-    
+
+    /**
+     * Value shared by the clients using this http client, created on first access. Keys include the
+     * token, values load through this http client and are dropped when it is closed. At most
+     * {@link #MAX_CLIENT_CACHES} values are kept, the least recently used are dropped first so a
+     * long-running process working with many tokens does not keep them forever.
+     *
+     * @param key
+     *      cache key
+     * @param factory
+     *      create the value, it should not call the Api
+     * @param <T>
+     *      type of the value
+     * @return
+     *      shared value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getCache(String key, Function<String, T> factory) {
+        Assert.hasLength(key, "key");
+        ClientCache cache = clientCaches.get(key);
+        if (cache == null) {
+            cache = clientCaches.computeIfAbsent(key, k -> new ClientCache(factory.apply(k)));
+            if (clientCaches.size() > MAX_CLIENT_CACHES) {
+                evictLeastRecentlyUsed();
+            }
+        }
+        return (T) cache.touch();
+    }
+
+    /**
+     * Drop the least recently used values above {@link #MAX_CLIENT_CACHES}, only run on insertions.
+     */
+    private void evictLeastRecentlyUsed() {
+        while (clientCaches.size() > MAX_CLIENT_CACHES) {
+            Map.Entry<String, ClientCache> oldest = null;
+            for (Map.Entry<String, ClientCache> entry : clientCaches.entrySet()) {
+                if (oldest == null || entry.getValue().lastAccess < oldest.getValue().lastAccess) {
+                    oldest = entry;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            clientCaches.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    /**
+     * Value shared by the clients using this http client if it has been created.
+     *
+     * @param key
+     *      cache key
+     * @param <T>
+     *      type of the value
+     * @return
+     *      shared value or null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T findCache(String key) {
+        Assert.hasLength(key, "key");
+        ClientCache cache = clientCaches.get(key);
+        return cache == null ? null : (T) cache.touch();
+    }
+
+    /**
+     * Number of client caches held.
+     *
+     * @return
+     *      cached values
+     */
+    public int getCacheSize() {
+        return clientCaches.size();
+    }
+
+    /**
+     * Release the connections and the client caches, nothing is done for the default instance.
+     */
+    @Override
+    public void close() {
+        if (!shared) {
+            clientCaches.clear();
+            synchronized (this) {
+                if (asyncClient != null) {
+                    asyncClient.close();
+                    asyncClient = null;
+                }
+            }
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                LOGGER.warn("Cannot close http client: {}", e.getMessage());
+            }
+        }
+    }
+
     // -------------------------------------------
     // ---------- Working with HTTP --------------
     // -------------------------------------------
@@ -124,6 +394,26 @@ public class HttpClientWrapper {
         return executeHttp(Method.GET, url, token, null, CONTENT_TYPE_JSON, false);
     }
 
+    /**
+     * Conditional GET, the server answers 304 (not modified) without body if the entity tag still matches.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @param etag
+     *      entity tag of the previous response (can be null)
+     * @return
+     *      http response, code 304 if not modified
+     */
+    public ApiResponseHttp GET(String url, String token, String etag) {
+        HttpUriRequestBase request = buildRequest(Method.GET, url, token, null, CONTENT_TYPE_JSON);
+        if (etag != null) {
+            request.addHeader(HEADER_IF_NONE_MATCH, etag);
+        }
+        return executeHttp(request, false);
+    }
+
     /**
      * Helper to build the HTTP request.
      *
@@ -166,6 +456,28 @@ public class HttpClientWrapper {
         return executeHttp(request, false);
     }
 
+    /**
+     * Helper to build the HTTP request, the body is written when sent.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @param body
+     *      request body writer
+     * @param pulsarCluster
+     *      pulsar cluster
+     * @param organizationId
+     *      organization identifier
+     * @return
+     *      http request
+     */
+    public ApiResponseHttp POST_PULSAR(String url, String token, JsonBodyWriter body, String pulsarCluster, String organizationId) {
+        HttpUriRequestBase request = buildRequest(Method.POST, url, token, body);
+        updatePulsarHttpRequest(request, token, pulsarCluster, organizationId);
+        return executeHttp(request, false);
+    }
+
     /**
      * Helper to build the HTTP request.
      *
@@ -188,6 +500,28 @@ public class HttpClientWrapper {
         return executeHttp(request, false);
     }
 
+    /**
+     * Helper to build the HTTP request, the body is written when sent.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @param body
+     *      request body writer
+     * @param pulsarCluster
+     *      pulsar cluster
+     * @param organizationId
+     *      organization identifier
+     * @return
+     *      http request
+     */
+    public ApiResponseHttp DELETE_PULSAR(String url, String token, JsonBodyWriter body, String pulsarCluster, String organizationId) {
+        HttpUriRequestBase request = buildRequest(Method.DELETE, url, token, body);
+        updatePulsarHttpRequest(request, token, pulsarCluster, organizationId);
+        return executeHttp(request, false);
+    }
+
     /**
      * Add item for a pulsar request.
      *
@@ -290,6 +624,50 @@ public class HttpClientWrapper {
         executeHttp(Method.PATCH, url, token, body, CONTENT_TYPE_JSON, false);
     }
 
+    /**
+     * Helper to build the HTTP request, the body is written when sent.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @param body
+     *      request body writer
+     * @return
+     *      http request
+     */
+    public ApiResponseHttp POST(String url, String token, JsonBodyWriter body) {
+        return executeHttp(buildRequest(Method.POST, url, token, body), true);
+    }
+
+    /**
+     * Helper to build the HTTP request, the body is written when sent.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @param body
+     *      request body writer
+     */
+    public void PUT(String url, String token, JsonBodyWriter body) {
+        executeHttp(buildRequest(Method.PUT, url, token, body), false);
+    }
+
+    /**
+     * Helper to build the HTTP request, the body is written when sent.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @param body
+     *      request body writer
+     */
+    public void PATCH(String url, String token, JsonBodyWriter body) {
+        executeHttp(buildRequest(Method.PATCH, url, token, body), false);
+    }
+
     /**
      * Main Method executing HTTP Request.
      * 
@@ -327,7 +705,7 @@ public class HttpClientWrapper {
             ApiResponseHttp res;
             if (response == null) {
                 res = new ApiResponseHttp("Response is empty, please check url",
-                        HttpURLConnection.HTTP_UNAVAILABLE, null);
+                        HttpURLConnection.HTTP_UNAVAILABLE);
             } else {
                 // Mapping response
                 String body = null;
@@ -335,15 +713,18 @@ public class HttpClientWrapper {
                     body = EntityUtils.toString(response.getEntity());
                     EntityUtils.consume(response.getEntity());
                 }
-                Map<String, String > headers = new HashMap<>();
-                Arrays.stream(response.getHeaders()).forEach(h -> headers.put(h.getName(), h.getValue()));
-                res = new ApiResponseHttp(body, response.getCode(), headers);
+                // headers are mapped on access only
+                res = new ApiResponseHttp(body, response.getCode(), response.getHeaders());
             }
 
             // Error management
             if (HttpURLConnection.HTTP_NOT_FOUND == res.getCode() && !mandatory) {
                 return res;
             }
+            // Only sent for conditional requests
+            if (HttpURLConnection.HTTP_NOT_MODIFIED == res.getCode()) {
+                return res;
+            }
             if (res.getCode() >= 300) {
               LOGGER.error("Error for request, url={}, method={}, code={}, body={}",
                       req.getUri().toString(), req.getMethod(),
@@ -371,7 +752,7 @@ public class HttpClientWrapper {
      * @return
      *      default http with header
      */
-    private HttpUriRequestBase buildRequest(final Method method, final String url, final String token, String body, String contentType) {
+    HttpUriRequestBase buildRequest(final Method method, final String url, final String token, String body, String contentType) {
         HttpUriRequestBase req;
         switch(method) {
             case GET:    req = new HttpGet(url);    break;
@@ -385,24 +766,71 @@ public class HttpClientWrapper {
             case CONNECT:
             default:throw new IllegalArgumentException("Invalid HTTP Method");
         }
-        req.addHeader(HEADER_CONTENT_TYPE, contentType);
-        req.addHeader(HEADER_ACCEPT, CONTENT_TYPE_JSON);
-        req.addHeader(HEADER_USER_AGENT, REQUEST_WITH);
-        req.addHeader(HEADER_REQUESTED_WITH, REQUEST_WITH);
-        req.addHeader(HEADER_AUTHORIZATION, "Bearer " + token);
+        req.setHeaders(headers(token, contentType));
         req.setConfig(requestConfig);
         if (null != body) {
-            req.setEntity(new StringEntity(body, ContentType.TEXT_PLAIN));
+            req.setEntity(new ByteArrayEntity(body.getBytes(StandardCharsets.UTF_8),
+                    CONTENT_TYPE_JSON.equals(contentType) ? JSON_UTF8 : ContentType.parse(contentType)));
         }
         return req;
     }
 
+    /**
+     * Initialize a json HTTP request, the body is written in the entity buffer on first access.
+     *
+     * @param method
+     *      http Method
+     * @param url
+     *      target URL
+     * @param token
+     *      current token
+     * @param body
+     *      request body writer
+     * @return
+     *      default http with header
+     */
+    HttpUriRequestBase buildRequest(final Method method, final String url, final String token, JsonBodyWriter body) {
+        Assert.notNull(body, "body");
+        HttpUriRequestBase req = buildRequest(method, url, token, null, CONTENT_TYPE_JSON);
+        req.setEntity(new JsonEntity(body));
+        return req;
+    }
+
+    /**
+     * Headers of a request, built once per token for json requests. Headers are copied
+     * by the request so the arrays are shared.
+     *
+     * @param token
+     *      current token
+     * @param contentType
+     *      request content type
+     * @return
+     *      request headers
+     */
+    private Header[] headers(String token, String contentType) {
+        boolean json = CONTENT_TYPE_JSON.equals(contentType);
+        if (json && token != null) {
+            Header[] cached = jsonHeaders.get(token);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Header[] headers = new Header[] {
+                json ? CONTENT_JSON : new BasicHeader(HEADER_CONTENT_TYPE, contentType),
+                ACCEPT_JSON, USER_AGENT, REQUESTED_WITH,
+                new BasicHeader(HEADER_AUTHORIZATION, "Bearer " + token)};
+        if (json && token != null && jsonHeaders.size() < MAX_CACHED_TOKENS) {
+            jsonHeaders.putIfAbsent(token, headers);
+        }
+        return headers;
+    }
+
     /**
      * Process ERRORS.Anything above code 300 can be marked as an error Still something
      * 404 is expected and should not result in throwing exception (=not find)
      * @param res HttpResponse
      */
-    private void processErrors(ApiResponseHttp res, boolean mandatory) {
+    static void processErrors(ApiResponseHttp res, boolean mandatory) {
         switch(res.getCode()) {
                 // 400
                 case HttpURLConnection.HTTP_BAD_REQUEST:
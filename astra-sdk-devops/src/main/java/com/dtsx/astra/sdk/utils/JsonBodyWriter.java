@@ -0,0 +1,39 @@
+package com.dtsx.astra.sdk.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Writes a json request body with a Jackson generator, straight into the buffer of the
+ * request entity. No intermediate String is built and values are escaped by the generator.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+@FunctionalInterface
+public interface JsonBodyWriter {
+
+    /**
+     * Write the body.
+     *
+     * @param generator
+     *      json generator, its codec is the {@link JsonUtils} object mapper
+     * @throws IOException
+     *      error when writing to the stream
+     */
+    void write(JsonGenerator generator) throws IOException;
+
+    /**
+     * Body serializing a bean with the {@link JsonUtils} object mapper.
+     *
+     * @param bean
+     *      request bean
+     * @return
+     *      body writer
+     */
+    static JsonBodyWriter of(Object bean) {
+        Assert.notNull(bean, "bean");
+        return generator -> generator.writeObject(bean);
+    }
+
+}
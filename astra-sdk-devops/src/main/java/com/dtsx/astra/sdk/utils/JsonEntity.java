@@ -0,0 +1,109 @@
+package com.dtsx.astra.sdk.utils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Request entity written by a {@link JsonBodyWriter} in UTF-8 when the request is sent.
+ *
+ * <p>The body is written once in a buffer on first access, so the request carries a Content-Length
+ * instead of being sent chunked. The entity is repeatable, a retry sends the same buffer.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class JsonEntity extends AbstractHttpEntity {
+
+    /** Body writer. */
+    private final JsonBodyWriter writer;
+
+    /** Body written by the writer, created on first access. */
+    private volatile byte[] content;
+
+    /**
+     * Default constructor.
+     *
+     * @param writer
+     *      body writer
+     */
+    public JsonEntity(JsonBodyWriter writer) {
+        super(ContentType.APPLICATION_JSON, null, true);
+        Assert.notNull(writer, "writer");
+        this.writer = writer;
+    }
+
+    /**
+     * Write the body in memory on first access.
+     *
+     * @return
+     *      body content
+     * @throws IOException
+     *      error when writing the body
+     */
+    private byte[] content() throws IOException {
+        byte[] bytes = content;
+        if (bytes == null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            try (JsonGenerator generator = JsonUtils.getObjectMapper().getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                writer.write(generator);
+            }
+            bytes = out.toByteArray();
+            content = bytes;
+        }
+        return bytes;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        Assert.notNull(out, "out");
+        out.write(content());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public InputStream getContent() throws IOException {
+        return new ByteArrayInputStream(content());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    /**
+     * Length of the body, written on first call.
+     *
+     * @return
+     *      body length in bytes
+     */
+    @Override
+    public long getContentLength() {
+        try {
+            return content().length;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot write json body", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+}
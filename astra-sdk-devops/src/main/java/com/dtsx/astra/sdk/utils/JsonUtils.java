@@ -17,6 +17,7 @@
 package com.dtsx.astra.sdk.utils;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -24,6 +25,8 @@ import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Map;
@@ -50,6 +53,31 @@ public class JsonUtils {
                 .setSerializationInclusion(Include.NON_NULL)
                 .setAnnotationIntrospector(new JacksonAnnotationIntrospector());
     
+    /** Hexadecimal digits of unicode escape sequences. */
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /** Escape sequence of each ascii character, null when the character is kept. */
+    private static final String[] ASCII_ESCAPES = new String[128];
+
+    static {
+        for (char ch = 0; ch < 0x20; ch++) {
+            StringBuilder escape = new StringBuilder(6);
+            appendUnicodeEscape(escape, ch);
+            ASCII_ESCAPES[ch] = escape.toString();
+        }
+        StringBuilder escape = new StringBuilder(6);
+        appendUnicodeEscape(escape, '\u007F');
+        ASCII_ESCAPES[0x7F] = escape.toString();
+        ASCII_ESCAPES['"']  = "\\\"";
+        ASCII_ESCAPES['\\'] = "\\\\";
+        ASCII_ESCAPES['\b'] = "\\b";
+        ASCII_ESCAPES['\f'] = "\\f";
+        ASCII_ESCAPES['\n'] = "\\n";
+        ASCII_ESCAPES['\r'] = "\\r";
+        ASCII_ESCAPES['\t'] = "\\t";
+        ASCII_ESCAPES['/']  = "\\/";
+    }
+    
     /**
      * Default constructor
      */
@@ -70,6 +98,8 @@ public class JsonUtils {
      * - Double quote to be replaced with \"
      * - Backslash to be replaced with \\
      * 
+     * The input is returned as is when no character needs escaping.
+     * 
      * @param value
      *      string to be escaped
      * @return
@@ -77,51 +107,63 @@ public class JsonUtils {
      */
     public static final String escapeJson(String value) {
         if (value == null ) return null;
-        StringBuilder output = new StringBuilder();
         final int len = value.length();
-        for(int i=0;i<len;i++) {
-            char ch=value.charAt(i);
-            switch(ch){
-            case '"':
-                output.append("\\\"");
-                break;
-            case '\\':
-                output.append("\\\\");
-                break;
-            case '\b':
-                output.append("\\b");
-                break;
-            case '\f':
-                output.append("\\f");
-                break;
-            case '\n':
-                output.append("\\n");
-                break;
-            case '\r':
-                output.append("\\r");
-                break;
-            case '\t':
-                output.append("\\t");
-                break;
-            case '/':
-                output.append("\\/");
-                break;
-            default:
-                //Reference: http://www.unicode.org/versions/Unicode5.1.0/
-                if((ch>='\u0000' && ch<='\u001F') || (ch>='\u007F' && ch<='\u009F') || (ch>='\u2000' && ch<='\u20FF')){
-                    String ss=Integer.toHexString(ch);
-                    output.append("\\u");
-                    for(int k=0;k<4-ss.length();k++){
-                        output.append('0');
-                    }
-                    output.append(ss.toUpperCase());
-                }
-                else{
-                    output.append(ch);
+        // most values need no escaping, the input is returned as is
+        int i = 0;
+        while (i < len && !needsEscape(value.charAt(i))) {
+            i++;
+        }
+        if (i == len) {
+            return value;
+        }
+        StringBuilder output = new StringBuilder(len + 16);
+        // characters between escapes are appended as a whole
+        int start = 0;
+        for (; i < len; i++) {
+            char ch = value.charAt(i);
+            if (needsEscape(ch)) {
+                output.append(value, start, i);
+                if (ch < ASCII_ESCAPES.length) {
+                    output.append(ASCII_ESCAPES[ch]);
+                } else {
+                    appendUnicodeEscape(output, ch);
                 }
+                start = i + 1;
             }
         }
-        return output.toString();
+        return output.append(value, start, len).toString();
+    }
+
+    /**
+     * Check if a character is escaped by {@link #escapeJson(String)}.
+     *
+     * @param ch
+     *      current character
+     * @return
+     *      if the character is escaped
+     */
+    private static boolean needsEscape(char ch) {
+        if (ch < ASCII_ESCAPES.length) {
+            return ASCII_ESCAPES[ch] != null;
+        }
+        //Reference: http://www.unicode.org/versions/Unicode5.1.0/
+        return ch <= '\u009F' || (ch >= '\u2000' && ch <= '\u20FF');
+    }
+
+    /**
+     * Append a character as an unicode escape sequence.
+     *
+     * @param output
+     *      target builder
+     * @param ch
+     *      current character
+     */
+    private static void appendUnicodeEscape(StringBuilder output, char ch) {
+        output.append('\\').append('u')
+              .append(HEX[(ch >> 12) & 0xF])
+              .append(HEX[(ch >> 8) & 0xF])
+              .append(HEX[(ch >> 4) & 0xF])
+              .append(HEX[ch & 0xF]);
     }
    
     /**
@@ -139,7 +181,7 @@ public class JsonUtils {
     }
 
     /**
-     * Serialize a collection of object as Json. Element should eventually override <code>toString()</code> to produce JSON.
+     * Serialize a collection of object as Json. Elements are written with the object mapper.
      * 
      * @param <T> T
      * @param pCollec input collection
@@ -148,19 +190,17 @@ public class JsonUtils {
     public static final <T> String collectionAsJson(final Collection < T > pCollec) {
         if (pCollec == null)   return "null";
         if (pCollec.isEmpty()) return "[]";
-        StringBuilder json = new StringBuilder("[");
-        boolean first = true;
-        for (T element : pCollec) {
-            json.append(first ? "" : ",");
-            json.append(valueAsJson(element));
-            first = false;
-        }
-        json.append("]");
-        return json.toString();
+        return writeAsString(generator -> {
+            generator.writeStartArray();
+            for (T element : pCollec) {
+                generator.writeObject(element);
+            }
+            generator.writeEndArray();
+        });
     }
 
     /**
-     * Serialize a map of objects as Json. Elements should override <code>toString()</code> to produce JSON.
+     * Serialize a map of objects as Json. Keys are written as Strings, values with the object mapper.
      * 
      * @param <K> K
      * @param <V> V
@@ -170,16 +210,33 @@ public class JsonUtils {
     public static final <K,V> String mapAsJson(final Map<K,V> pMap) {
         if (pMap == null)   return "null";
         if (pMap.isEmpty()) return "{}";
-        StringBuilder json = new StringBuilder("{");
-        boolean first = true;
-        for (Map.Entry<K,V> mapEntry : pMap.entrySet()) {
-            json.append(first ? "" : ",");
-            json.append(valueAsJson(mapEntry.getKey()) + ":");
-            json.append(valueAsJson(mapEntry.getValue()));
-            first = false;
+        return writeAsString(generator -> {
+            generator.writeStartObject();
+            for (Map.Entry<K,V> mapEntry : pMap.entrySet()) {
+                generator.writeFieldName(String.valueOf(mapEntry.getKey()));
+                generator.writeObject(mapEntry.getValue());
+            }
+            generator.writeEndObject();
+        });
+    }
+
+    /**
+     * Run a body writer against a String, request bodies are rather written in the entity stream.
+     *
+     * @param writer
+     *      body writer
+     * @return
+     *      json as String
+     */
+    public static String writeAsString(JsonBodyWriter writer) {
+        Objects.requireNonNull(writer);
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = getObjectMapper().getFactory().createGenerator(out)) {
+            writer.write(generator);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot write json", e);
         }
-        json.append("}");
-        return json.toString();
+        return out.toString();
     }
     
     /**
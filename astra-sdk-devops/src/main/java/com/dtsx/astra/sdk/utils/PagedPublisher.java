@@ -0,0 +1,216 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cold {@link Publisher} emitting the items of a list endpoint, page after page, with demand-driven backpressure.
+ *
+ * <p>A page is requested only when the items of the previous one have been emitted and the subscriber
+ * still has demand, nothing is loaded before the first request. Pages are loaded with non-blocking
+ * calls, items are emitted from the thread completing the page or the one calling request.
+ * A page smaller than the page size is the last one.</p>
+ *
+ * @param <T>
+ *      type of items
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class PagedPublisher<T> implements Publisher<T> {
+
+    /** Load the page following an item, the first page with null. */
+    private final Function<T, CompletableFuture<List<T>>> pageLoader;
+
+    /** Size of a full page, 0 if the endpoint is not paginated. */
+    private final int pageSize;
+
+    /**
+     * Constructor for a paginated endpoint.
+     *
+     * @param pageLoader
+     *      load the page following an item (null for the first page)
+     * @param pageSize
+     *      size of a full page
+     */
+    public PagedPublisher(Function<T, CompletableFuture<List<T>>> pageLoader, int pageSize) {
+        Assert.notNull(pageLoader, "pageLoader");
+        Assert.isTrue(pageSize >= 0, "pageSize should not be negative");
+        this.pageLoader = pageLoader;
+        this.pageSize   = pageSize;
+    }
+
+    /**
+     * Publisher for an endpoint returning all items in one response.
+     *
+     * @param loader
+     *      load all items
+     * @param <T>
+     *      type of items
+     * @return
+     *      publisher
+     */
+    public static <T> PagedPublisher<T> of(Supplier<CompletableFuture<List<T>>> loader) {
+        Assert.notNull(loader, "loader");
+        return new PagedPublisher<>(last -> loader.get(), 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Assert.notNull(subscriber, "subscriber");
+        PageSubscription subscription = new PageSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * State of one subscriber, signals are serialized by a drain loop.
+     */
+    private final class PageSubscription implements Subscription {
+
+        /** Subscriber. */
+        private final Subscriber<? super T> subscriber;
+
+        /** Outstanding demand. */
+        private final AtomicLong requested = new AtomicLong();
+
+        /** Drain loop guard, only the thread moving it from 0 drains. */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /** Items of loaded pages not emitted yet, accessed in the drain loop only. */
+        private final Queue<T> buffer = new ArrayDeque<>();
+
+        /** Last item received, cursor of the next page. */
+        private T last;
+
+        /** A page is being loaded. */
+        private boolean loading;
+
+        /** Last page received. */
+        private boolean lastPage;
+
+        /** Page loaded and not yet buffered. */
+        private volatile List<T> loaded;
+
+        /** Error to signal. */
+        private volatile Throwable error;
+
+        /** Cancelled or terminated. */
+        private volatile boolean cancelled;
+
+        /**
+         * Constructor.
+         *
+         * @param subscriber
+         *      subscriber
+         */
+        private PageSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Rule 3.9: request should be positive, was " + n);
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Emit what can be emitted and load the next page if needed.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            while (true) {
+                if (cancelled) {
+                    buffer.clear();
+                    return;
+                }
+                if (error != null) {
+                    cancelled = true;
+                    subscriber.onError(error);
+                    return;
+                }
+                List<T> page = loaded;
+                if (page != null) {
+                    loaded  = null;
+                    loading = false;
+                    buffer.addAll(page);
+                    lastPage = pageSize == 0 || page.size() < pageSize;
+                    if (!page.isEmpty()) {
+                        last = page.get(page.size() - 1);
+                    }
+                }
+                long r = requested.get();
+                long emitted = 0;
+                while (emitted != r && !buffer.isEmpty() && !cancelled) {
+                    subscriber.onNext(buffer.poll());
+                    emitted++;
+                }
+                if (emitted > 0 && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                if (buffer.isEmpty() && !cancelled) {
+                    if (lastPage) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (!loading && requested.get() > 0) {
+                        loading = true;
+                        load();
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Load the next page, completion drains again.
+         */
+        private void load() {
+            CompletableFuture<List<T>> future;
+            try {
+                future = pageLoader.apply(last);
+            } catch (RuntimeException e) {
+                error = e;
+                wip.incrementAndGet();
+                return;
+            }
+            future.whenComplete((page, e) -> {
+                if (e != null) {
+                    error = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                } else {
+                    loaded = page == null ? Collections.emptyList() : page;
+                }
+                drain();
+            });
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.util.Optional;
+
+/**
+ * Change of a resource detected by a {@link ResourceWatcher}.
+ *
+ * @param <T>
+ *      type of resource
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class ResourceChange<T> {
+
+    /**
+     * Nature of the change.
+     */
+    public enum Type {
+        /** Resource listed for the first time. */
+        ADDED,
+        /** Watched fields of the resource changed. */
+        UPDATED,
+        /** Resource not listed anymore. */
+        REMOVED
+    }
+
+    /** Nature of the change. */
+    private final Type type;
+
+    /** Resource identifier. */
+    private final String id;
+
+    /** Resource before the change (null if added). */
+    private final T previous;
+
+    /** Resource after the change (null if removed). */
+    private final T current;
+
+    /**
+     * Constructor.
+     *
+     * @param type
+     *      nature of the change
+     * @param id
+     *      resource identifier
+     * @param previous
+     *      resource before the change
+     * @param current
+     *      resource after the change
+     */
+    public ResourceChange(Type type, String id, T previous, T current) {
+        this.type     = type;
+        this.id       = id;
+        this.previous = previous;
+        this.current  = current;
+    }
+
+    /**
+     * Gets type
+     *
+     * @return value of type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets id
+     *
+     * @return value of id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets previous
+     *
+     * @return value of previous, empty if added
+     */
+    public Optional<T> getPrevious() {
+        return Optional.ofNullable(previous);
+    }
+
+    /**
+     * Gets current
+     *
+     * @return value of current, empty if removed
+     */
+    public Optional<T> getCurrent() {
+        return Optional.ofNullable(current);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return type + " " + id;
+    }
+}
@@ -0,0 +1,28 @@
+package com.dtsx.astra.sdk.utils;
+
+/**
+ * Subscriber of a {@link ResourceWatcher}, called from the polling thread.
+ *
+ * @param <T>
+ *      type of resource
+ * @author Cedrick LUNVEN (@clunven)
+ */
+@FunctionalInterface
+public interface ResourceChangeListener<T> {
+
+    /**
+     * A resource changed.
+     *
+     * @param change
+     *      change
+     */
+    void onChange(ResourceChange<T> change);
+
+    /**
+     * A poll failed, the watcher keeps polling.
+     *
+     * @param error
+     *      error raised when listing resources
+     */
+    default void onError(Throwable error) {}
+}
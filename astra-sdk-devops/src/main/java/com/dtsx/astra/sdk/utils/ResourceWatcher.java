@@ -0,0 +1,250 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Poll a list of resources and publish changes to subscribers.
+ *
+ * <p>Each poll lists the resources, compares them with the previous poll by identifier and by a
+ * fingerprint of the watched fields, then publishes {@link ResourceChange} events. The first poll
+ * publishes every resource as added. A single polling thread serves all subscribers, events are
+ * delivered in order on this thread and a failing subscriber does not prevent delivery to others.</p>
+ *
+ * @param <T>
+ *      type of resource
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class ResourceWatcher<T> implements Closeable {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceWatcher.class);
+
+    /** Default delay between two polls. */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(30);
+
+    /** Watcher name, used for the thread. */
+    private final String name;
+
+    /** List resources. */
+    private final Supplier<List<T>> lister;
+
+    /** Resource identifier. */
+    private final Function<T, String> idFunction;
+
+    /** Watched fields of a resource. */
+    private final Function<T, Object> fingerprintFunction;
+
+    /** Subscribers. */
+    private final List<ResourceChangeListener<T>> listeners = new CopyOnWriteArrayList<>();
+
+    /** Delay between two polls. */
+    private Duration pollInterval = DEFAULT_POLL_INTERVAL;
+
+    /** Serialize polls, a lock and not a monitor as the listing calls the Api. */
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    /** Resources of the last poll by identifier. */
+    private volatile Map<String, T> resources = Collections.emptyMap();
+
+    /** Fingerprints of the last poll by identifier. */
+    private Map<String, Object> fingerprints = Collections.emptyMap();
+
+    /** Polling thread (null if not started). */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor.
+     *
+     * @param name
+     *      watcher name
+     * @param lister
+     *      list resources
+     * @param idFunction
+     *      resource identifier
+     * @param fingerprintFunction
+     *      watched fields of a resource, compared with equals
+     */
+    public ResourceWatcher(String name, Supplier<List<T>> lister, Function<T, String> idFunction,
+                           Function<T, Object> fingerprintFunction) {
+        Assert.hasLength(name, "name");
+        Assert.notNull(lister, "lister");
+        Assert.notNull(idFunction, "idFunction");
+        Assert.notNull(fingerprintFunction, "fingerprintFunction");
+        this.name                = name;
+        this.lister              = lister;
+        this.idFunction          = idFunction;
+        this.fingerprintFunction = fingerprintFunction;
+    }
+
+    /**
+     * Delay between two polls.
+     *
+     * @param pollInterval
+     *      delay
+     * @return
+     *      current reference
+     */
+    public ResourceWatcher<T> withPollInterval(Duration pollInterval) {
+        Assert.notNull(pollInterval, "pollInterval");
+        Assert.isTrue(!pollInterval.isNegative() && !pollInterval.isZero(), "pollInterval should be positive");
+        this.pollInterval = pollInterval;
+        return this;
+    }
+
+    /**
+     * Add a subscriber, it receives changes detected from the next poll.
+     *
+     * @param listener
+     *      subscriber
+     * @return
+     *      current reference
+     */
+    public ResourceWatcher<T> subscribe(ResourceChangeListener<T> listener) {
+        Assert.notNull(listener, "listener");
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Remove a subscriber.
+     *
+     * @param listener
+     *      subscriber
+     */
+    public void unsubscribe(ResourceChangeListener<T> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Poll in background until closed, the first poll is immediate.
+     *
+     * @return
+     *      current reference
+     */
+    public synchronized ResourceWatcher<T> start() {
+        if (scheduler != null) {
+            throw new IllegalStateException("Watcher already started");
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "astra-watch-" + name);
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Background poll, errors are published and polling goes on.
+     */
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot poll {}: {}", name, e.getMessage());
+            for (ResourceChangeListener<T> listener : listeners) {
+                try {
+                    listener.onError(e);
+                } catch (RuntimeException le) {
+                    LOGGER.warn("Listener of {} failed: {}", name, le.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * List resources now, publish and return the changes since the previous poll.
+     *
+     * @return
+     *      changes
+     */
+    public List<ResourceChange<T>> poll() {
+        pollLock.lock();
+        try {
+            return pollLocked();
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * Poll with the lock held.
+     *
+     * @return
+     *      changes
+     */
+    private List<ResourceChange<T>> pollLocked() {
+        List<T> items = lister.get();
+        Map<String, T>      currentResources    = new LinkedHashMap<>(items.size() * 2);
+        Map<String, Object> currentFingerprints = new HashMap<>(items.size() * 2);
+        List<ResourceChange<T>> changes = new ArrayList<>();
+        for (T item : items) {
+            String id = idFunction.apply(item);
+            Object fingerprint = fingerprintFunction.apply(item);
+            currentResources.put(id, item);
+            currentFingerprints.put(id, fingerprint);
+            if (!resources.containsKey(id)) {
+                changes.add(new ResourceChange<>(ResourceChange.Type.ADDED, id, null, item));
+            } else if (!Objects.equals(fingerprints.get(id), fingerprint)) {
+                changes.add(new ResourceChange<>(ResourceChange.Type.UPDATED, id, resources.get(id), item));
+            }
+        }
+        for (Map.Entry<String, T> previous : resources.entrySet()) {
+            if (!currentResources.containsKey(previous.getKey())) {
+                changes.add(new ResourceChange<>(ResourceChange.Type.REMOVED, previous.getKey(), previous.getValue(), null));
+            }
+        }
+        resources    = currentResources;
+        fingerprints = currentFingerprints;
+        for (ResourceChange<T> change : changes) {
+            for (ResourceChangeListener<T> listener : listeners) {
+                try {
+                    listener.onChange(change);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Listener of {} failed on {}: {}", name, change, e.getMessage());
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Resources of the last poll, for subscribers joining late.
+     *
+     * @return
+     *      resources
+     */
+    public List<T> getCurrent() {
+        return Collections.unmodifiableList(new ArrayList<>(resources.values()));
+    }
+
+    /**
+     * Stop polling.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+}
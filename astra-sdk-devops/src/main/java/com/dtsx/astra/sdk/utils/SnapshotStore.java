@@ -0,0 +1,262 @@
+package com.dtsx.astra.sdk.utils;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Save and load lists of domain objects in files, to restart from a previous state without calling the Devops Api.
+ *
+ * <p>A file is a small header (magic, version, flags, save time, item count) followed by the items
+ * written with a Jackson {@link ObjectMapper}, deflated by default. The mapper defaults to the one of
+ * {@link JsonUtils} and can be replaced by a binary one (Smile, CBOR) with {@link #withMapper(ObjectMapper)}.
+ * Files are written to a temporary file then moved, and read through a memory-mapped buffer.
+ * An unreadable or incompatible file is reported as missing so callers fall back to the Api.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class SnapshotStore {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotStore.class);
+
+    /** File signature. */
+    private static final int MAGIC = 0x41534E50;
+
+    /** Format version. */
+    private static final byte VERSION = 1;
+
+    /** Flag for deflated payload. */
+    private static final byte FLAG_DEFLATE = 1;
+
+    /** Header size in bytes: magic, version, flags, save time, count. */
+    private static final int HEADER_SIZE = 4 + 1 + 1 + 8 + 4;
+
+    /** Snapshot file extension. */
+    public static final String EXTENSION = ".snapshot";
+
+    /** Folder holding snapshot files. */
+    private final Path directory;
+
+    /** Serialization of items. */
+    private ObjectMapper mapper = JsonUtils.getObjectMapper();
+
+    /** Deflate payload. */
+    private boolean compression = true;
+
+    /**
+     * Persisted items with their save time.
+     *
+     * @param <T>
+     *      type of items
+     */
+    public static class Snapshot<T> {
+
+        /** Items. */
+        private final List<T> items;
+
+        /** Save time in epoch millis. */
+        private final long savedAt;
+
+        /**
+         * Constructor.
+         *
+         * @param items
+         *      items
+         * @param savedAt
+         *      save time in epoch millis
+         */
+        public Snapshot(List<T> items, long savedAt) {
+            this.items   = Collections.unmodifiableList(items);
+            this.savedAt = savedAt;
+        }
+
+        /**
+         * Gets items
+         *
+         * @return value of items
+         */
+        public List<T> getItems() {
+            return items;
+        }
+
+        /**
+         * Gets savedAt
+         *
+         * @return value of savedAt
+         */
+        public long getSavedAt() {
+            return savedAt;
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param directory
+     *      folder holding snapshot files, created if missing
+     */
+    public SnapshotStore(Path directory) {
+        Assert.notNull(directory, "directory");
+        this.directory = directory;
+    }
+
+    /**
+     * Mapper used to write and read items, e.g. a mapper with a Smile or CBOR factory.
+     *
+     * @param mapper
+     *      object mapper
+     * @return
+     *      current reference
+     */
+    public SnapshotStore withMapper(ObjectMapper mapper) {
+        Assert.notNull(mapper, "mapper");
+        this.mapper = mapper;
+        return this;
+    }
+
+    /**
+     * Deflate payload, enabled by default.
+     *
+     * @param compression
+     *      deflate payload
+     * @return
+     *      current reference
+     */
+    public SnapshotStore withCompression(boolean compression) {
+        this.compression = compression;
+        return this;
+    }
+
+    /**
+     * File of a snapshot.
+     *
+     * @param name
+     *      snapshot name
+     * @return
+     *      file path
+     */
+    public Path getPath(String name) {
+        Assert.hasLength(name, "name");
+        return directory.resolve(name + EXTENSION);
+    }
+
+    /**
+     * Save items, replacing the previous snapshot.
+     *
+     * @param name
+     *      snapshot name
+     * @param items
+     *      items to save
+     * @param <T>
+     *      type of items
+     */
+    public <T> void save(String name, Collection<T> items) {
+        Assert.notNull(items, "items");
+        Path target = getPath(name);
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, name, ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeByte(VERSION);
+                    out.writeByte(compression ? FLAG_DEFLATE : 0);
+                    out.writeLong(System.currentTimeMillis());
+                    out.writeInt(items.size());
+                    OutputStream payload = compression ? new DeflaterOutputStream(out) : out;
+                    // closes the payload, which finishes deflating
+                    mapper.writeValue(payload, items);
+                }
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot save snapshot " + target, e);
+        }
+    }
+
+    /**
+     * Load a snapshot.
+     *
+     * @param name
+     *      snapshot name
+     * @param type
+     *      type of items
+     * @param <T>
+     *      type of items
+     * @return
+     *      snapshot if present and readable
+     */
+    public <T> Optional<Snapshot<T>> load(String name, Class<T> type) {
+        Assert.notNull(type, "type");
+        Path source = getPath(name);
+        if (!Files.isRegularFile(source)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+                LOGGER.warn("Ignoring snapshot {}: unknown format", source);
+                return Optional.empty();
+            }
+            byte flags   = buffer.get();
+            long savedAt = buffer.getLong();
+            int count    = buffer.getInt();
+            ByteBuffer body = buffer.slice();
+            InputStream payload = (flags & FLAG_DEFLATE) != 0
+                    ? new InflaterInputStream(new ByteBufferBackedInputStream(body))
+                    : new ByteBufferBackedInputStream(body);
+            // count is a hint, the file may be damaged
+            List<T> items = new ArrayList<>(Math.max(0, Math.min(count, 65536)));
+            try (MappingIterator<T> it = mapper.readerFor(type).readValues(payload)) {
+                while (it.hasNextValue()) {
+                    items.add(it.nextValue());
+                }
+            }
+            return Optional.of(new Snapshot<>(items, savedAt));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Ignoring snapshot {}: {}", source, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Delete a snapshot.
+     *
+     * @param name
+     *      snapshot name
+     */
+    public void delete(String name) {
+        Path target = getPath(name);
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot delete snapshot " + target, e);
+        }
+    }
+
+}
@@ -0,0 +1,241 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors running the parallel work of the clients, with platform or virtual threads
+ * depending on the {@link ThreadMode}.
+ *
+ * <p>The SDK is compiled for Java 8, virtual threads are created through reflection when the JVM
+ * provides them (Java 21+). With virtual threads each task gets its own thread and the concurrency
+ * is bounded by a semaphore, so the Api is not called more often than with platform threads.</p>
+ *
+ * <p>The mode is a JVM setting shared by all clients, select it with {@link #setMode(ThreadMode)}.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public final class TaskExecutors {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskExecutors.class);
+
+    /** Thread.ofVirtual(), null before Java 21. */
+    private static final Method OF_VIRTUAL;
+
+    /** Thread.Builder.name(String, long). */
+    private static final Method BUILDER_NAME;
+
+    /** Thread.Builder.factory(). */
+    private static final Method BUILDER_FACTORY;
+
+    /** Executors.newThreadPerTaskExecutor(ThreadFactory). */
+    private static final Method THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null, name = null, factory = null, perTask = null;
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name      = builder.getMethod("name", String.class, long.class);
+            factory   = builder.getMethod("factory");
+            perTask   = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // preview feature in Java 19 and 20, fails if not enabled
+            ofVirtual.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL               = ofVirtual;
+        BUILDER_NAME             = name;
+        BUILDER_FACTORY          = factory;
+        THREAD_PER_TASK_EXECUTOR = perTask;
+    }
+
+    /** Current mode, shared by all clients. */
+    private static volatile ThreadMode mode = ThreadMode.PLATFORM;
+
+    /**
+     * Hide default constructor
+     */
+    private TaskExecutors() {}
+
+    /**
+     * Tells if the JVM provides virtual threads.
+     *
+     * @return
+     *      if virtual threads can be used
+     */
+    public static boolean isVirtualThreadSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Select the threads running the parallel work, executors created before are not changed.
+     * The mode applies to every client of the JVM, set it once at startup.
+     *
+     * @param threadMode
+     *      new mode
+     */
+    public static void setMode(ThreadMode threadMode) {
+        Assert.notNull(threadMode, "threadMode");
+        if (threadMode == ThreadMode.VIRTUAL && !isVirtualThreadSupported()) {
+            throw new IllegalStateException("Virtual threads require Java 21+, running "
+                    + System.getProperty("java.version"));
+        }
+        mode = threadMode;
+        LOGGER.debug("Parallel tasks run on {} threads", isVirtual() ? "virtual" : "platform");
+    }
+
+    /**
+     * Gets mode
+     *
+     * @return value of mode
+     */
+    public static ThreadMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Tells if new executors use virtual threads.
+     *
+     * @return
+     *      if tasks run on virtual threads
+     */
+    public static boolean isVirtual() {
+        return mode == ThreadMode.VIRTUAL || (mode == ThreadMode.AUTO && isVirtualThreadSupported());
+    }
+
+    /**
+     * Executor running at most maxConcurrency tasks at a time, threads are named prefix-0, prefix-1...
+     * and do not prevent JVM shutdown. Callers shut it down when done.
+     *
+     * @param name
+     *      prefix of the thread names
+     * @param maxConcurrency
+     *      maximum number of tasks running at the same time
+     * @return
+     *      executor
+     */
+    public static ExecutorService newBoundedExecutor(String name, int maxConcurrency) {
+        Assert.hasLength(name, "name");
+        Assert.isTrue(maxConcurrency > 0, "maxConcurrency should be positive");
+        if (isVirtual()) {
+            return new BoundedExecutor(newVirtualThreadPerTaskExecutor(name), maxConcurrency);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(maxConcurrency, r -> {
+            Thread t = new Thread(r, name + "-" + counter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Start a virtual thread for each task, threads are named prefix-0, prefix-1...
+     *
+     * @param name
+     *      prefix of the thread names
+     * @return
+     *      executor
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor(String name) {
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), name + "-", 0L);
+            ThreadFactory factory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            return (ExecutorService) THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create virtual threads", e);
+        }
+    }
+
+    /**
+     * Bound the number of tasks running at the same time on an unbounded executor,
+     * waiting tasks hold a cheap virtual thread and no platform thread.
+     */
+    private static final class BoundedExecutor extends AbstractExecutorService {
+
+        /** Thread per task executor. */
+        private final ExecutorService delegate;
+
+        /** Running tasks permits. */
+        private final Semaphore permits;
+
+        /**
+         * Constructor.
+         *
+         * @param delegate
+         *      thread per task executor
+         * @param maxConcurrency
+         *      maximum number of tasks running at the same time
+         */
+        private BoundedExecutor(ExecutorService delegate, int maxConcurrency) {
+            this.delegate = delegate;
+            this.permits  = new Semaphore(maxConcurrency);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    // shut down before the task started, do not leave its future pending
+                    if (command instanceof Future) {
+                        ((Future<?>) command).cancel(false);
+                    }
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+}
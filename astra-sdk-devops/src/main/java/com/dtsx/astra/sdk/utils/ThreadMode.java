@@ -0,0 +1,18 @@
+package com.dtsx.astra.sdk.utils;
+
+/**
+ * Threads running the parallel work of the clients (bulk operations, inventories, bundle downloads).
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public enum ThreadMode {
+
+    /** Bounded pools of platform threads, default. */
+    PLATFORM,
+
+    /** A virtual thread per task, requires Java 21+. */
+    VIRTUAL,
+
+    /** Virtual threads when the JVM supports them, platform threads otherwise. */
+    AUTO
+}
@@ -0,0 +1,118 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.AccessList;
+import com.dtsx.astra.sdk.db.domain.AccessListAddress;
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseCreationRequest;
+import com.dtsx.astra.sdk.db.domain.DatabaseDesiredState;
+import com.dtsx.astra.sdk.db.domain.DatabaseInfo;
+import com.dtsx.astra.sdk.db.domain.ReconcileAction;
+import com.dtsx.astra.sdk.db.domain.ReconcilePlan;
+import com.dtsx.astra.sdk.streaming.domain.CdcCatalog;
+import com.dtsx.astra.sdk.streaming.domain.CdcDefinition;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plan computation of the reconciler, no call to the Devops Api.
+ */
+public class DatabaseReconcilerTest {
+
+    private static Database database(String id, String name, String... keyspaces) {
+        DatabaseInfo info = new DatabaseInfo();
+        info.setName(name);
+        info.setKeyspaces(new HashSet<>(Arrays.asList(keyspaces)));
+        Database db = new Database();
+        db.setId(id);
+        db.setInfo(info);
+        return db;
+    }
+
+    private static CdcDefinition cdc(String db, String keyspace, String table, String tenant) {
+        CdcDefinition c = new CdcDefinition();
+        c.setDatabaseId(db);
+        c.setKeyspace(keyspace);
+        c.setDatabaseTable(table);
+        c.setTenant(tenant);
+        return c;
+    }
+
+    private static DatabaseDesiredState state(String name) {
+        return new DatabaseDesiredState(DatabaseCreationRequest.builder().name(name).keyspace("ks1").build());
+    }
+
+    @Test
+    @DisplayName("Only missing items are planned")
+    public void should_plan_missing_items() {
+        AccessList acl = new AccessList();
+        acl.setDatabaseId("id1");
+        acl.setAddresses(Collections.singletonList(new AccessListAddress("10.0.0.1/32", "known")));
+        Map<String, AccessList> accessLists = Collections.singletonMap("id1", acl);
+        CdcCatalog catalog = new CdcCatalog(Collections.singletonList(cdc("id1", "ks1", "t1", "tenant")));
+
+        ReconcilePlan plan = DatabaseReconciler.diff(Collections.singletonList(state("db1")
+                        .withKeyspace("ks2")
+                        .withAccessListAddress("10.0.0.1/32", "known")
+                        .withAccessListAddress("10.0.0.2/32", "new")
+                        .withCdc("tenant", "ks1", "t1", 3)
+                        .withCdc("tenant", "ks1", "t2", 3)),
+                Collections.singletonMap("db1", database("id1", "db1", "ks1")), accessLists, db -> catalog);
+
+        List<ReconcileAction> actions = plan.getActions("db1");
+        Assertions.assertEquals(3, actions.size());
+        Assertions.assertEquals(ReconcileAction.Type.CREATE_KEYSPACE, actions.get(0).getType());
+        Assertions.assertEquals("ks2", actions.get(0).getTarget());
+        Assertions.assertEquals(1, actions.get(1).getAddresses().size());
+        Assertions.assertEquals("10.0.0.2/32", actions.get(1).getAddresses().get(0).getAddress());
+        Assertions.assertEquals(1, actions.get(2).getCdcTables().size());
+        Assertions.assertEquals("t2", actions.get(2).getCdcTables().get(0).getTable());
+    }
+
+    @Test
+    @DisplayName("Missing database is created first, matching state gives an empty plan")
+    public void should_create_database_first() {
+        ReconcilePlan plan = DatabaseReconciler.diff(Arrays.asList(
+                        state("db1").withKeyspace("ks2"),
+                        state("db2")),
+                Collections.singletonMap("db2", database("id2", "db2", "ks1")), Collections.emptyMap(),
+                db -> { throw new IllegalStateException("not expected"); });
+        Assertions.assertEquals(Collections.singletonList("db1"), plan.getDatabaseNames());
+        List<ReconcileAction> actions = plan.getActions("db1");
+        Assertions.assertEquals(ReconcileAction.Type.CREATE_DATABASE, actions.get(0).getType());
+        Assertions.assertEquals(ReconcileAction.Type.CREATE_KEYSPACE, actions.get(1).getType());
+        Assertions.assertEquals(2, plan.size());
+        Assertions.assertTrue(plan.getActions("db2").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Addresses are compared as CIDR blocks")
+    public void should_compare_addresses_as_cidr() {
+        AccessList acl = new AccessList();
+        acl.setDatabaseId("id1");
+        acl.setAddresses(Collections.singletonList(new AccessListAddress("10.0.0.1", "known")));
+        ReconcilePlan plan = DatabaseReconciler.diff(Collections.singletonList(state("db1")
+                        .withAccessListAddress("10.0.0.1/32", "known")),
+                Collections.singletonMap("db1", database("id1", "db1", "ks1")),
+                Collections.singletonMap("id1", acl), db -> null);
+        Assertions.assertTrue(plan.isEmpty());
+        Assertions.assertEquals("::1/128", DatabaseReconciler.normalizeAddress("::1"));
+    }
+
+    @Test
+    @DisplayName("Status timeout and poll interval should be positive")
+    public void should_reject_non_positive_durations() {
+        DatabaseReconciler reconciler = new DatabaseReconciler(HttpClientWrapper.getInstance(), "token");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reconciler.withStatusTimeout(Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reconciler.withPollInterval(Duration.ofSeconds(-1)));
+        Assertions.assertSame(reconciler, reconciler.withPollInterval(Duration.ofMillis(1)));
+    }
+}
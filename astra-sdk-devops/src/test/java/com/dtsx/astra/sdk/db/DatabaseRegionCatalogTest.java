@@ -0,0 +1,49 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.CloudProviderType;
+import com.dtsx.astra.sdk.db.domain.DatabaseCreationRequest;
+import com.dtsx.astra.sdk.db.domain.DatabaseRegion;
+import com.dtsx.astra.sdk.db.domain.DatabaseRegionCatalog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Indexes of the region catalog, no call to the Devops Api.
+ */
+public class DatabaseRegionCatalogTest {
+
+    private static DatabaseRegion region(String tier, CloudProviderType cloud, String name) {
+        DatabaseRegion r = new DatabaseRegion();
+        r.setTier(tier);
+        r.setCloudProvider(cloud);
+        r.setRegion(name);
+        return r;
+    }
+
+    private final DatabaseRegionCatalog catalog = new DatabaseRegionCatalog(Arrays.asList(
+            region("serverless", CloudProviderType.GCP, "us-east1"),
+            region("serverless", CloudProviderType.AWS, "us-east-1"),
+            region("serverless", CloudProviderType.AWS, "eu-west-1")), Collections.emptyList());
+
+    @Test
+    @DisplayName("Regions are indexed by tier, cloud and name")
+    public void should_index_regions() {
+        Assertions.assertEquals(2, catalog.findByTierAndCloud("serverless", CloudProviderType.AWS).size());
+        Assertions.assertTrue(catalog.find("serverless", CloudProviderType.GCP, "us-east1").isPresent());
+        Assertions.assertFalse(catalog.find("serverless", CloudProviderType.GCP, "eu-west-1").isPresent());
+        Assertions.assertEquals(1, catalog.asMap().size());
+    }
+
+    @Test
+    @DisplayName("Creation requests are validated against the catalog")
+    public void should_validate_creation_request() {
+        catalog.validate(DatabaseCreationRequest.builder().name("db").keyspace("ks")
+                .cloudProvider(CloudProviderType.AWS).cloudRegion("eu-west-1").build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> catalog.validate(DatabaseCreationRequest
+                .builder().name("db").keyspace("ks").cloudProvider(CloudProviderType.AZURE).cloudRegion("eu-west-1").build()));
+    }
+}
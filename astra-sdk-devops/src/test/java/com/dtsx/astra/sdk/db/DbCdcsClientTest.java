@@ -0,0 +1,32 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseInfo;
+import com.dtsx.astra.sdk.db.exception.KeyspaceNotFoundException;
+import com.dtsx.astra.sdk.streaming.domain.CdcTableRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Validation of bulk cdc creations, no call to the Api.
+ */
+public class DbCdcsClientTest {
+
+    @Test
+    @DisplayName("Unknown keyspaces are rejected before any creation")
+    public void should_validate_keyspaces_first() {
+        DatabaseInfo info = new DatabaseInfo();
+        info.setKeyspaces(Collections.singleton("ks1"));
+        Database db = new Database();
+        db.setId("id1");
+        db.setInfo(info);
+        DbCdcsClient client = new DbCdcsClient("token", db);
+        Assertions.assertThrows(KeyspaceNotFoundException.class, () -> client.createAll("tenant", Arrays.asList(
+                new CdcTableRequest("ks1", "t1", 3),
+                new CdcTableRequest("ks2", "t2", 3))));
+    }
+}
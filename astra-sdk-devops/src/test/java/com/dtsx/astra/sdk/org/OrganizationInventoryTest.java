@@ -0,0 +1,81 @@
+package com.dtsx.astra.sdk.org;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseInfo;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
+import com.dtsx.astra.sdk.org.domain.DatabaseInventory;
+import com.dtsx.astra.sdk.org.domain.OrganizationInventory;
+import com.dtsx.astra.sdk.org.domain.TenantInventory;
+import com.dtsx.astra.sdk.streaming.domain.Tenant;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Indexes and change detection of the organization inventory, no call to the Devops Api.
+ */
+public class OrganizationInventoryTest {
+
+    private static Database db(String id, String name, String region, DatabaseStatusType status, String... keyspaces) {
+        DatabaseInfo info = new DatabaseInfo();
+        info.setName(name);
+        info.setRegion(region);
+        info.setKeyspaces(new HashSet<>(Arrays.asList(keyspaces)));
+        Database db = new Database();
+        db.setId(id);
+        db.setInfo(info);
+        db.setStatus(status);
+        return db;
+    }
+
+    private static Tenant tenant(String name, String cluster, String region) {
+        Tenant t = new Tenant();
+        t.setTenantName(name);
+        t.setClusterName(cluster);
+        t.setCloudRegion(region);
+        t.setStatus("active");
+        return t;
+    }
+
+    @Test
+    @DisplayName("Databases and tenants are indexed by id, name, region and cluster")
+    public void should_index_inventory() {
+        OrganizationInventory inventory = new OrganizationInventory(
+                Arrays.asList(
+                        new DatabaseInventory(db("1", "db", "us-east1", DatabaseStatusType.ACTIVE, "ks"), null, null, null, null, 0),
+                        new DatabaseInventory(db("2", "db", "eu-west1", DatabaseStatusType.ACTIVE, "ks"), null, null, null, null, 0)),
+                Arrays.asList(
+                        new TenantInventory(tenant("t1", "c1", "us-east1"), null, null, 0),
+                        new TenantInventory(tenant("t2", "c1", "us-east1"), null, null, 0)),
+                0);
+        Assertions.assertTrue(inventory.findDatabaseById("2").isPresent());
+        Assertions.assertEquals(2, inventory.findDatabasesByName("db").size());
+        Assertions.assertEquals(1, inventory.findDatabasesByRegion("eu-west1").size());
+        Assertions.assertTrue(inventory.findTenantByName("t1").isPresent());
+        Assertions.assertEquals(2, inventory.findTenantsByCluster("c1").size());
+        Assertions.assertEquals(2, inventory.findTenantsByRegion("us-east1").size());
+        Assertions.assertTrue(inventory.findTenantsByCluster("c2").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Details are reused only for unchanged, recent and successful entries")
+    public void should_detect_changes() {
+        DatabaseInventory entry = new DatabaseInventory(
+                db("1", "db", "us-east1", DatabaseStatusType.ACTIVE, "ks"), null, Collections.emptyList(), null, null, 1000);
+        Assertions.assertTrue(entry.isUpToDate(db("1", "db", "us-east1", DatabaseStatusType.ACTIVE, "ks"), 2000, 5000));
+        Assertions.assertFalse(entry.isUpToDate(db("1", "db", "us-east1", DatabaseStatusType.ACTIVE, "ks", "ks2"), 2000, 5000));
+        Assertions.assertFalse(entry.isUpToDate(db("1", "db", "us-east1", DatabaseStatusType.HIBERNATED, "ks"), 2000, 5000));
+        Assertions.assertFalse(entry.isUpToDate(db("1", "db", "us-east1", DatabaseStatusType.ACTIVE, "ks"), 7000, 5000));
+        DatabaseInventory failed = new DatabaseInventory(
+                db("1", "db", "us-east1", DatabaseStatusType.ACTIVE, "ks"), null, null, null, new IllegalStateException(), 1000);
+        Assertions.assertFalse(failed.isUpToDate(db("1", "db", "us-east1", DatabaseStatusType.ACTIVE, "ks"), 2000, 5000));
+
+        TenantInventory tenant = new TenantInventory(tenant("t1", "c1", "us-east1"), null, null, 1000);
+        Assertions.assertTrue(tenant.isUpToDate(tenant("t1", "c1", "us-east1"), 2000, 5000));
+        Assertions.assertFalse(tenant.isUpToDate(tenant("t1", "c2", "us-east1"), 2000, 5000));
+    }
+}
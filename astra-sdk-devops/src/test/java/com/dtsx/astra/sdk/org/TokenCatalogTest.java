@@ -0,0 +1,39 @@
+package com.dtsx.astra.sdk.org;
+
+import com.dtsx.astra.sdk.org.domain.IamToken;
+import com.dtsx.astra.sdk.org.domain.TokenCatalog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+/**
+ * Indexes of the token catalog, no call to the Devops Api.
+ */
+public class TokenCatalogTest {
+
+    private static IamToken token(String clientId, String... roles) {
+        IamToken t = new IamToken();
+        t.setClientId(clientId);
+        t.setRoles(Arrays.asList(roles));
+        return t;
+    }
+
+    @Test
+    @DisplayName("Tokens are indexed by client id and role, updates give new catalogs")
+    public void should_index_tokens() {
+        TokenCatalog catalog = new TokenCatalog(Arrays.asList(
+                token("AbC", "r1"),
+                token("def", "r1", "r2")));
+        Assertions.assertTrue(catalog.findByClientId("abc").isPresent());
+        Assertions.assertEquals(2, catalog.findByRole("r1").size());
+        Assertions.assertTrue(catalog.findByRole("r3").isEmpty());
+
+        TokenCatalog updated = catalog.without("ABC").with(token("ghi", "r2"));
+        Assertions.assertFalse(updated.findByClientId("abc").isPresent());
+        Assertions.assertEquals(1, updated.findByRole("r1").size());
+        Assertions.assertEquals(2, updated.findByRole("r2").size());
+        Assertions.assertEquals(2, catalog.size());
+    }
+}
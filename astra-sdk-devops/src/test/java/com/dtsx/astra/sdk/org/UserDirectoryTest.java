@@ -0,0 +1,44 @@
+package com.dtsx.astra.sdk.org;
+
+import com.dtsx.astra.sdk.org.domain.User;
+import com.dtsx.astra.sdk.org.domain.UserDirectory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+/**
+ * Indexes of the user directory, no call to the Devops Api.
+ */
+public class UserDirectoryTest {
+
+    private static User user(String id, String email) {
+        User u = new User();
+        u.setUserId(id);
+        u.setEmail(email);
+        return u;
+    }
+
+    private final UserDirectory directory = new UserDirectory(Arrays.asList(
+            user("u1", "Alice@Example.com"),
+            user("u2", "bob@example.com")));
+
+    @Test
+    @DisplayName("Users are indexed by id and email ignoring case")
+    public void should_index_users() {
+        Assertions.assertEquals("u1", directory.findByEmail("alice@example.COM").get().getUserId());
+        Assertions.assertTrue(directory.findById("u2").isPresent());
+        Assertions.assertFalse(directory.findByEmail("carol@example.com").isPresent());
+    }
+
+    @Test
+    @DisplayName("Removing a user gives a new directory")
+    public void should_remove_user() {
+        UserDirectory updated = directory.without("u1");
+        Assertions.assertEquals(1, updated.size());
+        Assertions.assertFalse(updated.findByEmail("alice@example.com").isPresent());
+        Assertions.assertEquals(2, directory.size());
+        Assertions.assertSame(updated, updated.without("unknown"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.dtsx.astra.sdk.streaming;
+
+import com.dtsx.astra.sdk.streaming.domain.CdcCatalog;
+import com.dtsx.astra.sdk.streaming.domain.CdcDefinition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+/**
+ * Indexes of the cdc catalog, no call to the Devops Api.
+ */
+public class CdcCatalogTest {
+
+    private static CdcDefinition cdc(String connector, String db, String keyspace, String table, String tenant) {
+        CdcDefinition c = new CdcDefinition();
+        c.setConnectorName(connector);
+        c.setDatabaseId(db);
+        c.setKeyspace(keyspace);
+        c.setDatabaseTable(table);
+        c.setTenant(tenant);
+        return c;
+    }
+
+    private final CdcCatalog catalog = new CdcCatalog(Arrays.asList(
+            cdc("c1", "db1", "ks", "t1", "tenant1"),
+            cdc("c2", "db1", "ks", "t2", "tenant1"),
+            cdc("c3", "db1", "ks", "t1", "tenant2")));
+
+    @Test
+    @DisplayName("Cdc are indexed by connector name and definition")
+    public void should_index_cdc() {
+        Assertions.assertEquals(3, catalog.size());
+        Assertions.assertEquals("t2", catalog.findByConnectorName("c2").get().getDatabaseTable());
+        Assertions.assertEquals("c3", catalog.find("db1", "ks", "t1", "tenant2").get().getConnectorName());
+        Assertions.assertFalse(catalog.find("db1", "ks", "t2", "tenant2").isPresent());
+        Assertions.assertFalse(catalog.findByConnectorName("unknown").isPresent());
+    }
+
+    @Test
+    @DisplayName("Lookup by table returns the first tenant")
+    public void should_find_by_table() {
+        Assertions.assertEquals("c1", catalog.find("db1", "ks", "t1").get().getConnectorName());
+        Assertions.assertFalse(catalog.find("db2", "ks", "t1").isPresent());
+    }
+}
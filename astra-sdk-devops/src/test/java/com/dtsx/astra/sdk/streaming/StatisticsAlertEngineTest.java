@@ -0,0 +1,72 @@
+package com.dtsx.astra.sdk.streaming;
+
+import com.dtsx.astra.sdk.streaming.domain.Statistics;
+import com.dtsx.astra.sdk.streaming.domain.StatisticsAlertEvent;
+import com.dtsx.astra.sdk.streaming.domain.StatisticsAlertRule;
+import com.dtsx.astra.sdk.streaming.domain.StatisticsTimeSeries.Metric;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Alert rules evaluated on samples, no call to the Api.
+ */
+public class StatisticsAlertEngineTest {
+
+    private static Statistics backlog(int backlog) {
+        Statistics s = new Statistics();
+        s.setMsgBacklogNumber(backlog);
+        return s;
+    }
+
+    @Test
+    @DisplayName("Threshold alerts use hysteresis")
+    public void should_raise_and_clear_with_hysteresis() {
+        List<StatisticsAlertEvent> received = new ArrayList<>();
+        StatisticsAlertEngine engine = new StatisticsAlertEngine(Collections.singletonList(
+                StatisticsAlertRule.above("backlog", Metric.BACKLOG, 100, 50)))
+                .addListener(received::add);
+        engine.evaluate(Collections.singletonMap("t1", backlog(120)), 1000);
+        engine.evaluate(Collections.singletonMap("t1", backlog(80)), 2000);
+        engine.evaluate(Collections.singletonMap("t1", backlog(110)), 3000);
+        engine.evaluate(Collections.singletonMap("t1", backlog(40)), 4000);
+        Assertions.assertEquals(2, received.size());
+        Assertions.assertEquals(StatisticsAlertEvent.State.RAISED, received.get(0).getState());
+        Assertions.assertEquals(StatisticsAlertEvent.State.CLEARED, received.get(1).getState());
+    }
+
+    @Test
+    @DisplayName("Rate of change alerts compare growth per second")
+    public void should_raise_on_growth() {
+        StatisticsAlertEngine engine = new StatisticsAlertEngine(Arrays.asList(
+                StatisticsAlertRule.growing("backlog-growth", Metric.BACKLOG, 10, 0)));
+        engine.evaluate(Collections.singletonMap("t1", backlog(0)), 0);
+        engine.evaluate(Collections.singletonMap("t1", backlog(5)), 1000);
+        List<StatisticsAlertEvent> events = engine.evaluate(Collections.singletonMap("t1", backlog(50)), 2000);
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(1, engine.getActiveAlerts("t1").size());
+        engine.evaluate(Collections.emptyMap(), 3000);
+        Assertions.assertEquals(0, engine.getTrackedItems());
+    }
+
+    @Test
+    @DisplayName("Deleted topics clear their active alerts")
+    public void should_clear_alerts_of_deleted_topics() {
+        List<StatisticsAlertEvent> received = new ArrayList<>();
+        StatisticsAlertEngine engine = new StatisticsAlertEngine(Collections.singletonList(
+                StatisticsAlertRule.above("backlog", Metric.BACKLOG, 100, 50)))
+                .addListener(received::add);
+        engine.evaluate(Collections.singletonMap("t1", backlog(120)), 1000);
+        List<StatisticsAlertEvent> events = engine.evaluate(Collections.emptyMap(), 2000);
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(StatisticsAlertEvent.State.CLEARED, events.get(0).getState());
+        Assertions.assertEquals("t1", events.get(0).getItem());
+        Assertions.assertEquals(2, received.size());
+        Assertions.assertEquals(0, engine.getTrackedItems());
+    }
+}
@@ -0,0 +1,47 @@
+package com.dtsx.astra.sdk.streaming;
+
+import com.dtsx.astra.sdk.streaming.domain.Statistics;
+import com.dtsx.astra.sdk.streaming.domain.StatisticsTimeSeries;
+import com.dtsx.astra.sdk.streaming.domain.StatisticsTimeSeries.Metric;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Derived values of a statistics history, no call to the Api.
+ */
+public class StatisticsTimeSeriesTest {
+
+    private static Statistics stats(long messagesIn, int backlog) {
+        Statistics s = new Statistics();
+        s.setTotalMessagesIn(messagesIn);
+        s.setMsgBacklogNumber(backlog);
+        return s;
+    }
+
+    @Test
+    @DisplayName("Counters are exposed as rates per second")
+    public void should_compute_rates() {
+        StatisticsTimeSeries ts = new StatisticsTimeSeries(10);
+        ts.add(0, stats(0, 0));
+        ts.add(1000, stats(100, 0));
+        ts.add(2000, stats(300, 0));
+        Assertions.assertEquals(200, ts.rate(Metric.MESSAGES_IN, 1), 0.001);
+        Assertions.assertEquals(150, ts.rate(Metric.MESSAGES_IN, 10), 0.001);
+        Assertions.assertEquals(150, ts.movingAverage(Metric.MESSAGES_IN, 2), 0.001);
+        Assertions.assertEquals(300, ts.latest(Metric.MESSAGES_IN), 0.001);
+    }
+
+    @Test
+    @DisplayName("Oldest samples are overwritten when full")
+    public void should_keep_fixed_size() {
+        StatisticsTimeSeries ts = new StatisticsTimeSeries(4);
+        for (int i = 1; i <= 10; i++) {
+            ts.add(i * 1000L, stats(0, i));
+        }
+        Assertions.assertEquals(4, ts.getSize());
+        Assertions.assertEquals(8.5, ts.movingAverage(Metric.BACKLOG, 4), 0.001);
+        Assertions.assertEquals(10, ts.percentile(Metric.BACKLOG, 100, 4), 0.001);
+        Assertions.assertEquals(8, ts.percentile(Metric.BACKLOG, 50, 4), 0.001);
+    }
+}
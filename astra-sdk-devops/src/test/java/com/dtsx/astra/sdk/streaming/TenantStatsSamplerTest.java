@@ -0,0 +1,51 @@
+package com.dtsx.astra.sdk.streaming;
+
+import com.dtsx.astra.sdk.streaming.domain.Statistics;
+import com.dtsx.astra.sdk.streaming.domain.Tenant;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * History of sampled statistics, no call to the Api.
+ */
+public class TenantStatsSamplerTest {
+
+    private static Map<String, Statistics> sample(String item) {
+        return Collections.singletonMap(item, new Statistics());
+    }
+
+    @Test
+    @DisplayName("History of deleted topics is dropped after missed samples")
+    public void should_drop_missing_items() {
+        Tenant tenant = new Tenant();
+        tenant.setTenantName("tenant");
+        TenantStatsSampler sampler = new TenantStatsSampler(new TenantStatsClient("AstraCS:test", tenant),
+                Duration.ofSeconds(1), 10).withMaxMissedSamples(2);
+        sampler.record(sample("ns1"), sample("t1"), 1000);
+        sampler.record(sample("ns1"), sample("t2"), 2000);
+        Assertions.assertTrue(sampler.topic("t1").isPresent());
+        // seen again, missed samples are reset
+        sampler.record(sample("ns1"), sample("t1"), 3000);
+        sampler.record(sample("ns1"), sample("t2"), 4000);
+        Assertions.assertTrue(sampler.topic("t1").isPresent());
+        sampler.record(sample("ns1"), sample("t2"), 5000);
+        Assertions.assertFalse(sampler.topic("t1").isPresent());
+        Assertions.assertEquals(1, sampler.getTopics().size());
+        Assertions.assertTrue(sampler.namespace("ns1").isPresent());
+    }
+
+    @Test
+    @DisplayName("Capacity should be positive")
+    public void should_reject_empty_capacity() {
+        Tenant tenant = new Tenant();
+        tenant.setTenantName("tenant");
+        TenantStatsClient client = new TenantStatsClient("AstraCS:test", tenant);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TenantStatsSampler(client, Duration.ofSeconds(1), 0));
+    }
+}
@@ -0,0 +1,77 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Memoization of Devops Api results.
+ */
+public class CachedSnapshotTest {
+
+    @Test
+    @DisplayName("Value is loaded once within the ttl")
+    public void should_load_once() {
+        AtomicInteger loads = new AtomicInteger();
+        CachedSnapshot<Integer> snapshot = new CachedSnapshot<>(loads::incrementAndGet, Duration.ofMinutes(1));
+        Assertions.assertFalse(snapshot.isLoaded());
+        Assertions.assertEquals(1, snapshot.get());
+        Assertions.assertEquals(1, snapshot.get());
+        Assertions.assertTrue(snapshot.isLoaded());
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Invalidation forces a reload")
+    public void should_reload_after_invalidate() {
+        AtomicInteger loads = new AtomicInteger();
+        CachedSnapshot<Integer> snapshot = new CachedSnapshot<>(loads::incrementAndGet, Duration.ofMinutes(1));
+        snapshot.get();
+        snapshot.invalidate();
+        Assertions.assertFalse(snapshot.isLoaded());
+        Assertions.assertEquals(2, snapshot.get());
+        Assertions.assertEquals(3, snapshot.refresh());
+    }
+
+    @Test
+    @DisplayName("Expired value is reloaded")
+    public void should_reload_when_expired() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        CachedSnapshot<Integer> snapshot = new CachedSnapshot<>(loads::incrementAndGet, Duration.ofMillis(20), 1);
+        snapshot.get();
+        Thread.sleep(40);
+        Assertions.assertEquals(2, snapshot.get());
+    }
+
+    @Test
+    @DisplayName("Local update keeps the value without reload")
+    public void should_update_loaded_value() {
+        AtomicInteger loads = new AtomicInteger();
+        CachedSnapshot<Integer> snapshot = new CachedSnapshot<>(loads::incrementAndGet, Duration.ofMinutes(1));
+        snapshot.update(v -> v + 10);
+        Assertions.assertFalse(snapshot.isLoaded());
+        snapshot.get();
+        snapshot.update(v -> v + 10);
+        Assertions.assertEquals(11, snapshot.get());
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Preloaded value is served at once and revalidated in background")
+    public void should_revalidate_preloaded_value() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        CachedSnapshot<Integer> snapshot = new CachedSnapshot<>(loads::incrementAndGet, Duration.ofMinutes(1));
+        snapshot.preload(42);
+        Assertions.assertTrue(snapshot.isLoaded());
+        Assertions.assertEquals(42, snapshot.get());
+        for (int i = 0; i < 100 && snapshot.get() == 42; i++) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(1, snapshot.get());
+        snapshot.preload(42);
+        Assertions.assertEquals(1, snapshot.get());
+    }
+}
@@ -0,0 +1,113 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Throughput and allocations of {@link JsonUtils#escapeJson(String)}, not run with the tests.
+ *
+ * <p>The former implementation is reproduced here, inputs go from typical identifiers to strings
+ * where every character is escaped.</p>
+ *
+ * <pre>
+ * mvn -pl astra-sdk-devops test-compile exec:java -Dexec.classpathScope=test \
+ *    -Dexec.mainClass=com.dtsx.astra.sdk.utils.EscapeJsonBenchmark -Dexec.args="2000000"
+ * </pre>
+ */
+public class EscapeJsonBenchmark {
+
+    /** Typical and pathological inputs. */
+    private static final String[][] INPUTS = {
+            {"identifier", UUID.randomUUID().toString()},
+            {"name",       "my_database_prod"},
+            {"ascii 1k",   repeat("Astra serverless database on GCP us-east1 ", 24)},
+            {"quote late", repeat("Astra serverless database on GCP us-east1 ", 24) + "\""},
+            {"latin 1k",   repeat("base de donn\u00e9es r\u00e9partie \u00e0 Paris ", 32)},
+            {"json 1k",    repeat("{\"name\":\"db\",\"path\":\"a/b\"}\n", 40)},
+            {"controls",   repeat("\u0001\t\u001f\u0085\u2028", 200)}};
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        for (String[] input : INPUTS) {
+            if (!legacyEscapeJson(input[1]).equals(JsonUtils.escapeJson(input[1]))) {
+                throw new IllegalStateException("Different escaping for " + input[0]);
+            }
+            int n = Math.max(200_000, iterations / Math.max(1, input[1].length() / 32));
+            // both are compiled before measuring
+            measure(input[0] + " legacy", n, () -> legacyEscapeJson(input[1]), false);
+            measure(input[0] + " table",  n, () -> JsonUtils.escapeJson(input[1]), false);
+            measure(input[0] + " legacy", n, () -> legacyEscapeJson(input[1]), true);
+            measure(input[0] + " table",  n, () -> JsonUtils.escapeJson(input[1]), true);
+        }
+    }
+
+    /**
+     * Former implementation, a builder for each call and hexadecimal formatting per character.
+     *
+     * @param value
+     *      string to be escaped
+     * @return
+     *      escaped JSON
+     */
+    static String legacyEscapeJson(String value) {
+        if (value == null ) return null;
+        StringBuilder output = new StringBuilder();
+        final int len = value.length();
+        for(int i=0;i<len;i++) {
+            char ch=value.charAt(i);
+            switch(ch){
+            case '"':  output.append("\\\""); break;
+            case '\\': output.append("\\\\"); break;
+            case '\b': output.append("\\b");  break;
+            case '\f': output.append("\\f");  break;
+            case '\n': output.append("\\n");  break;
+            case '\r': output.append("\\r");  break;
+            case '\t': output.append("\\t");  break;
+            case '/':  output.append("\\/");  break;
+            default:
+                if((ch>='\u0000' && ch<='\u001F') || (ch>='\u007F' && ch<='\u009F') || (ch>='\u2000' && ch<='\u20FF')){
+                    String ss=Integer.toHexString(ch);
+                    output.append("\\u");
+                    for(int k=0;k<4-ss.length();k++){
+                        output.append('0');
+                    }
+                    output.append(ss.toUpperCase());
+                }
+                else{
+                    output.append(ch);
+                }
+            }
+        }
+        return output.toString();
+    }
+
+    private static String repeat(String pattern, int times) {
+        char[] chars = new char[pattern.length() * times];
+        for (int i = 0; i < times; i++) {
+            pattern.getChars(0, pattern.length(), chars, i * pattern.length());
+        }
+        return new String(chars);
+    }
+
+    private static void measure(String name, int iterations, Supplier<String> op, boolean print) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long sink = 0;
+        // warm up
+        for (int i = 0; i < iterations; i++) {
+            sink += op.get().length();
+        }
+        long tid = Thread.currentThread().getId();
+        long bytes = threads.getThreadAllocatedBytes(tid);
+        long top = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += op.get().length();
+        }
+        long elapsed = System.nanoTime() - top;
+        bytes = threads.getThreadAllocatedBytes(tid) - bytes;
+        if (print) {
+            System.out.printf("%-18s %10.1f ns/op %8d B/op  (%d)%n", name,
+                    (double) elapsed / iterations, bytes / iterations, sink & 1);
+        }
+    }
+}
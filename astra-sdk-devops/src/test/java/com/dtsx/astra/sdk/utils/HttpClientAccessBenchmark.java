@@ -0,0 +1,85 @@
+package com.dtsx.astra.sdk.utils;
+
+import com.dtsx.astra.sdk.AstraDevopsApiClient;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Contention on the access to the http client under concurrent calls, not run with the tests.
+ *
+ * <p>Compares a static synchronized accessor (former singleton), the lazy holder of the default
+ * instance and the instance held by a client. No request is sent.</p>
+ *
+ * <pre>
+ * mvn -pl astra-sdk-devops test-compile exec:java -Dexec.classpathScope=test \
+ *    -Dexec.mainClass=com.dtsx.astra.sdk.utils.HttpClientAccessBenchmark -Dexec.args="1,4,16 2000"
+ * </pre>
+ */
+public class HttpClientAccessBenchmark {
+
+    /** Former singleton accessor. */
+    private static HttpClientWrapper synchronizedInstance;
+
+    private static synchronized HttpClientWrapper synchronizedGetInstance() {
+        if (synchronizedInstance == null) {
+            synchronizedInstance = HttpClientWrapper.getInstance();
+        }
+        return synchronizedInstance;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] levels = (args.length > 0 ? args[0] : "1,4,16").split(",");
+        long durationMs = args.length > 1 ? Long.parseLong(args[1]) : 2000;
+        AstraDevopsApiClient client = new AstraDevopsApiClient("AstraCS:benchmark");
+        for (String level : levels) {
+            int threads = Integer.parseInt(level.trim());
+            // warm up
+            run("synchronized", HttpClientAccessBenchmark::synchronizedGetInstance, threads, durationMs / 4, false);
+            run("holder", HttpClientWrapper::getInstance, threads, durationMs / 4, false);
+            run("client field", client::getHttpClient, threads, durationMs / 4, false);
+            run("synchronized", HttpClientAccessBenchmark::synchronizedGetInstance, threads, durationMs, true);
+            run("holder", HttpClientWrapper::getInstance, threads, durationMs, true);
+            run("client field", client::getHttpClient, threads, durationMs, true);
+        }
+    }
+
+    private static void run(String name, Supplier<HttpClientWrapper> accessor, int threads, long durationMs, boolean print)
+    throws InterruptedException {
+        AtomicLong calls = new AtomicLong();
+        AtomicLong sink  = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done  = new CountDownLatch(threads);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        for (int i = 0; i < threads; i++) {
+            Thread t = new Thread(() -> {
+                long count = 0;
+                int hash = 0;
+                try {
+                    start.await();
+                    while (System.nanoTime() < deadline) {
+                        for (int j = 0; j < 1000; j++) {
+                            hash ^= System.identityHashCode(accessor.get());
+                        }
+                        count += 1000;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                calls.addAndGet(count);
+                sink.addAndGet(hash);
+                done.countDown();
+            });
+            t.setDaemon(true);
+            t.start();
+        }
+        start.countDown();
+        done.await();
+        if (print) {
+            System.out.printf("%-13s threads %3d  %,15d calls/s  (%d)%n",
+                    name, threads, calls.get() * 1000 / durationMs, sink.get() & 1);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.dtsx.astra.sdk.utils;
+
+import com.dtsx.astra.sdk.AstraDevopsApiClient;
+import com.dtsx.astra.sdk.db.telemetry.KafkaTelemetryRequest;
+import com.dtsx.astra.sdk.streaming.TenantRegistry;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Http client instances, no call to the Devops Api.
+ */
+public class HttpClientWrapperTest {
+
+    @Test
+    @DisplayName("Clients created from a client share its http client")
+    public void should_propagate_http_client() {
+        RequestConfig config = RequestConfig.custom().setConnectTimeout(Timeout.ofSeconds(1)).build();
+        try (HttpClientWrapper http = new HttpClientWrapper(config)) {
+            AstraDevopsApiClient devops = new AstraDevopsApiClient(http, "AstraCS:test");
+            Assertions.assertSame(http, devops.getHttpClient());
+            Assertions.assertSame(config, devops.getHttpClient().getRequestConfig());
+            Assertions.assertSame(http, devops.db().getHttpClient());
+            Assertions.assertSame(http, devops.db().database("dbid").getHttpClient());
+            Assertions.assertSame(http, devops.streaming().tenant("tenant").getHttpClient());
+            Assertions.assertSame(http, devops.tokens().getHttpClient());
+        }
+    }
+
+    @Test
+    @DisplayName("Caches are held by the http client and dropped when it is closed")
+    public void should_scope_caches_to_http_client() {
+        HttpClientWrapper first  = new HttpClientWrapper(HttpClientWrapper.DEFAULT_REQUEST_CONFIG);
+        HttpClientWrapper second = new HttpClientWrapper(HttpClientWrapper.DEFAULT_REQUEST_CONFIG);
+        TenantRegistry registry = TenantRegistry.getInstance(first, "AstraCS:test");
+        Assertions.assertSame(registry, TenantRegistry.getInstance(first, "AstraCS:test"));
+        Assertions.assertNotSame(registry, TenantRegistry.getInstance(second, "AstraCS:test"));
+        Assertions.assertNotSame(registry, TenantRegistry.getInstance(first, "AstraCS:other"));
+        first.close();
+        second.close();
+        Assertions.assertNotSame(registry, TenantRegistry.getInstance(first, "AstraCS:test"));
+    }
+
+    @Test
+    @DisplayName("Least recently used caches are dropped above the limit")
+    public void should_bound_caches() {
+        try (HttpClientWrapper client = new HttpClientWrapper(HttpClientWrapper.DEFAULT_REQUEST_CONFIG)) {
+            client.getCache("first", k -> "v");
+            for (int i = 0; i < HttpClientWrapper.MAX_CLIENT_CACHES; i++) {
+                client.getCache("key/" + i, k -> "v");
+                // keep the first one in use
+                client.findCache("first");
+            }
+            Assertions.assertEquals(HttpClientWrapper.MAX_CLIENT_CACHES, client.getCacheSize());
+            Assertions.assertNotNull(client.findCache("first"));
+            Assertions.assertNull(client.findCache("key/0"));
+        }
+    }
+
+    @Test
+    @DisplayName("Default instance is shared")
+    public void should_share_default_instance() {
+        Assertions.assertSame(HttpClientWrapper.getInstance(), HttpClientWrapper.getInstance());
+        Assertions.assertSame(HttpClientWrapper.getInstance(), new AstraDevopsApiClient("AstraCS:test").getHttpClient());
+        Assertions.assertSame(HttpClientWrapper.DEFAULT_REQUEST_CONFIG, HttpClientWrapper.getInstance().getRequestConfig());
+    }
+
+    @Test
+    @DisplayName("Async client follows the http client")
+    public void should_own_async_client() {
+        Assertions.assertSame(AsyncHttpClientWrapper.getInstance(), HttpClientWrapper.getInstance().getAsyncClient());
+        HttpClientWrapper custom = new HttpClientWrapper(HttpClientWrapper.DEFAULT_REQUEST_CONFIG, 4, 2);
+        AsyncHttpClientWrapper async = custom.getAsyncClient();
+        Assertions.assertSame(async, custom.getAsyncClient());
+        Assertions.assertNotSame(AsyncHttpClientWrapper.getInstance(), async);
+        custom.close();
+        Assertions.assertNotSame(async, custom.getAsyncClient());
+        custom.getAsyncClient().close();
+    }
+
+    @Test
+    @DisplayName("Requests carry json headers and an utf-8 json entity")
+    public void should_build_json_requests() throws Exception {
+        HttpUriRequestBase req = HttpClientWrapper.getInstance()
+                .buildRequest(Method.POST, "https://localhost/v2", "AstraCS:test", "{\"name\":\"\u00e9\"}", "application/json");
+        Assertions.assertEquals("Bearer AstraCS:test", req.getFirstHeader("Authorization").getValue());
+        Assertions.assertEquals("application/json", req.getFirstHeader("Content-Type").getValue());
+        Assertions.assertEquals("application/json; charset=UTF-8", req.getEntity().getContentType());
+        Assertions.assertEquals(13, req.getEntity().getContentLength());
+        // headers of the token are reused, requests do not share their header lists
+        HttpUriRequestBase other = HttpClientWrapper.getInstance()
+                .buildRequest(Method.GET, "https://localhost/v2", "AstraCS:test", null, "application/json");
+        req.addHeader("If-None-Match", "etag");
+        Assertions.assertNull(other.getFirstHeader("If-None-Match"));
+        Assertions.assertSame(req.getFirstHeader("Accept"), other.getFirstHeader("Accept"));
+    }
+
+    @Test
+    @DisplayName("Json bodies are written and escaped by the generator")
+    public void should_stream_json_bodies() throws Exception {
+        HttpUriRequestBase req = HttpClientWrapper.getInstance()
+                .buildRequest(Method.POST, "https://localhost/v2", "AstraCS:test", generator -> {
+                    generator.writeStartObject();
+                    generator.writeStringField("password", "p\"a\\ss\u00e9");
+                    generator.writeEndObject();
+                });
+        Assertions.assertTrue(req.getEntity().isRepeatable());
+        String body = EntityUtils.toString(req.getEntity());
+        Assertions.assertEquals("{\"password\":\"p\\\"a\\\\ss\u00e9\"}", body);
+        // buffered, sent with a Content-Length
+        Assertions.assertEquals(body.getBytes(StandardCharsets.UTF_8).length, req.getEntity().getContentLength());
+        // same body for a retry
+        Assertions.assertEquals(body, EntityUtils.toString(req.getEntity()));
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("kafka", new KafkaTelemetryRequest());
+        Assertions.assertEquals("{\"kafka\":{\"security_protocol\":\"SASL_PLAINTEXT\"}}", JsonUtils.mapAsJson(map));
+        Assertions.assertEquals("[\"a\\\"b\",1,null]", JsonUtils.collectionAsJson(Arrays.asList("a\"b", 1, null)));
+    }
+
+    @Test
+    @DisplayName("Response headers are mapped on access only")
+    public void should_read_headers_lazily() {
+        ApiResponseHttp res = new ApiResponseHttp("{}", 201, new Header[] {
+                new BasicHeader("Location", "dbid"), new BasicHeader("ETag", "v1")});
+        Assertions.assertEquals("dbid", res.getHeader("location"));
+        Assertions.assertEquals("v1", res.getHeader("ETAG"));
+        Assertions.assertNull(res.getHeader("Vary"));
+        Assertions.assertEquals(2, res.getHeaders().size());
+        Assertions.assertEquals("dbid", res.getHeaders().get("Location"));
+        Assertions.assertTrue(new ApiResponseHttp("{}", 200).getHeaders().isEmpty());
+    }
+}
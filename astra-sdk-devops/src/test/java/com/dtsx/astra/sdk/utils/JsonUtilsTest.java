@@ -0,0 +1,33 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Json escaping, no call to the Devops Api.
+ */
+public class JsonUtilsTest {
+
+    @Test
+    @DisplayName("Strings without special characters are returned as is")
+    public void should_not_copy_plain_strings() {
+        String plain = "my_database-01 \u00e9t\u00e9";
+        Assertions.assertSame(plain, JsonUtils.escapeJson(plain));
+        Assertions.assertSame("", JsonUtils.escapeJson(""));
+        Assertions.assertNull(JsonUtils.escapeJson(null));
+    }
+
+    @Test
+    @DisplayName("Escaping is unchanged for every character")
+    public void should_escape_as_before() {
+        Assertions.assertEquals("a\\\"b\\\\c\\/d\\n\\u0001\\u007F\\u2028", JsonUtils.escapeJson("a\"b\\c/d\n\u0001\u007f\u2028"));
+        StringBuilder all = new StringBuilder();
+        for (char ch = 0; ch < Character.MAX_VALUE; ch++) {
+            String single = String.valueOf(ch);
+            Assertions.assertEquals(EscapeJsonBenchmark.legacyEscapeJson(single), JsonUtils.escapeJson(single));
+            all.append(ch);
+        }
+        Assertions.assertEquals(EscapeJsonBenchmark.legacyEscapeJson(all.toString()), JsonUtils.escapeJson(all.toString()));
+    }
+}
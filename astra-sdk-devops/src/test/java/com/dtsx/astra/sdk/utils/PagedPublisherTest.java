@@ -0,0 +1,94 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Demand-driven paging of publishers, no call to the Devops Api.
+ */
+public class PagedPublisherTest {
+
+    /** Records signals and requests on demand. */
+    private static class RecordingSubscriber implements Subscriber<Integer> {
+        private final List<Integer> items = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            this.error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+
+    @Test
+    @DisplayName("Pages are loaded only when requested")
+    public void should_load_pages_on_demand() {
+        AtomicInteger pages = new AtomicInteger();
+        PagedPublisher<Integer> publisher = new PagedPublisher<>(last -> {
+            pages.incrementAndGet();
+            int start = last == null ? 0 : last + 1;
+            List<Integer> page = start >= 5 ? Collections.emptyList() : Arrays.asList(start, start + 1);
+            return CompletableFuture.completedFuture(page.size() == 2 && start + 1 >= 5
+                    ? Collections.singletonList(start) : page);
+        }, 2);
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        Assertions.assertEquals(0, pages.get());
+
+        subscriber.subscription.request(1);
+        Assertions.assertEquals(Collections.singletonList(0), subscriber.items);
+        Assertions.assertEquals(1, pages.get());
+
+        subscriber.subscription.request(2);
+        Assertions.assertEquals(Arrays.asList(0, 1, 2), subscriber.items);
+        Assertions.assertEquals(2, pages.get());
+        Assertions.assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertEquals(Arrays.asList(0, 1, 2, 3, 4), subscriber.items);
+        Assertions.assertEquals(3, pages.get());
+        Assertions.assertTrue(subscriber.completed);
+    }
+
+    @Test
+    @DisplayName("Errors and invalid requests are signaled")
+    public void should_signal_errors() {
+        CompletableFuture<List<Integer>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("boom"));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        PagedPublisher.of(() -> failed).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        Assertions.assertTrue(subscriber.error instanceof IllegalStateException);
+
+        RecordingSubscriber invalid = new RecordingSubscriber();
+        PagedPublisher.of(() -> CompletableFuture.completedFuture(Arrays.asList(1, 2))).subscribe(invalid);
+        invalid.subscription.request(0);
+        Assertions.assertTrue(invalid.error instanceof IllegalArgumentException);
+    }
+}
@@ -0,0 +1,90 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.message.BasicHeader;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Allocations of request building and response mapping, not run with the tests.
+ *
+ * <p>Legacy paths are reproduced here: headers and text entity built for each request, response
+ * headers copied in a map. Allocated bytes are read from the HotSpot thread bean.</p>
+ *
+ * <pre>
+ * mvn -pl astra-sdk-devops test-compile exec:java -Dexec.classpathScope=test \
+ *    -Dexec.mainClass=com.dtsx.astra.sdk.utils.RequestAllocationBenchmark -Dexec.args="1000000"
+ * </pre>
+ */
+public class RequestAllocationBenchmark {
+
+    private static final String TOKEN = "AstraCS:benchmark:0123456789abcdef0123456789abcdef";
+
+    private static final String URL = "https://api.astra.datastax.com/v2/databases";
+
+    private static final String BODY = "{\"name\":\"db\",\"keyspace\":\"ks\",\"cloudProvider\":\"GCP\",\"region\":\"us-east1\"}";
+
+    private static final Header[] RESPONSE_HEADERS = {
+            new BasicHeader("Content-Type", "application/json"),
+            new BasicHeader("Date", "Mon, 19 Oct 2026 10:00:00 GMT"),
+            new BasicHeader("Location", "5b2b9f3e-9a0a-4c0e-b6d1-2f0c6c5c0e11"),
+            new BasicHeader("Strict-Transport-Security", "max-age=31536000"),
+            new BasicHeader("X-Request-Id", "c4d5e6f7"),
+            new BasicHeader("Vary", "Accept-Encoding")};
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        HttpClientWrapper http = HttpClientWrapper.getInstance();
+        measure("request legacy", iterations, () -> legacyRequest().getHeaders().length);
+        measure("request lean", iterations, () -> http.buildRequest(Method.POST, URL, TOKEN, BODY, "application/json").getHeaders().length);
+        measure("response legacy", iterations, () -> legacyResponse().getBody().length());
+        measure("response lean", iterations, () -> new ApiResponseHttp(BODY, 201, RESPONSE_HEADERS).getBody().length());
+        measure("response lean+header", iterations, () -> new ApiResponseHttp(BODY, 201, RESPONSE_HEADERS).getHeader("location").length());
+    }
+
+    private static HttpUriRequestBase legacyRequest() {
+        HttpUriRequestBase req = new HttpPost(URL);
+        req.addHeader("Content-Type", "application/json");
+        req.addHeader("Accept", "application/json");
+        req.addHeader("User-Agent", HttpClientWrapper.REQUEST_WITH);
+        req.addHeader("X-Requested-With", HttpClientWrapper.REQUEST_WITH);
+        req.addHeader("Authorization", "Bearer " + TOKEN);
+        req.setConfig(HttpClientWrapper.DEFAULT_REQUEST_CONFIG);
+        req.setEntity(new StringEntity(BODY, ContentType.TEXT_PLAIN));
+        return req;
+    }
+
+    private static ApiResponseHttp legacyResponse() {
+        Map<String, String> headers = new HashMap<>();
+        Arrays.stream(RESPONSE_HEADERS).forEach(h -> headers.put(h.getName(), h.getValue()));
+        return new ApiResponseHttp(BODY, 201, headers);
+    }
+
+    private static void measure(String name, int iterations, IntSupplier op) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long sink = 0;
+        // warm up
+        for (int i = 0; i < iterations; i++) {
+            sink += op.getAsInt();
+        }
+        long tid = Thread.currentThread().getId();
+        long bytes = threads.getThreadAllocatedBytes(tid);
+        long top = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += op.getAsInt();
+        }
+        long elapsed = System.nanoTime() - top;
+        bytes = threads.getThreadAllocatedBytes(tid) - bytes;
+        System.out.printf("%-22s %8.1f ns/op %8d B/op  (%d)%n", name,
+                (double) elapsed / iterations, bytes / iterations, sink & 1);
+    }
+}
@@ -0,0 +1,44 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Change detection of polled resources, no call to the Devops Api.
+ */
+public class ResourceWatcherTest {
+
+    @Test
+    @DisplayName("Changes are detected by id and fingerprint and published to all subscribers")
+    public void should_publish_changes() {
+        AtomicReference<List<String>> listed = new AtomicReference<>(Arrays.asList("a:1", "b:1"));
+        ResourceWatcher<String> watcher = new ResourceWatcher<>("test", listed::get,
+                s -> s.split(":")[0], s -> s.split(":")[1]);
+        List<ResourceChange<String>> first  = new ArrayList<>();
+        List<ResourceChange<String>> second = new ArrayList<>();
+        watcher.subscribe(first::add).subscribe(c -> {
+            throw new IllegalStateException("failing subscriber");
+        }).subscribe(second::add);
+
+        Assertions.assertEquals(2, watcher.poll().size());
+        Assertions.assertTrue(watcher.poll().isEmpty());
+
+        listed.set(Arrays.asList("a:2", "c:1"));
+        List<ResourceChange<String>> changes = watcher.poll();
+        Assertions.assertEquals(3, changes.size());
+        Assertions.assertEquals(ResourceChange.Type.UPDATED, changes.get(0).getType());
+        Assertions.assertEquals("a:1", changes.get(0).getPrevious().get());
+        Assertions.assertEquals(ResourceChange.Type.ADDED, changes.get(1).getType());
+        Assertions.assertEquals(ResourceChange.Type.REMOVED, changes.get(2).getType());
+        Assertions.assertFalse(changes.get(2).getCurrent().isPresent());
+        Assertions.assertEquals(5, first.size());
+        Assertions.assertEquals(5, second.size());
+        Assertions.assertEquals(Arrays.asList("a:2", "c:1"), watcher.getCurrent());
+    }
+}
@@ -0,0 +1,80 @@
+package com.dtsx.astra.sdk.utils;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseInfo;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
+import com.dtsx.astra.sdk.org.domain.Role;
+import com.dtsx.astra.sdk.org.domain.User;
+import com.dtsx.astra.sdk.streaming.domain.CdcDefinition;
+import com.dtsx.astra.sdk.streaming.domain.Tenant;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Save and load of domain snapshots, no call to the Devops Api.
+ */
+public class SnapshotStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Domain objects are saved and loaded back")
+    public void should_save_and_load() {
+        SnapshotStore store = new SnapshotStore(dir);
+        DatabaseInfo info = new DatabaseInfo();
+        info.setName("db");
+        info.setKeyspaces(new HashSet<>(Arrays.asList("ks1", "ks2")));
+        Database db = new Database();
+        db.setId("id");
+        db.setInfo(info);
+        db.setStatus(DatabaseStatusType.ACTIVE);
+        store.save("databases", Collections.singletonList(db));
+        Tenant tenant = new Tenant();
+        tenant.setTenantName("tenant");
+        store.save("tenants", Collections.singletonList(tenant));
+        Role role = new Role();
+        role.setId("r1");
+        role.setName("Admin");
+        User user = new User();
+        user.setEmail("a@b.c");
+        user.setRoles(Collections.singletonList(role));
+        store.save("users", Collections.singletonList(user));
+        CdcDefinition cdc = new CdcDefinition();
+        cdc.setDatabaseId("id");
+        cdc.setKeyspace("ks1");
+        store.save("cdc", Arrays.asList(cdc, cdc));
+
+        SnapshotStore.Snapshot<Database> dbs = store.load("databases", Database.class).get();
+        Assertions.assertEquals(1, dbs.getItems().size());
+        Assertions.assertEquals(DatabaseStatusType.ACTIVE, dbs.getItems().get(0).getStatus());
+        Assertions.assertEquals(2, dbs.getItems().get(0).getInfo().getKeyspaces().size());
+        Assertions.assertTrue(dbs.getSavedAt() > 0);
+        Assertions.assertEquals("tenant", store.load("tenants", Tenant.class).get().getItems().get(0).getTenantName());
+        Assertions.assertEquals("Admin", store.load("users", User.class).get().getItems().get(0).getRoles().get(0).getName());
+        List<CdcDefinition> defs = store.load("cdc", CdcDefinition.class).get().getItems();
+        Assertions.assertEquals(2, defs.size());
+        Assertions.assertEquals("ks1", defs.get(1).getKeyspace());
+    }
+
+    @Test
+    @DisplayName("Missing or damaged snapshots are ignored")
+    public void should_ignore_unreadable() throws IOException {
+        SnapshotStore store = new SnapshotStore(dir).withCompression(false);
+        Assertions.assertFalse(store.load("tenants", Tenant.class).isPresent());
+        Files.write(store.getPath("tenants"), new byte[] {1, 2, 3});
+        Assertions.assertFalse(store.load("tenants", Tenant.class).isPresent());
+        store.save("tenants", Collections.singletonList(new Tenant()));
+        Assertions.assertTrue(store.load("tenants", Tenant.class).isPresent());
+    }
+}
@@ -0,0 +1,98 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors of the parallel work, no call to the Devops Api.
+ */
+public class TaskExecutorsTest {
+
+    @AfterEach
+    public void resetMode() {
+        TaskExecutors.setMode(ThreadMode.PLATFORM);
+    }
+
+    @Test
+    @DisplayName("Concurrency is bounded in all modes")
+    public void should_bound_concurrency() throws Exception {
+        assertBounded(ThreadMode.PLATFORM);
+        assertBounded(ThreadMode.AUTO);
+    }
+
+    @Test
+    @DisplayName("Virtual mode is rejected when the JVM does not support it")
+    public void should_check_virtual_support() {
+        if (TaskExecutors.isVirtualThreadSupported()) {
+            TaskExecutors.setMode(ThreadMode.VIRTUAL);
+            Assertions.assertTrue(TaskExecutors.isVirtual());
+        } else {
+            Assertions.assertThrows(IllegalStateException.class, () -> TaskExecutors.setMode(ThreadMode.VIRTUAL));
+            TaskExecutors.setMode(ThreadMode.AUTO);
+            Assertions.assertFalse(TaskExecutors.isVirtual());
+        }
+    }
+
+    @Test
+    @DisplayName("Platform threads are numbered after the prefix")
+    public void should_number_platform_threads() throws Exception {
+        ExecutorService executor = TaskExecutors.newBoundedExecutor("astra-test", 2);
+        Set<String> names = new HashSet<>();
+        CountDownLatch started = new CountDownLatch(2);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futures.add(executor.submit(() -> {
+                    started.countDown();
+                    started.await();
+                    return Thread.currentThread().getName();
+                }));
+            }
+            for (Future<String> future : futures) {
+                names.add(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("astra-test-0", "astra-test-1")), names);
+    }
+
+    private void assertBounded(ThreadMode mode) throws Exception {
+        TaskExecutors.setMode(mode);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak    = new AtomicInteger();
+        ExecutorService executor = TaskExecutors.newBoundedExecutor("astra-test", 3);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(executor.submit(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertTrue(peak.get() <= 3, "peak was " + peak.get());
+    }
+}
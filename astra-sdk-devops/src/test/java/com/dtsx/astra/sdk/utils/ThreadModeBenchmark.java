@@ -0,0 +1,84 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare platform and virtual threads on blocking fan-out, not run with the tests.
+ *
+ * <p>Each task waits on a shared {@link CachedSnapshot} (a lock held across the load) then sleeps
+ * to simulate a Devops Api call. Virtual threads require Java 21+, only platform threads are
+ * measured on older JVMs.</p>
+ *
+ * <pre>
+ * mvn -pl astra-sdk-devops test-compile exec:java -Dexec.classpathScope=test \
+ *    -Dexec.mainClass=com.dtsx.astra.sdk.utils.ThreadModeBenchmark -Dexec.args="5000 50 8,64,512"
+ * </pre>
+ */
+public class ThreadModeBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int tasks        = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        long latencyMs   = args.length > 1 ? Long.parseLong(args[1]) : 50;
+        String[] levels  = (args.length > 2 ? args[2] : "8,64,512").split(",");
+        List<ThreadMode> modes = new ArrayList<>();
+        modes.add(ThreadMode.PLATFORM);
+        if (TaskExecutors.isVirtualThreadSupported()) {
+            modes.add(ThreadMode.VIRTUAL);
+        } else {
+            System.out.println("Virtual threads not supported by Java " + System.getProperty("java.version"));
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        for (String level : levels) {
+            int concurrency = Integer.parseInt(level.trim());
+            for (ThreadMode mode : modes) {
+                TaskExecutors.setMode(mode);
+                // warm up
+                run(Math.min(tasks, concurrency * 2), concurrency, latencyMs);
+                System.gc();
+                threads.resetPeakThreadCount();
+                long top = System.nanoTime();
+                run(tasks, concurrency, latencyMs);
+                long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - top));
+                System.out.printf("%-9s concurrency %5d  %8d calls/s  %6d ms  peak platform threads %5d%n",
+                        mode, concurrency, tasks * 1000L / elapsedMs, elapsedMs, threads.getPeakThreadCount());
+            }
+        }
+    }
+
+    private static void run(int tasks, int concurrency, long latencyMs) throws Exception {
+        CachedSnapshot<String> shared = new CachedSnapshot<>(() -> {
+            sleep(latencyMs);
+            return "loaded";
+        }, Duration.ofMinutes(1));
+        ExecutorService executor = TaskExecutors.newBoundedExecutor("astra-bench", concurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                futures.add(executor.submit(() -> {
+                    shared.get();
+                    sleep(latencyMs);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.dtsx.astra.sdk.streaming;
+
+import com.dtsx.astra.sdk.streaming.domain.CdcDefinition;
+import org.apache.pulsar.client.api.BatchReceivePolicy;
+import org.apache.pulsar.client.api.Consumer;
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.Messages;
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.SubscriptionInitialPosition;
+import org.apache.pulsar.client.api.SubscriptionType;
+import org.apache.pulsar.client.api.schema.GenericRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Consume the data topic of a CDC definition and decode changes into {@link CdcRecord}.
+ *
+ * <p>Messages are received in batches and decoded in a record reused for the whole batch.
+ * A batch is acknowledged once all its records have been handled (at-least-once), if the
+ * handler fails the whole batch is negatively acknowledged and redelivered later: records
+ * already handled are delivered again and the redelivered batch can arrive after newer
+ * messages, handlers should be idempotent and not rely on ordering. With a parallelism of
+ * N, N consumers share a failover subscription so partitions of the data topic are spread
+ * across N workers, each partition being consumed by a single worker.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class CdcConsumer implements Closeable {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CdcConsumer.class);
+
+    /** Default messages per batch. */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /** Default wait for a batch to fill. */
+    public static final Duration DEFAULT_BATCH_TIMEOUT = Duration.ofMillis(100);
+
+    /** First delay after a receive error, doubled on each consecutive error. */
+    static final long RETRY_INITIAL_DELAY_MILLIS = 100;
+
+    /** Maximum delay between two receives in error. */
+    static final long RETRY_MAX_DELAY_MILLIS = 30000;
+
+    /** Provide the client (provider, lease). */
+    private final Supplier<PulsarClient> pulsarClient;
+
+    /** Fully qualified data topic. */
+    private final String topic;
+
+    /** Subscription name. */
+    private final String subscriptionName;
+
+    /** Number of consumers. */
+    private int parallelism = 1;
+
+    /** Messages per batch. */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /** Wait for a batch to fill. */
+    private Duration batchTimeout = DEFAULT_BATCH_TIMEOUT;
+
+    /** Start position of a new subscription. */
+    private SubscriptionInitialPosition initialPosition = SubscriptionInitialPosition.Latest;
+
+    /** Running consumers. */
+    private final List<Consumer<GenericRecord>> consumers = new ArrayList<>();
+
+    /** Worker threads. */
+    private final List<Thread> workers = new ArrayList<>();
+
+    /** Records handled. */
+    private final AtomicLong processed = new AtomicLong();
+
+    /** Batches negatively acknowledged. */
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    /** Stop requested. */
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor.
+     *
+     * @param pulsarClient
+     *      client provider, e.g. {@link PulsarClientProvider} or {@link PulsarLease}
+     * @param cdc
+     *      cdc definition
+     * @param subscriptionName
+     *      subscription name
+     */
+    public CdcConsumer(Supplier<PulsarClient> pulsarClient, CdcDefinition cdc, String subscriptionName) {
+        if (pulsarClient == null) {
+            throw new IllegalArgumentException("pulsarClient should not be null");
+        }
+        if (cdc == null || cdc.getDataTopic() == null || cdc.getDataTopic().isEmpty()) {
+            throw new IllegalArgumentException("cdc should provide a data topic");
+        }
+        if (subscriptionName == null || subscriptionName.isEmpty()) {
+            throw new IllegalArgumentException("Parameter 'subscriptionName' should be null nor empty");
+        }
+        this.pulsarClient     = pulsarClient;
+        this.topic            = dataTopic(cdc);
+        this.subscriptionName = subscriptionName;
+    }
+
+    /**
+     * Fully qualified name of the data topic.
+     *
+     * @param cdc
+     *      cdc definition
+     * @return
+     *      topic name
+     */
+    static String dataTopic(CdcDefinition cdc) {
+        String dataTopic = cdc.getDataTopic();
+        if (dataTopic.startsWith("persistent://") || dataTopic.startsWith("non-persistent://")) {
+            return dataTopic;
+        }
+        return "persistent://" + cdc.getTenant() + "/" + cdc.getNamespace() + "/" + dataTopic;
+    }
+
+    /**
+     * Number of consumers, partitions are spread across them.
+     *
+     * @param parallelism
+     *      number of consumers
+     * @return
+     *      current reference
+     */
+    public CdcConsumer withParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism should be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Maximum messages per batch.
+     *
+     * @param batchSize
+     *      messages per batch
+     * @return
+     *      current reference
+     */
+    public CdcConsumer withBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize should be positive");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Maximum wait for a batch to fill.
+     *
+     * @param batchTimeout
+     *      wait for a batch
+     * @return
+     *      current reference
+     */
+    public CdcConsumer withBatchTimeout(Duration batchTimeout) {
+        if (batchTimeout == null || batchTimeout.isNegative() || batchTimeout.isZero()) {
+            throw new IllegalArgumentException("batchTimeout should be positive");
+        }
+        this.batchTimeout = batchTimeout;
+        return this;
+    }
+
+    /**
+     * Start position when the subscription is created.
+     *
+     * @param initialPosition
+     *      earliest or latest
+     * @return
+     *      current reference
+     */
+    public CdcConsumer withInitialPosition(SubscriptionInitialPosition initialPosition) {
+        if (initialPosition == null) {
+            throw new IllegalArgumentException("initialPosition should not be null");
+        }
+        this.initialPosition = initialPosition;
+        return this;
+    }
+
+    /**
+     * Subscribe and handle changes in background threads.
+     *
+     * @param handler
+     *      change handler
+     * @return
+     *      current reference
+     */
+    public synchronized CdcConsumer start(CdcRecordHandler handler) {
+        if (handler == null) {
+            throw new IllegalArgumentException("handler should not be null");
+        }
+        if (closed) {
+            throw new IllegalStateException("Consumer has been closed");
+        }
+        if (!consumers.isEmpty()) {
+            throw new IllegalStateException("Consumer already started");
+        }
+        BatchReceivePolicy policy = BatchReceivePolicy.builder()
+                .maxNumMessages(batchSize)
+                .timeout((int) batchTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        try {
+            for (int i = 0; i < parallelism; i++) {
+                Consumer<GenericRecord> consumer = pulsarClient.get()
+                        .newConsumer(Schema.AUTO_CONSUME())
+                        .topic(topic)
+                        .subscriptionName(subscriptionName)
+                        .subscriptionType(SubscriptionType.Failover)
+                        .subscriptionInitialPosition(initialPosition)
+                        .consumerName(subscriptionName + "-" + i)
+                        .batchReceivePolicy(policy)
+                        .subscribe();
+                consumers.add(consumer);
+                Thread worker = new Thread(() -> run(consumer, handler), "astra-cdc-" + subscriptionName + "-" + i);
+                worker.setDaemon(true);
+                workers.add(worker);
+            }
+        } catch (PulsarClientException e) {
+            close();
+            throw new IllegalArgumentException("Cannot subscribe to topic " + topic, e);
+        }
+        workers.forEach(Thread::start);
+        return this;
+    }
+
+    /**
+     * Receive, decode and acknowledge batches until closed.
+     *
+     * @param consumer
+     *      pulsar consumer
+     * @param handler
+     *      change handler
+     */
+    private void run(Consumer<GenericRecord> consumer, CdcRecordHandler handler) {
+        CdcRecord record = new CdcRecord();
+        int errors = 0;
+        while (!closed) {
+            Messages<GenericRecord> messages;
+            try {
+                messages = consumer.batchReceive();
+                errors = 0;
+            } catch (PulsarClientException e) {
+                if (closed) {
+                    break;
+                }
+                long delay = retryDelay(++errors);
+                LOGGER.warn("Cannot receive from {}, retrying in {}ms: {}", topic, delay, e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                continue;
+            }
+            if (messages == null || messages.size() == 0) {
+                continue;
+            }
+            try {
+                for (Message<GenericRecord> msg : messages) {
+                    record.decode(msg.getTopicName(), msg.getMessageId(), msg.getPublishTime(), msg.getValue());
+                    handler.handle(record);
+                }
+                consumer.acknowledge(messages);
+                processed.addAndGet(messages.size());
+            } catch (Exception e) {
+                // whole batch is redelivered after the nack delay, out of order with later messages
+                LOGGER.warn("Cannot process batch of {} messages from {}: {}", messages.size(), topic, e.getMessage());
+                failedBatches.incrementAndGet();
+                consumer.negativeAcknowledge(messages);
+            }
+        }
+    }
+
+    /**
+     * Delay before the next receive, exponential and capped.
+     *
+     * @param errors
+     *      consecutive receive errors
+     * @return
+     *      delay in milliseconds
+     */
+    static long retryDelay(int errors) {
+        int shift = Math.min(errors - 1, 20);
+        return Math.min(RETRY_INITIAL_DELAY_MILLIS << shift, RETRY_MAX_DELAY_MILLIS);
+    }
+
+    /**
+     * Gets topic
+     *
+     * @return value of topic
+     */
+    public String getTopic() {
+        return topic;
+    }
+
+    /**
+     * Gets processed
+     *
+     * @return value of processed
+     */
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    /**
+     * Gets failedBatches
+     *
+     * @return value of failedBatches
+     */
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    /**
+     * Stop workers and close consumers, unacknowledged messages are redelivered.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (Consumer<GenericRecord> consumer : consumers) {
+            try {
+                consumer.close();
+            } catch (PulsarClientException e) {
+                LOGGER.warn("Error while closing consumer: {}", e.getMessage());
+            }
+        }
+        consumers.clear();
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+    }
+
+}
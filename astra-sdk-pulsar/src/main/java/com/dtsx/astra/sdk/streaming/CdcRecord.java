@@ -0,0 +1,168 @@
+package com.dtsx.astra.sdk.streaming;
+
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.schema.Field;
+import org.apache.pulsar.client.api.schema.GenericRecord;
+import org.apache.pulsar.common.schema.KeyValue;
+import org.apache.pulsar.common.schema.SchemaType;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Change of a row read from a CDC data topic: primary key columns and values of the row
+ * (no value for a delete).
+ *
+ * <p>Instances are reused by {@link CdcConsumer}, one per worker, and are only valid during
+ * {@link CdcRecordHandler#handle(CdcRecord)}. Copy the maps to keep the data.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class CdcRecord {
+
+    /** Field name used when key or value is not a record. */
+    public static final String PRIMITIVE_FIELD = "value";
+
+    /** Primary key columns. */
+    private final Map<String, Object> key = new LinkedHashMap<>();
+
+    /** Row columns, empty for a delete. */
+    private final Map<String, Object> value = new LinkedHashMap<>();
+
+    /** Read-only view of key. */
+    private final Map<String, Object> keyView = Collections.unmodifiableMap(key);
+
+    /** Read-only view of value. */
+    private final Map<String, Object> valueView = Collections.unmodifiableMap(value);
+
+    /** Row deleted. */
+    private boolean delete;
+
+    /** Source topic (partition). */
+    private String topic;
+
+    /** Message id. */
+    private MessageId messageId;
+
+    /** Publish time. */
+    private long publishTime;
+
+    /**
+     * Default constructor.
+     */
+    public CdcRecord() {
+    }
+
+    /**
+     * Decode a message of the data topic, previous content is discarded.
+     *
+     * <p>Astra CDC publishes a key-value schema with the primary key as key and the row as
+     * value, a delete has no value. Fields are copied from the decoded records without any
+     * intermediate representation.</p>
+     *
+     * @param topic
+     *      source topic
+     * @param messageId
+     *      message id
+     * @param publishTime
+     *      publish time
+     * @param record
+     *      decoded message value
+     */
+    void decode(String topic, MessageId messageId, long publishTime, GenericRecord record) {
+        this.topic       = topic;
+        this.messageId   = messageId;
+        this.publishTime = publishTime;
+        Object keyPart   = null;
+        Object valuePart = record;
+        if (record != null && record.getSchemaType() == SchemaType.KEY_VALUE) {
+            KeyValue<?, ?> kv = (KeyValue<?, ?>) record.getNativeObject();
+            keyPart   = kv.getKey();
+            valuePart = kv.getValue();
+        }
+        this.delete = (valuePart == null);
+        copy(keyPart, key);
+        copy(valuePart, value);
+    }
+
+    /**
+     * Copy fields of a record in a reused map.
+     *
+     * @param part
+     *      key or value, a record or a primitive value
+     * @param target
+     *      target map
+     */
+    private static void copy(Object part, Map<String, Object> target) {
+        target.clear();
+        if (part instanceof GenericRecord) {
+            GenericRecord record = (GenericRecord) part;
+            for (Field field : record.getFields()) {
+                target.put(field.getName(), record.getField(field));
+            }
+        } else if (part != null) {
+            target.put(PRIMITIVE_FIELD, part);
+        }
+    }
+
+    /**
+     * Gets key
+     *
+     * @return value of key
+     */
+    public Map<String, Object> getKey() {
+        return keyView;
+    }
+
+    /**
+     * Gets value
+     *
+     * @return value of value
+     */
+    public Map<String, Object> getValue() {
+        return valueView;
+    }
+
+    /**
+     * Gets delete
+     *
+     * @return value of delete
+     */
+    public boolean isDelete() {
+        return delete;
+    }
+
+    /**
+     * Gets topic
+     *
+     * @return value of topic
+     */
+    public String getTopic() {
+        return topic;
+    }
+
+    /**
+     * Gets messageId
+     *
+     * @return value of messageId
+     */
+    public MessageId getMessageId() {
+        return messageId;
+    }
+
+    /**
+     * Gets publishTime
+     *
+     * @return value of publishTime
+     */
+    public long getPublishTime() {
+        return publishTime;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return (delete ? "DELETE " : "UPSERT ") + key + " " + value;
+    }
+}
@@ -0,0 +1,20 @@
+package com.dtsx.astra.sdk.streaming;
+
+/**
+ * Process changes read by {@link CdcConsumer}.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+@FunctionalInterface
+public interface CdcRecordHandler {
+
+    /**
+     * Process a change, the record is reused after the call returns.
+     *
+     * @param record
+     *      change of a row
+     * @throws Exception
+     *      the batch is negatively acknowledged and redelivered
+     */
+    void handle(CdcRecord record) throws Exception;
+}
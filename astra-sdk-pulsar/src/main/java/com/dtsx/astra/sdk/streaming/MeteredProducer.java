@@ -0,0 +1,108 @@
+package com.dtsx.astra.sdk.streaming;
+
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.Producer;
+import org.apache.pulsar.client.api.PulsarClientException;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Producer recording publish latency and batch sizes in {@link ProducerMetrics}.
+ *
+ * @param <T>
+ *      message type
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class MeteredProducer<T> implements Closeable {
+
+    /** Pulsar producer. */
+    private final Producer<T> producer;
+
+    /** Metrics. */
+    private final ProducerMetrics metrics;
+
+    /**
+     * Constructor.
+     *
+     * @param producer
+     *      pulsar producer
+     * @param metrics
+     *      metrics fed by the producer interceptor
+     */
+    MeteredProducer(Producer<T> producer, ProducerMetrics metrics) {
+        this.producer = producer;
+        this.metrics  = metrics;
+    }
+
+    /**
+     * Send a message asynchronously.
+     *
+     * @param value
+     *      message
+     * @return
+     *      message id when acknowledged
+     */
+    public CompletableFuture<MessageId> sendAsync(T value) {
+        long top = System.nanoTime();
+        return producer.sendAsync(value).whenComplete((id, err) ->
+                metrics.recordPublish(System.nanoTime() - top, err == null));
+    }
+
+    /**
+     * Send a message and wait for acknowledgement.
+     *
+     * @param value
+     *      message
+     * @return
+     *      message id
+     * @throws PulsarClientException
+     *      send error
+     */
+    public MessageId send(T value) throws PulsarClientException {
+        long top = System.nanoTime();
+        try {
+            MessageId id = producer.send(value);
+            metrics.recordPublish(System.nanoTime() - top, true);
+            return id;
+        } catch (PulsarClientException e) {
+            metrics.recordPublish(System.nanoTime() - top, false);
+            throw e;
+        }
+    }
+
+    /**
+     * Send pending batches.
+     *
+     * @throws PulsarClientException
+     *      send error
+     */
+    public void flush() throws PulsarClientException {
+        producer.flush();
+    }
+
+    /**
+     * Gets producer
+     *
+     * @return value of producer
+     */
+    public Producer<T> getProducer() {
+        return producer;
+    }
+
+    /**
+     * Gets metrics
+     *
+     * @return value of metrics
+     */
+    public ProducerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws PulsarClientException {
+        producer.close();
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.dtsx.astra.sdk.streaming;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publish latency and batch size of a producer.
+ *
+ * <p>Latencies are kept in a fixed histogram with power of two buckets (microseconds), so
+ * recording does not allocate and percentiles are approximated by the upper bound of the
+ * bucket.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class ProducerMetrics {
+
+    /** Number of buckets, last bucket holds all latencies above 2^62 micros. */
+    private static final int BUCKETS = 64;
+
+    /** Latency histogram. */
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(BUCKETS);
+
+    /** Acknowledged messages. */
+    private final LongAdder messagesSent = new LongAdder();
+
+    /** Failed messages. */
+    private final LongAdder sendErrors = new LongAdder();
+
+    /** Sum of latencies in micros. */
+    private final LongAdder latencySumMicros = new LongAdder();
+
+    /** Batches sent. */
+    private final LongAdder batches = new LongAdder();
+
+    /** Messages in batches sent. */
+    private final LongAdder batchedMessages = new LongAdder();
+
+    /**
+     * Default constructor.
+     */
+    public ProducerMetrics() {
+    }
+
+    /**
+     * Record a publish.
+     *
+     * @param latencyNanos
+     *      time between send and acknowledgement
+     * @param success
+     *      if the message has been acknowledged
+     */
+    public void recordPublish(long latencyNanos, boolean success) {
+        if (!success) {
+            sendErrors.increment();
+            return;
+        }
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        latencyBuckets.incrementAndGet(Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros)));
+        latencySumMicros.add(micros);
+        messagesSent.increment();
+    }
+
+    /**
+     * Record a batch acknowledged by the broker.
+     *
+     * @param size
+     *      messages in the batch
+     */
+    public void recordBatch(int size) {
+        batches.increment();
+        batchedMessages.add(size);
+    }
+
+    /**
+     * Approximated latency percentile.
+     *
+     * @param percentile
+     *      percentile in [0,100]
+     * @return
+     *      latency in micros (upper bound of bucket), 0 if no message
+     */
+    public long getPublishLatencyMicros(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile should be in [0,100]");
+        }
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = latencyBuckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100d * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Average publish latency.
+     *
+     * @return
+     *      average latency in micros
+     */
+    public double getAveragePublishLatencyMicros() {
+        long sent = messagesSent.sum();
+        return sent == 0 ? 0 : (double) latencySumMicros.sum() / sent;
+    }
+
+    /**
+     * Average number of messages per batch.
+     *
+     * @return
+     *      average batch size
+     */
+    public double getAverageBatchSize() {
+        long count = batches.sum();
+        return count == 0 ? 0 : (double) batchedMessages.sum() / count;
+    }
+
+    /**
+     * Gets messagesSent
+     *
+     * @return value of messagesSent
+     */
+    public long getMessagesSent() {
+        return messagesSent.sum();
+    }
+
+    /**
+     * Gets sendErrors
+     *
+     * @return value of sendErrors
+     */
+    public long getSendErrors() {
+        return sendErrors.sum();
+    }
+
+    /**
+     * Gets batches
+     *
+     * @return value of batches
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "sent=" + getMessagesSent() + ", errors=" + getSendErrors()
+                + ", avgLatencyUs=" + String.format("%.1f", getAveragePublishLatencyMicros())
+                + ", p99LatencyUs=" + getPublishLatencyMicros(99)
+                + ", avgBatchSize=" + String.format("%.1f", getAverageBatchSize());
+    }
+}
@@ -0,0 +1,153 @@
+package com.dtsx.astra.sdk.streaming;
+
+import org.apache.pulsar.client.api.CompressionType;
+import org.apache.pulsar.client.api.ProducerBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer settings for common workloads, applied by {@link PulsarProducerFactory}.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public enum ProducerPreset {
+
+    /** No batching, each message is sent immediately. */
+    LOW_LATENCY(false, 1, 0, 0, CompressionType.NONE, false, 1000, false),
+
+    /** Small batches with a short delay, LZ4 compression. */
+    BALANCED(true, 1000, 128 * 1024, 1, CompressionType.LZ4, false, 10000, true),
+
+    /** Large batches, ZSTD compression, producer blocks when the queue is full. */
+    HIGH_THROUGHPUT(true, 10000, 1024 * 1024, 10, CompressionType.ZSTD, false, 50000, true),
+
+    /** Messages larger than the broker limit are split in chunks (batching is not compatible). */
+    LARGE_MESSAGES(false, 1, 0, 0, CompressionType.LZ4, true, 1000, true);
+
+    /** Group messages in batches. */
+    private final boolean batching;
+
+    /** Maximum messages in a batch. */
+    private final int batchingMaxMessages;
+
+    /** Maximum bytes in a batch. */
+    private final int batchingMaxBytes;
+
+    /** Maximum delay before a batch is sent (millis). */
+    private final long batchingMaxPublishDelayMillis;
+
+    /** Compression. */
+    private final CompressionType compression;
+
+    /** Split large messages. */
+    private final boolean chunking;
+
+    /** Maximum messages waiting for broker acknowledgement. */
+    private final int maxPendingMessages;
+
+    /** Block (true) or fail (false) when pending queue is full. */
+    private final boolean blockIfQueueFull;
+
+    /**
+     * Constructor.
+     *
+     * @param batching
+     *      group messages in batches
+     * @param batchingMaxMessages
+     *      maximum messages in a batch
+     * @param batchingMaxBytes
+     *      maximum bytes in a batch
+     * @param batchingMaxPublishDelayMillis
+     *      maximum delay before a batch is sent
+     * @param compression
+     *      compression
+     * @param chunking
+     *      split large messages
+     * @param maxPendingMessages
+     *      maximum pending messages
+     * @param blockIfQueueFull
+     *      block or fail when queue is full
+     */
+    ProducerPreset(boolean batching, int batchingMaxMessages, int batchingMaxBytes, long batchingMaxPublishDelayMillis,
+                   CompressionType compression, boolean chunking, int maxPendingMessages, boolean blockIfQueueFull) {
+        this.batching = batching;
+        this.batchingMaxMessages = batchingMaxMessages;
+        this.batchingMaxBytes = batchingMaxBytes;
+        this.batchingMaxPublishDelayMillis = batchingMaxPublishDelayMillis;
+        this.compression = compression;
+        this.chunking = chunking;
+        this.maxPendingMessages = maxPendingMessages;
+        this.blockIfQueueFull = blockIfQueueFull;
+    }
+
+    /**
+     * Apply the preset on a producer builder, values can be overridden afterwards.
+     *
+     * @param builder
+     *      producer builder
+     * @param <T>
+     *      message type
+     * @return
+     *      same builder
+     */
+    public <T> ProducerBuilder<T> apply(ProducerBuilder<T> builder) {
+        builder.enableBatching(batching)
+               .compressionType(compression)
+               .maxPendingMessages(maxPendingMessages)
+               .blockIfQueueFull(blockIfQueueFull);
+        if (batching) {
+            builder.batchingMaxMessages(batchingMaxMessages)
+                   .batchingMaxBytes(batchingMaxBytes)
+                   .batchingMaxPublishDelay(batchingMaxPublishDelayMillis, TimeUnit.MILLISECONDS);
+        }
+        if (chunking) {
+            builder.enableChunking(true);
+        }
+        return builder;
+    }
+
+    /**
+     * Gets batching
+     *
+     * @return value of batching
+     */
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Gets compression
+     *
+     * @return value of compression
+     */
+    public CompressionType getCompression() {
+        return compression;
+    }
+
+    /**
+     * Gets chunking
+     *
+     * @return value of chunking
+     */
+    public boolean isChunking() {
+        return chunking;
+    }
+
+    /**
+     * Gets maxPendingMessages
+     *
+     * @return value of maxPendingMessages
+     */
+    public int getMaxPendingMessages() {
+        return maxPendingMessages;
+    }
+
+    /**
+     * Gets blockIfQueueFull
+     *
+     * @return value of blockIfQueueFull
+     */
+    public boolean isBlockIfQueueFull() {
+        return blockIfQueueFull;
+    }
+}
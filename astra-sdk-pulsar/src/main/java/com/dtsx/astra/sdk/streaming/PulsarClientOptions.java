@@ -0,0 +1,158 @@
+package com.dtsx.astra.sdk.streaming;
+
+import java.time.Duration;
+
+/**
+ * Tuning of clients created by {@link PulsarClientRegistry}.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class PulsarClientOptions {
+
+    /** Threads handling connections to brokers, shared by all clients. */
+    private int ioThreads = Runtime.getRuntime().availableProcessors();
+
+    /** Threads running message listeners, shared by all clients. */
+    private int listenerThreads = Runtime.getRuntime().availableProcessors();
+
+    /** Connections opened to each broker by a client. */
+    private int connectionsPerBroker = 1;
+
+    /** Memory used by producers pending messages of a client (bytes, 0 to disable). */
+    private long memoryLimitBytes = 64 * 1024 * 1024;
+
+    /** Delay before closing a client which is not used anymore. */
+    private Duration idleTimeout = Duration.ofMinutes(1);
+
+    /**
+     * Default constructor.
+     */
+    public PulsarClientOptions() {
+    }
+
+    /**
+     * Update ioThreads.
+     *
+     * @param ioThreads
+     *      threads handling connections
+     * @return
+     *      current reference
+     */
+    public PulsarClientOptions withIoThreads(int ioThreads) {
+        if (ioThreads < 1) {
+            throw new IllegalArgumentException("ioThreads should be positive");
+        }
+        this.ioThreads = ioThreads;
+        return this;
+    }
+
+    /**
+     * Update listenerThreads.
+     *
+     * @param listenerThreads
+     *      threads running listeners
+     * @return
+     *      current reference
+     */
+    public PulsarClientOptions withListenerThreads(int listenerThreads) {
+        if (listenerThreads < 1) {
+            throw new IllegalArgumentException("listenerThreads should be positive");
+        }
+        this.listenerThreads = listenerThreads;
+        return this;
+    }
+
+    /**
+     * Update connectionsPerBroker.
+     *
+     * @param connectionsPerBroker
+     *      connections opened to each broker
+     * @return
+     *      current reference
+     */
+    public PulsarClientOptions withConnectionsPerBroker(int connectionsPerBroker) {
+        if (connectionsPerBroker < 1) {
+            throw new IllegalArgumentException("connectionsPerBroker should be positive");
+        }
+        this.connectionsPerBroker = connectionsPerBroker;
+        return this;
+    }
+
+    /**
+     * Update memoryLimitBytes.
+     *
+     * @param memoryLimitBytes
+     *      memory limit per client in bytes (0 to disable)
+     * @return
+     *      current reference
+     */
+    public PulsarClientOptions withMemoryLimitBytes(long memoryLimitBytes) {
+        if (memoryLimitBytes < 0) {
+            throw new IllegalArgumentException("memoryLimitBytes should not be negative");
+        }
+        this.memoryLimitBytes = memoryLimitBytes;
+        return this;
+    }
+
+    /**
+     * Update idleTimeout.
+     *
+     * @param idleTimeout
+     *      delay before closing an unused client
+     * @return
+     *      current reference
+     */
+    public PulsarClientOptions withIdleTimeout(Duration idleTimeout) {
+        if (idleTimeout == null || idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("idleTimeout should not be negative");
+        }
+        this.idleTimeout = idleTimeout;
+        return this;
+    }
+
+    /**
+     * Gets ioThreads
+     *
+     * @return value of ioThreads
+     */
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    /**
+     * Gets listenerThreads
+     *
+     * @return value of listenerThreads
+     */
+    public int getListenerThreads() {
+        return listenerThreads;
+    }
+
+    /**
+     * Gets connectionsPerBroker
+     *
+     * @return value of connectionsPerBroker
+     */
+    public int getConnectionsPerBroker() {
+        return connectionsPerBroker;
+    }
+
+    /**
+     * Gets memoryLimitBytes
+     *
+     * @return value of memoryLimitBytes
+     */
+    public long getMemoryLimitBytes() {
+        return memoryLimitBytes;
+    }
+
+    /**
+     * Gets idleTimeout
+     *
+     * @return value of idleTimeout
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+}
@@ -0,0 +1,423 @@
+package com.dtsx.astra.sdk.streaming;
+
+import org.apache.pulsar.client.admin.PulsarAdmin;
+import org.apache.pulsar.client.api.AuthenticationFactory;
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.impl.PulsarClientImpl;
+import org.apache.pulsar.client.impl.conf.ClientConfigurationData;
+import org.apache.pulsar.client.util.ExecutorProvider;
+import org.apache.pulsar.client.util.ScheduledExecutorProvider;
+import org.apache.pulsar.common.util.netty.EventLoopUtil;
+import org.apache.pulsar.shade.io.netty.channel.EventLoopGroup;
+import org.apache.pulsar.shade.io.netty.util.HashedWheelTimer;
+import org.apache.pulsar.shade.io.netty.util.Timer;
+import org.apache.pulsar.shade.io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Share PulsarClient and PulsarAdmin instances keyed by service url and token.
+ *
+ * <p>All clients of the registry run on the same IO event loop, timer and listener threads,
+ * sized by {@link PulsarClientOptions}, instead of creating their own pools. Instances are
+ * reference counted through {@link PulsarLease}, when the last lease is released the instance
+ * is closed after the idle timeout unless it is acquired again. Instances are created outside of
+ * the registry lock, when two threads create the same instance the second one is closed.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class PulsarClientRegistry implements Closeable {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(PulsarClientRegistry.class);
+
+    /** Default registry. */
+    private static PulsarClientRegistry defaultInstance;
+
+    /** Tuning. */
+    private final PulsarClientOptions options;
+
+    /** IO threads shared by clients. */
+    private final EventLoopGroup eventLoopGroup;
+
+    /** Timer shared by clients. */
+    private final Timer timer;
+
+    /** Listener threads shared by clients. */
+    private final ExecutorProvider externalExecutorProvider;
+
+    /** Internal threads shared by clients. */
+    private final ExecutorProvider internalExecutorProvider;
+
+    /** Scheduled tasks shared by clients. */
+    private final ScheduledExecutorProvider scheduledExecutorProvider;
+
+    /** Close idle instances. */
+    private final ScheduledExecutorService idleCloser;
+
+    /** Clients by url and token. */
+    private final Map<String, Entry<PulsarClient>> clients = new HashMap<>();
+
+    /** Admins by url and token. */
+    private final Map<String, Entry<PulsarAdmin>> admins = new HashMap<>();
+
+    /** Registry closed. */
+    private boolean closed = false;
+
+    /**
+     * Shared instance with its reference count.
+     *
+     * @param <T>
+     *      PulsarClient or PulsarAdmin
+     */
+    private static final class Entry<T extends AutoCloseable> {
+
+        /** Shared instance. */
+        private final T instance;
+
+        /** View given to leases, close is not supported. */
+        private final T view;
+
+        /** Number of leases. */
+        private int references = 0;
+
+        /** Pending idle close. */
+        private ScheduledFuture<?> idleClose;
+
+        /**
+         * Constructor.
+         *
+         * @param instance
+         *      shared instance
+         * @param view
+         *      view given to leases
+         */
+        private Entry(T instance, T view) {
+            this.instance = instance;
+            this.view     = view;
+        }
+    }
+
+    /**
+     * Registry with default options.
+     *
+     * @return
+     *      default registry
+     */
+    public static synchronized PulsarClientRegistry getInstance() {
+        if (defaultInstance == null || defaultInstance.isClosed()) {
+            defaultInstance = new PulsarClientRegistry(new PulsarClientOptions());
+        }
+        return defaultInstance;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param options
+     *      tuning options
+     */
+    public PulsarClientRegistry(PulsarClientOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("options should not be null");
+        }
+        this.options = options;
+        this.eventLoopGroup = EventLoopUtil.newEventLoopGroup(options.getIoThreads(), false,
+                new DefaultThreadFactory("astra-pulsar-io", true));
+        this.timer = new HashedWheelTimer(new DefaultThreadFactory("astra-pulsar-timer", true), 1, TimeUnit.MILLISECONDS);
+        this.externalExecutorProvider  = new ExecutorProvider(options.getListenerThreads(), "astra-pulsar-listener");
+        this.internalExecutorProvider  = new ExecutorProvider(options.getListenerThreads(), "astra-pulsar-internal");
+        this.scheduledExecutorProvider = new ScheduledExecutorProvider(options.getListenerThreads(), "astra-pulsar-scheduled");
+        this.idleCloser = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "astra-pulsar-idle");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Acquire a client on the shared resources.
+     *
+     * @param serviceUrl
+     *      broker service url
+     * @param pulsarToken
+     *      pulsar token
+     * @return
+     *      lease to close when done
+     */
+    public PulsarLease<PulsarClient> acquireClient(String serviceUrl, String pulsarToken) {
+        String key = key(serviceUrl, pulsarToken);
+        return acquire(clients, key, PulsarClient.class, () -> {
+            ClientConfigurationData conf = new ClientConfigurationData();
+            conf.setServiceUrl(serviceUrl);
+            conf.setAuthentication(AuthenticationFactory.token(pulsarToken));
+            conf.setNumIoThreads(options.getIoThreads());
+            conf.setNumListenerThreads(options.getListenerThreads());
+            conf.setConnectionsPerBroker(options.getConnectionsPerBroker());
+            conf.setMemoryLimitBytes(options.getMemoryLimitBytes());
+            return PulsarClientImpl.builder()
+                    .conf(conf)
+                    .eventLoopGroup(eventLoopGroup)
+                    .timer(timer)
+                    .externalExecutorProvider(externalExecutorProvider)
+                    .internalExecutorProvider(internalExecutorProvider)
+                    .scheduledExecutorProvider(scheduledExecutorProvider)
+                    .build();
+        });
+    }
+
+    /**
+     * Acquire an admin client.
+     *
+     * @param webServiceUrl
+     *      web service url
+     * @param pulsarToken
+     *      pulsar token
+     * @return
+     *      lease to close when done
+     */
+    public PulsarLease<PulsarAdmin> acquireAdmin(String webServiceUrl, String pulsarToken) {
+        String key = key(webServiceUrl, pulsarToken);
+        return acquire(admins, key, PulsarAdmin.class, () -> PulsarAdmin.builder()
+                .allowTlsInsecureConnection(false)
+                .enableTlsHostnameVerification(true)
+                .serviceHttpUrl(webServiceUrl)
+                .authentication(AuthenticationFactory.token(pulsarToken))
+                .build());
+    }
+
+    /**
+     * Create an instance.
+     *
+     * @param <T>
+     *      PulsarClient or PulsarAdmin
+     */
+    @FunctionalInterface
+    private interface Factory<T> {
+
+        /**
+         * Create the instance.
+         *
+         * @return
+         *      instance
+         * @throws PulsarClientException
+         *      creation error
+         */
+        T create() throws PulsarClientException;
+    }
+
+    /**
+     * Get or create the instance and add a reference. The instance is created without holding
+     * the registry lock, an instance created concurrently for the same key is closed.
+     *
+     * @param entries
+     *      instances
+     * @param key
+     *      url and token
+     * @param type
+     *      interface of the instance
+     * @param factory
+     *      create the instance
+     * @param <T>
+     *      PulsarClient or PulsarAdmin
+     * @return
+     *      lease
+     */
+    private <T extends AutoCloseable> PulsarLease<T> acquire(Map<String, Entry<T>> entries, String key,
+                                                             Class<T> type, Factory<T> factory) {
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Registry has been closed");
+            }
+            Entry<T> entry = entries.get(key);
+            if (entry != null) {
+                return lease(entries, key, entry);
+            }
+        }
+        T created;
+        try {
+            created = factory.create();
+        } catch (PulsarClientException e) {
+            throw new IllegalArgumentException("Cannot connect to pulsar", e);
+        }
+        T view = PulsarLease.nonClosable(type, created);
+        T duplicate = created;
+        PulsarLease<T> lease = null;
+        synchronized (this) {
+            if (!closed) {
+                Entry<T> entry = entries.get(key);
+                if (entry == null) {
+                    entry = new Entry<>(created, view);
+                    entries.put(key, entry);
+                    duplicate = null;
+                }
+                lease = lease(entries, key, entry);
+            }
+        }
+        if (duplicate != null) {
+            // registry closed or instance created by another thread meanwhile
+            closeQuietly(duplicate);
+        }
+        if (lease == null) {
+            throw new IllegalStateException("Registry has been closed");
+        }
+        return lease;
+    }
+
+    /**
+     * Add a reference to an entry, caller holds the registry lock.
+     *
+     * @param entries
+     *      instances
+     * @param key
+     *      url and token
+     * @param entry
+     *      entry
+     * @param <T>
+     *      PulsarClient or PulsarAdmin
+     * @return
+     *      lease
+     */
+    private <T extends AutoCloseable> PulsarLease<T> lease(Map<String, Entry<T>> entries, String key, Entry<T> entry) {
+        if (entry.idleClose != null) {
+            entry.idleClose.cancel(false);
+            entry.idleClose = null;
+        }
+        entry.references++;
+        return new PulsarLease<>(entry.view, () -> release(entries, key, entry));
+    }
+
+    /**
+     * Remove a reference, schedule close when unused.
+     *
+     * @param entries
+     *      instances
+     * @param key
+     *      url and token
+     * @param entry
+     *      released entry
+     * @param <T>
+     *      PulsarClient or PulsarAdmin
+     */
+    private synchronized <T extends AutoCloseable> void release(Map<String, Entry<T>> entries, String key, Entry<T> entry) {
+        entry.references--;
+        if (entry.references > 0 || closed) {
+            return;
+        }
+        long idle = options.getIdleTimeout().toMillis();
+        entry.idleClose = idleCloser.schedule(() -> closeIfIdle(entries, key, entry), idle, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Close an instance if still unused.
+     *
+     * @param entries
+     *      instances
+     * @param key
+     *      url and token
+     * @param entry
+     *      entry to close
+     * @param <T>
+     *      PulsarClient or PulsarAdmin
+     */
+    private synchronized <T extends AutoCloseable> void closeIfIdle(Map<String, Entry<T>> entries, String key, Entry<T> entry) {
+        if (entry.references == 0 && entries.get(key) == entry) {
+            entries.remove(key);
+            closeQuietly(entry.instance);
+        }
+    }
+
+    /**
+     * Close without failing.
+     *
+     * @param instance
+     *      instance to close
+     */
+    private void closeQuietly(AutoCloseable instance) {
+        try {
+            instance.close();
+        } catch (Exception e) {
+            LOGGER.warn("Error while closing pulsar client: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Build map key.
+     *
+     * @param url
+     *      service url
+     * @param token
+     *      pulsar token
+     * @return
+     *      key
+     */
+    private static String key(String url, String token) {
+        if (url == null || url.isEmpty()) {
+            throw new IllegalArgumentException("Parameter 'url' should be null nor empty");
+        }
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("Parameter 'pulsarToken' should be null nor empty");
+        }
+        return url + "|" + token;
+    }
+
+    /**
+     * Number of clients opened.
+     *
+     * @return
+     *      opened clients
+     */
+    public synchronized int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Number of admin clients opened.
+     *
+     * @return
+     *      opened admins
+     */
+    public synchronized int getAdminCount() {
+        return admins.size();
+    }
+
+    /**
+     * Gets closed
+     *
+     * @return value of closed
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Close all instances and shared resources.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        idleCloser.shutdownNow();
+        clients.values().forEach(e -> closeQuietly(e.instance));
+        admins.values().forEach(e -> closeQuietly(e.instance));
+        clients.clear();
+        admins.clear();
+        externalExecutorProvider.shutdownNow();
+        internalExecutorProvider.shutdownNow();
+        scheduledExecutorProvider.shutdownNow();
+        timer.stop();
+        eventLoopGroup.shutdownGracefully();
+    }
+
+}
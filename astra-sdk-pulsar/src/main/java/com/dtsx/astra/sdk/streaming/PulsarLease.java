@@ -0,0 +1,101 @@
+package com.dtsx.astra.sdk.streaming;
+
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Reference on a shared client of {@link PulsarClientRegistry}. Closing the lease releases the
+ * reference, the client itself is closed by the registry once no lease uses it anymore.
+ *
+ * <p>{@link #get()} returns a view of the shared client where close, closeAsync and shutdown throw
+ * {@link UnsupportedOperationException}, other leases use the same client. Consumers and producers
+ * created from it should still be closed by the caller.</p>
+ *
+ * @param <T>
+ *      PulsarClient or PulsarAdmin
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class PulsarLease<T> implements Supplier<T>, Closeable {
+
+    /** Shared client. */
+    private final T client;
+
+    /** Release the reference. */
+    private final Runnable release;
+
+    /** Release only once. */
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    /**
+     * Constructor.
+     *
+     * @param client
+     *      shared client
+     * @param release
+     *      release the reference
+     */
+    PulsarLease(T client, Runnable release) {
+        this.client  = client;
+        this.release = release;
+    }
+
+    /**
+     * View of a shared instance which cannot be closed, other calls are delegated.
+     *
+     * @param type
+     *      interface of the instance
+     * @param instance
+     *      shared instance
+     * @param <T>
+     *      PulsarClient or PulsarAdmin
+     * @return
+     *      view
+     */
+    static <T> T nonClosable(Class<T> type, T instance) {
+        Object view = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                case "closeAsync":
+                case "shutdown":
+                    throw new UnsupportedOperationException("Shared client is closed by the registry, close the lease instead");
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    try {
+                        return method.invoke(instance, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        });
+        return type.cast(view);
+    }
+
+    /**
+     * Shared client, closing it is not supported.
+     *
+     * @return
+     *      shared client
+     */
+    @Override
+    public T get() {
+        if (released.get()) {
+            throw new IllegalStateException("Lease has been released");
+        }
+        return client;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            release.run();
+        }
+    }
+
+}
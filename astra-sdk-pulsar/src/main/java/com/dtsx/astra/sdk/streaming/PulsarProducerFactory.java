@@ -0,0 +1,142 @@
+package com.dtsx.astra.sdk.streaming;
+
+import org.apache.pulsar.client.api.Message;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.Producer;
+import org.apache.pulsar.client.api.ProducerBuilder;
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.PulsarClientException;
+import org.apache.pulsar.client.api.Schema;
+import org.apache.pulsar.client.api.interceptor.ProducerInterceptor;
+import org.apache.pulsar.client.impl.BatchMessageIdImpl;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Create producers configured with a {@link ProducerPreset} and instrumented with {@link ProducerMetrics}.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class PulsarProducerFactory {
+
+    /** Provide the client (provider, lease). */
+    private final Supplier<PulsarClient> pulsarClient;
+
+    /**
+     * Constructor.
+     *
+     * @param pulsarClient
+     *      client provider, e.g. {@link PulsarClientProvider} or {@link PulsarLease}
+     */
+    public PulsarProducerFactory(Supplier<PulsarClient> pulsarClient) {
+        if (pulsarClient == null) {
+            throw new IllegalArgumentException("pulsarClient should not be null");
+        }
+        this.pulsarClient = pulsarClient;
+    }
+
+    /**
+     * Create a producer with a preset.
+     *
+     * @param schema
+     *      message schema
+     * @param topic
+     *      topic name
+     * @param preset
+     *      producer settings
+     * @param <T>
+     *      message type
+     * @return
+     *      metered producer
+     */
+    public <T> MeteredProducer<T> create(Schema<T> schema, String topic, ProducerPreset preset) {
+        return create(schema, topic, preset, b -> {});
+    }
+
+    /**
+     * Create a producer with a preset and custom settings applied after the preset.
+     *
+     * @param schema
+     *      message schema
+     * @param topic
+     *      topic name
+     * @param preset
+     *      producer settings
+     * @param customizer
+     *      override settings of the preset
+     * @param <T>
+     *      message type
+     * @return
+     *      metered producer
+     */
+    public <T> MeteredProducer<T> create(Schema<T> schema, String topic, ProducerPreset preset,
+                                         Consumer<ProducerBuilder<T>> customizer) {
+        if (topic == null || topic.isEmpty()) {
+            throw new IllegalArgumentException("Parameter 'topic' should be null nor empty");
+        }
+        ProducerMetrics metrics = new ProducerMetrics();
+        ProducerBuilder<T> builder = preset.apply(pulsarClient.get().newProducer(schema).topic(topic))
+                .intercept(new BatchSizeInterceptor(metrics));
+        customizer.accept(builder);
+        try {
+            return new MeteredProducer<>(builder.create(), metrics);
+        } catch (PulsarClientException e) {
+            throw new IllegalArgumentException("Cannot create producer for topic " + topic, e);
+        }
+    }
+
+    /**
+     * Record batch sizes from message ids of acknowledged messages.
+     */
+    private static final class BatchSizeInterceptor implements ProducerInterceptor {
+
+        /** Metrics. */
+        private final ProducerMetrics metrics;
+
+        /**
+         * Constructor.
+         *
+         * @param metrics
+         *      metrics
+         */
+        private BatchSizeInterceptor(ProducerMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean eligible(Message message) {
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Message beforeSend(Producer producer, Message message) {
+            return message;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void onSendAcknowledgement(Producer producer, Message message, MessageId msgId, Throwable exception) {
+            if (exception != null || msgId == null) {
+                return;
+            }
+            if (msgId instanceof BatchMessageIdImpl) {
+                BatchMessageIdImpl batchId = (BatchMessageIdImpl) msgId;
+                // one record per batch
+                if (batchId.getBatchIndex() == 0) {
+                    metrics.recordBatch(batchId.getBatchSize());
+                }
+            } else {
+                metrics.recordBatch(1);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.dtsx.astra.sdk.streaming;
+
+import com.dtsx.astra.sdk.streaming.domain.CdcDefinition;
+import org.apache.pulsar.client.api.MessageId;
+import org.apache.pulsar.client.api.schema.Field;
+import org.apache.pulsar.client.api.schema.GenericRecord;
+import org.apache.pulsar.common.schema.KeyValue;
+import org.apache.pulsar.common.schema.SchemaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding of CDC records, offline.
+ */
+public class CdcRecordTest {
+
+    /**
+     * Minimal record.
+     */
+    private static class MapRecord implements GenericRecord {
+
+        private final SchemaType type;
+        private final Object nativeObject;
+        private final Map<String, Object> fields = new LinkedHashMap<>();
+
+        MapRecord(SchemaType type, Object nativeObject) {
+            this.type = type;
+            this.nativeObject = nativeObject;
+        }
+
+        MapRecord with(String name, Object value) {
+            fields.put(name, value);
+            return this;
+        }
+
+        @Override
+        public byte[] getSchemaVersion() {
+            return null;
+        }
+
+        @Override
+        public List<Field> getFields() {
+            List<Field> list = new ArrayList<>();
+            int i = 0;
+            for (String name : fields.keySet()) {
+                list.add(new Field(name, i++));
+            }
+            return list;
+        }
+
+        @Override
+        public Object getField(String fieldName) {
+            return fields.get(fieldName);
+        }
+
+        @Override
+        public SchemaType getSchemaType() {
+            return type;
+        }
+
+        @Override
+        public Object getNativeObject() {
+            return nativeObject;
+        }
+    }
+
+    private static MapRecord keyValue(GenericRecord key, GenericRecord value) {
+        return new MapRecord(SchemaType.KEY_VALUE, new KeyValue<>(key, value));
+    }
+
+    @Test
+    public void shouldDecodeUpsertThenDeleteInSameInstance() {
+        CdcRecord record = new CdcRecord();
+        record.decode("t", MessageId.earliest, 1L, keyValue(
+                new MapRecord(SchemaType.AVRO, null).with("id", 1),
+                new MapRecord(SchemaType.AVRO, null).with("name", "a").with("age", 10)));
+        Assertions.assertFalse(record.isDelete());
+        Assertions.assertEquals(1, record.getKey().get("id"));
+        Assertions.assertEquals(2, record.getValue().size());
+        Map<String, Object> value = record.getValue();
+
+        record.decode("t", MessageId.earliest, 2L, keyValue(
+                new MapRecord(SchemaType.AVRO, null).with("id", 2), null));
+        Assertions.assertTrue(record.isDelete());
+        Assertions.assertEquals(2, record.getKey().get("id"));
+        Assertions.assertTrue(record.getValue().isEmpty());
+        // maps are reused
+        Assertions.assertSame(value, record.getValue());
+        Assertions.assertEquals(2L, record.getPublishTime());
+    }
+
+    @Test
+    public void shouldDecodeValueOnlyRecord() {
+        CdcRecord record = new CdcRecord();
+        record.decode("t", MessageId.latest, 0L, new MapRecord(SchemaType.AVRO, null).with("name", "b"));
+        Assertions.assertTrue(record.getKey().isEmpty());
+        Assertions.assertEquals("b", record.getValue().get("name"));
+    }
+
+    @Test
+    public void shouldQualifyDataTopic() {
+        CdcDefinition cdc = new CdcDefinition();
+        cdc.setTenant("tenant");
+        cdc.setNamespace("astracdc");
+        cdc.setDataTopic("data-db-ks.table");
+        Assertions.assertEquals("persistent://tenant/astracdc/data-db-ks.table", CdcConsumer.dataTopic(cdc));
+        cdc.setDataTopic("persistent://a/b/c");
+        Assertions.assertEquals("persistent://a/b/c", CdcConsumer.dataTopic(cdc));
+    }
+
+    @Test
+    public void shouldBackOffOnReceiveErrors() {
+        Assertions.assertEquals(CdcConsumer.RETRY_INITIAL_DELAY_MILLIS, CdcConsumer.retryDelay(1));
+        Assertions.assertEquals(2 * CdcConsumer.RETRY_INITIAL_DELAY_MILLIS, CdcConsumer.retryDelay(2));
+        Assertions.assertEquals(CdcConsumer.RETRY_MAX_DELAY_MILLIS, CdcConsumer.retryDelay(1000));
+    }
+}
@@ -0,0 +1,30 @@
+package com.dtsx.astra.sdk.streaming;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Histogram and batch statistics of producers.
+ */
+public class ProducerMetricsTest {
+
+    @Test
+    public void should_compute_latency_percentiles_and_batch_size() {
+        ProducerMetrics metrics = new ProducerMetrics();
+        for (int i = 0; i < 99; i++) {
+            metrics.recordPublish(TimeUnit.MICROSECONDS.toNanos(100), true);
+        }
+        metrics.recordPublish(TimeUnit.MILLISECONDS.toNanos(50), true);
+        metrics.recordPublish(0, false);
+        metrics.recordBatch(10);
+        metrics.recordBatch(30);
+        Assertions.assertEquals(100, metrics.getMessagesSent());
+        Assertions.assertEquals(1, metrics.getSendErrors());
+        // 100us falls in [64,127]
+        Assertions.assertEquals(127, metrics.getPublishLatencyMicros(50));
+        Assertions.assertTrue(metrics.getPublishLatencyMicros(100) >= 50_000);
+        Assertions.assertEquals(20, metrics.getAverageBatchSize(), 0.001);
+    }
+}
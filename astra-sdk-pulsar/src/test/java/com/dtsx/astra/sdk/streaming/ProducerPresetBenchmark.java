@@ -0,0 +1,50 @@
+package com.dtsx.astra.sdk.streaming;
+
+import org.apache.pulsar.client.api.PulsarClient;
+import org.apache.pulsar.client.api.Schema;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare producer presets against a standalone Pulsar, not run with the tests.
+ *
+ * <pre>
+ * docker run -it -p 6650:6650 -p 8080:8080 apachepulsar/pulsar:2.11.0 bin/pulsar standalone
+ * mvn -pl astra-sdk-pulsar test-compile exec:java -Dexec.classpathScope=test \
+ *    -Dexec.mainClass=com.dtsx.astra.sdk.streaming.ProducerPresetBenchmark -Dexec.args="pulsar://localhost:6650 100000 1024"
+ * </pre>
+ */
+public class ProducerPresetBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String serviceUrl = args.length > 0 ? args[0] : "pulsar://localhost:6650";
+        int messages      = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int payloadSize   = args.length > 2 ? Integer.parseInt(args[2]) : 1024;
+        byte[] payload    = new byte[payloadSize];
+        try (PulsarClient client = PulsarClient.builder().serviceUrl(serviceUrl).build()) {
+            PulsarProducerFactory factory = new PulsarProducerFactory(() -> client);
+            for (ProducerPreset preset : ProducerPreset.values()) {
+                String topic = "persistent://public/default/bench-" + preset.name().toLowerCase();
+                try (MeteredProducer<byte[]> producer = factory.create(Schema.BYTES, topic, preset)) {
+                    // warm up
+                    for (int i = 0; i < messages / 10; i++) {
+                        producer.sendAsync(payload);
+                    }
+                    producer.flush();
+                    long top = System.nanoTime();
+                    CompletableFuture<?> last = null;
+                    for (int i = 0; i < messages; i++) {
+                        last = producer.sendAsync(payload);
+                    }
+                    producer.flush();
+                    if (last != null) {
+                        last.get();
+                    }
+                    long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - top));
+                    System.out.printf("%-16s %10d msg/s  %s%n", preset, messages * 1000L / elapsedMs, producer.getMetrics());
+                }
+            }
+        }
+    }
+}
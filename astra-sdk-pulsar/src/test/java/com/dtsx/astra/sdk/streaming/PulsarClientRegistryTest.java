@@ -0,0 +1,36 @@
+package com.dtsx.astra.sdk.streaming;
+
+import org.apache.pulsar.client.api.PulsarClient;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * Sharing and reference counting of clients, clients connect lazily so no broker is needed.
+ */
+public class PulsarClientRegistryTest {
+
+    @Test
+    public void should_share_and_close_idle_clients() throws InterruptedException {
+        try (PulsarClientRegistry registry = new PulsarClientRegistry(new PulsarClientOptions()
+                .withIoThreads(1)
+                .withListenerThreads(1)
+                .withIdleTimeout(Duration.ofMillis(50)))) {
+            PulsarLease<PulsarClient> lease1 = registry.acquireClient("pulsar://localhost:6650", "token");
+            PulsarLease<PulsarClient> lease2 = registry.acquireClient("pulsar://localhost:6650", "token");
+            PulsarLease<PulsarClient> lease3 = registry.acquireClient("pulsar://localhost:6650", "other");
+            Assertions.assertSame(lease1.get(), lease2.get());
+            Assertions.assertNotSame(lease1.get(), lease3.get());
+            Assertions.assertEquals(2, registry.getClientCount());
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> lease1.get().close());
+            Assertions.assertFalse(lease1.get().isClosed());
+            lease1.close();
+            lease2.close();
+            lease3.close();
+            Thread.sleep(300);
+            Assertions.assertEquals(0, registry.getClientCount());
+            Assertions.assertThrows(IllegalStateException.class, lease1::get);
+        }
+    }
+}
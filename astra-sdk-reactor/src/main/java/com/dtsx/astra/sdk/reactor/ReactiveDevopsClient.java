@@ -0,0 +1,115 @@
+package com.dtsx.astra.sdk.reactor;
+
+import com.dtsx.astra.sdk.db.AstraDbClient;
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseFilter;
+import com.dtsx.astra.sdk.org.UsersClient;
+import com.dtsx.astra.sdk.org.domain.User;
+import com.dtsx.astra.sdk.streaming.TenantStatsClient;
+import com.dtsx.astra.sdk.streaming.domain.Statistics;
+import com.dtsx.astra.sdk.streaming.domain.Tenant;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactor view of the non-blocking publishers of the Devops Api clients.
+ *
+ * <p>Fluxes are cold and backpressure is propagated to the Api: a page is loaded only when
+ * the elements of the previous one have been requested downstream. No thread is blocked
+ * while waiting for responses, there is no need for a bounded elastic scheduler.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class ReactiveDevopsClient {
+
+    /** Authentication token. */
+    private final String token;
+
+    /** Http client, its async client runs the requests. */
+    private final HttpClientWrapper httpClient;
+
+    /**
+     * Constructor.
+     *
+     * @param token
+     *      authenticated token
+     */
+    public ReactiveDevopsClient(String token) {
+        this(HttpClientWrapper.getInstance(), token);
+    }
+
+    /**
+     * Constructor with a http client, requests use its configuration.
+     *
+     * @param httpClient
+     *      http client
+     * @param token
+     *      authenticated token
+     */
+    public ReactiveDevopsClient(HttpClientWrapper httpClient, String token) {
+        Assert.notNull(httpClient, "httpClient");
+        Assert.hasLength(token, "token");
+        this.httpClient = httpClient;
+        this.token      = token;
+    }
+
+    /**
+     * Databases matching a filter, its limit is the page size.
+     *
+     * @param filter
+     *      filter to search for db
+     * @return
+     *      databases
+     */
+    public Flux<Database> databases(DatabaseFilter filter) {
+        return Flux.from(new AstraDbClient(httpClient, token).searchPublisher(filter));
+    }
+
+    /**
+     * Non terminated databases.
+     *
+     * @return
+     *      databases
+     */
+    public Flux<Database> databases() {
+        return databases(new DatabaseFilter());
+    }
+
+    /**
+     * Users of the organization.
+     *
+     * @return
+     *      users
+     */
+    public Flux<User> users() {
+        return Flux.from(new UsersClient(httpClient, token).findAllPublisher());
+    }
+
+    /**
+     * Statistics of the topics of a tenant.
+     *
+     * @param tenant
+     *      tenant
+     * @return
+     *      statistics
+     */
+    public Flux<Statistics> topics(Tenant tenant) {
+        return Flux.from(new TenantStatsClient(httpClient, token, tenant).topicsPublisher());
+    }
+
+    /**
+     * Statistics of the topics of a namespace.
+     *
+     * @param tenant
+     *      tenant
+     * @param namespace
+     *      pulsar namespace
+     * @return
+     *      statistics
+     */
+    public Flux<Statistics> topics(Tenant tenant, String namespace) {
+        return Flux.from(new TenantStatsClient(httpClient, token, tenant).topicsPublisher(namespace));
+    }
+
+}
@@ -17,10 +17,13 @@
 package com.datastax.astra.sdk;
 
 import com.datastax.astra.sdk.config.AstraClientConfig;
+import com.datastax.astra.sdk.region.RegionFailoverManager;
+import com.datastax.astra.sdk.region.RegionRouter;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.dtsx.astra.sdk.AstraDevopsApiClient;
 import com.dtsx.astra.sdk.db.exception.DatabaseNotFoundException;
 import com.dtsx.astra.sdk.utils.ApiLocator;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import io.stargate.sdk.StargateClient;
 import io.stargate.sdk.api.SimpleTokenProvider;
 import io.stargate.sdk.doc.StargateDocumentApiClient;
@@ -33,6 +36,7 @@ import io.stargate.sdk.utils.AnsiUtils;
 import io.stargate.sdk.utils.Utils;
 import com.dtsx.astra.sdk.db.AstraDbClient;
 import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.Datacenter;
 import com.dtsx.astra.sdk.streaming.AstraStreamingClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +44,7 @@ import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.io.File;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Public interface to interact with ASTRA APIs.
@@ -61,6 +66,9 @@ public class AstraClient implements Closeable {
     /** Hold a reference for the Api Devops. */
     private AstraDevopsApiClient apiDevops;
 
+    /** Http client of the devops Apis when a request configuration is provided. */
+    private HttpClientWrapper devopsHttpClient;
+
     /** Hold a reference for the Api Devops. */
     private AstraDbClient apiDevopsDatabases;
 
@@ -79,6 +87,12 @@ public class AstraClient implements Closeable {
    
     /** Hold a reference on current region used for the Fail-over. */
     protected String currentDatabaseRegion;
+
+    /** Standby sessions on secondary regions (optional). */
+    protected RegionFailoverManager regionFailoverManager;
+
+    /** Route http reads to the fastest region (optional). */
+    protected RegionRouter regionRouter;
     
     /**
      * Create a client with the token on
@@ -120,7 +134,12 @@ public class AstraClient implements Closeable {
         //  Devops APIS
         // ---------------------------------------------------
         if (Utils.hasLength(config.getToken())) {
-            apiDevops           = new AstraDevopsApiClient(config.getToken());
+            if (config.getHttpRequestConfig() != null) {
+                devopsHttpClient = new HttpClientWrapper(config.getHttpRequestConfig());
+                apiDevops        = new AstraDevopsApiClient(devopsHttpClient, config.getToken());
+            } else {
+                apiDevops        = new AstraDevopsApiClient(config.getToken());
+            }
             apiDevopsDatabases  = apiDevops.db();
             apiDevopsStreaming  = apiDevops.streaming();
             LOGGER.info("+ API(s) Devops     [" + AnsiUtils.green("ENABLED")+ "]");
@@ -207,6 +226,22 @@ public class AstraClient implements Closeable {
                             new SimpleTokenProvider(config.getToken()));
 
                 });
+
+                if (config.isEnabledStandbyRegions()) {
+                    regionFailoverManager = new RegionFailoverManager(config, currentDatabaseRegion,
+                            db.getInfo().getDatacenters().stream()
+                                    .map(Datacenter::getRegion)
+                                    .collect(Collectors.toList()));
+                    config.getStargateConfig().withCqlRequestTracker(regionFailoverManager
+                            .primaryTracker(config.getStargateConfig().getCqlRequestTracker()));
+                }
+
+                if (config.isEnabledLatencyAwareRouting()) {
+                    regionRouter = new RegionRouter(config, db.getInfo().getDatacenters().stream()
+                            .map(Datacenter::getRegion)
+                            .collect(Collectors.toList()));
+                    config.getStargateConfig().addHttpObserver(RegionRouter.OBSERVER_NAME, regionRouter);
+                }
                 
             } else {
 
@@ -246,6 +281,9 @@ public class AstraClient implements Closeable {
                 }
             }
             this.stargateClient = config.getStargateConfig().build();
+            if (regionFailoverManager != null) {
+                regionFailoverManager.start(stargateClient);
+            }
 
         } else {
            LOGGER.info("+ API(s) CqlSession [" + AnsiUtils.red("DISABLED")+ "]");
@@ -379,6 +417,9 @@ public class AstraClient implements Closeable {
      * @return CqlSession
      */
     public CqlSession cqlSession() {
+        if (regionFailoverManager != null && regionFailoverManager.getActiveSession().isPresent()) {
+            return regionFailoverManager.getActiveSession().get();
+        }
         if (stargateClient == null || !stargateClient.cqlSession().isPresent()) {
             throw new IllegalStateException("CQL Session is not available."
                     + " Make sure you enabled it with .enableCql() and provide all"
@@ -416,10 +457,42 @@ public class AstraClient implements Closeable {
     public void useRegion(String region) {
         LOGGER.info("Switch to region : {}", region);
         this.currentDatabaseRegion = region;
+        if (regionFailoverManager != null && regionFailoverManager.isReady(region)) {
+            // Standby session is already opened, simple pointer swap
+            regionFailoverManager.activate(region);
+            return;
+        }
         this.stargateClient.setCurrentDatacenter(region);
-        this.stargateClient.initCqlSession();
+        CqlSession session = this.stargateClient.initCqlSession();
+        if (regionFailoverManager != null) {
+            regionFailoverManager.onPrimarySessionRebuilt(region, session);
+        }
+    }
+
+    /**
+     * Access the standby regions when enabled with {@link AstraClientConfig#enableStandbyRegions()}.
+     *
+     * @return
+     *      region fail-over manager if enabled
+     */
+    public Optional<RegionFailoverManager> getRegionFailoverManager() {
+        return Optional.ofNullable(regionFailoverManager);
     }
     
+    /**
+     * Access the latency aware routing when enabled with {@link AstraClientConfig#enableLatencyAwareRouting()}.
+     *
+     * @return
+     *      region router
+     */
+    public RegionRouter regionRouter() {
+        if (regionRouter == null) {
+            throw new IllegalStateException("Latency aware routing is not available."
+                    + " Make sure you enabled it with .enableLatencyAwareRouting() and .enableCrossRegionFailOver()");
+        }
+        return regionRouter;
+    }
+
     /**
      * Builder Pattern
      * 
@@ -432,9 +505,18 @@ public class AstraClient implements Closeable {
     /** {@inheritDoc} */
     @Override
     public void close() {
+       if (null != regionRouter) {
+           regionRouter.close();
+       }
+       if (null != regionFailoverManager) {
+           regionFailoverManager.close();
+       }
        if (null != stargateClient) {
            stargateClient.close();
        }
+       if (null != devopsHttpClient) {
+           devopsHttpClient.close();
+       }
     }
 
     /**
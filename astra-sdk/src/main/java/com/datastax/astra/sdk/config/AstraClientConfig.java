@@ -220,8 +220,11 @@ public class AstraClientConfig implements Serializable {
     // ------------- HTTP Client ----------------------
     // ------------------------------------------------
     
+    /** Request configuration also used by the devops Apis, not serialized. */
+    private transient RequestConfig httpRequestConfig;
+
     /**
-     * Enable fine Grained configuration of the HTTP Client.
+     * Enable fine Grained configuration of the HTTP Client, for Stargate and devops Apis.
      *
      * @param reqConfig
      *            request configuration
@@ -229,8 +232,19 @@ public class AstraClientConfig implements Serializable {
      */
     public AstraClientConfig withHttpRequestConfig(RequestConfig reqConfig) {
         stargateConfig.withHttpRequestConfig(reqConfig);
+        this.httpRequestConfig = reqConfig;
         return this;
     }
+
+    /**
+     * Getter accessor for attribute 'httpRequestConfig'.
+     *
+     * @return
+     *       current value of 'httpRequestConfig', null if not set
+     */
+    public RequestConfig getHttpRequestConfig() {
+        return httpRequestConfig;
+    }
     
     /**
      * Enable fine Grained configuration of the HTTP Retries.
@@ -383,7 +397,213 @@ public class AstraClientConfig implements Serializable {
         this.crossRegionFailOver = false;
         return this;
     }
-    
+
+    // ------------------------------------------------
+    // ------------ Standby Regions -------------------
+    // ------------------------------------------------
+
+    /** Keep sessions opened on secondary regions to switch immediately. */
+    private boolean standbyRegions = false;
+
+    /** Switch region automatically based on error rate and latency. */
+    private boolean autoFailOver = false;
+
+    /** Route reads of http APIs to the fastest region. */
+    private boolean latencyAwareRouting = false;
+
+    /** Region receiving writes when routing is enabled (default is databaseRegion). */
+    private String homeRegion;
+
+    /** Delay between 2 health checks of the regions (standby and routing). */
+    private Duration standbyHealthCheckInterval = Duration.ofSeconds(10);
+
+    /** Above this error rate (0..1) a region is considered unhealthy. */
+    private double failOverErrorRateThreshold = 0.5;
+
+    /** Above this average latency a region is considered unhealthy. */
+    private Duration failOverLatencyThreshold = Duration.ofSeconds(2);
+
+    /**
+     * Enable standby sessions on secondary regions (requires cross region fail-over).
+     *
+     * @return
+     *      current reference.
+     */
+    public AstraClientConfig enableStandbyRegions() {
+        this.standbyRegions = true;
+        return this;
+    }
+
+    /**
+     * Disable standby sessions on secondary regions.
+     *
+     * @return
+     *      current reference.
+     */
+    public AstraClientConfig disableStandbyRegions() {
+        this.standbyRegions = false;
+        return this;
+    }
+
+    /**
+     * Enable automatic switch of region (implies standby regions).
+     *
+     * @param errorRateThreshold
+     *      error rate (0..1) above which a region is unhealthy
+     * @param latencyThreshold
+     *      average latency above which a region is unhealthy
+     * @return
+     *      current reference.
+     */
+    public AstraClientConfig enableAutoFailOver(double errorRateThreshold, Duration latencyThreshold) {
+        if (errorRateThreshold <= 0 || errorRateThreshold > 1) {
+            throw new IllegalArgumentException("errorRateThreshold should be in ]0,1]");
+        }
+        if (latencyThreshold == null || latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+            throw new IllegalArgumentException("latencyThreshold should be positive");
+        }
+        this.standbyRegions             = true;
+        this.autoFailOver               = true;
+        this.failOverErrorRateThreshold = errorRateThreshold;
+        this.failOverLatencyThreshold   = latencyThreshold;
+        return this;
+    }
+
+    /**
+     * Disable automatic switch of region.
+     *
+     * @return
+     *      current reference.
+     */
+    public AstraClientConfig disableAutoFailOver() {
+        this.autoFailOver = false;
+        return this;
+    }
+
+    /**
+     * Route reads of Rest, Document and GraphQL APIs to the fastest healthy region,
+     * writes stay on the database region (requires cross region fail-over).
+     *
+     * @return
+     *      current reference.
+     */
+    public AstraClientConfig enableLatencyAwareRouting() {
+        this.latencyAwareRouting = true;
+        return this;
+    }
+
+    /**
+     * Route reads to the fastest healthy region, writes stay on the provided region.
+     *
+     * @param homeRegion
+     *      region receiving the writes
+     * @return
+     *      current reference.
+     */
+    public AstraClientConfig enableLatencyAwareRouting(String homeRegion) {
+        hasLength(homeRegion, "homeRegion");
+        this.latencyAwareRouting = true;
+        this.homeRegion = homeRegion;
+        return this;
+    }
+
+    /**
+     * Disable latency aware routing.
+     *
+     * @return
+     *      current reference.
+     */
+    public AstraClientConfig disableLatencyAwareRouting() {
+        this.latencyAwareRouting = false;
+        return this;
+    }
+
+    /**
+     * Getter for latencyAwareRouting.
+     *
+     * @return
+     *      latencyAwareRouting value
+     */
+    public boolean isEnabledLatencyAwareRouting() {
+        return latencyAwareRouting;
+    }
+
+    /**
+     * Region receiving writes, default to the database region.
+     *
+     * @return
+     *      home region
+     */
+    public String getHomeRegion() {
+        return homeRegion != null ? homeRegion : databaseRegion;
+    }
+
+    /**
+     * Delay between two health checks of the regions (standby and routing).
+     *
+     * @param interval
+     *      delay between checks
+     * @return
+     *      current reference.
+     */
+    public AstraClientConfig withStandbyHealthCheckInterval(Duration interval) {
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("interval should be positive");
+        }
+        this.standbyHealthCheckInterval = interval;
+        return this;
+    }
+
+    /**
+     * Getter for standbyRegions.
+     *
+     * @return
+     *      standbyRegions value
+     */
+    public boolean isEnabledStandbyRegions() {
+        return standbyRegions;
+    }
+
+    /**
+     * Getter for autoFailOver.
+     *
+     * @return
+     *      autoFailOver value
+     */
+    public boolean isEnabledAutoFailOver() {
+        return autoFailOver;
+    }
+
+    /**
+     * Getter accessor for attribute 'standbyHealthCheckInterval'.
+     *
+     * @return
+     *       current value of 'standbyHealthCheckInterval'
+     */
+    public Duration getStandbyHealthCheckInterval() {
+        return standbyHealthCheckInterval;
+    }
+
+    /**
+     * Getter accessor for attribute 'failOverErrorRateThreshold'.
+     *
+     * @return
+     *       current value of 'failOverErrorRateThreshold'
+     */
+    public double getFailOverErrorRateThreshold() {
+        return failOverErrorRateThreshold;
+    }
+
+    /**
+     * Getter accessor for attribute 'failOverLatencyThreshold'.
+     *
+     * @return
+     *       current value of 'failOverLatencyThreshold'
+     */
+    public Duration getFailOverLatencyThreshold() {
+        return failOverLatencyThreshold;
+    }
+
     /**
      * Populate Secure connect bundle
      *
@@ -0,0 +1,337 @@
+package com.datastax.astra.sdk.region;
+
+import com.datastax.astra.sdk.config.AstraClientConfig;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.CqlSessionBuilder;
+import com.datastax.oss.driver.api.core.config.TypedDriverOption;
+import com.datastax.oss.driver.api.core.tracker.RequestTracker;
+import com.dtsx.astra.sdk.utils.ApiLocator;
+import io.stargate.sdk.StargateClient;
+import io.stargate.sdk.http.RetryHttpClient;
+import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.utils.AnsiUtils;
+import io.stargate.sdk.utils.Utils;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.net.HttpURLConnection;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keep pre-warmed CqlSessions (standby) on secondary regions of a database so switching region
+ * is a pointer swap and not a full session bootstrap.
+ *
+ * <p>Standby sessions are checked with light queries on a schedule, HTTP health checks keep the
+ * Stargate connection pool warm. When automatic fail-over is enabled the active region is
+ * replaced by the fastest healthy region if the observed error rate or latency is too high.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class RegionFailoverManager implements Closeable {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegionFailoverManager.class);
+
+    /** Light query to check a session. */
+    public static final String HEALTH_CHECK_QUERY = "SELECT release_version FROM system.local";
+
+    /** Consecutive failed evaluations before switching region. */
+    public static final int FAILOVER_THRESHOLD_CHECKS = 2;
+
+    /** Settings for the client. */
+    private final AstraClientConfig config;
+
+    /** Home region (first provided region). */
+    private volatile String primaryRegion;
+
+    /** Region currently receiving the traffic. */
+    private final AtomicReference<String> activeRegion;
+
+    /** Sessions per region, primary session is owned by the StargateClient. */
+    private final Map<String, CqlSession> sessions = new ConcurrentHashMap<>();
+
+    /** Health per region. */
+    private final Map<String, RegionHealth> healths = new ConcurrentHashMap<>();
+
+    /** Consecutive unhealthy evaluations of the active region. */
+    private final AtomicInteger unhealthyChecks = new AtomicInteger();
+
+    /** Run health checks. */
+    private final ScheduledExecutorService scheduler;
+
+    /** Reference to stargate client for http services. */
+    private StargateClient stargateClient;
+
+    /**
+     * Initialize the health of each region, sessions are created in {@link #start(StargateClient)}.
+     *
+     * @param config
+     *      astra client configuration
+     * @param primaryRegion
+     *      region used at startup
+     * @param regions
+     *      all regions of the database
+     */
+    public RegionFailoverManager(AstraClientConfig config, String primaryRegion, Collection<String> regions) {
+        this.config        = config;
+        this.primaryRegion = primaryRegion;
+        this.activeRegion  = new AtomicReference<>(primaryRegion);
+        regions.forEach(r -> healths.put(r, new RegionHealth(r)));
+        healths.putIfAbsent(primaryRegion, new RegionHealth(primaryRegion));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "astra-region-failover");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Build a tracker for the primary session, any tracker defined by the user is kept.
+     *
+     * @param userTracker
+     *      tracker already defined in the configuration (can be null)
+     * @return
+     *      tracker feeding the health of the primary region, resolved on each request as
+     *      {@link #onPrimarySessionRebuilt(String, CqlSession)} moves the primary session
+     */
+    public RequestTracker primaryTracker(RequestTracker userTracker) {
+        // Building the client twice with same config should not chain trackers
+        if (userTracker instanceof RegionHealthTracker) {
+            userTracker = ((RegionHealthTracker) userTracker).getDelegate();
+        }
+        return new RegionHealthTracker(() -> healths.get(primaryRegion), userTracker);
+    }
+
+    /**
+     * Open standby sessions in background and schedule the health checks.
+     *
+     * @param stargateClient
+     *      stargate client owning the primary session
+     */
+    public void start(StargateClient stargateClient) {
+        this.stargateClient = stargateClient;
+        stargateClient.cqlSession().ifPresent(s -> sessions.put(primaryRegion, s));
+        if (config.getStargateConfig().isEnabledCql()) {
+            healths.keySet().stream()
+                    .filter(r -> !r.equals(primaryRegion))
+                    .forEach(r -> scheduler.execute(() -> openStandbySession(r)));
+        }
+        long interval = config.getStandbyHealthCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::healthCheck, interval, interval, TimeUnit.MILLISECONDS);
+        LOGGER.info("+ Standby regions   [" + AnsiUtils.green("ENABLED") + "] {}", healths.keySet());
+    }
+
+    /**
+     * Create a session on a secondary region.
+     *
+     * @param region
+     *      target region
+     */
+    private void openStandbySession(String region) {
+        String scbFile = config.getSecureConnectBundleFolder() + File.separator
+                + AstraClientConfig.buildScbFileName(config.getDatabaseId(), region);
+        if (!new File(scbFile).exists()) {
+            LOGGER.warn("+ Cannot open standby session for '{}', bundle {} not found", region, scbFile);
+            return;
+        }
+        try {
+            CqlSessionBuilder builder = CqlSession.builder()
+                    .withCloudSecureConnectBundle(Paths.get(scbFile))
+                    .addRequestTracker(new RegionHealthTracker(healths.get(region), null));
+            if (Utils.hasAllLength(config.getClientId(), config.getClientSecret())) {
+                builder.withAuthCredentials(config.getClientId(), config.getClientSecret());
+            } else {
+                builder.withAuthCredentials("token", config.getToken());
+            }
+            String keyspace = config.getStargateConfig().getCqlOptions().get(TypedDriverOption.SESSION_KEYSPACE);
+            if (Utils.hasLength(keyspace)) {
+                builder.withKeyspace(keyspace);
+            }
+            sessions.put(region, builder.build());
+            LOGGER.info("+ Standby session for region [" + AnsiUtils.cyan("{}") + "] is ready", region);
+        } catch (RuntimeException e) {
+            healths.get(region).onHealthCheck(false, 0);
+            LOGGER.warn("+ Cannot open standby session for '{}': {}", region, e.getMessage());
+        }
+    }
+
+    /**
+     * Probe every region and switch if needed.
+     */
+    private void healthCheck() {
+        try {
+            healths.values().forEach(this::probe);
+            if (config.isEnabledAutoFailOver()) {
+                evaluateFailOver();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Error during region health check: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Probe a region with a light CQL query when a session exists and the HTTP health check.
+     *
+     * @param health
+     *      region health
+     */
+    private void probe(RegionHealth health) {
+        String region = health.getRegion();
+        long top = System.nanoTime();
+        boolean success = true;
+        CqlSession session = sessions.get(region);
+        if (session != null) {
+            try {
+                session.execute(HEALTH_CHECK_QUERY);
+            } catch (RuntimeException e) {
+                success = false;
+            }
+        }
+        String healthCheckUrl = ApiLocator.getEndpointHealthCheck(config.getDatabaseId(), region);
+        try {
+            int code = RetryHttpClient.getInstance()
+                    .executeHttp(new ServiceHttp(region + "-probe", healthCheckUrl, healthCheckUrl),
+                            new HttpGet(healthCheckUrl), false)
+                    .getCode();
+            success &= (code == HttpURLConnection.HTTP_OK);
+        } catch (RuntimeException e) {
+            success = false;
+        }
+        health.onHealthCheck(success, System.nanoTime() - top);
+    }
+
+    /**
+     * If the active region is unhealthy for several checks, use the fastest healthy region.
+     */
+    private void evaluateFailOver() {
+        String current = activeRegion.get();
+        double maxErrorRate = config.getFailOverErrorRateThreshold();
+        long   maxLatency   = config.getFailOverLatencyThreshold().toMillis();
+        if (healths.get(current).isHealthy(maxErrorRate, maxLatency)) {
+            unhealthyChecks.set(0);
+            return;
+        }
+        if (unhealthyChecks.incrementAndGet() < FAILOVER_THRESHOLD_CHECKS) {
+            return;
+        }
+        Optional<RegionHealth> target = healths.values().stream()
+                .filter(h -> !h.getRegion().equals(current))
+                .filter(h -> !config.getStargateConfig().isEnabledCql() || sessions.containsKey(h.getRegion()))
+                .filter(h -> h.isHealthy(maxErrorRate, maxLatency))
+                .min((h1, h2) -> Long.compare(h1.getLatencyMillis(), h2.getLatencyMillis()));
+        if (target.isPresent()) {
+            LOGGER.warn("Region '{}' is unhealthy ({}), failing over to '{}'", current, healths.get(current), target.get().getRegion());
+            activate(target.get().getRegion());
+        } else {
+            LOGGER.warn("Region '{}' is unhealthy but no healthy standby region is available", current);
+        }
+    }
+
+    /**
+     * Tells if a session is ready for the region.
+     *
+     * @param region
+     *      target region
+     * @return
+     *      if the switch is immediate
+     */
+    public boolean isReady(String region) {
+        return sessions.containsKey(region);
+    }
+
+    /**
+     * Swap the active region, no session is created.
+     *
+     * @param region
+     *      new region
+     */
+    public void activate(String region) {
+        if (!healths.containsKey(region)) {
+            throw new IllegalArgumentException("Region '" + region + "' is not part of the database");
+        }
+        activeRegion.set(region);
+        unhealthyChecks.set(0);
+        if (stargateClient != null) {
+            stargateClient.setCurrentDatacenter(region);
+            stargateClient.apiRest().getStargateHttpClient().getDeployment().useDataCenter(region);
+            stargateClient.apiDocument().getStargateHttpClient().getDeployment().useDataCenter(region);
+        }
+        LOGGER.info("+ Active region is now [" + AnsiUtils.cyan("{}") + "]", region);
+    }
+
+    /**
+     * When the primary session has been re-created on another region (no standby was ready).
+     *
+     * @param region
+     *      new region of the primary session
+     * @param session
+     *      new primary session
+     */
+    public void onPrimarySessionRebuilt(String region, CqlSession session) {
+        sessions.remove(primaryRegion);
+        if (session != null) {
+            CqlSession standby = sessions.put(region, session);
+            if (standby != null && standby != session) {
+                standby.close();
+            }
+        }
+        primaryRegion = region;
+        activeRegion.set(region);
+        unhealthyChecks.set(0);
+    }
+
+    /**
+     * Session of the active region.
+     *
+     * @return
+     *      active session if available
+     */
+    public Optional<CqlSession> getActiveSession() {
+        return Optional.ofNullable(sessions.get(activeRegion.get()));
+    }
+
+    /**
+     * Gets activeRegion
+     *
+     * @return value of activeRegion
+     */
+    public String getActiveRegion() {
+        return activeRegion.get();
+    }
+
+    /**
+     * Health of each region.
+     *
+     * @return
+     *      health per region
+     */
+    public Map<String, RegionHealth> getHealths() {
+        return Collections.unmodifiableMap(healths);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        // Primary session is closed with the StargateClient
+        sessions.entrySet().stream()
+                .filter(e -> !e.getKey().equals(primaryRegion))
+                .map(Map.Entry::getValue)
+                .forEach(CqlSession::close);
+        sessions.clear();
+    }
+
+}
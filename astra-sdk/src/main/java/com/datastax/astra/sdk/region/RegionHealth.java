@@ -0,0 +1,223 @@
+package com.datastax.astra.sdk.region;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Observed health of a database region: latency and error rate are tracked as
+ * exponentially weighted moving averages (EWMA) so the most recent calls weight more.
+ *
+ * <p>Updates are lock-free (CAS on the bits of the double) to be called from driver threads.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class RegionHealth {
+
+    /** Default weight of a new sample in the moving averages. */
+    public static final double DEFAULT_ALPHA = 0.2;
+
+    /** Value before the first sample. */
+    private static final long NO_SAMPLE = Double.doubleToLongBits(-1);
+
+    /** Region name. */
+    private final String region;
+
+    /** Weight of a new sample. */
+    private final double alpha;
+
+    /** Average latency in nanoseconds (bits of a double). */
+    private final AtomicLong latencyNanos = new AtomicLong(NO_SAMPLE);
+
+    /** Average error rate between 0 and 1 (bits of a double). */
+    private final AtomicLong errorRate = new AtomicLong(Double.doubleToLongBits(0));
+
+    /** Result of last health check. */
+    private volatile boolean alive = true;
+
+    /** Timestamp of last health check. */
+    private volatile long lastCheck;
+
+    /**
+     * Default constructor.
+     *
+     * @param region
+     *      region name
+     */
+    public RegionHealth(String region) {
+        this(region, DEFAULT_ALPHA);
+    }
+
+    /**
+     * Full constructor.
+     *
+     * @param region
+     *      region name
+     * @param alpha
+     *      weight of a new sample, between 0 and 1
+     */
+    public RegionHealth(String region, double alpha) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha should be in ]0,1]");
+        }
+        this.region = region;
+        this.alpha  = alpha;
+    }
+
+    /**
+     * Record a successful call.
+     *
+     * @param latency
+     *      call latency in nanoseconds
+     */
+    public void onSuccess(long latency) {
+        updateLatency(latency);
+        update(errorRate, 0);
+    }
+
+    /**
+     * Record a failed call.
+     *
+     * @param latency
+     *      call latency in nanoseconds
+     */
+    public void onError(long latency) {
+        updateLatency(latency);
+        update(errorRate, 1);
+    }
+
+    /**
+     * Record the result of a health check (probe).
+     *
+     * @param success
+     *      if probe was successful
+     * @param latency
+     *      probe latency in nanoseconds
+     */
+    public void onHealthCheck(boolean success, long latency) {
+        this.alive     = success;
+        this.lastCheck = System.currentTimeMillis();
+        if (success) {
+            onSuccess(latency);
+        } else {
+            onError(latency);
+        }
+    }
+
+    /**
+     * Mean latency, the first sample initializes the average.
+     *
+     * @param latency
+     *      current latency
+     */
+    private void updateLatency(long latency) {
+        long current;
+        double next;
+        do {
+            current = latencyNanos.get();
+            next = (current == NO_SAMPLE) ? latency :
+                    alpha * latency + (1 - alpha) * Double.longBitsToDouble(current);
+        } while (!latencyNanos.compareAndSet(current, Double.doubleToLongBits(next)));
+    }
+
+    /**
+     * Update a moving average.
+     *
+     * @param avg
+     *      average holder
+     * @param sample
+     *      new value
+     */
+    private void update(AtomicLong avg, double sample) {
+        long current;
+        double next;
+        do {
+            current = avg.get();
+            next = alpha * sample + (1 - alpha) * Double.longBitsToDouble(current);
+        } while (!avg.compareAndSet(current, Double.doubleToLongBits(next)));
+    }
+
+    /**
+     * Evaluate if region can receive traffic.
+     *
+     * @param maxErrorRate
+     *      error rate threshold
+     * @param maxLatencyMillis
+     *      latency threshold in milliseconds
+     * @return
+     *      if region is healthy
+     */
+    public boolean isHealthy(double maxErrorRate, long maxLatencyMillis) {
+        return alive
+                && getErrorRate() <= maxErrorRate
+                && getLatencyMillis() <= maxLatencyMillis;
+    }
+
+    /**
+     * Average latency in milliseconds, 0 if no sample.
+     *
+     * @return
+     *      average latency
+     */
+    public long getLatencyMillis() {
+        long bits = latencyNanos.get();
+        if (bits == NO_SAMPLE) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis((long) Double.longBitsToDouble(bits));
+    }
+
+    /**
+     * Tells if at least one sample has been recorded.
+     *
+     * @return
+     *      if latency is known
+     */
+    public boolean hasSample() {
+        return latencyNanos.get() != NO_SAMPLE;
+    }
+
+    /**
+     * Average error rate.
+     *
+     * @return
+     *      value between 0 and 1
+     */
+    public double getErrorRate() {
+        return Double.longBitsToDouble(errorRate.get());
+    }
+
+    /**
+     * Gets region
+     *
+     * @return value of region
+     */
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * Gets alive
+     *
+     * @return value of alive
+     */
+    public boolean isAlive() {
+        return alive;
+    }
+
+    /**
+     * Gets lastCheck
+     *
+     * @return value of lastCheck
+     */
+    public long getLastCheck() {
+        return lastCheck;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "RegionHealth [region=" + region + ", alive=" + alive
+                + ", latency=" + getLatencyMillis() + "ms, errorRate=" + getErrorRate() + "]";
+    }
+
+}
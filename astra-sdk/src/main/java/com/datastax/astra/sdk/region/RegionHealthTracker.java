@@ -0,0 +1,118 @@
+package com.datastax.astra.sdk.region;
+
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.session.Request;
+import com.datastax.oss.driver.api.core.session.Session;
+import com.datastax.oss.driver.api.core.tracker.RequestTracker;
+
+import java.util.function.Supplier;
+
+/**
+ * Feed the {@link RegionHealth} of a region with the real traffic of a CqlSession.
+ * An existing tracker provided by the user keeps being invoked. The health is resolved on each
+ * request, so a session moved to another region feeds the health of its current region.
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class RegionHealthTracker implements RequestTracker {
+
+    /** Health of the region the session currently targets. */
+    private final Supplier<RegionHealth> health;
+
+    /** Tracker provided by user if any. */
+    private final RequestTracker delegate;
+
+    /**
+     * Constructor.
+     *
+     * @param health
+     *      region health
+     * @param delegate
+     *      user tracker (can be null)
+     */
+    public RegionHealthTracker(RegionHealth health, RequestTracker delegate) {
+        this(() -> health, delegate);
+    }
+
+    /**
+     * Constructor with a region resolved on each request.
+     *
+     * @param health
+     *      health of the current region
+     * @param delegate
+     *      user tracker (can be null)
+     */
+    public RegionHealthTracker(Supplier<RegionHealth> health, RequestTracker delegate) {
+        this.health   = health;
+        this.delegate = delegate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSuccess(Request request, long latencyNanos, DriverExecutionProfile profile, Node node, String logPrefix) {
+        health.get().onSuccess(latencyNanos);
+        if (delegate != null) {
+            delegate.onSuccess(request, latencyNanos, profile, node, logPrefix);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onError(Request request, Throwable error, long latencyNanos, DriverExecutionProfile profile, Node node, String logPrefix) {
+        health.get().onError(latencyNanos);
+        if (delegate != null) {
+            delegate.onError(request, error, latencyNanos, profile, node, logPrefix);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onNodeError(Request request, Throwable error, long latencyNanos, DriverExecutionProfile profile, Node node, String logPrefix) {
+        if (delegate != null) {
+            delegate.onNodeError(request, error, latencyNanos, profile, node, logPrefix);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onNodeSuccess(Request request, long latencyNanos, DriverExecutionProfile profile, Node node, String logPrefix) {
+        if (delegate != null) {
+            delegate.onNodeSuccess(request, latencyNanos, profile, node, logPrefix);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSessionReady(Session session) {
+        if (delegate != null) {
+            delegate.onSessionReady(session);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws Exception {
+        if (delegate != null) {
+            delegate.close();
+        }
+    }
+
+    /**
+     * Health of the current region.
+     *
+     * @return value of health
+     */
+    public RegionHealth getHealth() {
+        return health.get();
+    }
+
+    /**
+     * Gets delegate
+     *
+     * @return value of delegate
+     */
+    public RequestTracker getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,345 @@
+package com.datastax.astra.sdk.region;
+
+import com.datastax.astra.sdk.config.AstraClientConfig;
+import com.dtsx.astra.sdk.utils.ApiLocator;
+import com.evanlennick.retry4j.Status;
+import io.stargate.sdk.ServiceDatacenter;
+import io.stargate.sdk.ServiceDeployment;
+import io.stargate.sdk.api.SimpleTokenProvider;
+import io.stargate.sdk.audit.ServiceCallObserver;
+import io.stargate.sdk.doc.StargateDocumentApiClient;
+import io.stargate.sdk.gql.StargateGraphQLApiClient;
+import io.stargate.sdk.http.RetryHttpClient;
+import io.stargate.sdk.http.ServiceHttp;
+import io.stargate.sdk.http.audit.ServiceHttpCallEvent;
+import io.stargate.sdk.rest.StargateRestApiClient;
+import io.stargate.sdk.utils.AnsiUtils;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.net.HttpURLConnection;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Route Stargate HTTP calls (Rest, Document, GraphQL) across the regions of a database.
+ *
+ * <p>Latency of each region is measured continuously (EWMA) from real traffic, received
+ * as an http observer, and from a periodic probe of the health check endpoint. Reads go
+ * to the fastest healthy region, writes stay pinned to the home region.</p>
+ *
+ * @author Cedrick LUNVEN (@clunven)
+ */
+public class RegionRouter implements ServiceCallObserver<String, ServiceHttp, ServiceHttpCallEvent>, Closeable {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegionRouter.class);
+
+    /** Name of the observer in the http client. */
+    public static final String OBSERVER_NAME = "astra-region-router";
+
+    /** Suffix of services used for probes, not accounted as traffic. */
+    public static final String PROBE_SUFFIX = "-probe";
+
+    /** A region should be that much faster to become the read region (avoid flapping). */
+    public static final double SWITCH_RATIO = 0.8;
+
+    /** Settings for the client. */
+    private final AstraClientConfig config;
+
+    /** Region receiving the writes. */
+    private final String homeRegion;
+
+    /** Region receiving the reads. */
+    private volatile String readRegion;
+
+    /** Health per region. */
+    private final Map<String, RegionHealth> healths = new ConcurrentHashMap<>();
+
+    /** Rest Api per region. */
+    private final Map<String, StargateRestApiClient> restClients = new HashMap<>();
+
+    /** Document Api per region. */
+    private final Map<String, StargateDocumentApiClient> documentClients = new HashMap<>();
+
+    /** GraphQL Api per region. */
+    private final Map<String, StargateGraphQLApiClient> graphQLClients = new HashMap<>();
+
+    /** Run probes. */
+    private final ScheduledExecutorService scheduler;
+
+    /** Stop accounting calls when closed. */
+    private volatile boolean closed = false;
+
+    /**
+     * Build one client per region and api.
+     *
+     * @param config
+     *      astra client configuration
+     * @param regions
+     *      all regions of the database
+     */
+    public RegionRouter(AstraClientConfig config, Collection<String> regions) {
+        this(config, regions, true);
+    }
+
+    /**
+     * Build one client per region and api, probes can be disabled to drive the health manually.
+     *
+     * @param config
+     *      astra client configuration
+     * @param regions
+     *      all regions of the database
+     * @param probes
+     *      if health check endpoints are probed periodically
+     */
+    RegionRouter(AstraClientConfig config, Collection<String> regions, boolean probes) {
+        this.config     = config;
+        this.homeRegion = config.getHomeRegion();
+        if (!regions.contains(homeRegion)) {
+            throw new IllegalArgumentException("Home region '" + homeRegion + "' is not part of the database " + regions);
+        }
+        this.readRegion = homeRegion;
+        String dbId = config.getDatabaseId();
+        regions.forEach(region -> {
+            healths.put(region, new RegionHealth(region));
+            String healthCheck = ApiLocator.getEndpointHealthCheck(dbId, region);
+            restClients.put(region, new StargateRestApiClient(deployment(region,
+                    new ServiceHttp(region + "-rest", ApiLocator.getApiRestEndpoint(dbId, region), healthCheck))));
+            documentClients.put(region, new StargateDocumentApiClient(deployment(region,
+                    new ServiceHttp(region + "-doc", ApiLocator.getApiDocumentEndpoint(dbId, region), healthCheck))));
+            graphQLClients.put(region, new StargateGraphQLApiClient(deployment(region,
+                    new ServiceHttp(region + "-gql", ApiLocator.getApiGraphQLEndPoint(dbId, region), healthCheck))));
+        });
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "astra-region-router");
+            t.setDaemon(true);
+            return t;
+        });
+        if (probes) {
+            long interval = config.getStandbyHealthCheckInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(this::probeAndRoute, 0, interval, TimeUnit.MILLISECONDS);
+        }
+        LOGGER.info("+ Latency routing   [" + AnsiUtils.green("ENABLED") + "] home region is [" + AnsiUtils.cyan("{}") + "]", homeRegion);
+    }
+
+    /**
+     * Deployment with a single datacenter.
+     *
+     * @param region
+     *      current region
+     * @param service
+     *      http service
+     * @return
+     *      deployment
+     */
+    @SuppressWarnings("unchecked")
+    private ServiceDeployment<ServiceHttp> deployment(String region, ServiceHttp service) {
+        return new ServiceDeployment<ServiceHttp>().addDatacenter(
+                new ServiceDatacenter<>(region, new SimpleTokenProvider(config.getToken()), service));
+    }
+
+    /**
+     * Probe each region and elect the read region.
+     */
+    private void probeAndRoute() {
+        try {
+            healths.values().forEach(this::probe);
+            electReadRegion();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Error during region probes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Probe health check endpoint of a region.
+     *
+     * @param health
+     *      region health
+     */
+    private void probe(RegionHealth health) {
+        String url = ApiLocator.getEndpointHealthCheck(config.getDatabaseId(), health.getRegion());
+        long top = System.nanoTime();
+        boolean success;
+        try {
+            success = HttpURLConnection.HTTP_OK == RetryHttpClient.getInstance()
+                    .executeHttp(new ServiceHttp(health.getRegion() + PROBE_SUFFIX, url, url), new HttpGet(url), false)
+                    .getCode();
+        } catch (RuntimeException e) {
+            success = false;
+        }
+        health.onHealthCheck(success, System.nanoTime() - top);
+    }
+
+    /**
+     * Fastest healthy region becomes the read region if significantly faster than the current one.
+     */
+    void electReadRegion() {
+        double maxErrorRate = config.getFailOverErrorRateThreshold();
+        long maxLatency     = config.getFailOverLatencyThreshold().toMillis();
+        RegionHealth current = healths.get(readRegion);
+        boolean currentHealthy = current.isHealthy(maxErrorRate, maxLatency);
+        healths.values().stream()
+                .filter(h -> h.isHealthy(maxErrorRate, maxLatency))
+                .filter(RegionHealth::hasSample)
+                .min((h1, h2) -> Long.compare(h1.getLatencyMillis(), h2.getLatencyMillis()))
+                .filter(best -> !best.getRegion().equals(readRegion))
+                .filter(best -> !currentHealthy || best.getLatencyMillis() < current.getLatencyMillis() * SWITCH_RATIO)
+                .ifPresent(best -> {
+                    LOGGER.info("+ Read region is now [" + AnsiUtils.cyan("{}") + "] ({}ms, previous {} {}ms)",
+                            best.getRegion(), best.getLatencyMillis(), readRegion, current.getLatencyMillis());
+                    readRegion = best.getRegion();
+                });
+    }
+
+    /**
+     * Service identifiers are built as region-api.
+     *
+     * @param serviceId
+     *      service identifier
+     * @return
+     *      region name
+     */
+    static String extractRegion(String serviceId) {
+        int idx = serviceId.lastIndexOf('-');
+        return idx > 0 ? serviceId.substring(0, idx) : serviceId;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCall(ServiceHttpCallEvent event) {
+        if (closed || event.getService() == null || event.getService().getId() == null
+                || event.getService().getId().endsWith(PROBE_SUFFIX)) {
+            return;
+        }
+        RegionHealth health = healths.get(extractRegion(event.getService().getId()));
+        if (health != null) {
+            long latency = TimeUnit.MILLISECONDS.toNanos(event.getResponseElapsedTime());
+            if (event.getErrorClass() != null || event.getHttpResponseCode() >= 500) {
+                health.onError(latency);
+            } else {
+                health.onSuccess(latency);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSuccess(Status<String> status) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onCompletion(Status<String> status) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFailure(Status<String> status) {}
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFailedTry(Status<String> status) {}
+
+    /**
+     * Rest Api on the fastest region.
+     *
+     * @return
+     *      rest client for reads
+     */
+    public StargateRestApiClient apiRestRead() {
+        return restClients.get(readRegion);
+    }
+
+    /**
+     * Rest Api on the home region.
+     *
+     * @return
+     *      rest client for writes
+     */
+    public StargateRestApiClient apiRestWrite() {
+        return restClients.get(homeRegion);
+    }
+
+    /**
+     * Document Api on the fastest region.
+     *
+     * @return
+     *      document client for reads
+     */
+    public StargateDocumentApiClient apiDocumentRead() {
+        return documentClients.get(readRegion);
+    }
+
+    /**
+     * Document Api on the home region.
+     *
+     * @return
+     *      document client for writes
+     */
+    public StargateDocumentApiClient apiDocumentWrite() {
+        return documentClients.get(homeRegion);
+    }
+
+    /**
+     * GraphQL Api on the fastest region.
+     *
+     * @return
+     *      graphQL client for reads
+     */
+    public StargateGraphQLApiClient apiGraphQLRead() {
+        return graphQLClients.get(readRegion);
+    }
+
+    /**
+     * GraphQL Api on the home region.
+     *
+     * @return
+     *      graphQL client for writes
+     */
+    public StargateGraphQLApiClient apiGraphQLWrite() {
+        return graphQLClients.get(homeRegion);
+    }
+
+    /**
+     * Gets readRegion
+     *
+     * @return value of readRegion
+     */
+    public String getReadRegion() {
+        return readRegion;
+    }
+
+    /**
+     * Gets homeRegion
+     *
+     * @return value of homeRegion
+     */
+    public String getHomeRegion() {
+        return homeRegion;
+    }
+
+    /**
+     * Health of each region.
+     *
+     * @return
+     *      health per region
+     */
+    public Map<String, RegionHealth> getHealths() {
+        return Collections.unmodifiableMap(healths);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+    }
+
+}
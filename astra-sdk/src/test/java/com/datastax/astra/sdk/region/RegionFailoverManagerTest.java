@@ -0,0 +1,34 @@
+package com.datastax.astra.sdk.region;
+
+import com.datastax.astra.sdk.config.AstraClientConfig;
+import com.datastax.oss.driver.api.core.tracker.RequestTracker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Health tracking of the primary session, no session is opened.
+ */
+public class RegionFailoverManagerTest {
+
+    @Test
+    @DisplayName("Traffic after a rebuild feeds the health of the new region")
+    public void should_track_rebuilt_primary_region() {
+        try (RegionFailoverManager manager = new RegionFailoverManager(new AstraClientConfig(),
+                "us-east1", Arrays.asList("us-east1", "eu-west1"))) {
+            RequestTracker tracker = manager.primaryTracker(null);
+            tracker.onSuccess(null, TimeUnit.MILLISECONDS.toNanos(10), null, null, "");
+            Assertions.assertTrue(manager.getHealths().get("us-east1").hasSample());
+            Assertions.assertFalse(manager.getHealths().get("eu-west1").hasSample());
+
+            manager.onPrimarySessionRebuilt("eu-west1", null);
+            tracker.onError(null, new IllegalStateException(), TimeUnit.MILLISECONDS.toNanos(10), null, null, "");
+            Assertions.assertEquals("eu-west1", manager.getActiveRegion());
+            Assertions.assertTrue(manager.getHealths().get("eu-west1").getErrorRate() > 0);
+            Assertions.assertEquals(0, manager.getHealths().get("us-east1").getErrorRate(), 0.0001);
+        }
+    }
+}
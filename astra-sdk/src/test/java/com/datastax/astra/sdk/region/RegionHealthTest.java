@@ -0,0 +1,45 @@
+package com.datastax.astra.sdk.region;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moving averages of a region health.
+ */
+public class RegionHealthTest {
+
+    @Test
+    @DisplayName("First sample initializes the latency")
+    public void should_init_latency_with_first_sample() {
+        RegionHealth health = new RegionHealth("us-east1");
+        Assertions.assertFalse(health.hasSample());
+        health.onSuccess(TimeUnit.MILLISECONDS.toNanos(100));
+        Assertions.assertTrue(health.hasSample());
+        Assertions.assertEquals(100, health.getLatencyMillis());
+        Assertions.assertEquals(0, health.getErrorRate());
+    }
+
+    @Test
+    @DisplayName("Errors make the region unhealthy")
+    public void should_become_unhealthy_with_errors() {
+        RegionHealth health = new RegionHealth("us-east1", 0.5);
+        health.onSuccess(TimeUnit.MILLISECONDS.toNanos(10));
+        Assertions.assertTrue(health.isHealthy(0.5, 1000));
+        health.onError(TimeUnit.MILLISECONDS.toNanos(10));
+        health.onError(TimeUnit.MILLISECONDS.toNanos(10));
+        Assertions.assertEquals(0.75, health.getErrorRate(), 0.0001);
+        Assertions.assertFalse(health.isHealthy(0.5, 1000));
+    }
+
+    @Test
+    @DisplayName("Failed health check makes the region unhealthy")
+    public void should_become_unhealthy_with_failed_probe() {
+        RegionHealth health = new RegionHealth("us-east1");
+        health.onHealthCheck(false, TimeUnit.MILLISECONDS.toNanos(10));
+        Assertions.assertFalse(health.isAlive());
+        Assertions.assertFalse(health.isHealthy(1, 1000));
+    }
+}
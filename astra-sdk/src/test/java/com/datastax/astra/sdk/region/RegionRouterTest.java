@@ -0,0 +1,95 @@
+package com.datastax.astra.sdk.region;
+
+import com.datastax.astra.sdk.config.AstraClientConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Election of the read region, probes are disabled and no call to the Api.
+ */
+public class RegionRouterTest {
+
+    /**
+     * Router on three regions, home region is us-east1.
+     *
+     * @return
+     *      router without probes
+     */
+    private RegionRouter router() {
+        AstraClientConfig config = new AstraClientConfig()
+                .withDatabaseId("00000000-0000-0000-0000-000000000000")
+                .enableLatencyAwareRouting("us-east1");
+        return new RegionRouter(config, Arrays.asList("us-east1", "eu-west1", "ap-south1"), false);
+    }
+
+    /**
+     * Record successful calls on a region.
+     *
+     * @param router
+     *      current router
+     * @param region
+     *      region name
+     * @param latencyMillis
+     *      latency of each call
+     */
+    private void success(RegionRouter router, String region, long latencyMillis) {
+        router.getHealths().get(region).onSuccess(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+    }
+
+    @Test
+    @DisplayName("A region should be 20% faster to become the read region")
+    public void should_apply_switch_ratio() {
+        try (RegionRouter router = router()) {
+            success(router, "us-east1", 100);
+            success(router, "eu-west1", 85);
+            router.electReadRegion();
+            Assertions.assertEquals("us-east1", router.getReadRegion());
+
+            success(router, "eu-west1", 10);
+            Assertions.assertTrue(router.getHealths().get("eu-west1").getLatencyMillis()
+                    < router.getHealths().get("us-east1").getLatencyMillis() * RegionRouter.SWITCH_RATIO);
+            router.electReadRegion();
+            Assertions.assertEquals("eu-west1", router.getReadRegion());
+            Assertions.assertEquals("us-east1", router.getHomeRegion());
+        }
+    }
+
+    @Test
+    @DisplayName("Reads leave an unhealthy region even for a slower one")
+    public void should_leave_unhealthy_region() {
+        try (RegionRouter router = router()) {
+            success(router, "us-east1", 50);
+            success(router, "eu-west1", 90);
+            router.getHealths().get("us-east1").onHealthCheck(false, TimeUnit.MILLISECONDS.toNanos(50));
+            router.electReadRegion();
+            Assertions.assertEquals("eu-west1", router.getReadRegion());
+        }
+    }
+
+    @Test
+    @DisplayName("Regions without samples are never elected")
+    public void should_ignore_regions_without_sample() {
+        try (RegionRouter router = router()) {
+            success(router, "us-east1", 100);
+            router.electReadRegion();
+            Assertions.assertEquals("us-east1", router.getReadRegion());
+            Assertions.assertFalse(router.getHealths().get("ap-south1").hasSample());
+
+            router.getHealths().get("us-east1").onHealthCheck(false, TimeUnit.MILLISECONDS.toNanos(100));
+            router.electReadRegion();
+            Assertions.assertEquals("us-east1", router.getReadRegion());
+        }
+    }
+
+    @Test
+    @DisplayName("Region is extracted from the service identifier")
+    public void should_extract_region() {
+        Assertions.assertEquals("us-east1", RegionRouter.extractRegion("us-east1-rest"));
+        Assertions.assertEquals("eu-west-1", RegionRouter.extractRegion("eu-west-1-gql"));
+        Assertions.assertEquals("eu-west1", RegionRouter.extractRegion("eu-west1-probe"));
+    }
+}